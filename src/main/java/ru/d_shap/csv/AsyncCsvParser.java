@@ -0,0 +1,128 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import ru.d_shap.csv.handler.CsvEventHandler;
+
+/**
+ * Parser to parse CSV file with asynchronous reads. CSV file is read with two buffers. The read of
+ * the next block of CSV file is started before the current block is parsed, so the read of the next
+ * block overlaps with the parsing of the current block. The block size is at least 1 MB, so the
+ * cost of the read request is small compared to the cost of the parsing of the block. If the parsing
+ * is stopped or fails, then the pending read is awaited before the file is closed.
+ *
+ * @param <T> the type of the event handler.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class AsyncCsvParser<T extends CsvEventHandler> implements Callable<T> {
+
+    static final int MIN_BLOCK_SIZE = 1024 * 1024;
+
+    private final Path _path;
+
+    private final T _csvEventHandler;
+
+    private final CsvFeed _csvFeed;
+
+    private final int _blockSize;
+
+    AsyncCsvParser(final CsvParserConfiguration csvParserConfiguration, final Path path, final Charset charset, final T csvEventHandler) {
+        this(csvParserConfiguration, path, charset, csvEventHandler, Math.max(csvParserConfiguration.getReadBufferSize(), MIN_BLOCK_SIZE));
+    }
+
+    AsyncCsvParser(final CsvParserConfiguration csvParserConfiguration, final Path path, final Charset charset, final T csvEventHandler, final int blockSize) {
+        super();
+        _path = path;
+        _csvEventHandler = csvEventHandler;
+        _csvFeed = new CsvFeed(csvParserConfiguration, charset, csvEventHandler);
+        _blockSize = blockSize;
+    }
+
+    @Override
+    public T call() {
+        try (AsynchronousFileChannel fileChannel = AsynchronousFileChannel.open(_path, StandardOpenOption.READ)) {
+            ByteBuffer currentBlock = ByteBuffer.allocate(_blockSize);
+            ByteBuffer nextBlock = ByteBuffer.allocate(_blockSize);
+            long position = 0L;
+            Future<Integer> read = fileChannel.read(currentBlock, position);
+            try {
+                int count;
+                ByteBuffer block;
+                while (true) {
+                    count = getReadCount(read);
+                    if (count < 0) {
+                        break;
+                    }
+                    position += count;
+                    block = currentBlock;
+                    currentBlock = nextBlock;
+                    nextBlock = block;
+                    currentBlock.clear();
+                    read = fileChannel.read(currentBlock, position);
+                    block.flip();
+                    _csvFeed.feed(block);
+                    if (_csvFeed.isStopped()) {
+                        break;
+                    }
+                }
+            } finally {
+                awaitRead(read);
+            }
+            _csvFeed.finish();
+            return _csvEventHandler;
+        } catch (IOException ex) {
+            throw new CsvIOException(ex);
+        }
+    }
+
+    static int getReadCount(final Future<Integer> read) {
+        try {
+            return ParallelCsvParser.getResult(read);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CsvInterruptedException(ex);
+        }
+    }
+
+    static boolean awaitRead(final Future<Integer> read) {
+        try {
+            read.get();
+            return true;
+        } catch (ExecutionException ex) {
+            return false;
+        } catch (InterruptedException ex) {
+            read.cancel(true);
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
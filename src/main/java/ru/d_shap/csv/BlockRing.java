@@ -0,0 +1,132 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded ring of reusable blocks to pass data from one producer thread to one consumer thread.
+ * The producer claims the free block, fills it and publishes it. The consumer takes the published
+ * block, processes it and releases it, so the block can be claimed again. The waiting thread is
+ * parked until the other thread publishes or releases the block, or the ring is woken up. The ring
+ * is cancelled with the shared flag, and the waiting thread is also cancelled when it is interrupted.
+ *
+ * @param <T> the type of the block.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class BlockRing<T> {
+
+    private final T[] _blocks;
+
+    private final AtomicBoolean _cancelled;
+
+    private final AtomicLong _published;
+
+    private final AtomicLong _released;
+
+    private volatile Thread _waitingProducer;
+
+    private volatile Thread _waitingConsumer;
+
+    BlockRing(final T[] blocks, final AtomicBoolean cancelled) {
+        super();
+        _blocks = blocks;
+        _cancelled = cancelled;
+        _published = new AtomicLong(0L);
+        _released = new AtomicLong(0L);
+        _waitingProducer = null;
+        _waitingConsumer = null;
+    }
+
+    /**
+     * Wait for the free block. This method is invoked only by the producer thread.
+     *
+     * @return the free block or null if the ring is cancelled.
+     */
+    T claim() {
+        long published = _published.get();
+        _waitingProducer = Thread.currentThread();
+        while (!isCancelled()) {
+            if (published - _released.get() < _blocks.length) {
+                _waitingProducer = null;
+                return _blocks[(int) (published % _blocks.length)];
+            }
+            LockSupport.park(this);
+        }
+        _waitingProducer = null;
+        return null;
+    }
+
+    /**
+     * Publish the claimed block. This method is invoked only by the producer thread.
+     */
+    void publish() {
+        _published.set(_published.get() + 1L);
+        LockSupport.unpark(_waitingConsumer);
+    }
+
+    /**
+     * Wait for the published block. The blocks, published before the ring is cancelled, are still
+     * taken. This method is invoked only by the consumer thread.
+     *
+     * @return the published block or null if the ring is cancelled.
+     */
+    T take() {
+        long released = _released.get();
+        _waitingConsumer = Thread.currentThread();
+        while (released == _published.get()) {
+            if (isCancelled()) {
+                _waitingConsumer = null;
+                return null;
+            }
+            LockSupport.park(this);
+        }
+        _waitingConsumer = null;
+        return _blocks[(int) (released % _blocks.length)];
+    }
+
+    /**
+     * Release the taken block. This method is invoked only by the consumer thread.
+     */
+    void release() {
+        _released.set(_released.get() + 1L);
+        LockSupport.unpark(_waitingProducer);
+    }
+
+    /**
+     * Wake up the waiting threads, so they check the shared flag. This method is invoked after the
+     * ring is cancelled.
+     */
+    void wakeUp() {
+        LockSupport.unpark(_waitingProducer);
+        LockSupport.unpark(_waitingConsumer);
+    }
+
+    private boolean isCancelled() {
+        if (Thread.currentThread().isInterrupted()) {
+            _cancelled.set(true);
+        }
+        return _cancelled.get();
+    }
+
+}
@@ -0,0 +1,76 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+/**
+ * Helper methods to work with the column values, that are held in the buffer of characters.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ColumnValues {
+
+    private static final int HASH_MULTIPLIER = 31;
+
+    private ColumnValues() {
+        super();
+    }
+
+    /**
+     * Get the hash code of the column value in the specified buffer. The hash code is equal to the hash
+     * code of the string with the same characters.
+     *
+     * @param buffer the buffer, that contains the column value.
+     * @param offset the offset of the column value in the buffer.
+     * @param length the length of the column value in the buffer.
+     *
+     * @return the hash code of the column value.
+     */
+    public static int getHashCode(final char[] buffer, final int offset, final int length) {
+        int hashCode = 0;
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            hashCode = HASH_MULTIPLIER * hashCode + buffer[i];
+        }
+        return hashCode;
+    }
+
+    /**
+     * Check if the specified value is equal to the column value in the specified buffer.
+     *
+     * @param value  the value to compare with.
+     * @param buffer the buffer, that contains the column value.
+     * @param offset the offset of the column value in the buffer.
+     * @param length the length of the column value in the buffer.
+     *
+     * @return true if the specified value is equal to the column value.
+     */
+    public static boolean isEqual(final String value, final char[] buffer, final int offset, final int length) {
+        if (value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) != buffer[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
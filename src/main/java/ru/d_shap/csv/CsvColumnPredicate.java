@@ -0,0 +1,43 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+/**
+ * Interface to check the column value of the row before the row is pushed to the event handler. If the
+ * column value does not match the predicate, then the row is skipped. The same predicate object is
+ * used by all threads of the parallel parsing, so the predicate should not hold any state.
+ *
+ * @author Dmitry Shapovalov
+ */
+public interface CsvColumnPredicate {
+
+    /**
+     * Check the column value. The column value is located in the CSV parser internal buffer, the buffer
+     * is valid only during this method invocation and should not be modified.
+     *
+     * @param buffer the buffer, that contains the column value.
+     * @param offset the offset of the column value in the buffer.
+     * @param length the length of the column value in the buffer.
+     *
+     * @return true if the column value matches the predicate.
+     */
+    boolean test(char[] buffer, int offset, int length);
+
+}
@@ -0,0 +1,110 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+/**
+ * Factory of the common {@link CsvColumnPredicate} objects.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class CsvColumnPredicates {
+
+    private CsvColumnPredicates() {
+        super();
+    }
+
+    /**
+     * Create the predicate, that matches the column value equal to any of the specified values.
+     *
+     * @param values the values to compare with.
+     *
+     * @return the predicate.
+     */
+    public static CsvColumnPredicate equalTo(final String... values) {
+        return new EqualToPredicate(values);
+    }
+
+    /**
+     * Create the predicate, that matches the column value starting with the specified prefix.
+     *
+     * @param prefix the prefix.
+     *
+     * @return the predicate.
+     */
+    public static CsvColumnPredicate startsWith(final String prefix) {
+        return new StartsWithPredicate(prefix);
+    }
+
+    /**
+     * Predicate, that matches the column value equal to any of the specified values.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class EqualToPredicate implements CsvColumnPredicate {
+
+        private final String[] _values;
+
+        private final int[] _hashes;
+
+        EqualToPredicate(final String... values) {
+            super();
+            _values = values.clone();
+            _hashes = new int[_values.length];
+            for (int i = 0; i < _values.length; i++) {
+                _hashes[i] = _values[i].hashCode();
+            }
+        }
+
+        @Override
+        public boolean test(final char[] buffer, final int offset, final int length) {
+            int hash = ColumnValues.getHashCode(buffer, offset, length);
+            for (int i = 0; i < _values.length; i++) {
+                if (_hashes[i] == hash && ColumnValues.isEqual(_values[i], buffer, offset, length)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+    /**
+     * Predicate, that matches the column value starting with the specified prefix.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class StartsWithPredicate implements CsvColumnPredicate {
+
+        private final String _prefix;
+
+        StartsWithPredicate(final String prefix) {
+            super();
+            _prefix = prefix;
+        }
+
+        @Override
+        public boolean test(final char[] buffer, final int offset, final int length) {
+            int prefixLength = _prefix.length();
+            return length >= prefixLength && ColumnValues.isEqual(_prefix, buffer, offset, prefixLength);
+        }
+
+    }
+
+}
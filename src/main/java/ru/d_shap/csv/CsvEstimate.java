@@ -0,0 +1,103 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+/**
+ * <p>
+ * Estimate of CSV file dimensions.
+ * </p>
+ * <p>
+ * The row count of the large CSV file is estimated by sampling: several blocks of CSV file are read,
+ * the complete rows of each block are counted, and the row count of CSV file is extrapolated from
+ * the average row length. The error bound is the half-width of the approximate 95% confidence
+ * interval, derived from the variation of the average row length between the blocks. The row count
+ * of the small CSV file is counted exactly.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class CsvEstimate {
+
+    private final long _rowCount;
+
+    private final long _rowCountError;
+
+    private final double _averageRowLength;
+
+    private final long _sampledRowCount;
+
+    private final boolean _exact;
+
+    CsvEstimate(final long rowCount, final long rowCountError, final double averageRowLength, final long sampledRowCount, final boolean exact) {
+        super();
+        _rowCount = rowCount;
+        _rowCountError = rowCountError;
+        _averageRowLength = averageRowLength;
+        _sampledRowCount = sampledRowCount;
+        _exact = exact;
+    }
+
+    /**
+     * Get the estimated row count.
+     *
+     * @return the estimated row count.
+     */
+    public long getRowCount() {
+        return _rowCount;
+    }
+
+    /**
+     * Get the error bound of the estimated row count. The actual row count is expected to be within
+     * this bound from the estimated row count.
+     *
+     * @return the error bound of the estimated row count.
+     */
+    public long getRowCountError() {
+        return _rowCountError;
+    }
+
+    /**
+     * Get the average row length in bytes, including the row separator.
+     *
+     * @return the average row length in bytes.
+     */
+    public double getAverageRowLength() {
+        return _averageRowLength;
+    }
+
+    /**
+     * Get the number of rows, that are actually counted.
+     *
+     * @return the number of rows, that are actually counted.
+     */
+    public long getSampledRowCount() {
+        return _sampledRowCount;
+    }
+
+    /**
+     * Check if the row count is counted exactly.
+     *
+     * @return true if the row count is counted exactly.
+     */
+    public boolean isExact() {
+        return _exact;
+    }
+
+}
@@ -0,0 +1,326 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import ru.d_shap.csv.handler.CsvEventHandler;
+import ru.d_shap.csv.handler.CsvStructuralEventHandler;
+import ru.d_shap.csv.handler.DimensionEventHandler;
+import ru.d_shap.csv.state.SpecialCharacter;
+import ru.d_shap.csv.state.StateHandler;
+import ru.d_shap.csv.state.StateMachine;
+
+/**
+ * Estimator to estimate CSV file dimensions by sampling. The blocks are read at evenly spaced
+ * positions of CSV file. Each block, except the first one, is resynchronized to the row boundary:
+ * the block is scanned up to the first row separator outside the quotes. Since the quote state at
+ * the block start is unknown, the block is scanned assuming both the unquoted and the quoted state,
+ * and the complete rows of the block are validated without the column length check and the column
+ * predicates. If the rows are valid for both states, then the state is selected, for which the
+ * column count of the first row matches the column count of the first row of CSV file. Blocks, that
+ * can not be resynchronized or have the ambiguous state, are discarded. The rows of the blocks, as
+ * well as the rows of CSV file, that is counted exactly, are counted by the state machine, so the
+ * skipped empty rows are not counted. The rows to skip, the row limit, the projection, the column
+ * predicates and the column length check do not affect the row count.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class CsvEstimator {
+
+    static final int SAMPLE_COUNT = 16;
+
+    static final int SAMPLE_SIZE = 64 * 1024;
+
+    private static final double CONFIDENCE_FACTOR = 1.96;
+
+    private static final int UNKNOWN_COLUMN_COUNT = -1;
+
+    private final CsvParserConfiguration _csvParserConfiguration;
+
+    private final CsvParserConfiguration _validationConfiguration;
+
+    private final int _sampleCount;
+
+    private final int _sampleSize;
+
+    CsvEstimator(final CsvParserConfiguration csvParserConfiguration, final int sampleCount, final int sampleSize) {
+        super();
+        _csvParserConfiguration = csvParserConfiguration;
+        _validationConfiguration = createValidationConfiguration(csvParserConfiguration);
+        _sampleCount = Math.max(sampleCount, 1);
+        _sampleSize = Math.max(sampleSize, 1);
+    }
+
+    private static CsvParserConfiguration createValidationConfiguration(final CsvParserConfiguration csvParserConfiguration) {
+        CsvParserConfiguration validationConfiguration = csvParserConfiguration.copyOf();
+        validationConfiguration.setMaxColumnLengthCheckEnabled(false);
+        validationConfiguration.clearColumnPredicates();
+        validationConfiguration.setProjection((int[]) null);
+        validationConfiguration.setSkipRows(0L);
+        validationConfiguration.setLimitRows(-1L);
+        return validationConfiguration;
+    }
+
+    CsvEstimate estimate(final Path path, final Charset charset) {
+        try {
+            long size = Files.size(path);
+            CsvEstimate csvEstimate = null;
+            if (CsvParser.isByteCharset(charset) && size > (long) _sampleCount * _sampleSize) {
+                csvEstimate = estimateBySampling(path, size);
+            }
+            if (csvEstimate == null) {
+                RowCountEventHandler rowCountEventHandler = new RowCountEventHandler();
+                new CsvParser(_validationConfiguration).parse(path, charset, rowCountEventHandler);
+                long rowCount = rowCountEventHandler.getRowCount();
+                csvEstimate = new CsvEstimate(rowCount, 0L, getAverageRowLength(size, rowCount), rowCount, true);
+            }
+            return csvEstimate;
+        } catch (IOException ex) {
+            throw new CsvIOException(ex);
+        }
+    }
+
+    private CsvEstimate estimateBySampling(final Path path, final long size) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return estimateBySampling(fileChannel, size);
+        }
+    }
+
+    private CsvEstimate estimateBySampling(final FileChannel fileChannel, final long size) throws IOException {
+        long sampledRowCount = 0L;
+        long sampledLength = 0L;
+        int validSampleCount = 0;
+        double rowLengthSum = 0.0;
+        double rowLengthSquareSum = 0.0;
+        double rowLength;
+        int columnCount = UNKNOWN_COLUMN_COUNT;
+        for (int i = 0; i < _sampleCount; i++) {
+            long offset = getSampleOffset(size, i);
+            MappedByteBuffer mappedByteBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, offset, _sampleSize);
+            Sample sample = readSample(mappedByteBuffer, offset, columnCount);
+            if (sample != null) {
+                if (offset == 0L) {
+                    columnCount = sample.getColumnCount();
+                }
+                sampledRowCount += sample.getRowCount();
+                sampledLength += sample.getLength();
+                rowLength = (double) sample.getLength() / sample.getRowCount();
+                rowLengthSum += rowLength;
+                rowLengthSquareSum += rowLength * rowLength;
+                validSampleCount++;
+            }
+        }
+        if (validSampleCount == 0) {
+            return null;
+        }
+        double averageRowLength = (double) sampledLength / sampledRowCount;
+        long rowCount = Math.round(size / averageRowLength);
+        long rowCountError = rowCount;
+        if (validSampleCount > 1) {
+            double mean = rowLengthSum / validSampleCount;
+            double variance = Math.max(rowLengthSquareSum - validSampleCount * mean * mean, 0.0) / (validSampleCount - 1);
+            double standardError = Math.sqrt(variance / validSampleCount);
+            rowCountError = (long) Math.ceil(size * CONFIDENCE_FACTOR * standardError / (averageRowLength * averageRowLength));
+        }
+        return new CsvEstimate(rowCount, rowCountError, averageRowLength, sampledRowCount, false);
+    }
+
+    private long getSampleOffset(final long size, final int index) {
+        if (_sampleCount == 1) {
+            return 0L;
+        } else {
+            return (size - _sampleSize) * index / (_sampleCount - 1);
+        }
+    }
+
+    private Sample readSample(final ByteBuffer byteBuffer, final long offset, final int columnCount) {
+        if (offset == 0L) {
+            return scanSample(byteBuffer, 0);
+        }
+        Sample unquotedSample = scanSample(byteBuffer, findRowStart(byteBuffer, false));
+        Sample quotedSample = scanSample(byteBuffer, findRowStart(byteBuffer, true));
+        if (unquotedSample == null) {
+            return quotedSample;
+        } else if (quotedSample == null) {
+            return unquotedSample;
+        } else {
+            return selectSample(unquotedSample, quotedSample, columnCount);
+        }
+    }
+
+    private static Sample selectSample(final Sample unquotedSample, final Sample quotedSample, final int columnCount) {
+        boolean unquotedMatches = unquotedSample.getColumnCount() == columnCount;
+        boolean quotedMatches = quotedSample.getColumnCount() == columnCount;
+        if (unquotedMatches == quotedMatches) {
+            return null;
+        } else if (unquotedMatches) {
+            return unquotedSample;
+        } else {
+            return quotedSample;
+        }
+    }
+
+    private int findRowStart(final ByteBuffer byteBuffer, final boolean quoted) {
+        boolean isQuoted = quoted;
+        int previous = -1;
+        int current;
+        for (int i = 0; i < byteBuffer.limit(); i++) {
+            current = byteBuffer.get(i);
+            if (!isQuoted && ParallelCsvParser.isRowEndBefore(_csvParserConfiguration, previous, current)) {
+                return i;
+            }
+            if (current == SpecialCharacter.QUOT) {
+                isQuoted = !isQuoted;
+            } else if (!isQuoted && ParallelCsvParser.isRowEnd(_csvParserConfiguration, previous, current)) {
+                return i + 1;
+            }
+            previous = current;
+        }
+        return -1;
+    }
+
+    private Sample scanSample(final ByteBuffer byteBuffer, final int start) {
+        if (start < 0) {
+            return null;
+        }
+        boolean quoted = false;
+        int previous = -1;
+        int current;
+        int end = start;
+        for (int i = start; i < byteBuffer.limit(); i++) {
+            current = byteBuffer.get(i);
+            if (!quoted && ParallelCsvParser.isRowEndBefore(_csvParserConfiguration, previous, current)) {
+                end = i;
+            }
+            if (current == SpecialCharacter.QUOT) {
+                quoted = !quoted;
+            } else if (!quoted && ParallelCsvParser.isRowEnd(_csvParserConfiguration, previous, current)) {
+                end = i + 1;
+            }
+            previous = current;
+        }
+        return validateSample(byteBuffer, start, end);
+    }
+
+    private Sample validateSample(final ByteBuffer byteBuffer, final int start, final int end) {
+        ByteBuffer rows = byteBuffer.duplicate();
+        rows.position(start);
+        rows.limit(end);
+        DimensionEventHandler dimensionEventHandler = new DimensionEventHandler();
+        StateHandler stateHandler = new StateHandler(dimensionEventHandler, _validationConfiguration);
+        StateMachine stateMachine = StateMachine.createStateMachine(stateHandler);
+        try {
+            CsvParser.processByteBuffer(stateMachine, rows);
+            stateMachine.processEndOfInput();
+        } catch (CsvException ex) {
+            return null;
+        }
+        if (dimensionEventHandler.getRowCount() == 0) {
+            return null;
+        }
+        return new Sample(dimensionEventHandler.getRowCount(), end - start, dimensionEventHandler.getColumnCount());
+    }
+
+    private static double getAverageRowLength(final long size, final long rowCount) {
+        if (rowCount == 0L) {
+            return 0.0;
+        } else {
+            return (double) size / rowCount;
+        }
+    }
+
+    /**
+     * Complete rows of the block.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class Sample {
+
+        private final int _rowCount;
+
+        private final int _length;
+
+        private final int _columnCount;
+
+        Sample(final int rowCount, final int length, final int columnCount) {
+            super();
+            _rowCount = rowCount;
+            _length = length;
+            _columnCount = columnCount;
+        }
+
+        int getRowCount() {
+            return _rowCount;
+        }
+
+        int getLength() {
+            return _length;
+        }
+
+        int getColumnCount() {
+            return _columnCount;
+        }
+
+    }
+
+    /**
+     * Event handler to count rows.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class RowCountEventHandler implements CsvEventHandler, CsvStructuralEventHandler {
+
+        private long _rowCount;
+
+        RowCountEventHandler() {
+            super();
+            _rowCount = 0L;
+        }
+
+        @Override
+        public void pushColumn(final String column, final int actualLength) {
+            // Ignore
+        }
+
+        @Override
+        public void pushColumn() {
+            // Ignore
+        }
+
+        @Override
+        public void pushRow() {
+            _rowCount++;
+        }
+
+        long getRowCount() {
+            return _rowCount;
+        }
+
+    }
+
+}
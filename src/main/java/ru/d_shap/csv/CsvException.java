@@ -20,7 +20,10 @@
 package ru.d_shap.csv;
 
 /**
- * Base class for all exceptions.
+ * Base class for all exceptions. If the exception is thrown while CSV source is processed, then the
+ * exception holds the position of the wrong character in CSV source, the index of the row and
+ * the index of the column, where the wrong character is found. If any of them is unknown, then it
+ * is -1. All of them start from 0.
  *
  * @author Dmitry Shapovalov
  */
@@ -28,6 +31,14 @@ public class CsvException extends RuntimeException {
 
     private static final long serialVersionUID = 1L;
 
+    private static final int UNKNOWN = -1;
+
+    private final long _position;
+
+    private final long _rowIndex;
+
+    private final int _columnIndex;
+
     /**
      * Create a new object.
      *
@@ -35,6 +46,9 @@ public class CsvException extends RuntimeException {
      */
     protected CsvException(final String message) {
         super(message);
+        _position = UNKNOWN;
+        _rowIndex = UNKNOWN;
+        _columnIndex = UNKNOWN;
     }
 
     /**
@@ -45,6 +59,9 @@ public class CsvException extends RuntimeException {
      */
     protected CsvException(final String message, final Throwable ex) {
         super(message, ex);
+        _position = UNKNOWN;
+        _rowIndex = UNKNOWN;
+        _columnIndex = UNKNOWN;
     }
 
     /**
@@ -54,7 +71,39 @@ public class CsvException extends RuntimeException {
      * @param lastProcessedCharacters last characters processed by CSV parser.
      */
     protected CsvException(final String message, final String lastProcessedCharacters) {
+        this(message, lastProcessedCharacters, UNKNOWN, UNKNOWN, UNKNOWN);
+    }
+
+    /**
+     * Create a new object.
+     *
+     * @param message                 exception message.
+     * @param lastProcessedCharacters last characters processed by CSV parser.
+     * @param position                the position of the wrong character in CSV source.
+     * @param rowIndex                the index of the row with the wrong character.
+     * @param columnIndex             the index of the column with the wrong character.
+     */
+    protected CsvException(final String message, final String lastProcessedCharacters, final long position, final long rowIndex, final int columnIndex) {
         super(getErrorMessage(message, lastProcessedCharacters));
+        _position = position;
+        _rowIndex = rowIndex;
+        _columnIndex = columnIndex;
+    }
+
+    /**
+     * Create a new object.
+     *
+     * @param message     exception message.
+     * @param ex          cause exception.
+     * @param position    the position of the wrong character in CSV source.
+     * @param rowIndex    the index of the row with the wrong character.
+     * @param columnIndex the index of the column with the wrong character.
+     */
+    protected CsvException(final String message, final Throwable ex, final long position, final long rowIndex, final int columnIndex) {
+        super(message, ex);
+        _position = position;
+        _rowIndex = rowIndex;
+        _columnIndex = columnIndex;
     }
 
     private static String getErrorMessage(final String message, final String lastProcessedCharacters) {
@@ -66,4 +115,32 @@ public class CsvException extends RuntimeException {
         return builder.toString();
     }
 
+    /**
+     * Get the position of the wrong character in CSV source. If CSV source is parsed directly on
+     * bytes, then the position is measured in bytes.
+     *
+     * @return the position of the wrong character, or -1 if the position is unknown.
+     */
+    public final long getPosition() {
+        return _position;
+    }
+
+    /**
+     * Get the index of the row with the wrong character. Skipped empty rows are counted.
+     *
+     * @return the index of the row, or -1 if the index is unknown.
+     */
+    public final long getRowIndex() {
+        return _rowIndex;
+    }
+
+    /**
+     * Get the index of the column with the wrong character.
+     *
+     * @return the index of the column, or -1 if the index is unknown.
+     */
+    public final int getColumnIndex() {
+        return _columnIndex;
+    }
+
 }
@@ -0,0 +1,203 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+import ru.d_shap.csv.handler.CsvEventHandler;
+import ru.d_shap.csv.state.StateHandler;
+import ru.d_shap.csv.state.StateMachine;
+
+/**
+ * <p>
+ * Class to parse CSV source, that is obtained chunk by chunk.
+ * </p>
+ * <p>
+ * CSV feed is a push parser without a blocking source. The caller pushes chunks of CSV source as soon as
+ * they are obtained, for example from the non-blocking channel, and then notifies about the end of
+ * CSV source. The state of the parser is kept between the chunks, and columns and rows are pushed to
+ * the event handler as soon as they are complete. The chunks are not stored after they are processed.
+ * </p>
+ * <p>
+ * Chunks of bytes are decoded with the specified charset. CSV source in UTF-8, US-ASCII or ISO-8859-1
+ * charset is parsed directly on bytes. The byte sequence of one character can be split between chunks.
+ * </p>
+ * <p>
+ * Objects of this class are not reusable and not thread safe.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class CsvFeed {
+
+    private final StateMachine _stateMachine;
+
+    private final Charset _charset;
+
+    private final CharsetDecoder _charsetDecoder;
+
+    private final char[] _buffer;
+
+    private final CharBuffer _charBuffer;
+
+    private ByteBuffer _remainingBytes;
+
+    private boolean _finished;
+
+    CsvFeed(final CsvParserConfiguration csvParserConfiguration, final Charset charset, final CsvEventHandler csvEventHandler) {
+        super();
+        _charset = charset;
+        StateHandler stateHandler;
+        if (charset != null && CsvParser.isByteCharset(charset)) {
+            stateHandler = new StateHandler(csvEventHandler, csvParserConfiguration, CsvParser.getDecodeCharset(charset));
+            _charsetDecoder = null;
+        } else {
+            stateHandler = new StateHandler(csvEventHandler, csvParserConfiguration);
+            _charsetDecoder = createCharsetDecoder(charset);
+        }
+        _stateMachine = StateMachine.createStateMachine(stateHandler);
+        _buffer = new char[csvParserConfiguration.getReadBufferSize()];
+        _charBuffer = CharBuffer.wrap(_buffer);
+        _remainingBytes = null;
+        _finished = false;
+    }
+
+    private static CharsetDecoder createCharsetDecoder(final Charset charset) {
+        if (charset == null) {
+            return null;
+        } else {
+            return charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+    }
+
+    /**
+     * Process the chunk of CSV source.
+     *
+     * @param chars the chunk of CSV source.
+     */
+    public void feed(final char[] chars) {
+        feed(chars, 0, chars.length);
+    }
+
+    /**
+     * Process the chunk of CSV source.
+     *
+     * @param chars  the buffer, that contains the chunk of CSV source.
+     * @param offset the offset of the chunk in the buffer.
+     * @param length the length of the chunk.
+     */
+    public void feed(final char[] chars, final int offset, final int length) {
+        checkNotFinished();
+        if (_charset != null) {
+            throw new IllegalStateException("CSV feed accepts only bytes.");
+        }
+        if (!_stateMachine.isStopped()) {
+            _stateMachine.processCharacters(chars, offset, length);
+        }
+    }
+
+    /**
+     * Process the chunk of CSV source. The chunk is read from the current position to the limit
+     * of the specified buffer.
+     *
+     * @param byteBuffer the chunk of CSV source.
+     */
+    public void feed(final ByteBuffer byteBuffer) {
+        checkNotFinished();
+        if (_charset == null) {
+            throw new IllegalStateException("CSV feed accepts only characters.");
+        }
+        if (_charsetDecoder == null) {
+            CsvParser.processByteBuffer(_stateMachine, byteBuffer);
+        } else {
+            decodeBytes(byteBuffer, false);
+        }
+    }
+
+    /**
+     * Process the end of CSV source. No more chunks can be processed after this method invocation.
+     */
+    public void finish() {
+        checkNotFinished();
+        _finished = true;
+        if (_charsetDecoder != null) {
+            decodeBytes(ByteBuffer.allocate(0), true);
+            _charsetDecoder.flush(_charBuffer);
+            processCharBuffer();
+        }
+        _stateMachine.processEndOfInput();
+    }
+
+    /**
+     * Check if CSV parsing is stopped, because the row limit is reached or the event handler is
+     * stopped. The chunks, processed after CSV parsing is stopped, are ignored.
+     *
+     * @return true if CSV parsing is stopped.
+     */
+    public boolean isStopped() {
+        return _stateMachine.isStopped();
+    }
+
+    private void checkNotFinished() {
+        if (_finished) {
+            throw new IllegalStateException("CSV feed is finished.");
+        }
+    }
+
+    private void decodeBytes(final ByteBuffer byteBuffer, final boolean endOfInput) {
+        ByteBuffer input = joinRemainingBytes(byteBuffer);
+        CoderResult coderResult;
+        do {
+            coderResult = _charsetDecoder.decode(input, _charBuffer, endOfInput);
+            processCharBuffer();
+        } while (coderResult.isOverflow());
+        if (input.hasRemaining()) {
+            _remainingBytes = ByteBuffer.allocate(input.remaining());
+            _remainingBytes.put(input);
+            _remainingBytes.flip();
+        }
+    }
+
+    private ByteBuffer joinRemainingBytes(final ByteBuffer byteBuffer) {
+        if (_remainingBytes == null) {
+            return byteBuffer;
+        } else {
+            ByteBuffer input = ByteBuffer.allocate(_remainingBytes.remaining() + byteBuffer.remaining());
+            input.put(_remainingBytes);
+            input.put(byteBuffer);
+            input.flip();
+            _remainingBytes = null;
+            return input;
+        }
+    }
+
+    private void processCharBuffer() {
+        if (!_stateMachine.isStopped()) {
+            _stateMachine.processCharacters(_buffer, 0, _charBuffer.position());
+        }
+        _charBuffer.clear();
+    }
+
+}
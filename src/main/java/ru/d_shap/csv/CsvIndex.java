@@ -0,0 +1,128 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ru.d_shap.csv.state.StructuralIndex;
+
+/**
+ * <p>
+ * Class to access CSV source through the structural index.
+ * </p>
+ * <p>
+ * CSV source is processed in two stages. At the first stage the structural index is built: the
+ * bounds of each column value in the source are defined, but column values are not copied. At the
+ * second stage a column value is created only when it is accessed, and the doubled quotes are
+ * unescaped at that moment. So the columns, that are never accessed, cost no memory allocation.
+ * </p>
+ * <p>
+ * CSV source is read and indexed block by block, and the blocks are held in memory while the object
+ * is used. The skip rows, the limit rows, the projection and the column predicates of the CSV parser
+ * configuration are applied while the index is built.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class CsvIndex {
+
+    private final StructuralIndex _structuralIndex;
+
+    CsvIndex(final StructuralIndex structuralIndex) {
+        super();
+        _structuralIndex = structuralIndex;
+    }
+
+    /**
+     * Get row count.
+     *
+     * @return row count.
+     */
+    public int getRowCount() {
+        return _structuralIndex.getRowCount();
+    }
+
+    /**
+     * Get column count of the specified row.
+     *
+     * @param row the row index.
+     *
+     * @return column count of the specified row.
+     */
+    public int getColumnCount(final int row) {
+        return _structuralIndex.getColumnCount(row);
+    }
+
+    /**
+     * Get the column value. The column value is created on each call.
+     *
+     * @param row    the row index.
+     * @param column the column index.
+     *
+     * @return the column value.
+     */
+    public String getColumn(final int row, final int column) {
+        return _structuralIndex.getColumn(row, column);
+    }
+
+    /**
+     * Get the column value length. If the maximum column value length is specified, then the column
+     * value length does not exceed the maximum column value length.
+     *
+     * @param row    the row index.
+     * @param column the column index.
+     *
+     * @return the column value length.
+     */
+    public int getColumnLength(final int row, final int column) {
+        return _structuralIndex.getColumnLength(row, column);
+    }
+
+    /**
+     * Get the actual column value length. The actual column value length is not affected by the
+     * maximum column value length configuration.
+     *
+     * @param row    the row index.
+     * @param column the column index.
+     *
+     * @return the actual column value length.
+     */
+    public int getColumnActualLength(final int row, final int column) {
+        return _structuralIndex.getColumnActualLength(row, column);
+    }
+
+    /**
+     * Get the list of column values of the specified row.
+     *
+     * @param row the row index.
+     *
+     * @return the list of column values.
+     */
+    public List<String> getRow(final int row) {
+        int columnCount = _structuralIndex.getColumnCount(row);
+        List<String> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            columns.add(_structuralIndex.getColumn(row, i));
+        }
+        return columns;
+    }
+
+}
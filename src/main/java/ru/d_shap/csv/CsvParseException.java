@@ -40,6 +40,19 @@ public class CsvParseException extends CsvException {
         super(getErrorMessage(character), lastProcessedCharacters);
     }
 
+    /**
+     * Create a new object.
+     *
+     * @param character               wrong character.
+     * @param lastProcessedCharacters last characters processed by CSV parser.
+     * @param position                the position of the wrong character in CSV source.
+     * @param rowIndex                the index of the row with the wrong character.
+     * @param columnIndex             the index of the column with the wrong character.
+     */
+    public CsvParseException(final int character, final String lastProcessedCharacters, final long position, final long rowIndex, final int columnIndex) {
+        super(getErrorMessage(character), lastProcessedCharacters, position, rowIndex, columnIndex);
+    }
+
     private static String getErrorMessage(final int character) {
         if (character == SpecialCharacter.END_OF_INPUT) {
             return "End of input obtained.";
@@ -20,25 +20,45 @@
 package ru.d_shap.csv;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import ru.d_shap.csv.handler.ColumnCountEventHandler;
+import ru.d_shap.csv.handler.CsvChunkEventHandler;
 import ru.d_shap.csv.handler.CsvConfigurable;
 import ru.d_shap.csv.handler.CsvEventHandler;
+import ru.d_shap.csv.handler.CsvMergeable;
+import ru.d_shap.csv.handler.CsvStoppable;
 import ru.d_shap.csv.handler.DimensionEventHandler;
 import ru.d_shap.csv.handler.ListEventHandler;
-import ru.d_shap.csv.state.SpecialCharacter;
-import ru.d_shap.csv.state.State;
 import ru.d_shap.csv.state.StateHandler;
+import ru.d_shap.csv.state.StateMachine;
+import ru.d_shap.csv.state.StructuralIndex;
 
 /**
  * <p>
  * Class to parse CSV source.
  * </p>
  * <p>
- * CSV parser is a push parser. CSV parser reads characters one by one and pushs events (columns and
+ * CSV parser is a push parser. CSV parser reads characters block by block and pushs events (columns and
  * rows) to the {@link CsvEventHandler} object. The {@link CsvEventHandler} object defines, what to
  * do with pushed columns and rows - to count them, to store them in memory, and so on.
  * </p>
@@ -53,6 +73,36 @@ import ru.d_shap.csv.state.StateHandler;
  * {@link ListEventHandler} is a default {@link CsvEventHandler} object.
  * </p>
  * <p>
+ * CSV source in UTF-8, US-ASCII or ISO-8859-1 charset is parsed directly on bytes, because all
+ * special characters are ASCII characters. Column values are decoded only when they are pushed to
+ * the {@link CsvEventHandler} object. The maximum column value length and the actual column value
+ * length are measured in decoded characters, and a column value is truncated only at the
+ * boundary of UTF-8 sequence, so the events are the same as for the decoded CSV source. CSV source
+ * in other charsets is decoded before parsing.
+ * </p>
+ * <p>
+ * CSV file in UTF-8, US-ASCII or ISO-8859-1 charset is mapped into memory window by window and is
+ * parsed directly from the mapped region. The windows are not unmapped explicitly, they are released
+ * by the garbage collector, so the column slices of the mapped region stay valid as long as they are
+ * referenced. If the {@link CsvEventHandler} object also implements {@link CsvMergeable}, then such
+ * CSV file can be parsed in parallel.
+ * </p>
+ * <p>
+ * CSV file can also be parsed asynchronously with the specified executor, so the caller does not
+ * wait for CSV file to be parsed. CSV source can be parsed with the pipeline of stages, so reading,
+ * decoding and tokenizing of CSV run in separate threads and overlap with the event handler.
+ * </p>
+ * <p>
+ * CSV source can also be read row by row with the {@link CsvReader} object, or iterated lazily
+ * with the {@link CsvRowIterator} object, or published on demand with the {@link CsvRowPublisher}
+ * object. CSV source, that is obtained chunk by chunk, can be parsed without a blocking source with
+ * the {@link CsvFeed} object. CSV source, that fits in memory, can be indexed with the {@link CsvIndex}
+ * object, so only the accessed column values are created.
+ * </p>
+ * <p>
+ * The row count of the large CSV file can be estimated by sampling with the {@link CsvEstimate} object.
+ * </p>
+ * <p>
  * Objects of this class are reusable.
  * </p>
  *
@@ -60,6 +110,12 @@ import ru.d_shap.csv.state.StateHandler;
  */
 public final class CsvParser {
 
+    static final long MAPPED_WINDOW_SIZE = 64L * 1024L * 1024L;
+
+    static final int INDEX_BLOCK_SIZE = 64 * 1024;
+
+    private static final long MIN_CHUNK_SIZE = 4L * 1024L * 1024L;
+
     private final CsvParserConfiguration _csvParserConfiguration;
 
     CsvParser(final CsvParserConfiguration csvParserConfiguration) {
@@ -114,30 +170,564 @@ public final class CsvParser {
      */
     public void parse(final Reader reader, final CsvEventHandler csvEventHandler) {
         try {
-            CsvParserConfiguration csvParserConfiguration;
-            if (csvEventHandler instanceof CsvConfigurable) {
-                csvParserConfiguration = _csvParserConfiguration.copyOf();
-                ((CsvConfigurable) csvEventHandler).configure(csvParserConfiguration);
-            } else {
-                csvParserConfiguration = _csvParserConfiguration;
-            }
+            CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration(csvEventHandler);
             StateHandler eventHandler = new StateHandler(csvEventHandler, csvParserConfiguration);
-            State state = State.getInitState();
-            int character;
-            while (true) {
-                character = reader.read();
-                if (character < 0) {
+            StateMachine stateMachine = StateMachine.createStateMachine(eventHandler);
+            char[] buffer = new char[csvParserConfiguration.getReadBufferSize()];
+            int count;
+            while (!stateMachine.isStopped()) {
+                count = reader.read(buffer);
+                if (count < 0) {
                     break;
                 }
-                state = state.processCharacter(character, eventHandler);
+                stateMachine.processCharacters(buffer, 0, count);
             }
-            state.processCharacter(SpecialCharacter.END_OF_INPUT, eventHandler);
+            stateMachine.processEndOfInput();
             reader.close();
         } catch (IOException ex) {
             throw new CsvIOException(ex);
         }
     }
 
+    /**
+     * Parse CSV and define rows and columns.
+     *
+     * @param inputStream CSV to parse.
+     * @param charset     CSV charset.
+     *
+     * @return list of rows, each row is a list of columns.
+     */
+    public List<List<String>> parse(final InputStream inputStream, final Charset charset) {
+        ListEventHandler listParserEventHandler = new ListEventHandler();
+        parse(inputStream, charset, listParserEventHandler);
+        return listParserEventHandler.getCsv();
+    }
+
+    /**
+     * Parse CSV and push events to the specified event handler.
+     *
+     * @param inputStream     CSV to parse.
+     * @param charset         CSV charset.
+     * @param csvEventHandler event handler to process parser events.
+     */
+    public void parse(final InputStream inputStream, final Charset charset, final CsvEventHandler csvEventHandler) {
+        if (!isByteCharset(charset)) {
+            Reader reader = new InputStreamReader(inputStream, charset);
+            parse(reader, csvEventHandler);
+            return;
+        }
+        try {
+            CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration(csvEventHandler);
+            StateHandler eventHandler = new StateHandler(csvEventHandler, csvParserConfiguration, getDecodeCharset(charset));
+            StateMachine stateMachine = StateMachine.createStateMachine(eventHandler);
+            byte[] bytes = new byte[csvParserConfiguration.getReadBufferSize()];
+            ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
+            int count;
+            while (!stateMachine.isStopped()) {
+                count = inputStream.read(bytes);
+                if (count < 0) {
+                    break;
+                }
+                stateMachine.processBytes(byteBuffer, 0, count);
+            }
+            stateMachine.processEndOfInput();
+            inputStream.close();
+        } catch (IOException ex) {
+            throw new CsvIOException(ex);
+        }
+    }
+
+    /**
+     * Parse CSV and define rows and columns. CSV is read from the current position to the limit
+     * of the specified buffer.
+     *
+     * @param byteBuffer CSV to parse.
+     * @param charset    CSV charset.
+     *
+     * @return list of rows, each row is a list of columns.
+     */
+    public List<List<String>> parse(final ByteBuffer byteBuffer, final Charset charset) {
+        ListEventHandler listParserEventHandler = new ListEventHandler();
+        parse(byteBuffer, charset, listParserEventHandler);
+        return listParserEventHandler.getCsv();
+    }
+
+    /**
+     * Parse CSV and push events to the specified event handler. CSV is read from the current position
+     * to the limit of the specified buffer.
+     *
+     * @param byteBuffer      CSV to parse.
+     * @param charset         CSV charset.
+     * @param csvEventHandler event handler to process parser events.
+     */
+    public void parse(final ByteBuffer byteBuffer, final Charset charset, final CsvEventHandler csvEventHandler) {
+        if (!isByteCharset(charset)) {
+            CharSequence charSequence = charset.decode(byteBuffer);
+            parse(charSequence, csvEventHandler);
+            return;
+        }
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration(csvEventHandler);
+        StateHandler eventHandler = new StateHandler(csvEventHandler, csvParserConfiguration, getDecodeCharset(charset));
+        StateMachine stateMachine = StateMachine.createStateMachine(eventHandler);
+        processByteBuffer(stateMachine, byteBuffer);
+        stateMachine.processEndOfInput();
+    }
+
+    /**
+     * Parse CSV and define rows and columns.
+     *
+     * @param path    CSV file to parse.
+     * @param charset CSV charset.
+     *
+     * @return list of rows, each row is a list of columns.
+     */
+    public List<List<String>> parse(final Path path, final Charset charset) {
+        ListEventHandler listParserEventHandler = new ListEventHandler();
+        parse(path, charset, listParserEventHandler);
+        return listParserEventHandler.getCsv();
+    }
+
+    /**
+     * Parse CSV and push events to the specified event handler.
+     *
+     * @param path            CSV file to parse.
+     * @param charset         CSV charset.
+     * @param csvEventHandler event handler to process parser events.
+     */
+    public void parse(final Path path, final Charset charset, final CsvEventHandler csvEventHandler) {
+        parse(path, charset, csvEventHandler, MAPPED_WINDOW_SIZE);
+    }
+
+    void parse(final Path path, final Charset charset, final CsvEventHandler csvEventHandler, final long mappedWindowSize) {
+        try {
+            if (!isByteCharset(charset)) {
+                InputStream inputStream = Files.newInputStream(path);
+                parse(inputStream, charset, csvEventHandler);
+                return;
+            }
+            try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+                CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration(csvEventHandler);
+                StateHandler eventHandler = new StateHandler(csvEventHandler, csvParserConfiguration, getDecodeCharset(charset));
+                StateMachine stateMachine = StateMachine.createStateMachine(eventHandler);
+                long size = fileChannel.size();
+                long position = 0L;
+                long length;
+                while (position < size && !stateMachine.isStopped()) {
+                    length = Math.min(mappedWindowSize, size - position);
+                    MappedByteBuffer mappedByteBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                    processByteBuffer(stateMachine, mappedByteBuffer);
+                    position += length;
+                }
+                stateMachine.processEndOfInput();
+            }
+        } catch (IOException ex) {
+            throw new CsvIOException(ex);
+        }
+    }
+
+    /**
+     * Parse CSV file asynchronously and push events to the specified event handler. CSV file is parsed
+     * with the specified executor. CSV file is read block by block with the {@link AsynchronousFileChannel}
+     * object, and the read of the next block overlaps with the parsing of the current block. The
+     * returned future provides the event handler after CSV file is parsed, or the exception, thrown
+     * while CSV file is parsed. CSV file is read in blocks of at least 1 MB.
+     *
+     * @param path            CSV file to parse.
+     * @param charset         CSV charset, must not be null.
+     * @param csvEventHandler event handler to process parser events.
+     * @param executor        executor to parse CSV file.
+     * @param <T>             the type of the event handler.
+     *
+     * @return the future of the event handler.
+     */
+    public <T extends CsvEventHandler> Future<T> parseAsync(final Path path, final Charset charset, final T csvEventHandler, final Executor executor) {
+        if (charset == null) {
+            throw new IllegalArgumentException("CSV charset is null.");
+        }
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration(csvEventHandler);
+        AsyncCsvParser<T> asyncCsvParser = new AsyncCsvParser<>(csvParserConfiguration, path, charset, csvEventHandler);
+        FutureTask<T> futureTask = new FutureTask<>(asyncCsvParser);
+        executor.execute(futureTask);
+        return futureTask;
+    }
+
+    /**
+     * Parse CSV with the pipeline of stages and push events to the specified event handler. CSV is
+     * parsed with a new thread pool.
+     *
+     * @param reader          CSV to parse.
+     * @param csvEventHandler event handler to process parser events.
+     */
+    public void parsePipelined(final Reader reader, final CsvEventHandler csvEventHandler) {
+        ExecutorService executorService = Executors.newCachedThreadPool();
+        try {
+            parsePipelined(reader, csvEventHandler, executorService);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Parse CSV with the pipeline of stages and push events to the specified event handler. CSV is
+     * read and tokenized in two tasks of the specified executor service, and the events are pushed
+     * to the event handler in the current thread, so the event handler does not stall the reading
+     * of CSV. The stages are connected with the bounded rings of reusable blocks. The executor service
+     * must be able to run both tasks at the same time. If the thread pool executor or the fork join
+     * pool can not run both tasks at the same time, then CSV is parsed in the current thread. The
+     * event handler must not implement {@link CsvChunkEventHandler}.
+     *
+     * @param reader          CSV to parse.
+     * @param csvEventHandler event handler to process parser events.
+     * @param executorService executor service to run the stages.
+     */
+    public void parsePipelined(final Reader reader, final CsvEventHandler csvEventHandler, final ExecutorService executorService) {
+        checkPipelinedEventHandler(csvEventHandler);
+        if (PipelinedCsvParser.getMaxTaskCount(executorService) < PipelinedCsvParser.CHARACTER_TASK_COUNT) {
+            parse(reader, csvEventHandler);
+        } else {
+            CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration(csvEventHandler);
+            PipelinedCsvParser pipelinedCsvParser = new PipelinedCsvParser(csvParserConfiguration, null, PipelinedCsvParser.BLOCK_COUNT, PipelinedCsvParser.EVENT_BLOCK_SIZE);
+            pipelinedCsvParser.parse(reader, csvEventHandler, executorService);
+        }
+    }
+
+    /**
+     * Parse CSV with the pipeline of stages and push events to the specified event handler. CSV is
+     * parsed with a new thread pool.
+     *
+     * @param inputStream     CSV to parse.
+     * @param charset         CSV charset.
+     * @param csvEventHandler event handler to process parser events.
+     */
+    public void parsePipelined(final InputStream inputStream, final Charset charset, final CsvEventHandler csvEventHandler) {
+        ExecutorService executorService = Executors.newCachedThreadPool();
+        try {
+            parsePipelined(inputStream, charset, csvEventHandler, executorService);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Parse CSV with the pipeline of stages and push events to the specified event handler. CSV is
+     * read, decoded and tokenized in three tasks of the specified executor service, and the events
+     * are pushed to the event handler in the current thread, so the event handler does not stall
+     * the reading of CSV. The stages are connected with the bounded rings of reusable blocks. The
+     * executor service must be able to run all three tasks at the same time. If the thread pool
+     * executor or the fork join pool can not run all three tasks at the same time, then CSV is parsed
+     * in the current thread. The event handler must not implement {@link CsvChunkEventHandler}.
+     *
+     * @param inputStream     CSV to parse.
+     * @param charset         CSV charset.
+     * @param csvEventHandler event handler to process parser events.
+     * @param executorService executor service to run the stages.
+     */
+    public void parsePipelined(final InputStream inputStream, final Charset charset, final CsvEventHandler csvEventHandler, final ExecutorService executorService) {
+        checkPipelinedEventHandler(csvEventHandler);
+        if (PipelinedCsvParser.getMaxTaskCount(executorService) < PipelinedCsvParser.BYTE_TASK_COUNT) {
+            parse(inputStream, charset, csvEventHandler);
+        } else {
+            CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration(csvEventHandler);
+            PipelinedCsvParser pipelinedCsvParser = new PipelinedCsvParser(csvParserConfiguration, charset, PipelinedCsvParser.BLOCK_COUNT, PipelinedCsvParser.EVENT_BLOCK_SIZE);
+            pipelinedCsvParser.parse(inputStream, csvEventHandler, executorService);
+        }
+    }
+
+    private static void checkPipelinedEventHandler(final CsvEventHandler csvEventHandler) {
+        if (csvEventHandler instanceof CsvChunkEventHandler) {
+            throw new IllegalArgumentException("CSV chunk event handler is not supported by the pipelined parser.");
+        }
+    }
+
+    /**
+     * Create CSV reader to read CSV row by row.
+     *
+     * @param charSequence CSV to read.
+     *
+     * @return CSV reader.
+     */
+    public CsvReader createCsvReader(final CharSequence charSequence) {
+        Reader reader = createReader(charSequence);
+        return createCsvReader(reader);
+    }
+
+    /**
+     * Create CSV reader to read CSV row by row.
+     *
+     * @param reader CSV to read.
+     *
+     * @return CSV reader.
+     */
+    public CsvReader createCsvReader(final Reader reader) {
+        return new CsvReader(_csvParserConfiguration, reader);
+    }
+
+    /**
+     * Create CSV feed to parse CSV, that is obtained chunk by chunk as characters.
+     *
+     * @param csvEventHandler event handler to process parser events.
+     *
+     * @return CSV feed.
+     */
+    public CsvFeed createCsvFeed(final CsvEventHandler csvEventHandler) {
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration(csvEventHandler);
+        return new CsvFeed(csvParserConfiguration, null, csvEventHandler);
+    }
+
+    /**
+     * Create CSV feed to parse CSV, that is obtained chunk by chunk as bytes.
+     *
+     * @param charset         CSV charset.
+     * @param csvEventHandler event handler to process parser events.
+     *
+     * @return CSV feed.
+     */
+    public CsvFeed createCsvFeed(final Charset charset, final CsvEventHandler csvEventHandler) {
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration(csvEventHandler);
+        return new CsvFeed(csvParserConfiguration, charset, csvEventHandler);
+    }
+
+    /**
+     * Create CSV row publisher to publish CSV rows on demand.
+     *
+     * @param charSequence CSV to publish.
+     *
+     * @return CSV row publisher.
+     */
+    public CsvRowPublisher publish(final CharSequence charSequence) {
+        Reader reader = createReader(charSequence);
+        return publish(reader);
+    }
+
+    /**
+     * Create CSV row publisher to publish CSV rows on demand.
+     *
+     * @param reader CSV to publish.
+     *
+     * @return CSV row publisher.
+     */
+    public CsvRowPublisher publish(final Reader reader) {
+        CsvReader csvReader = createCsvReader(reader);
+        return new CsvRowPublisher(csvReader);
+    }
+
+    /**
+     * Create CSV row iterator to iterate CSV lazily row by row.
+     *
+     * @param charSequence CSV to iterate.
+     *
+     * @return CSV row iterator.
+     */
+    public CsvRowIterator iterate(final CharSequence charSequence) {
+        Reader reader = createReader(charSequence);
+        return iterate(reader);
+    }
+
+    /**
+     * Create CSV row iterator to iterate CSV lazily row by row.
+     *
+     * @param reader CSV to iterate.
+     *
+     * @return CSV row iterator.
+     */
+    public CsvRowIterator iterate(final Reader reader) {
+        CsvReader csvReader = createCsvReader(reader);
+        return new CsvRowIterator(csvReader);
+    }
+
+    /**
+     * Create CSV row iterator to iterate CSV file lazily row by row.
+     *
+     * @param path    CSV file to iterate.
+     * @param charset CSV charset.
+     *
+     * @return CSV row iterator.
+     */
+    public CsvRowIterator iterate(final Path path, final Charset charset) {
+        try {
+            InputStream inputStream = Files.newInputStream(path);
+            Reader reader = new InputStreamReader(inputStream, charset);
+            return iterate(reader);
+        } catch (IOException ex) {
+            throw new CsvIOException(ex);
+        }
+    }
+
+    /**
+     * Build the structural index of CSV. Column values are created only when they are accessed.
+     *
+     * @param charSequence CSV to index.
+     *
+     * @return CSV index.
+     */
+    public CsvIndex index(final CharSequence charSequence) {
+        char[] source = charSequence.toString().toCharArray();
+        StructuralIndex structuralIndex = new StructuralIndex(_csvParserConfiguration, source, source.length);
+        return new CsvIndex(structuralIndex);
+    }
+
+    /**
+     * Build the structural index of CSV. Column values are created only when they are accessed.
+     *
+     * @param reader CSV to index.
+     *
+     * @return CSV index.
+     */
+    public CsvIndex index(final Reader reader) {
+        return index(reader, INDEX_BLOCK_SIZE);
+    }
+
+    CsvIndex index(final Reader reader, final int blockSize) {
+        try {
+            StructuralIndex structuralIndex = new StructuralIndex(_csvParserConfiguration, blockSize);
+            char[] block;
+            int length;
+            int count;
+            while (!structuralIndex.isStopped()) {
+                block = structuralIndex.getBlock();
+                length = structuralIndex.getBlockLength();
+                count = reader.read(block, length, block.length - length);
+                if (count < 0) {
+                    break;
+                }
+                structuralIndex.processCharacters(count);
+            }
+            structuralIndex.processEndOfInput();
+            reader.close();
+            return new CsvIndex(structuralIndex);
+        } catch (IOException ex) {
+            throw new CsvIOException(ex);
+        }
+    }
+
+    /**
+     * Estimate CSV file dimensions. The default number of blocks and the default block size are used.
+     *
+     * @param path    CSV file to estimate.
+     * @param charset CSV charset.
+     *
+     * @return the estimate of CSV file dimensions.
+     */
+    public CsvEstimate estimate(final Path path, final Charset charset) {
+        return estimate(path, charset, CsvEstimator.SAMPLE_COUNT, CsvEstimator.SAMPLE_SIZE);
+    }
+
+    /**
+     * Estimate CSV file dimensions without parsing the whole CSV file. The specified number of blocks
+     * of the specified size are read at evenly spaced positions of CSV file, each block is resynchronized
+     * to the row boundary with the configured row separators, and the row count is extrapolated from
+     * the average row length of the blocks. If CSV file is not larger than all blocks together, or the
+     * charset is not UTF-8, US-ASCII or ISO-8859-1, or no block can be resynchronized, then the rows
+     * of CSV file are counted exactly. The rows to skip, the row limit, the projection, the column
+     * predicates and the column length check are ignored, the skipped empty rows are not counted.
+     *
+     * @param path        CSV file to estimate.
+     * @param charset     CSV charset.
+     * @param sampleCount the number of blocks to read.
+     * @param sampleSize  the block size in bytes.
+     *
+     * @return the estimate of CSV file dimensions.
+     */
+    public CsvEstimate estimate(final Path path, final Charset charset, final int sampleCount, final int sampleSize) {
+        CsvEstimator csvEstimator = new CsvEstimator(_csvParserConfiguration, sampleCount, sampleSize);
+        return csvEstimator.estimate(path, charset);
+    }
+
+    /**
+     * Parse CSV file in parallel and define rows and columns.
+     *
+     * @param path    CSV file to parse.
+     * @param charset CSV charset.
+     *
+     * @return list of rows, each row is a list of columns.
+     */
+    public List<List<String>> parseParallel(final Path path, final Charset charset) {
+        ListEventHandler listParserEventHandler = new ListEventHandler();
+        parseParallel(path, charset, listParserEventHandler);
+        return listParserEventHandler.getCsv();
+    }
+
+    /**
+     * Parse CSV file in parallel and push events to the specified event handler. CSV file is parsed
+     * with a new {@link ForkJoinPool} object.
+     *
+     * @param path            CSV file to parse.
+     * @param charset         CSV charset.
+     * @param csvEventHandler event handler to process parser events.
+     */
+    public void parseParallel(final Path path, final Charset charset, final CsvEventHandler csvEventHandler) {
+        ForkJoinPool forkJoinPool = new ForkJoinPool();
+        try {
+            parseParallel(path, charset, csvEventHandler, forkJoinPool);
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    /**
+     * Parse CSV file in parallel and push events to the specified event handler. CSV file is split
+     * into chunks of rows, the chunks are parsed with the specified {@link ForkJoinPool} object, and
+     * then the results are merged in the order of chunks. If the event handler does not implement
+     * {@link CsvMergeable}, or implements {@link CsvStoppable}, or the rows to skip or the row limit
+     * are specified, or the charset is not UTF-8, US-ASCII or ISO-8859-1, then CSV file is parsed
+     * in the current thread.
+     *
+     * @param path            CSV file to parse.
+     * @param charset         CSV charset.
+     * @param csvEventHandler event handler to process parser events.
+     * @param forkJoinPool    pool to parse chunks of CSV file.
+     */
+    public void parseParallel(final Path path, final Charset charset, final CsvEventHandler csvEventHandler, final ForkJoinPool forkJoinPool) {
+        parseParallel(path, charset, csvEventHandler, forkJoinPool, MIN_CHUNK_SIZE, MAPPED_WINDOW_SIZE);
+    }
+
+    void parseParallel(final Path path, final Charset charset, final CsvEventHandler csvEventHandler, final ForkJoinPool forkJoinPool, final long minChunkSize, final long mappedWindowSize) {
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration(csvEventHandler);
+        if (isParallelParsingSupported(csvParserConfiguration, csvEventHandler, charset)) {
+            ParallelCsvParser parallelCsvParser = new ParallelCsvParser(csvParserConfiguration, getDecodeCharset(charset), minChunkSize, mappedWindowSize);
+            parallelCsvParser.parse(path, (CsvMergeable<?>) csvEventHandler, forkJoinPool, forkJoinPool.getParallelism());
+        } else {
+            parse(path, charset, csvEventHandler, mappedWindowSize);
+        }
+    }
+
+    private static boolean isParallelParsingSupported(final CsvParserConfiguration csvParserConfiguration, final CsvEventHandler csvEventHandler, final Charset charset) {
+        if (csvParserConfiguration.getSkipRows() > 0L || csvParserConfiguration.getLimitRows() >= 0L) {
+            return false;
+        }
+        return csvEventHandler instanceof CsvMergeable && !(csvEventHandler instanceof CsvStoppable) && isByteCharset(charset);
+    }
+
+    CsvParserConfiguration createCsvParserConfiguration(final CsvEventHandler csvEventHandler) {
+        if (csvEventHandler instanceof CsvConfigurable) {
+            CsvParserConfiguration csvParserConfiguration = _csvParserConfiguration.copyOf();
+            ((CsvConfigurable) csvEventHandler).configure(csvParserConfiguration);
+            return csvParserConfiguration;
+        } else {
+            return _csvParserConfiguration;
+        }
+    }
+
+    static boolean isByteCharset(final Charset charset) {
+        return StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset) || StandardCharsets.ISO_8859_1.equals(charset);
+    }
+
+    static Charset getDecodeCharset(final Charset charset) {
+        if (StandardCharsets.ISO_8859_1.equals(charset)) {
+            return null;
+        } else {
+            return charset;
+        }
+    }
+
+    static void processByteBuffer(final StateMachine stateMachine, final ByteBuffer byteBuffer) {
+        int position;
+        while (byteBuffer.hasRemaining() && !stateMachine.isStopped()) {
+            position = stateMachine.processBytes(byteBuffer, byteBuffer.position(), byteBuffer.remaining());
+            byteBuffer.position(position);
+        }
+    }
+
     private Reader createReader(final CharSequence charSequence) {
         return new StringReader(charSequence.toString());
     }
@@ -19,8 +19,16 @@
 ///////////////////////////////////////////////////////////////////////////////////////////////////
 package ru.d_shap.csv;
 
+import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import ru.d_shap.csv.handler.CsvEventHandler;
 
@@ -146,6 +154,8 @@ public final class CsvParserBuilder {
     /**
      * Set the maximum length of a column value. If a column value length is greater then the maximum
      * column value length, then either the rest of a column value is skipped, or an exception is thrown.
+     * The column value length is measured in characters, even if CSV source in UTF-8 charset is parsed
+     * directly on bytes. A supplementary character takes two characters and is never split.
      *
      * @param maxColumnLength the maximum length of a column value, or negative number for no column value length restriction.
      *
@@ -168,6 +178,96 @@ public final class CsvParserBuilder {
         return this;
     }
 
+    /**
+     * Set the size of the block of characters, that is read from the CSV source at once.
+     *
+     * @param readBufferSize the size of the block of characters.
+     *
+     * @return current object for the method chaining.
+     */
+    public CsvParserBuilder setReadBufferSize(final int readBufferSize) {
+        _csvParserConfiguration.setReadBufferSize(readBufferSize);
+        return this;
+    }
+
+    /**
+     * Specify whether the table-driven state machine should be used or not. The table-driven state machine compiles
+     * the configured separators into the transition table and processes all input characters in one loop.
+     * Both state machines produce the same events and exceptions.
+     *
+     * @param tableEngineEnabled true if the table-driven state machine should be used.
+     *
+     * @return current object for the method chaining.
+     */
+    public CsvParserBuilder setTableEngineEnabled(final boolean tableEngineEnabled) {
+        _csvParserConfiguration.setTableEngineEnabled(tableEngineEnabled);
+        return this;
+    }
+
+    /**
+     * Set the number of rows, that are skipped from the beginning of the CSV source. The skipped rows
+     * are scanned for separators only, the column values of the skipped rows are not stored.
+     *
+     * @param skipRows the number of rows to skip.
+     *
+     * @return current object for the method chaining.
+     */
+    public CsvParserBuilder setSkipRows(final long skipRows) {
+        _csvParserConfiguration.setSkipRows(skipRows);
+        return this;
+    }
+
+    /**
+     * Set the maximum number of rows, that are pushed to the event handler. CSV parser stops reading
+     * the CSV source after the last row is pushed.
+     *
+     * @param limitRows the maximum number of rows, or negative number for no row count restriction.
+     *
+     * @return current object for the method chaining.
+     */
+    public CsvParserBuilder setLimitRows(final long limitRows) {
+        _csvParserConfiguration.setLimitRows(limitRows);
+        return this;
+    }
+
+    /**
+     * Set the indices of the columns, that are pushed to the event handler. The column values of
+     * other columns are not stored and not pushed to the event handler.
+     *
+     * @param projection the indices of the columns, or null if all columns are pushed to the event handler.
+     *
+     * @return current object for the method chaining.
+     */
+    public CsvParserBuilder setProjection(final int... projection) {
+        _csvParserConfiguration.setProjection(projection);
+        return this;
+    }
+
+    /**
+     * Add the column predicate. The row is pushed to the event handler only if the column values match
+     * all column predicates. If the row is not matched, then the remaining characters of the row are
+     * not stored.
+     *
+     * @param column          the column index.
+     * @param columnPredicate the column predicate, must not be null.
+     *
+     * @return current object for the method chaining.
+     */
+    public CsvParserBuilder addColumnPredicate(final int column, final CsvColumnPredicate columnPredicate) {
+        _csvParserConfiguration.addColumnPredicate(column, columnPredicate);
+        return this;
+    }
+
+    /**
+     * Remove all column predicates.
+     *
+     * @return current object for the method chaining.
+     */
+    public CsvParserBuilder clearColumnPredicates() {
+        _csvParserConfiguration.clearColumnPredicates();
+        return this;
+    }
+
     /**
      * Create a {@link CsvParser} object.
      *
@@ -220,4 +320,327 @@ public final class CsvParserBuilder {
         build().parse(reader, csvEventHandler);
     }
 
+    /**
+     * Create a {@link CsvParser} object, then parse CSV and define rows and columns.
+     *
+     * @param inputStream CSV to parse.
+     * @param charset     CSV charset.
+     *
+     * @return list of rows, each row is a list of columns.
+     */
+    public List<List<String>> parse(final InputStream inputStream, final Charset charset) {
+        return build().parse(inputStream, charset);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then parse CSV and push events to the specified event handler.
+     *
+     * @param inputStream     CSV to parse.
+     * @param charset         CSV charset.
+     * @param csvEventHandler event handler to process parser events.
+     */
+    public void parse(final InputStream inputStream, final Charset charset, final CsvEventHandler csvEventHandler) {
+        build().parse(inputStream, charset, csvEventHandler);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then parse CSV and define rows and columns.
+     *
+     * @param byteBuffer CSV to parse.
+     * @param charset    CSV charset.
+     *
+     * @return list of rows, each row is a list of columns.
+     */
+    public List<List<String>> parse(final ByteBuffer byteBuffer, final Charset charset) {
+        return build().parse(byteBuffer, charset);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then parse CSV and push events to the specified event handler.
+     *
+     * @param byteBuffer      CSV to parse.
+     * @param charset         CSV charset.
+     * @param csvEventHandler event handler to process parser events.
+     */
+    public void parse(final ByteBuffer byteBuffer, final Charset charset, final CsvEventHandler csvEventHandler) {
+        build().parse(byteBuffer, charset, csvEventHandler);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then parse CSV and define rows and columns.
+     *
+     * @param path    CSV file to parse.
+     * @param charset CSV charset.
+     *
+     * @return list of rows, each row is a list of columns.
+     */
+    public List<List<String>> parse(final Path path, final Charset charset) {
+        return build().parse(path, charset);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then parse CSV and push events to the specified event handler.
+     *
+     * @param path            CSV file to parse.
+     * @param charset         CSV charset.
+     * @param csvEventHandler event handler to process parser events.
+     */
+    public void parse(final Path path, final Charset charset, final CsvEventHandler csvEventHandler) {
+        build().parse(path, charset, csvEventHandler);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then create CSV reader to read CSV row by row.
+     *
+     * @param charSequence CSV to read.
+     *
+     * @return CSV reader.
+     */
+    public CsvReader createCsvReader(final CharSequence charSequence) {
+        return build().createCsvReader(charSequence);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then create CSV reader to read CSV row by row.
+     *
+     * @param reader CSV to read.
+     *
+     * @return CSV reader.
+     */
+    public CsvReader createCsvReader(final Reader reader) {
+        return build().createCsvReader(reader);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then create CSV feed to parse CSV, that is obtained chunk by chunk as characters.
+     *
+     * @param csvEventHandler event handler to process parser events.
+     *
+     * @return CSV feed.
+     */
+    public CsvFeed createCsvFeed(final CsvEventHandler csvEventHandler) {
+        return build().createCsvFeed(csvEventHandler);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then create CSV feed to parse CSV, that is obtained chunk by chunk as bytes.
+     *
+     * @param charset         CSV charset.
+     * @param csvEventHandler event handler to process parser events.
+     *
+     * @return CSV feed.
+     */
+    public CsvFeed createCsvFeed(final Charset charset, final CsvEventHandler csvEventHandler) {
+        return build().createCsvFeed(charset, csvEventHandler);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then create CSV row publisher to publish CSV rows on demand.
+     *
+     * @param charSequence CSV to publish.
+     *
+     * @return CSV row publisher.
+     */
+    public CsvRowPublisher publish(final CharSequence charSequence) {
+        return build().publish(charSequence);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then create CSV row publisher to publish CSV rows on demand.
+     *
+     * @param reader CSV to publish.
+     *
+     * @return CSV row publisher.
+     */
+    public CsvRowPublisher publish(final Reader reader) {
+        return build().publish(reader);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then create CSV row iterator to iterate CSV lazily row by row.
+     *
+     * @param charSequence CSV to iterate.
+     *
+     * @return CSV row iterator.
+     */
+    public CsvRowIterator iterate(final CharSequence charSequence) {
+        return build().iterate(charSequence);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then create CSV row iterator to iterate CSV lazily row by row.
+     *
+     * @param reader CSV to iterate.
+     *
+     * @return CSV row iterator.
+     */
+    public CsvRowIterator iterate(final Reader reader) {
+        return build().iterate(reader);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then create CSV row iterator to iterate CSV file lazily row by row.
+     *
+     * @param path    CSV file to iterate.
+     * @param charset CSV charset.
+     *
+     * @return CSV row iterator.
+     */
+    public CsvRowIterator iterate(final Path path, final Charset charset) {
+        return build().iterate(path, charset);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then build the structural index of CSV.
+     *
+     * @param charSequence CSV to index.
+     *
+     * @return CSV index.
+     */
+    public CsvIndex index(final CharSequence charSequence) {
+        return build().index(charSequence);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then build the structural index of CSV.
+     *
+     * @param reader CSV to index.
+     *
+     * @return CSV index.
+     */
+    public CsvIndex index(final Reader reader) {
+        return build().index(reader);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then estimate CSV file dimensions. The default number of
+     * blocks and the default block size are used.
+     *
+     * @param path    CSV file to estimate.
+     * @param charset CSV charset.
+     *
+     * @return the estimate of CSV file dimensions.
+     */
+    public CsvEstimate estimate(final Path path, final Charset charset) {
+        return build().estimate(path, charset);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then estimate CSV file dimensions without parsing the whole
+     * CSV file.
+     *
+     * @param path        CSV file to estimate.
+     * @param charset     CSV charset.
+     * @param sampleCount the number of blocks to read.
+     * @param sampleSize  the block size in bytes.
+     *
+     * @return the estimate of CSV file dimensions.
+     */
+    public CsvEstimate estimate(final Path path, final Charset charset, final int sampleCount, final int sampleSize) {
+        return build().estimate(path, charset, sampleCount, sampleSize);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then parse CSV file in parallel and define rows and columns.
+     *
+     * @param path    CSV file to parse.
+     * @param charset CSV charset.
+     *
+     * @return list of rows, each row is a list of columns.
+     */
+    public List<List<String>> parseParallel(final Path path, final Charset charset) {
+        return build().parseParallel(path, charset);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then parse CSV file in parallel and push events to the specified
+     * event handler.
+     *
+     * @param path            CSV file to parse.
+     * @param charset         CSV charset.
+     * @param csvEventHandler event handler to process parser events.
+     */
+    public void parseParallel(final Path path, final Charset charset, final CsvEventHandler csvEventHandler) {
+        build().parseParallel(path, charset, csvEventHandler);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then parse CSV file in parallel and push events to the specified
+     * event handler.
+     *
+     * @param path            CSV file to parse.
+     * @param charset         CSV charset.
+     * @param csvEventHandler event handler to process parser events.
+     * @param forkJoinPool    pool to parse chunks of CSV file.
+     */
+    public void parseParallel(final Path path, final Charset charset, final CsvEventHandler csvEventHandler, final ForkJoinPool forkJoinPool) {
+        build().parseParallel(path, charset, csvEventHandler, forkJoinPool);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then parse CSV file asynchronously and push events to the specified
+     * event handler.
+     *
+     * @param path            CSV file to parse.
+     * @param charset         CSV charset, must not be null.
+     * @param csvEventHandler event handler to process parser events.
+     * @param executor        executor to parse CSV file.
+     * @param <T>             the type of the event handler.
+     *
+     * @return the future of the event handler.
+     */
+    public <T extends CsvEventHandler> Future<T> parseAsync(final Path path, final Charset charset, final T csvEventHandler, final Executor executor) {
+        return build().parseAsync(path, charset, csvEventHandler, executor);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then parse CSV with the pipeline of stages and push events
+     * to the specified event handler. CSV is parsed with a new thread pool.
+     *
+     * @param reader          CSV to parse.
+     * @param csvEventHandler event handler to process parser events.
+     */
+    public void parsePipelined(final Reader reader, final CsvEventHandler csvEventHandler) {
+        build().parsePipelined(reader, csvEventHandler);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then parse CSV with the pipeline of stages and push events
+     * to the specified event handler. CSV is read and tokenized in two tasks of the specified executor
+     * service, and the events are pushed to the event handler in the current thread.
+     *
+     * @param reader          CSV to parse.
+     * @param csvEventHandler event handler to process parser events.
+     * @param executorService executor service to run the stages.
+     */
+    public void parsePipelined(final Reader reader, final CsvEventHandler csvEventHandler, final ExecutorService executorService) {
+        build().parsePipelined(reader, csvEventHandler, executorService);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then parse CSV with the pipeline of stages and push events
+     * to the specified event handler. CSV is parsed with a new thread pool.
+     *
+     * @param inputStream     CSV to parse.
+     * @param charset         CSV charset.
+     * @param csvEventHandler event handler to process parser events.
+     */
+    public void parsePipelined(final InputStream inputStream, final Charset charset, final CsvEventHandler csvEventHandler) {
+        build().parsePipelined(inputStream, charset, csvEventHandler);
+    }
+
+    /**
+     * Create a {@link CsvParser} object, then parse CSV with the pipeline of stages and push events
+     * to the specified event handler. CSV is read, decoded and tokenized in three tasks of the specified
+     * executor service, and the events are pushed to the event handler in the current thread.
+     *
+     * @param inputStream     CSV to parse.
+     * @param charset         CSV charset.
+     * @param csvEventHandler event handler to process parser events.
+     * @param executorService executor service to run the stages.
+     */
+    public void parsePipelined(final InputStream inputStream, final Charset charset, final CsvEventHandler csvEventHandler, final ExecutorService executorService) {
+        build().parsePipelined(inputStream, charset, csvEventHandler, executorService);
+    }
+
 }
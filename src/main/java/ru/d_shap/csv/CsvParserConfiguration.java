@@ -19,6 +19,10 @@
 ///////////////////////////////////////////////////////////////////////////////////////////////////
 package ru.d_shap.csv;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
 /**
  * CSV parser configuration.
  *
@@ -26,6 +30,13 @@ package ru.d_shap.csv;
  */
 public final class CsvParserConfiguration {
 
+    /**
+     * Maximum column index, that can be used in the projection and the column predicates.
+     */
+    public static final int MAX_COLUMN_INDEX = 1024 * 1024 - 1;
+
+    private static final int DEFAULT_READ_BUFFER_SIZE = 8192;
+
     private boolean _commaSeparator;
 
     private boolean _semicolonSeparator;
@@ -44,8 +55,24 @@ public final class CsvParserConfiguration {
 
     private boolean _maxColumnLengthCheckEnabled;
 
+    private int _readBufferSize;
+
+    private boolean _tableEngineEnabled;
+
+    private long _skipRows;
+
+    private long _limitRows;
+
+    private int[] _projection;
+
+    private final Map<Integer, CsvColumnPredicate> _columnPredicates;
+
     CsvParserConfiguration() {
         super();
+        _readBufferSize = DEFAULT_READ_BUFFER_SIZE;
+        _skipRows = 0L;
+        _limitRows = -1L;
+        _columnPredicates = new TreeMap<>();
     }
 
     CsvParserConfiguration copyOf() {
@@ -59,6 +86,12 @@ public final class CsvParserConfiguration {
         copy._skipEmptyRowsEnabled = _skipEmptyRowsEnabled;
         copy._maxColumnLength = _maxColumnLength;
         copy._maxColumnLengthCheckEnabled = _maxColumnLengthCheckEnabled;
+        copy._readBufferSize = _readBufferSize;
+        copy._tableEngineEnabled = _tableEngineEnabled;
+        copy._skipRows = _skipRows;
+        copy._limitRows = _limitRows;
+        copy.setProjection(_projection);
+        copy._columnPredicates.putAll(_columnPredicates);
         return copy;
     }
 
@@ -72,6 +105,24 @@ public final class CsvParserConfiguration {
         if (!_crSeparator && !_lfSeparator && !_crLfSeparator) {
             throw new WrongRowSeparatorException();
         }
+        if (_readBufferSize <= 0) {
+            throw new WrongReadBufferSizeException();
+        }
+        if (_skipRows < 0L) {
+            throw new WrongSkipRowsException();
+        }
+        if (_projection != null) {
+            for (int column : _projection) {
+                if (column < 0 || column > MAX_COLUMN_INDEX) {
+                    throw new WrongProjectionException();
+                }
+            }
+        }
+        for (Integer column : _columnPredicates.keySet()) {
+            if (column < 0 || column > MAX_COLUMN_INDEX) {
+                throw new WrongColumnPredicateException();
+            }
+        }
     }
 
     /**
@@ -213,6 +264,8 @@ public final class CsvParserConfiguration {
     /**
      * Set the maximum length of a column value. If a column value length is greater then the maximum
      * column value length, then either the rest of a column value is skipped, or an exception is thrown.
+     * The column value length is measured in characters, even if CSV source in UTF-8 charset is parsed
+     * directly on bytes. A supplementary character takes two characters and is never split.
      *
      * @param maxColumnLength the maximum length of a column value, or negative number for no column value length restriction.
      */
@@ -238,4 +291,146 @@ public final class CsvParserConfiguration {
         _maxColumnLengthCheckEnabled = maxColumnLengthCheckEnabled;
     }
 
+    /**
+     * Get the size of the block of characters, that is read from the CSV source at once.
+     *
+     * @return the size of the block of characters.
+     */
+    public int getReadBufferSize() {
+        return _readBufferSize;
+    }
+
+    /**
+     * Set the size of the block of characters, that is read from the CSV source at once.
+     *
+     * @param readBufferSize the size of the block of characters.
+     */
+    public void setReadBufferSize(final int readBufferSize) {
+        _readBufferSize = readBufferSize;
+    }
+
+    /**
+     * Check if the table-driven state machine should be used. The table-driven state machine compiles
+     * the configured separators into the transition table and processes all input characters in one loop.
+     *
+     * @return true if the table-driven state machine should be used.
+     */
+    public boolean isTableEngineEnabled() {
+        return _tableEngineEnabled;
+    }
+
+    /**
+     * Specify whether the table-driven state machine should be used or not. The table-driven state machine compiles
+     * the configured separators into the transition table and processes all input characters in one loop.
+     *
+     * @param tableEngineEnabled true if the table-driven state machine should be used.
+     */
+    public void setTableEngineEnabled(final boolean tableEngineEnabled) {
+        _tableEngineEnabled = tableEngineEnabled;
+    }
+
+    /**
+     * Get the number of rows, that are skipped from the beginning of the CSV source. The skipped rows
+     * are scanned for separators only, the column values of the skipped rows are not stored.
+     *
+     * @return the number of rows to skip.
+     */
+    public long getSkipRows() {
+        return _skipRows;
+    }
+
+    /**
+     * Set the number of rows, that are skipped from the beginning of the CSV source. The skipped rows
+     * are scanned for separators only, the column values of the skipped rows are not stored. The skipped
+     * rows are not checked with the column predicates, but the column count check takes them into account.
+     *
+     * @param skipRows the number of rows to skip.
+     */
+    public void setSkipRows(final long skipRows) {
+        _skipRows = skipRows;
+    }
+
+    /**
+     * Get the maximum number of rows, that are pushed to the event handler. CSV parser stops reading
+     * the CSV source after the last row is pushed.
+     *
+     * @return the maximum number of rows, or negative number for no row count restriction.
+     */
+    public long getLimitRows() {
+        return _limitRows;
+    }
+
+    /**
+     * Set the maximum number of rows, that are pushed to the event handler. CSV parser stops reading
+     * the CSV source after the last row is pushed.
+     *
+     * @param limitRows the maximum number of rows, or negative number for no row count restriction.
+     */
+    public void setLimitRows(final long limitRows) {
+        _limitRows = limitRows;
+    }
+
+    /**
+     * Get the indices of the columns, that are pushed to the event handler.
+     *
+     * @return the indices of the columns, or null if all columns are pushed to the event handler.
+     */
+    public int[] getProjection() {
+        if (_projection == null) {
+            return null;
+        } else {
+            return _projection.clone();
+        }
+    }
+
+    /**
+     * Set the indices of the columns, that are pushed to the event handler. The column values of
+     * other columns are not stored and not pushed to the event handler, but the column count check
+     * takes all columns into account. The selected columns are pushed in the order of the CSV source.
+     * The column indices must not be greater than {@link #MAX_COLUMN_INDEX}.
+     *
+     * @param projection the indices of the columns, or null if all columns are pushed to the event handler.
+     */
+    public void setProjection(final int... projection) {
+        if (projection == null) {
+            _projection = null;
+        } else {
+            _projection = projection.clone();
+        }
+    }
+
+    /**
+     * Get the column predicates. The key is the column index.
+     *
+     * @return the column predicates.
+     */
+    public Map<Integer, CsvColumnPredicate> getColumnPredicates() {
+        return Collections.unmodifiableMap(_columnPredicates);
+    }
+
+    /**
+     * Add the column predicate. The row is pushed to the event handler only if the column values match
+     * all column predicates. The rows without the column are skipped. The column predicate is checked
+     * as soon as the column value is complete. The columns before the last column with the predicate
+     * are held until the row is matched. If the row is not matched, then the remaining characters of
+     * the row are not stored. The column value is checked after it is trimmed to the maximum column
+     * value length. The column index must not be greater than {@link #MAX_COLUMN_INDEX}.
+     *
+     * @param column          the column index.
+     * @param columnPredicate the column predicate, must not be null.
+     */
+    public void addColumnPredicate(final int column, final CsvColumnPredicate columnPredicate) {
+        if (columnPredicate == null) {
+            throw new IllegalArgumentException("CSV column predicate is null.");
+        }
+        _columnPredicates.put(column, columnPredicate);
+    }
+
+    /**
+     * Remove all column predicates.
+     */
+    public void clearColumnPredicates() {
+        _columnPredicates.clear();
+    }
+
 }
@@ -0,0 +1,121 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import ru.d_shap.csv.state.StateHandler;
+import ru.d_shap.csv.state.StateMachine;
+
+/**
+ * <p>
+ * Class to read CSV source row by row.
+ * </p>
+ * <p>
+ * CSV reader is a pull parser. CSV reader reads the next block of characters only when the
+ * current block has no more rows, and the state machine stops after each row. So the memory
+ * consumption does not depend on CSV size, and the caller defines the pace of parsing.
+ * </p>
+ * <p>
+ * The {@link CsvRow} object, returned by CSV reader, is reused. The row is valid only until the
+ * next row is obtained.
+ * </p>
+ * <p>
+ * Objects of this class are not reusable and should be closed after use.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class CsvReader implements AutoCloseable {
+
+    private final Reader _reader;
+
+    private final RowEventHandler _rowEventHandler;
+
+    private final StateMachine _stateMachine;
+
+    private final char[] _buffer;
+
+    private int _position;
+
+    private int _limit;
+
+    private boolean _endOfInput;
+
+    CsvReader(final CsvParserConfiguration csvParserConfiguration, final Reader reader) {
+        super();
+        _reader = reader;
+        _rowEventHandler = new RowEventHandler();
+        StateHandler stateHandler = new StateHandler(_rowEventHandler, csvParserConfiguration);
+        stateHandler.setPauseAfterRow(true);
+        _stateMachine = StateMachine.createStateMachine(stateHandler);
+        _buffer = new char[csvParserConfiguration.getReadBufferSize()];
+        _position = 0;
+        _limit = 0;
+        _endOfInput = false;
+    }
+
+    /**
+     * Read the next row of CSV. The returned row object is reused by the reader, so the row
+     * is valid only until the next call of this method.
+     *
+     * @return the next row of CSV, or null if the end of CSV or the row limit is reached.
+     */
+    public CsvRow nextRow() {
+        try {
+            while (!_rowEventHandler.isRowPushed()) {
+                if (_stateMachine.isStopped()) {
+                    return null;
+                } else if (_position < _limit) {
+                    _position = _stateMachine.processCharacters(_buffer, _position, _limit - _position);
+                } else if (_endOfInput) {
+                    return null;
+                } else {
+                    readBlock();
+                }
+            }
+            return _rowEventHandler.takeRow();
+        } catch (IOException ex) {
+            throw new CsvIOException(ex);
+        }
+    }
+
+    private void readBlock() throws IOException {
+        int count = _reader.read(_buffer);
+        if (count < 0) {
+            _endOfInput = true;
+            _stateMachine.processEndOfInput();
+        } else {
+            _position = 0;
+            _limit = count;
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            _reader.close();
+        } catch (IOException ex) {
+            throw new CsvIOException(ex);
+        }
+    }
+
+}
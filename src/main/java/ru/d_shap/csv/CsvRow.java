@@ -0,0 +1,169 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Row of CSV, obtained from the {@link CsvReader} object. The row object is reused by the
+ * {@link CsvReader} object, so the row is valid only until the next row is obtained. Column values
+ * are stored in the shared character buffer and are converted to strings only on demand.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class CsvRow {
+
+    private static final int INITIAL_BUFFER_SIZE = 64;
+
+    private static final int INITIAL_COLUMN_COUNT = 8;
+
+    private char[] _buffer;
+
+    private int _length;
+
+    private int[] _columnOffsets;
+
+    private int[] _columnLengths;
+
+    private int[] _columnActualLengths;
+
+    private int _columnCount;
+
+    CsvRow() {
+        super();
+        _buffer = new char[INITIAL_BUFFER_SIZE];
+        _length = 0;
+        _columnOffsets = new int[INITIAL_COLUMN_COUNT];
+        _columnLengths = new int[INITIAL_COLUMN_COUNT];
+        _columnActualLengths = new int[INITIAL_COLUMN_COUNT];
+        _columnCount = 0;
+    }
+
+    void addColumn(final char[] buffer, final int offset, final int length, final int actualLength) {
+        if (_length + length > _buffer.length) {
+            _buffer = Arrays.copyOf(_buffer, Math.max(_buffer.length * 2, _length + length));
+        }
+        if (_columnCount >= _columnOffsets.length) {
+            _columnOffsets = Arrays.copyOf(_columnOffsets, _columnOffsets.length * 2);
+            _columnLengths = Arrays.copyOf(_columnLengths, _columnLengths.length * 2);
+            _columnActualLengths = Arrays.copyOf(_columnActualLengths, _columnActualLengths.length * 2);
+        }
+        System.arraycopy(buffer, offset, _buffer, _length, length);
+        _columnOffsets[_columnCount] = _length;
+        _columnLengths[_columnCount] = length;
+        _columnActualLengths[_columnCount] = actualLength;
+        _length += length;
+        _columnCount++;
+    }
+
+    void clear() {
+        _length = 0;
+        _columnCount = 0;
+    }
+
+    /**
+     * Get column count.
+     *
+     * @return column count.
+     */
+    public int getColumnCount() {
+        return _columnCount;
+    }
+
+    /**
+     * Get the column value.
+     *
+     * @param index the column index.
+     *
+     * @return the column value.
+     */
+    public String getColumn(final int index) {
+        checkIndex(index);
+        return new String(_buffer, _columnOffsets[index], _columnLengths[index]);
+    }
+
+    /**
+     * Get the column value length. If the maximum column value length is specified, then the column
+     * value length does not exceed the maximum column value length.
+     *
+     * @param index the column index.
+     *
+     * @return the column value length.
+     */
+    public int getColumnLength(final int index) {
+        checkIndex(index);
+        return _columnLengths[index];
+    }
+
+    /**
+     * Get the actual column value length. The actual column value length is not affected by the
+     * maximum column value length configuration.
+     *
+     * @param index the column index.
+     *
+     * @return the actual column value length.
+     */
+    public int getColumnActualLength(final int index) {
+        checkIndex(index);
+        return _columnActualLengths[index];
+    }
+
+    /**
+     * Copy the column value to the specified buffer.
+     *
+     * @param index       the column index.
+     * @param destination the buffer to copy the column value to.
+     * @param offset      the index in the buffer to copy the column value to.
+     *
+     * @return the number of copied characters.
+     */
+    public int copyColumn(final int index, final char[] destination, final int offset) {
+        checkIndex(index);
+        System.arraycopy(_buffer, _columnOffsets[index], destination, offset, _columnLengths[index]);
+        return _columnLengths[index];
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= _columnCount) {
+            throw new IndexOutOfBoundsException("Column index: " + index + ", column count: " + _columnCount);
+        }
+    }
+
+    /**
+     * Get the list of column values. The list is not backed by this object.
+     *
+     * @return the list of column values.
+     */
+    public List<String> toList() {
+        List<String> columns = new ArrayList<>(_columnCount);
+        for (int i = 0; i < _columnCount; i++) {
+            columns.add(new String(_buffer, _columnOffsets[i], _columnLengths[i]));
+        }
+        return columns;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+}
@@ -0,0 +1,105 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>
+ * Class to iterate CSV source lazily row by row.
+ * </p>
+ * <p>
+ * CSV row iterator obtains the next row from the {@link CsvReader} object only when the row is
+ * requested, so the caller can stop parsing after the first matching rows without processing the
+ * rest of CSV. Each row is a list of columns, not backed by the parser.
+ * </p>
+ * <p>
+ * CSV source is closed when the end of CSV is reached, when a parse error occurs, or when the
+ * iterator is closed.
+ * </p>
+ * <p>
+ * Objects of this class are not reusable and should be closed after use.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class CsvRowIterator implements Iterator<List<String>>, AutoCloseable {
+
+    private final CsvReader _csvReader;
+
+    private List<String> _nextRow;
+
+    private boolean _closed;
+
+    CsvRowIterator(final CsvReader csvReader) {
+        super();
+        _csvReader = csvReader;
+        _nextRow = null;
+        _closed = false;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (_nextRow == null && !_closed) {
+            readNextRow();
+        }
+        return _nextRow != null;
+    }
+
+    private void readNextRow() {
+        CsvRow csvRow = null;
+        try {
+            csvRow = _csvReader.nextRow();
+        } finally {
+            if (csvRow == null) {
+                close();
+            }
+        }
+        if (csvRow != null) {
+            _nextRow = csvRow.toList();
+        }
+    }
+
+    @Override
+    public List<String> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        List<String> row = _nextRow;
+        _nextRow = null;
+        return row;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() {
+        if (!_closed) {
+            _closed = true;
+            _csvReader.close();
+        }
+    }
+
+}
@@ -0,0 +1,166 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+/**
+ * <p>
+ * Class to publish CSV rows to the subscriber on demand.
+ * </p>
+ * <p>
+ * CSV row publisher obtains the rows from the {@link CsvReader} object only when the subscriber
+ * requests them. If there is no demand, then CSV source is not read, so the subscriber defines the
+ * pace of parsing and rows are not buffered. Each row is a list of columns, not backed by the parser.
+ * </p>
+ * <p>
+ * CSV source is closed when the end of CSV is reached, when a parse error occurs, or when the
+ * subscription is cancelled.
+ * </p>
+ * <p>
+ * Objects of this class are not reusable and accept only one subscriber.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class CsvRowPublisher {
+
+    private final CsvReader _csvReader;
+
+    private boolean _subscribed;
+
+    CsvRowPublisher(final CsvReader csvReader) {
+        super();
+        _csvReader = csvReader;
+        _subscribed = false;
+    }
+
+    /**
+     * Subscribe the specified subscriber to the rows of CSV.
+     *
+     * @param csvRowSubscriber the subscriber.
+     */
+    public void subscribe(final CsvRowSubscriber csvRowSubscriber) {
+        if (_subscribed) {
+            throw new IllegalStateException("CSV row publisher is already subscribed.");
+        }
+        _subscribed = true;
+        csvRowSubscriber.onSubscribe(new RowSubscription(_csvReader, csvRowSubscriber));
+    }
+
+    /**
+     * Subscription to request rows from the CSV reader.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class RowSubscription implements CsvRowSubscription {
+
+        private final CsvReader _csvReader;
+
+        private final CsvRowSubscriber _csvRowSubscriber;
+
+        private long _demand;
+
+        private boolean _emitting;
+
+        private boolean _done;
+
+        RowSubscription(final CsvReader csvReader, final CsvRowSubscriber csvRowSubscriber) {
+            super();
+            _csvReader = csvReader;
+            _csvRowSubscriber = csvRowSubscriber;
+            _demand = 0L;
+            _emitting = false;
+            _done = false;
+        }
+
+        @Override
+        public void request(final long count) {
+            if (_done) {
+                return;
+            }
+            if (count <= 0L) {
+                finish(new IllegalArgumentException("Wrong number of requested rows: " + count + "."));
+                return;
+            }
+            _demand += count;
+            if (_demand < 0L) {
+                _demand = Long.MAX_VALUE;
+            }
+            if (!_emitting) {
+                _emitting = true;
+                try {
+                    emitRows();
+                } finally {
+                    _emitting = false;
+                }
+            }
+        }
+
+        private void emitRows() {
+            CsvRow csvRow;
+            while (_demand > 0L && !_done) {
+                try {
+                    csvRow = _csvReader.nextRow();
+                } catch (CsvException ex) {
+                    finish(ex);
+                    return;
+                }
+                if (csvRow == null) {
+                    finish(null);
+                    return;
+                }
+                _demand--;
+                _csvRowSubscriber.onNext(csvRow.toList());
+            }
+        }
+
+        private void finish(final Throwable throwable) {
+            CsvIOException closeException = closeReader();
+            Throwable error = throwable;
+            if (error == null) {
+                error = closeException;
+            }
+            if (error == null) {
+                _csvRowSubscriber.onComplete();
+            } else {
+                _csvRowSubscriber.onError(error);
+            }
+        }
+
+        private CsvIOException closeReader() {
+            _done = true;
+            CsvIOException closeException = null;
+            try {
+                _csvReader.close();
+            } catch (CsvIOException ex) {
+                closeException = ex;
+            }
+            return closeException;
+        }
+
+        @Override
+        public void cancel() {
+            if (!_done) {
+                closeReader();
+            }
+        }
+
+    }
+
+}
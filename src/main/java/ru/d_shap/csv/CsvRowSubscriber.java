@@ -0,0 +1,59 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import java.util.List;
+
+/**
+ * Interface to receive rows from the {@link CsvRowPublisher} object. The methods of this interface
+ * follow the contract of the reactive streams subscriber, so the subscriber can be adapted to any
+ * reactive streams implementation.
+ *
+ * @author Dmitry Shapovalov
+ */
+public interface CsvRowSubscriber {
+
+    /**
+     * Process the subscription. No rows are pushed until they are requested with the subscription.
+     *
+     * @param subscription the subscription to request rows or to cancel the subscription.
+     */
+    void onSubscribe(CsvRowSubscription subscription);
+
+    /**
+     * Process the next requested row.
+     *
+     * @param row the row, the list of columns.
+     */
+    void onNext(List<String> row);
+
+    /**
+     * Process the error. No more methods are invoked after this method.
+     *
+     * @param throwable the error.
+     */
+    void onError(Throwable throwable);
+
+    /**
+     * Process the end of CSV. No more methods are invoked after this method.
+     */
+    void onComplete();
+
+}
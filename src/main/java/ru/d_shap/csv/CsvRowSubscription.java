@@ -0,0 +1,44 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+/**
+ * Interface to request rows from the {@link CsvRowPublisher} object. The methods of this interface
+ * follow the contract of the reactive streams subscription.
+ *
+ * @author Dmitry Shapovalov
+ */
+public interface CsvRowSubscription {
+
+    /**
+     * Request the specified number of rows. The rows are pushed to the subscriber in the current
+     * thread. If this method is invoked from the subscriber, then the requested rows are pushed
+     * after the subscriber returns. {@link Long#MAX_VALUE} means no row count restriction.
+     *
+     * @param count the number of rows, should be positive.
+     */
+    void request(long count);
+
+    /**
+     * Cancel the subscription. No more rows are pushed to the subscriber, and CSV source is closed.
+     */
+    void cancel();
+
+}
@@ -0,0 +1,379 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import ru.d_shap.csv.handler.CsvEventHandler;
+import ru.d_shap.csv.handler.CsvMergeable;
+import ru.d_shap.csv.state.SpecialCharacter;
+import ru.d_shap.csv.state.StateHandler;
+import ru.d_shap.csv.state.StateMachine;
+
+/**
+ * Parser to parse CSV file in parallel. CSV file is split into chunks of rows. The quote state at
+ * the beginning of each chunk is defined by the parity of the quote count before the chunk. Then
+ * each chunk starts after the nearest row separator, that is not quoted. If both CR and CRLF row
+ * separators are specified, then CR is a row separator only if the next character is not LF. If
+ * the chunk fails, then it is parsed again with the known row index and the column count of the
+ * first row, so the exception is the same as the exception of the sequential parser. Chunks are parsed with
+ * separate partial event handlers, then the partial event handlers are merged in the order of chunks.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class ParallelCsvParser {
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final CsvParserConfiguration _csvParserConfiguration;
+
+    private final Charset _byteCharset;
+
+    private final long _minChunkSize;
+
+    private final long _mappedWindowSize;
+
+    ParallelCsvParser(final CsvParserConfiguration csvParserConfiguration, final Charset byteCharset, final long minChunkSize, final long mappedWindowSize) {
+        super();
+        _csvParserConfiguration = csvParserConfiguration;
+        _byteCharset = byteCharset;
+        _minChunkSize = minChunkSize;
+        _mappedWindowSize = mappedWindowSize;
+    }
+
+    <T extends CsvEventHandler> void parse(final Path path, final CsvMergeable<T> csvMergeable, final ExecutorService executorService, final int parallelism) {
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = fileChannel.size();
+            long[] positions = getChunkPositions(size, parallelism);
+            boolean[] quoted = getQuoteStates(fileChannel, positions, executorService);
+            long[] splitPositions = getSplitPositions(fileChannel, positions, quoted, executorService);
+
+            List<T> partialHandlers = new ArrayList<>();
+            List<Callable<StateHandler>> tasks = new ArrayList<>();
+            for (int i = 0; i < splitPositions.length - 1; i++) {
+                T partialHandler = csvMergeable.createPartialHandler();
+                partialHandlers.add(partialHandler);
+                tasks.add(new ParseTask(this, fileChannel, splitPositions[i], splitPositions[i + 1], partialHandler));
+            }
+            List<Future<StateHandler>> futures = executorService.invokeAll(tasks);
+            int firstRowColumnCount = -1;
+            long rowIndex = 0L;
+            for (int i = 0; i < futures.size(); i++) {
+                StateHandler stateHandler;
+                try {
+                    stateHandler = getResult(futures.get(i));
+                } catch (CsvException ex) {
+                    if (ex.getPosition() >= 0L && ex.getRowIndex() < 0L) {
+                        throw reparseChunk(fileChannel, splitPositions[i], splitPositions[i + 1], rowIndex, firstRowColumnCount, csvMergeable.createPartialHandler(), ex);
+                    }
+                    throw ex;
+                }
+                int chunkFirstRowColumnCount = stateHandler.getFirstRowColumnCount();
+                if (firstRowColumnCount < 0) {
+                    firstRowColumnCount = chunkFirstRowColumnCount;
+                } else if (_csvParserConfiguration.isColumnCountCheckEnabled() && chunkFirstRowColumnCount >= 0 && chunkFirstRowColumnCount != firstRowColumnCount) {
+                    throw reparseChunk(fileChannel, splitPositions[i], splitPositions[i + 1], rowIndex, firstRowColumnCount, csvMergeable.createPartialHandler(), new WrongColumnCountException());
+                }
+                rowIndex += stateHandler.getRowCount();
+                csvMergeable.merge(partialHandlers.get(i));
+            }
+        } catch (IOException ex) {
+            throw new CsvIOException(ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CsvInterruptedException(ex);
+        }
+    }
+
+    long[] getChunkPositions(final long size, final int parallelism) {
+        long chunkCount = Math.min((long) parallelism * CHUNKS_PER_THREAD, (size + _minChunkSize - 1) / _minChunkSize);
+        chunkCount = Math.max(chunkCount, 1L);
+        long[] positions = new long[(int) chunkCount + 1];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = size / chunkCount * i + size % chunkCount * i / chunkCount;
+        }
+        return positions;
+    }
+
+    private boolean[] getQuoteStates(final FileChannel fileChannel, final long[] positions, final ExecutorService executorService) throws InterruptedException {
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < positions.length - 2; i++) {
+            tasks.add(new QuoteParityTask(this, fileChannel, positions[i], positions[i + 1]));
+        }
+        List<Future<Boolean>> futures = executorService.invokeAll(tasks);
+        boolean[] quoted = new boolean[positions.length - 1];
+        for (int i = 0; i < futures.size(); i++) {
+            quoted[i + 1] = quoted[i] ^ getResult(futures.get(i));
+        }
+        return quoted;
+    }
+
+    private long[] getSplitPositions(final FileChannel fileChannel, final long[] positions, final boolean[] quoted, final ExecutorService executorService) throws InterruptedException {
+        List<Callable<Long>> tasks = new ArrayList<>();
+        for (int i = 1; i < positions.length - 1; i++) {
+            tasks.add(new SplitPositionTask(this, fileChannel, positions[i], positions[positions.length - 1], quoted[i]));
+        }
+        List<Future<Long>> futures = executorService.invokeAll(tasks);
+        long[] splitPositions = new long[positions.length];
+        splitPositions[positions.length - 1] = positions[positions.length - 1];
+        for (int i = 0; i < futures.size(); i++) {
+            splitPositions[i + 1] = getResult(futures.get(i));
+        }
+        return splitPositions;
+    }
+
+    static <V> V getResult(final Future<V> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            throw createException(ex);
+        }
+    }
+
+    private static RuntimeException createException(final ExecutionException ex) {
+        Throwable cause = getCause(ex);
+        if (cause instanceof IOException) {
+            return new CsvIOException((IOException) cause);
+        } else if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+            throw (Error) cause;
+        } else {
+            return new IllegalStateException(cause);
+        }
+    }
+
+    private static Throwable getCause(final ExecutionException ex) {
+        // ForkJoinTask rethrows the copy of the task exception with the task exception as the cause,
+        // so the copy does not hold the position, the row index and the column index.
+        Throwable cause = ex.getCause();
+        Throwable originalCause = cause.getCause();
+        if (originalCause != null && originalCause.getClass().equals(cause.getClass())) {
+            return originalCause;
+        } else {
+            return cause;
+        }
+    }
+
+    boolean isOddQuoteCount(final FileChannel fileChannel, final long start, final long end) throws IOException {
+        boolean odd = false;
+        long position = start;
+        long length;
+        while (position < end) {
+            length = Math.min(_mappedWindowSize, end - position);
+            MappedByteBuffer mappedByteBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            while (mappedByteBuffer.hasRemaining()) {
+                if (mappedByteBuffer.get() == SpecialCharacter.QUOT) {
+                    odd = !odd;
+                }
+            }
+            position += length;
+        }
+        return odd;
+    }
+
+    long findSplitPosition(final FileChannel fileChannel, final long start, final long end, final boolean quoted) throws IOException {
+        boolean isQuoted = quoted;
+        MappedByteBuffer previousByteBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, start - 1, 1);
+        int previous = previousByteBuffer.get();
+        long position = start;
+        long length;
+        long splitPosition = end;
+        int current;
+        while (position < end && splitPosition == end) {
+            length = Math.min(_mappedWindowSize, end - position);
+            MappedByteBuffer mappedByteBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            while (mappedByteBuffer.hasRemaining()) {
+                current = mappedByteBuffer.get();
+                if (!isQuoted && isRowEndBefore(_csvParserConfiguration, previous, current)) {
+                    splitPosition = position + mappedByteBuffer.position() - 1;
+                    break;
+                }
+                if (current == SpecialCharacter.QUOT) {
+                    isQuoted = !isQuoted;
+                } else if (!isQuoted && isRowEnd(_csvParserConfiguration, previous, current)) {
+                    splitPosition = position + mappedByteBuffer.position();
+                    break;
+                }
+                previous = current;
+            }
+            position += length;
+        }
+        return splitPosition;
+    }
+
+    static boolean isRowEnd(final CsvParserConfiguration csvParserConfiguration, final int previous, final int current) {
+        if (current == SpecialCharacter.LF) {
+            return csvParserConfiguration.isLfSeparator() || csvParserConfiguration.isCrLfSeparator() && previous == SpecialCharacter.CR;
+        } else if (current == SpecialCharacter.CR) {
+            return csvParserConfiguration.isCrSeparator() && !csvParserConfiguration.isCrLfSeparator();
+        } else {
+            return false;
+        }
+    }
+
+    static boolean isRowEndBefore(final CsvParserConfiguration csvParserConfiguration, final int previous, final int current) {
+        return previous == SpecialCharacter.CR && current != SpecialCharacter.LF && csvParserConfiguration.isCrSeparator() && csvParserConfiguration.isCrLfSeparator();
+    }
+
+    StateHandler parseChunk(final FileChannel fileChannel, final long start, final long end, final CsvEventHandler csvEventHandler) throws IOException {
+        StateHandler stateHandler = new StateHandler(csvEventHandler, _csvParserConfiguration, _byteCharset);
+        if (start > 0L) {
+            stateHandler.setStartPosition(start);
+        }
+        processChunk(fileChannel, start, end, stateHandler);
+        return stateHandler;
+    }
+
+    CsvException reparseChunk(final FileChannel fileChannel, final long start, final long end, final long rowIndex, final int firstRowColumnCount, final CsvEventHandler csvEventHandler, final CsvException csvException) throws IOException {
+        StateHandler stateHandler = new StateHandler(csvEventHandler, _csvParserConfiguration, _byteCharset);
+        stateHandler.setStartPosition(start);
+        long previousLength = Math.min(start, StateHandler.LAST_CHARACTERS_COUNT);
+        stateHandler.setStartRow(rowIndex, firstRowColumnCount, fileChannel.map(FileChannel.MapMode.READ_ONLY, start - previousLength, previousLength));
+        CsvException reparseException = csvException;
+        try {
+            processChunk(fileChannel, start, end, stateHandler);
+        } catch (CsvException ex) {
+            reparseException = ex;
+        }
+        return reparseException;
+    }
+
+    private void processChunk(final FileChannel fileChannel, final long start, final long end, final StateHandler stateHandler) throws IOException {
+        StateMachine stateMachine = StateMachine.createStateMachine(stateHandler);
+        long position = start;
+        long length;
+        while (position < end) {
+            length = Math.min(_mappedWindowSize, end - position);
+            MappedByteBuffer mappedByteBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            CsvParser.processByteBuffer(stateMachine, mappedByteBuffer);
+            position += length;
+        }
+        stateMachine.processEndOfInput();
+    }
+
+    /**
+     * Task to define the parity of the quote count in the chunk.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class QuoteParityTask implements Callable<Boolean> {
+
+        private final ParallelCsvParser _parallelCsvParser;
+
+        private final FileChannel _fileChannel;
+
+        private final long _start;
+
+        private final long _end;
+
+        QuoteParityTask(final ParallelCsvParser parallelCsvParser, final FileChannel fileChannel, final long start, final long end) {
+            super();
+            _parallelCsvParser = parallelCsvParser;
+            _fileChannel = fileChannel;
+            _start = start;
+            _end = end;
+        }
+
+        @Override
+        public Boolean call() throws IOException {
+            return _parallelCsvParser.isOddQuoteCount(_fileChannel, _start, _end);
+        }
+
+    }
+
+    /**
+     * Task to define the position, where the chunk starts.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class SplitPositionTask implements Callable<Long> {
+
+        private final ParallelCsvParser _parallelCsvParser;
+
+        private final FileChannel _fileChannel;
+
+        private final long _start;
+
+        private final long _end;
+
+        private final boolean _quoted;
+
+        SplitPositionTask(final ParallelCsvParser parallelCsvParser, final FileChannel fileChannel, final long start, final long end, final boolean quoted) {
+            super();
+            _parallelCsvParser = parallelCsvParser;
+            _fileChannel = fileChannel;
+            _start = start;
+            _end = end;
+            _quoted = quoted;
+        }
+
+        @Override
+        public Long call() throws IOException {
+            return _parallelCsvParser.findSplitPosition(_fileChannel, _start, _end, _quoted);
+        }
+
+    }
+
+    /**
+     * Task to parse the chunk.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class ParseTask implements Callable<StateHandler> {
+
+        private final ParallelCsvParser _parallelCsvParser;
+
+        private final FileChannel _fileChannel;
+
+        private final long _start;
+
+        private final long _end;
+
+        private final CsvEventHandler _csvEventHandler;
+
+        ParseTask(final ParallelCsvParser parallelCsvParser, final FileChannel fileChannel, final long start, final long end, final CsvEventHandler csvEventHandler) {
+            super();
+            _parallelCsvParser = parallelCsvParser;
+            _fileChannel = fileChannel;
+            _start = start;
+            _end = end;
+            _csvEventHandler = csvEventHandler;
+        }
+
+        @Override
+        public StateHandler call() throws IOException {
+            return _parallelCsvParser.parseChunk(_fileChannel, _start, _end, _csvEventHandler);
+        }
+
+    }
+
+}
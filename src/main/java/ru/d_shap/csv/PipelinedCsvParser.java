@@ -0,0 +1,787 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import ru.d_shap.csv.handler.CsvEventHandler;
+import ru.d_shap.csv.handler.CsvSliceEventHandler;
+import ru.d_shap.csv.handler.CsvStoppable;
+import ru.d_shap.csv.handler.CsvStructuralEventHandler;
+import ru.d_shap.csv.state.StateHandler;
+import ru.d_shap.csv.state.StateMachine;
+
+/**
+ * Parser to parse CSV source with the pipeline of stages. The raw bytes are read, decoded and
+ * tokenized in separate threads, and the events are pushed to the event handler in the current
+ * thread. The stages are connected with the rings of reusable blocks, so the slow stage does not
+ * stall the other stages until the ring is full. The idle stage is parked until the neighbour stage
+ * publishes or releases the block. The column values are passed to the event handler as slices or
+ * structural events, if the event handler supports them. The parser is not reusable.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class PipelinedCsvParser {
+
+    static final int BLOCK_COUNT = 4;
+
+    static final int EVENT_BLOCK_SIZE = 1024;
+
+    static final int CHARACTER_TASK_COUNT = 2;
+
+    static final int BYTE_TASK_COUNT = 3;
+
+    private static final int BYTE_MASK = 0xFF;
+
+    private static final int ROW_END = -1;
+
+    private static final int STRUCTURAL_COLUMN = -2;
+
+    private final CsvParserConfiguration _csvParserConfiguration;
+
+    private final Charset _decodeCharset;
+
+    private final CharsetDecoder _charsetDecoder;
+
+    private final int _blockSize;
+
+    private final AtomicBoolean _cancelled;
+
+    private final BlockRing<ByteBlock> _byteRing;
+
+    private final BlockRing<CharBlock> _charRing;
+
+    private final BlockRing<EventBlock> _eventRing;
+
+    PipelinedCsvParser(final CsvParserConfiguration csvParserConfiguration, final Charset charset, final int blockCount, final int eventBlockSize) {
+        super();
+        _csvParserConfiguration = csvParserConfiguration;
+        _blockSize = csvParserConfiguration.getReadBufferSize();
+        _cancelled = new AtomicBoolean(false);
+        int charBlockSize = _blockSize;
+        if (charset == null) {
+            _decodeCharset = null;
+            _charsetDecoder = null;
+            _byteRing = null;
+        } else {
+            if (CsvParser.isByteCharset(charset)) {
+                _decodeCharset = CsvParser.getDecodeCharset(charset);
+                _charsetDecoder = null;
+            } else {
+                _decodeCharset = null;
+                _charsetDecoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+                charBlockSize = (int) Math.ceil(_blockSize * 2 * _charsetDecoder.maxCharsPerByte());
+            }
+            ByteBlock[] byteBlocks = new ByteBlock[blockCount];
+            for (int i = 0; i < blockCount; i++) {
+                byteBlocks[i] = new ByteBlock(_blockSize);
+            }
+            _byteRing = new BlockRing<>(byteBlocks, _cancelled);
+        }
+        CharBlock[] charBlocks = new CharBlock[blockCount];
+        EventBlock[] eventBlocks = new EventBlock[blockCount];
+        for (int i = 0; i < blockCount; i++) {
+            charBlocks[i] = new CharBlock(charBlockSize);
+            eventBlocks[i] = new EventBlock(eventBlockSize);
+        }
+        _charRing = new BlockRing<>(charBlocks, _cancelled);
+        _eventRing = new BlockRing<>(eventBlocks, _cancelled);
+    }
+
+    void parse(final Reader reader, final CsvEventHandler csvEventHandler, final ExecutorService executorService) {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        tasks.add(new ReadCharactersTask(this, reader));
+        tasks.add(new TokenizeTask(this, csvEventHandler));
+        parse(tasks, csvEventHandler, executorService);
+    }
+
+    void parse(final InputStream inputStream, final CsvEventHandler csvEventHandler, final ExecutorService executorService) {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        tasks.add(new ReadBytesTask(this, inputStream));
+        tasks.add(new DecodeTask(this));
+        tasks.add(new TokenizeTask(this, csvEventHandler));
+        parse(tasks, csvEventHandler, executorService);
+    }
+
+    private void parse(final List<Callable<Void>> tasks, final CsvEventHandler csvEventHandler, final ExecutorService executorService) {
+        List<Future<Void>> futures = new ArrayList<>();
+        try {
+            try {
+                for (Callable<Void> task : tasks) {
+                    futures.add(executorService.submit(task));
+                }
+                pushEvents(csvEventHandler);
+            } finally {
+                cancel();
+            }
+            for (Future<Void> future : futures) {
+                ParallelCsvParser.getResult(future);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CsvInterruptedException(ex);
+        }
+    }
+
+    /**
+     * Get the number of the tasks, that the executor service can run at the same time. The thread pool
+     * executor with the queue runs only the core threads at the same time, the rest of the tasks wait
+     * in the queue. The number of tasks is unknown for other executor services, so these executor
+     * services are supposed to run any number of tasks at the same time.
+     *
+     * @param executorService the executor service.
+     *
+     * @return the number of the tasks.
+     */
+    static int getMaxTaskCount(final ExecutorService executorService) {
+        if (executorService instanceof ThreadPoolExecutor) {
+            ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) executorService;
+            if (threadPoolExecutor.getQueue() instanceof SynchronousQueue) {
+                return threadPoolExecutor.getMaximumPoolSize();
+            } else {
+                return threadPoolExecutor.getCorePoolSize();
+            }
+        } else if (executorService instanceof ForkJoinPool) {
+            return ((ForkJoinPool) executorService).getParallelism();
+        } else {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    void cancel() {
+        _cancelled.set(true);
+        if (_byteRing != null) {
+            _byteRing.wakeUp();
+        }
+        _charRing.wakeUp();
+        _eventRing.wakeUp();
+    }
+
+    boolean isCancelled() {
+        return _cancelled.get();
+    }
+
+    void readCharacters(final Reader reader) throws IOException {
+        boolean last = false;
+        CharBlock charBlock;
+        int count;
+        while (!last) {
+            charBlock = _charRing.claim();
+            if (charBlock == null) {
+                break;
+            }
+            count = reader.read(charBlock.getChars());
+            last = count < 0;
+            charBlock.set(Math.max(count, 0), last);
+            _charRing.publish();
+        }
+        reader.close();
+    }
+
+    void readBytes(final InputStream inputStream) throws IOException {
+        boolean last = false;
+        ByteBlock byteBlock;
+        int count;
+        while (!last) {
+            byteBlock = _byteRing.claim();
+            if (byteBlock == null) {
+                break;
+            }
+            count = inputStream.read(byteBlock.getBytes());
+            last = count < 0;
+            byteBlock.set(Math.max(count, 0), last);
+            _byteRing.publish();
+        }
+        inputStream.close();
+    }
+
+    void decode() {
+        ByteBuffer input = ByteBuffer.allocate(_blockSize * 2);
+        boolean last = false;
+        ByteBlock byteBlock;
+        CharBlock charBlock;
+        while (!last) {
+            byteBlock = _byteRing.take();
+            if (byteBlock == null) {
+                break;
+            }
+            charBlock = _charRing.claim();
+            if (charBlock == null) {
+                break;
+            }
+            last = byteBlock.isLast();
+            if (_charsetDecoder == null) {
+                maskBytes(byteBlock, charBlock);
+            } else {
+                input.put(byteBlock.getBytes(), 0, byteBlock.getLength());
+                decodeBytes(input, charBlock, last);
+            }
+            _byteRing.release();
+            _charRing.publish();
+        }
+    }
+
+    private void maskBytes(final ByteBlock byteBlock, final CharBlock charBlock) {
+        byte[] bytes = byteBlock.getBytes();
+        char[] chars = charBlock.getChars();
+        for (int i = 0; i < byteBlock.getLength(); i++) {
+            chars[i] = (char) (bytes[i] & BYTE_MASK);
+        }
+        charBlock.set(byteBlock.getLength(), byteBlock.isLast());
+    }
+
+    private void decodeBytes(final ByteBuffer input, final CharBlock charBlock, final boolean last) {
+        CharBuffer output = CharBuffer.wrap(charBlock.getChars());
+        input.flip();
+        _charsetDecoder.decode(input, output, last);
+        if (last) {
+            _charsetDecoder.flush(output);
+        }
+        input.compact();
+        charBlock.set(output.position(), last);
+    }
+
+    void tokenize(final CsvEventHandler csvEventHandler) {
+        EventCollector eventCollector = createEventCollector(csvEventHandler);
+        boolean failed = true;
+        try {
+            if (processCharBlocks(eventCollector)) {
+                eventCollector.finish();
+            }
+            failed = false;
+        } finally {
+            if (failed) {
+                eventCollector.finish();
+            }
+        }
+    }
+
+    private boolean processCharBlocks(final EventCollector eventCollector) {
+        StateHandler stateHandler = new StateHandler(eventCollector, _csvParserConfiguration, _decodeCharset);
+        StateMachine stateMachine = StateMachine.createStateMachine(stateHandler);
+        boolean last = false;
+        CharBlock charBlock;
+        while (!last && !stateMachine.isStopped()) {
+            charBlock = _charRing.take();
+            if (charBlock == null) {
+                return false;
+            }
+            stateMachine.processCharacters(charBlock.getChars(), 0, charBlock.getLength());
+            last = charBlock.isLast();
+            _charRing.release();
+        }
+        stateMachine.processEndOfInput();
+        return true;
+    }
+
+    private EventCollector createEventCollector(final CsvEventHandler csvEventHandler) {
+        if (csvEventHandler instanceof CsvStructuralEventHandler) {
+            if (csvEventHandler instanceof CsvSliceEventHandler) {
+                return new StructuralSliceEventCollector(_eventRing, _cancelled);
+            } else {
+                return new StructuralEventCollector(_eventRing, _cancelled);
+            }
+        } else {
+            if (csvEventHandler instanceof CsvSliceEventHandler) {
+                return new SliceEventCollector(_eventRing, _cancelled);
+            } else {
+                return new EventCollector(_eventRing, _cancelled);
+            }
+        }
+    }
+
+    private void pushEvents(final CsvEventHandler csvEventHandler) {
+        EventBlock eventBlock = _eventRing.take();
+        while (eventBlock != null) {
+            int[] actualLengths = eventBlock.getActualLengths();
+            for (int i = 0; i < eventBlock.getCount(); i++) {
+                if (actualLengths[i] == ROW_END) {
+                    csvEventHandler.pushRow();
+                    if (isStopped(csvEventHandler)) {
+                        return;
+                    }
+                } else {
+                    pushColumn(csvEventHandler, eventBlock, i);
+                }
+            }
+            if (eventBlock.isLast()) {
+                return;
+            }
+            _eventRing.release();
+            eventBlock = _eventRing.take();
+        }
+    }
+
+    private static void pushColumn(final CsvEventHandler csvEventHandler, final EventBlock eventBlock, final int index) {
+        String column = eventBlock.getColumns()[index];
+        int actualLength = eventBlock.getActualLengths()[index];
+        if (actualLength == STRUCTURAL_COLUMN) {
+            ((CsvStructuralEventHandler) csvEventHandler).pushColumn();
+        } else if (column == null) {
+            ((CsvSliceEventHandler) csvEventHandler).pushColumn(eventBlock.getChars(), eventBlock.getOffsets()[index], eventBlock.getLengths()[index], actualLength);
+        } else {
+            csvEventHandler.pushColumn(column, actualLength);
+        }
+    }
+
+    private static boolean isStopped(final CsvEventHandler csvEventHandler) {
+        return csvEventHandler instanceof CsvStoppable && ((CsvStoppable) csvEventHandler).isStopped();
+    }
+
+    /**
+     * Block of raw bytes.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class ByteBlock {
+
+        private final byte[] _bytes;
+
+        private int _length;
+
+        private boolean _last;
+
+        ByteBlock(final int size) {
+            super();
+            _bytes = new byte[size];
+            _length = 0;
+            _last = false;
+        }
+
+        byte[] getBytes() {
+            return _bytes;
+        }
+
+        int getLength() {
+            return _length;
+        }
+
+        boolean isLast() {
+            return _last;
+        }
+
+        void set(final int length, final boolean last) {
+            _length = length;
+            _last = last;
+        }
+
+    }
+
+    /**
+     * Block of decoded characters.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class CharBlock {
+
+        private final char[] _chars;
+
+        private int _length;
+
+        private boolean _last;
+
+        CharBlock(final int size) {
+            super();
+            _chars = new char[size];
+            _length = 0;
+            _last = false;
+        }
+
+        char[] getChars() {
+            return _chars;
+        }
+
+        int getLength() {
+            return _length;
+        }
+
+        boolean isLast() {
+            return _last;
+        }
+
+        void set(final int length, final boolean last) {
+            _length = length;
+            _last = last;
+        }
+
+    }
+
+    /**
+     * Block of parser events. The row event and the structural column event are stored as the events
+     * with the negative actual length. The column slice is copied to the characters of the block and
+     * is stored as the event without the column value.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class EventBlock {
+
+        private final String[] _columns;
+
+        private final int[] _offsets;
+
+        private final int[] _lengths;
+
+        private final int[] _actualLengths;
+
+        private char[] _chars;
+
+        private int _charCount;
+
+        private int _count;
+
+        private boolean _last;
+
+        EventBlock(final int size) {
+            super();
+            _columns = new String[size];
+            _offsets = new int[size];
+            _lengths = new int[size];
+            _actualLengths = new int[size];
+            _chars = new char[size];
+            _charCount = 0;
+            _count = 0;
+            _last = false;
+        }
+
+        String[] getColumns() {
+            return _columns;
+        }
+
+        int[] getOffsets() {
+            return _offsets;
+        }
+
+        int[] getLengths() {
+            return _lengths;
+        }
+
+        int[] getActualLengths() {
+            return _actualLengths;
+        }
+
+        char[] getChars() {
+            return _chars;
+        }
+
+        int getCount() {
+            return _count;
+        }
+
+        boolean isLast() {
+            return _last;
+        }
+
+        boolean add(final String column, final int actualLength) {
+            _columns[_count] = column;
+            _actualLengths[_count] = actualLength;
+            _count++;
+            return _count == _columns.length;
+        }
+
+        boolean add(final char[] buffer, final int offset, final int length, final int actualLength) {
+            if (_charCount + length > _chars.length) {
+                _chars = Arrays.copyOf(_chars, Math.max(_chars.length * 2, _charCount + length));
+            }
+            System.arraycopy(buffer, offset, _chars, _charCount, length);
+            _offsets[_count] = _charCount;
+            _lengths[_count] = length;
+            _charCount += length;
+            return add(null, actualLength);
+        }
+
+        void clear() {
+            _charCount = 0;
+            _count = 0;
+            _last = false;
+        }
+
+        void setLast() {
+            _last = true;
+        }
+
+    }
+
+    /**
+     * Event handler to collect the parser events into the event blocks.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static class EventCollector implements CsvEventHandler, CsvStoppable {
+
+        private final BlockRing<EventBlock> _eventRing;
+
+        private final AtomicBoolean _cancelled;
+
+        private EventBlock _eventBlock;
+
+        EventCollector(final BlockRing<EventBlock> eventRing, final AtomicBoolean cancelled) {
+            super();
+            _eventRing = eventRing;
+            _cancelled = cancelled;
+            _eventBlock = null;
+        }
+
+        @Override
+        public void pushColumn(final String column, final int actualLength) {
+            addEvent(column, actualLength);
+        }
+
+        @Override
+        public void pushRow() {
+            addEvent(null, ROW_END);
+        }
+
+        @Override
+        public boolean isStopped() {
+            return _cancelled.get();
+        }
+
+        private void addEvent(final String column, final int actualLength) {
+            if (claimEventBlock() && _eventBlock.add(column, actualLength)) {
+                publishEventBlock();
+            }
+        }
+
+        final void addSliceEvent(final char[] buffer, final int offset, final int length, final int actualLength) {
+            if (claimEventBlock() && _eventBlock.add(buffer, offset, length, actualLength)) {
+                publishEventBlock();
+            }
+        }
+
+        final void addStructuralEvent() {
+            addEvent(null, STRUCTURAL_COLUMN);
+        }
+
+        private void publishEventBlock() {
+            _eventRing.publish();
+            _eventBlock = null;
+        }
+
+        final void finish() {
+            if (claimEventBlock()) {
+                _eventBlock.setLast();
+                publishEventBlock();
+            }
+        }
+
+        private boolean claimEventBlock() {
+            if (_eventBlock == null) {
+                _eventBlock = _eventRing.claim();
+                if (_eventBlock == null) {
+                    return false;
+                }
+                _eventBlock.clear();
+            }
+            return true;
+        }
+
+    }
+
+    /**
+     * Event handler to collect the parser events and the column slices into the event blocks.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static class SliceEventCollector extends EventCollector implements CsvSliceEventHandler {
+
+        SliceEventCollector(final BlockRing<EventBlock> eventRing, final AtomicBoolean cancelled) {
+            super(eventRing, cancelled);
+        }
+
+        @Override
+        public final void pushColumn(final char[] buffer, final int offset, final int length, final int actualLength) {
+            addSliceEvent(buffer, offset, length, actualLength);
+        }
+
+    }
+
+    /**
+     * Event handler to collect the parser events and the structural column events into the event blocks.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class StructuralEventCollector extends EventCollector implements CsvStructuralEventHandler {
+
+        StructuralEventCollector(final BlockRing<EventBlock> eventRing, final AtomicBoolean cancelled) {
+            super(eventRing, cancelled);
+        }
+
+        @Override
+        public void pushColumn() {
+            addStructuralEvent();
+        }
+
+    }
+
+    /**
+     * Event handler to collect the parser events, the column slices and the structural column events
+     * into the event blocks.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class StructuralSliceEventCollector extends SliceEventCollector implements CsvStructuralEventHandler {
+
+        StructuralSliceEventCollector(final BlockRing<EventBlock> eventRing, final AtomicBoolean cancelled) {
+            super(eventRing, cancelled);
+        }
+
+        @Override
+        public void pushColumn() {
+            addStructuralEvent();
+        }
+
+    }
+
+    /**
+     * Base task of the pipeline stage. If the stage fails or stops after the pipeline is cancelled,
+     * then the whole pipeline is cancelled, so the other stages are woken up.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private abstract static class PipelineTask implements Callable<Void> {
+
+        private final PipelinedCsvParser _pipelinedCsvParser;
+
+        PipelineTask(final PipelinedCsvParser pipelinedCsvParser) {
+            super();
+            _pipelinedCsvParser = pipelinedCsvParser;
+        }
+
+        final PipelinedCsvParser getPipelinedCsvParser() {
+            return _pipelinedCsvParser;
+        }
+
+        @Override
+        public final Void call() throws IOException {
+            boolean completed = false;
+            try {
+                process();
+                completed = true;
+            } finally {
+                if (!completed || _pipelinedCsvParser.isCancelled()) {
+                    _pipelinedCsvParser.cancel();
+                }
+            }
+            return null;
+        }
+
+        abstract void process() throws IOException;
+
+    }
+
+    /**
+     * Task to read characters.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class ReadCharactersTask extends PipelineTask {
+
+        private final Reader _reader;
+
+        ReadCharactersTask(final PipelinedCsvParser pipelinedCsvParser, final Reader reader) {
+            super(pipelinedCsvParser);
+            _reader = reader;
+        }
+
+        @Override
+        void process() throws IOException {
+            getPipelinedCsvParser().readCharacters(_reader);
+        }
+
+    }
+
+    /**
+     * Task to read raw bytes.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class ReadBytesTask extends PipelineTask {
+
+        private final InputStream _inputStream;
+
+        ReadBytesTask(final PipelinedCsvParser pipelinedCsvParser, final InputStream inputStream) {
+            super(pipelinedCsvParser);
+            _inputStream = inputStream;
+        }
+
+        @Override
+        void process() throws IOException {
+            getPipelinedCsvParser().readBytes(_inputStream);
+        }
+
+    }
+
+    /**
+     * Task to decode raw bytes to characters.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class DecodeTask extends PipelineTask {
+
+        DecodeTask(final PipelinedCsvParser pipelinedCsvParser) {
+            super(pipelinedCsvParser);
+        }
+
+        @Override
+        void process() {
+            getPipelinedCsvParser().decode();
+        }
+
+    }
+
+    /**
+     * Task to tokenize characters to the parser events.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class TokenizeTask extends PipelineTask {
+
+        private final CsvEventHandler _csvEventHandler;
+
+        TokenizeTask(final PipelinedCsvParser pipelinedCsvParser, final CsvEventHandler csvEventHandler) {
+            super(pipelinedCsvParser);
+            _csvEventHandler = csvEventHandler;
+        }
+
+        @Override
+        void process() {
+            getPipelinedCsvParser().tokenize(_csvEventHandler);
+        }
+
+    }
+
+}
@@ -0,0 +1,75 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import ru.d_shap.csv.handler.CsvEventHandler;
+import ru.d_shap.csv.handler.CsvSliceEventHandler;
+
+/**
+ * Event handler, that fills the rows of the {@link CsvReader} object. Two row objects are used
+ * alternately: one row is pushed and is available to the caller, another row is being filled.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class RowEventHandler implements CsvEventHandler, CsvSliceEventHandler {
+
+    private CsvRow _currentRow;
+
+    private CsvRow _pushedRow;
+
+    private boolean _rowPushed;
+
+    RowEventHandler() {
+        super();
+        _currentRow = new CsvRow();
+        _pushedRow = new CsvRow();
+        _rowPushed = false;
+    }
+
+    @Override
+    public void pushColumn(final String column, final int actualLength) {
+        char[] chars = column.toCharArray();
+        _currentRow.addColumn(chars, 0, chars.length, actualLength);
+    }
+
+    @Override
+    public void pushColumn(final char[] buffer, final int offset, final int length, final int actualLength) {
+        _currentRow.addColumn(buffer, offset, length, actualLength);
+    }
+
+    @Override
+    public void pushRow() {
+        CsvRow row = _pushedRow;
+        _pushedRow = _currentRow;
+        _currentRow = row;
+        _currentRow.clear();
+        _rowPushed = true;
+    }
+
+    boolean isRowPushed() {
+        return _rowPushed;
+    }
+
+    CsvRow takeRow() {
+        _rowPushed = false;
+        return _pushedRow;
+    }
+
+}
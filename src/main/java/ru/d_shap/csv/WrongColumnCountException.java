@@ -44,4 +44,16 @@ public class WrongColumnCountException extends CsvException {
         super("CSV has rows with different column count.", lastProcessedCharacters);
     }
 
+    /**
+     * Create a new object.
+     *
+     * @param lastProcessedCharacters last characters processed by CSV parser.
+     * @param position                the position of the wrong character in CSV source.
+     * @param rowIndex                the index of the row with the wrong character.
+     * @param columnIndex             the index of the column with the wrong character.
+     */
+    public WrongColumnCountException(final String lastProcessedCharacters, final long position, final long rowIndex, final int columnIndex) {
+        super("CSV has rows with different column count.", lastProcessedCharacters, position, rowIndex, columnIndex);
+    }
+
 }
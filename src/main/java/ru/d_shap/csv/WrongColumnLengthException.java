@@ -37,4 +37,16 @@ public class WrongColumnLengthException extends CsvException {
         super("Maximum column value length exceeded.", lastProcessedCharacters);
     }
 
+    /**
+     * Create a new object.
+     *
+     * @param lastProcessedCharacters last characters processed by CSV parser.
+     * @param position                the position of the wrong character in CSV source.
+     * @param rowIndex                the index of the row with the wrong character.
+     * @param columnIndex             the index of the column with the wrong character.
+     */
+    public WrongColumnLengthException(final String lastProcessedCharacters, final long position, final long rowIndex, final int columnIndex) {
+        super("Maximum column value length exceeded.", lastProcessedCharacters, position, rowIndex, columnIndex);
+    }
+
 }
@@ -0,0 +1,63 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+/**
+ * Exception is thrown when the column value can not be converted to the type, specified for the column.
+ *
+ * @author Dmitry Shapovalov
+ */
+public class WrongColumnValueException extends CsvException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Create a new object.
+     *
+     * @param column      the column value.
+     * @param type        the name of the type, specified for the column.
+     * @param rowIndex    the index of the row with the wrong column value.
+     * @param columnIndex the index of the column with the wrong column value.
+     */
+    public WrongColumnValueException(final String column, final String type, final long rowIndex, final int columnIndex) {
+        this(column, type, rowIndex, columnIndex, null);
+    }
+
+    /**
+     * Create a new object.
+     *
+     * @param column      the column value.
+     * @param type        the name of the type, specified for the column.
+     * @param rowIndex    the index of the row with the wrong column value.
+     * @param columnIndex the index of the column with the wrong column value.
+     * @param ex          cause exception.
+     */
+    public WrongColumnValueException(final String column, final String type, final long rowIndex, final int columnIndex, final Throwable ex) {
+        super(getErrorMessage(column, type, rowIndex, columnIndex), ex, -1L, rowIndex, columnIndex);
+    }
+
+    private static String getErrorMessage(final String column, final String type, final long rowIndex, final int columnIndex) {
+        StringBuilder builder = new StringBuilder(100);
+        builder.append("Wrong ").append(type).append(" column value: \"").append(column).append("\".");
+        builder.append(" Row index: ").append(rowIndex).append(", column index: ").append(columnIndex).append('.');
+        return builder.toString();
+    }
+
+}
@@ -23,11 +23,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Base class for all CSV parser event handlers, that accumulate columns and rows in memory.
+ * Base class for all CSV parser event handlers, that accumulate columns and rows in memory. If the
+ * {@link ValueCache} object is specified, then equal column values are stored as the same string object.
  *
  * @author Dmitry Shapovalov
  */
-public abstract class AbstractListEventHandler implements CsvEventHandler {
+public abstract class AbstractListEventHandler implements CsvEventHandler, CsvSliceEventHandler {
+
+    private final ValueCache _valueCache;
 
     private final List<List<String>> _rows;
 
@@ -37,15 +40,48 @@ public abstract class AbstractListEventHandler implements CsvEventHandler {
      * Create a new object.
      */
     protected AbstractListEventHandler() {
+        this(null);
+    }
+
+    /**
+     * Create a new object.
+     *
+     * @param valueCache the cache of column values, or null if column values should not be cached.
+     */
+    protected AbstractListEventHandler(final ValueCache valueCache) {
         super();
+        _valueCache = valueCache;
         _rows = new ArrayList<>();
         _currentRow = null;
     }
 
+    /**
+     * Get the cache of column values.
+     *
+     * @return the cache of column values, or null if column values are not cached.
+     */
+    public final ValueCache getValueCache() {
+        return _valueCache;
+    }
+
     @Override
     public final void pushColumn(final String column, final int actualLength) {
         setCurrentRow();
-        doPushColumn(column, actualLength);
+        if (_valueCache == null) {
+            doPushColumn(column, actualLength);
+        } else {
+            doPushColumn(_valueCache.getValue(column), actualLength);
+        }
+    }
+
+    @Override
+    public final void pushColumn(final char[] buffer, final int offset, final int length, final int actualLength) {
+        setCurrentRow();
+        if (_valueCache == null) {
+            doPushColumn(new String(buffer, offset, length), actualLength);
+        } else {
+            doPushColumn(_valueCache.getValue(buffer, offset, length), actualLength);
+        }
     }
 
     private void setCurrentRow() {
@@ -30,7 +30,7 @@ import ru.d_shap.csv.CsvParserConfiguration;
  *
  * @author Dmitry Shapovalov
  */
-public final class ColumnCountEventHandler implements CsvConfigurable, CsvEventHandler {
+public final class ColumnCountEventHandler implements CsvConfigurable, CsvEventHandler, CsvMergeable<ColumnCountEventHandler>, CsvSliceEventHandler, CsvStructuralEventHandler {
 
     private final List<Integer> _columnCounts;
 
@@ -56,12 +56,32 @@ public final class ColumnCountEventHandler implements CsvConfigurable, CsvEventH
         _currentColumnCount++;
     }
 
+    @Override
+    public void pushColumn(final char[] buffer, final int offset, final int length, final int actualLength) {
+        _currentColumnCount++;
+    }
+
+    @Override
+    public void pushColumn() {
+        _currentColumnCount++;
+    }
+
     @Override
     public void pushRow() {
         _columnCounts.add(_currentColumnCount);
         _currentColumnCount = 0;
     }
 
+    @Override
+    public ColumnCountEventHandler createPartialHandler() {
+        return new ColumnCountEventHandler();
+    }
+
+    @Override
+    public void merge(final ColumnCountEventHandler partialHandler) {
+        _columnCounts.addAll(partialHandler._columnCounts);
+    }
+
     /**
      * Get list of column counts. List size is a row count. Each list element is a column count for
      * corresponding row.
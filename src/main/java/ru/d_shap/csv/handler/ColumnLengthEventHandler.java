@@ -29,7 +29,7 @@ import ru.d_shap.csv.CsvParserConfiguration;
  *
  * @author Dmitry Shapovalov
  */
-public final class ColumnLengthEventHandler implements CsvConfigurable, CsvEventHandler {
+public final class ColumnLengthEventHandler implements CsvConfigurable, CsvEventHandler, CsvMergeable<ColumnLengthEventHandler>, CsvSliceEventHandler {
 
     private final List<List<Integer>> _rows;
 
@@ -56,6 +56,12 @@ public final class ColumnLengthEventHandler implements CsvConfigurable, CsvEvent
         _currentRow.add(actualLength);
     }
 
+    @Override
+    public void pushColumn(final char[] buffer, final int offset, final int length, final int actualLength) {
+        setCurrentRow();
+        _currentRow.add(actualLength);
+    }
+
     private void setCurrentRow() {
         if (_currentRow == null) {
             _currentRow = new ArrayList<>();
@@ -69,6 +75,16 @@ public final class ColumnLengthEventHandler implements CsvConfigurable, CsvEvent
         _currentRow = null;
     }
 
+    @Override
+    public ColumnLengthEventHandler createPartialHandler() {
+        return new ColumnLengthEventHandler();
+    }
+
+    @Override
+    public void merge(final ColumnLengthEventHandler partialHandler) {
+        _rows.addAll(partialHandler._rows);
+    }
+
     /**
      * Get list of column value lengths of each row.
      *
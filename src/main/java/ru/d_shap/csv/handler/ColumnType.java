@@ -0,0 +1,54 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.handler;
+
+/**
+ * Types of the column values for the {@link TypedEventHandler} object.
+ *
+ * @author Dmitry Shapovalov
+ */
+public enum ColumnType {
+
+    /**
+     * The column value is pushed as a string.
+     */
+    STRING,
+
+    /**
+     * The column value is pushed as a long value.
+     */
+    LONG,
+
+    /**
+     * The column value is pushed as a double value.
+     */
+    DOUBLE,
+
+    /**
+     * The column value is pushed as a decimal value: the unscaled long value and the scale.
+     */
+    DECIMAL,
+
+    /**
+     * The column value is pushed as a boolean value.
+     */
+    BOOLEAN
+
+}
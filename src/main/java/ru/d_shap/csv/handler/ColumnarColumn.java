@@ -0,0 +1,299 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.handler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import ru.d_shap.csv.ColumnValues;
+
+/**
+ * <p>
+ * Column values of one column of the {@link ColumnarTable} object.
+ * </p>
+ * <p>
+ * Column values are dictionary encoded while the number of distinct column values does not exceed
+ * the maximum dictionary size. In this case each distinct column value is stored once in the dictionary,
+ * and the column holds the code of the column value for each row. If the maximum dictionary size is
+ * exceeded, then the column values are decoded and stored for each row.
+ * </p>
+ * <p>
+ * If the row has no value for this column, then the column value is null.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ColumnarColumn implements Iterable<String> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final int NULL_CODE = -1;
+
+    private final int _maxDictionarySize;
+
+    private final List<String> _dictionary;
+
+    private int[] _dictionaryTable;
+
+    private int[] _codes;
+
+    private String[] _values;
+
+    private int _size;
+
+    ColumnarColumn(final int maxDictionarySize) {
+        super();
+        _maxDictionarySize = maxDictionarySize;
+        _dictionary = new ArrayList<>();
+        _dictionaryTable = new int[INITIAL_CAPACITY];
+        _codes = new int[INITIAL_CAPACITY];
+        _values = null;
+        _size = 0;
+    }
+
+    void add(final char[] buffer, final int offset, final int length) {
+        if (_codes == null) {
+            addValue(new String(buffer, offset, length));
+            return;
+        }
+        int hash = ColumnValues.getHashCode(buffer, offset, length);
+        int mask = _dictionaryTable.length - 1;
+        int index = ValueCache.getIndex(hash, mask);
+        int code = _dictionaryTable[index] - 1;
+        while (code != NULL_CODE) {
+            if (ColumnValues.isEqual(_dictionary.get(code), buffer, offset, length)) {
+                addCode(code);
+                return;
+            }
+            index = index + 1 & mask;
+            code = _dictionaryTable[index] - 1;
+        }
+        addNewValue(new String(buffer, offset, length), index);
+    }
+
+    void add(final String value) {
+        if (_codes == null) {
+            addValue(value);
+            return;
+        }
+        if (value == null) {
+            addCode(NULL_CODE);
+            return;
+        }
+        int mask = _dictionaryTable.length - 1;
+        int index = ValueCache.getIndex(value.hashCode(), mask);
+        int code = _dictionaryTable[index] - 1;
+        while (code != NULL_CODE) {
+            if (_dictionary.get(code).equals(value)) {
+                addCode(code);
+                return;
+            }
+            index = index + 1 & mask;
+            code = _dictionaryTable[index] - 1;
+        }
+        addNewValue(value, index);
+    }
+
+    void addAll(final ColumnarColumn column) {
+        for (int i = 0; i < column._size; i++) {
+            add(column.get(i));
+        }
+    }
+
+    void addNulls(final int count) {
+        for (int i = 0; i < count; i++) {
+            add(null);
+        }
+    }
+
+    private void addNewValue(final String value, final int index) {
+        if (_dictionary.size() >= _maxDictionarySize) {
+            decode();
+            addValue(value);
+            return;
+        }
+        int code = _dictionary.size();
+        _dictionary.add(value);
+        _dictionaryTable[index] = code + 1;
+        if (_dictionary.size() * 2 > _dictionaryTable.length) {
+            rehash();
+        }
+        addCode(code);
+    }
+
+    private void rehash() {
+        int[] dictionaryTable = new int[_dictionaryTable.length * 2];
+        int mask = dictionaryTable.length - 1;
+        int dictionarySize = _dictionary.size();
+        for (int code = 0; code < dictionarySize; code++) {
+            int index = ValueCache.getIndex(_dictionary.get(code).hashCode(), mask);
+            while (dictionaryTable[index] != 0) {
+                index = index + 1 & mask;
+            }
+            dictionaryTable[index] = code + 1;
+        }
+        _dictionaryTable = dictionaryTable;
+    }
+
+    private void decode() {
+        _values = new String[_codes.length];
+        for (int i = 0; i < _size; i++) {
+            _values[i] = getDictionaryValue(_codes[i]);
+        }
+        _codes = null;
+        _dictionaryTable = null;
+        _dictionary.clear();
+    }
+
+    private void addCode(final int code) {
+        if (_size >= _codes.length) {
+            _codes = Arrays.copyOf(_codes, _codes.length * 2);
+        }
+        _codes[_size] = code;
+        _size++;
+    }
+
+    private void addValue(final String value) {
+        if (_size >= _values.length) {
+            _values = Arrays.copyOf(_values, _values.length * 2);
+        }
+        _values[_size] = value;
+        _size++;
+    }
+
+    private String getDictionaryValue(final int code) {
+        if (code == NULL_CODE) {
+            return null;
+        } else {
+            return _dictionary.get(code);
+        }
+    }
+
+    /**
+     * Get the number of column values, equal to the row count of the table.
+     *
+     * @return the number of column values.
+     */
+    public int size() {
+        return _size;
+    }
+
+    /**
+     * Get the column value of the specified row.
+     *
+     * @param row the row index.
+     *
+     * @return the column value, or null if the row has no value for this column.
+     */
+    public String get(final int row) {
+        checkRowIndex(row);
+        if (_codes == null) {
+            return _values[row];
+        } else {
+            return getDictionaryValue(_codes[row]);
+        }
+    }
+
+    /**
+     * Check if the column values are dictionary encoded.
+     *
+     * @return true if the column values are dictionary encoded.
+     */
+    public boolean isDictionaryEncoded() {
+        return _codes != null;
+    }
+
+    /**
+     * Get the dictionary of the distinct column values. The code of the column value is the index of
+     * the column value in the dictionary.
+     *
+     * @return the dictionary, or empty list if the column values are not dictionary encoded.
+     */
+    public List<String> getDictionary() {
+        return Collections.unmodifiableList(_dictionary);
+    }
+
+    /**
+     * Get the code of the column value of the specified row.
+     *
+     * @param row the row index.
+     *
+     * @return the code of the column value, or -1 if the row has no value for this column.
+     */
+    public int getCode(final int row) {
+        if (_codes == null) {
+            throw new IllegalStateException("Column values are not dictionary encoded.");
+        }
+        checkRowIndex(row);
+        return _codes[row];
+    }
+
+    private void checkRowIndex(final int row) {
+        if (row < 0 || row >= _size) {
+            throw new IndexOutOfBoundsException("Row index: " + row + ", row count: " + _size);
+        }
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new ValueIterator();
+    }
+
+    /**
+     * Iterator over the column values.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private final class ValueIterator implements Iterator<String> {
+
+        private int _row;
+
+        ValueIterator() {
+            super();
+            _row = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return _row < _size;
+        }
+
+        @Override
+        public String next() {
+            if (_row >= _size) {
+                throw new NoSuchElementException();
+            }
+            String value = get(_row);
+            _row++;
+            return value;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+}
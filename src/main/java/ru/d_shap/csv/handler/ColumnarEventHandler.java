@@ -0,0 +1,138 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.handler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import ru.d_shap.csv.CsvParserConfiguration;
+
+/**
+ * CSV parser event handler, that accumulates column values in memory by columns. Column values
+ * of each column are dictionary encoded while the number of distinct column values does not exceed
+ * the maximum dictionary size.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ColumnarEventHandler implements CsvConfigurable, CsvEventHandler, CsvMergeable<ColumnarEventHandler>, CsvSliceEventHandler {
+
+    private static final int DEFAULT_MAX_DICTIONARY_SIZE = 1024;
+
+    private final int _maxDictionarySize;
+
+    private final List<ColumnarColumn> _columns;
+
+    private int _rowCount;
+
+    private int _currentColumnIndex;
+
+    /**
+     * Create a new object.
+     */
+    public ColumnarEventHandler() {
+        this(DEFAULT_MAX_DICTIONARY_SIZE);
+    }
+
+    /**
+     * Create a new object.
+     *
+     * @param maxDictionarySize the maximum number of distinct column values of the dictionary encoded column.
+     */
+    public ColumnarEventHandler(final int maxDictionarySize) {
+        super();
+        _maxDictionarySize = maxDictionarySize;
+        _columns = new ArrayList<>();
+        _rowCount = 0;
+        _currentColumnIndex = 0;
+    }
+
+    @Override
+    public void configure(final CsvParserConfiguration csvParserConfiguration) {
+        csvParserConfiguration.setMaxColumnLength(-1);
+        csvParserConfiguration.setMaxColumnLengthCheckEnabled(false);
+    }
+
+    @Override
+    public void pushColumn(final String column, final int actualLength) {
+        getCurrentColumn().add(column);
+        _currentColumnIndex++;
+    }
+
+    @Override
+    public void pushColumn(final char[] buffer, final int offset, final int length, final int actualLength) {
+        getCurrentColumn().add(buffer, offset, length);
+        _currentColumnIndex++;
+    }
+
+    private ColumnarColumn getCurrentColumn() {
+        if (_currentColumnIndex >= _columns.size()) {
+            addColumn();
+        }
+        return _columns.get(_currentColumnIndex);
+    }
+
+    private void addColumn() {
+        ColumnarColumn column = new ColumnarColumn(_maxDictionarySize);
+        column.addNulls(_rowCount);
+        _columns.add(column);
+    }
+
+    @Override
+    public void pushRow() {
+        int columnCount = _columns.size();
+        for (int i = _currentColumnIndex; i < columnCount; i++) {
+            _columns.get(i).add(null);
+        }
+        _rowCount++;
+        _currentColumnIndex = 0;
+    }
+
+    @Override
+    public ColumnarEventHandler createPartialHandler() {
+        return new ColumnarEventHandler(_maxDictionarySize);
+    }
+
+    @Override
+    public void merge(final ColumnarEventHandler partialHandler) {
+        while (_columns.size() < partialHandler._columns.size()) {
+            addColumn();
+        }
+        int columnCount = _columns.size();
+        for (int i = 0; i < columnCount; i++) {
+            if (i < partialHandler._columns.size()) {
+                _columns.get(i).addAll(partialHandler._columns.get(i));
+            } else {
+                _columns.get(i).addNulls(partialHandler._rowCount);
+            }
+        }
+        _rowCount += partialHandler._rowCount;
+    }
+
+    /**
+     * Get the table of column values.
+     *
+     * @return the table of column values.
+     */
+    public ColumnarTable getTable() {
+        return new ColumnarTable(Collections.unmodifiableList(_columns), _rowCount);
+    }
+
+}
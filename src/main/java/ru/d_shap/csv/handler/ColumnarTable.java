@@ -0,0 +1,87 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.handler;
+
+import java.util.List;
+
+/**
+ * Table of column values, where column values are stored by columns. Each row of the table has the same
+ * column count, equal to the maximum column count of the CSV rows. If the CSV row has less columns, then
+ * the missing column values are null.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ColumnarTable {
+
+    private final List<ColumnarColumn> _columns;
+
+    private final int _rowCount;
+
+    ColumnarTable(final List<ColumnarColumn> columns, final int rowCount) {
+        super();
+        _columns = columns;
+        _rowCount = rowCount;
+    }
+
+    /**
+     * Get row count.
+     *
+     * @return row count.
+     */
+    public int getRowCount() {
+        return _rowCount;
+    }
+
+    /**
+     * Get column count.
+     *
+     * @return column count.
+     */
+    public int getColumnCount() {
+        return _columns.size();
+    }
+
+    /**
+     * Get the column values of the specified column.
+     *
+     * @param column the column index.
+     *
+     * @return the column values.
+     */
+    public ColumnarColumn getColumn(final int column) {
+        if (column < 0 || column >= _columns.size()) {
+            throw new IndexOutOfBoundsException("Column index: " + column + ", column count: " + _columns.size());
+        }
+        return _columns.get(column);
+    }
+
+    /**
+     * Get the column value.
+     *
+     * @param row    the row index.
+     * @param column the column index.
+     *
+     * @return the column value, or null if the row has no value for this column.
+     */
+    public String getValue(final int row, final int column) {
+        return getColumn(column).get(row);
+    }
+
+}
@@ -0,0 +1,57 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.handler;
+
+/**
+ * Interface to process large column values in chunks. If {@link CsvEventHandler} object also implements
+ * this interface, then the column value, that reaches the chunk size, is not stored as a whole. The
+ * stored part of the column value is pushed as a chunk each time the chunk size is reached, and the
+ * rest of the column value is pushed as the last chunk at the end of the column. In this case the
+ * {@link CsvEventHandler#pushColumn(String, int)} method is not invoked for this column. Column values,
+ * that are shorter than the chunk size, are pushed as usual. Column values are not pushed in chunks,
+ * if the column has a predicate or precedes a column with a predicate, or the maximum column value
+ * length is specified.
+ *
+ * @author Dmitry Shapovalov
+ */
+public interface CsvChunkEventHandler {
+
+    /**
+     * Get the minimum number of characters to push as a chunk. Values less than 1 are treated as 1.
+     *
+     * @return the minimum number of characters to push as a chunk.
+     */
+    int getChunkSize();
+
+    /**
+     * Process the chunk of the column value, pushed from CSV parser. The chunk is located in the specified
+     * buffer from the specified offset and has the specified length. The buffer is the CSV parser internal
+     * buffer, it is valid only during this method invocation and should not be modified. The chunk is
+     * never split inside the character. The chunks of the column value are pushed in order, and the
+     * last chunk can be empty.
+     *
+     * @param buffer the buffer, that contains the chunk.
+     * @param offset the offset of the chunk in the buffer.
+     * @param length the length of the chunk in the buffer.
+     * @param last   true if this is the last chunk of the column value.
+     */
+    void pushColumnChunk(char[] buffer, int offset, int length, boolean last);
+
+}
@@ -21,7 +21,8 @@ package ru.d_shap.csv.handler;
 
 /**
  * Interface to process events, pushed from CSV parser. If this object also implements {@link CsvConfigurable}
- * interface, then this object can modify CSV parser behaviour.
+ * interface, then this object can modify CSV parser behaviour. If this object also implements
+ * {@link CsvSliceEventHandler} interface, then column values are pushed without the string creation.
  *
  * @author Dmitry Shapovalov
  */
@@ -0,0 +1,50 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.handler;
+
+/**
+ * Interface to merge the results of the parallel CSV parsing. If {@link CsvEventHandler} object also
+ * implements this interface, then CSV file can be parsed in parallel. CSV file is split into chunks
+ * of rows. Each chunk is parsed with the separate partial event handler, then all partial event
+ * handlers are merged into this event handler in the order of chunks.
+ *
+ * @param <T> the type of the partial event handler.
+ *
+ * @author Dmitry Shapovalov
+ */
+public interface CsvMergeable<T extends CsvEventHandler> {
+
+    /**
+     * Create a new partial event handler to process events of one chunk of CSV file. Partial event
+     * handler is used in a separate thread.
+     *
+     * @return a new partial event handler.
+     */
+    T createPartialHandler();
+
+    /**
+     * Merge the results of the partial event handler into this event handler. This method is invoked
+     * for all partial event handlers in the order of chunks, after the chunks are parsed.
+     *
+     * @param partialHandler the partial event handler.
+     */
+    void merge(T partialHandler);
+
+}
@@ -0,0 +1,41 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.handler;
+
+import java.util.List;
+
+/**
+ * Function to process the row of CSV in the worker thread. The function is invoked concurrently
+ * for different rows, so the function should be thread safe.
+ *
+ * @author Dmitry Shapovalov
+ */
+public interface CsvRowFunction {
+
+    /**
+     * Process the row of CSV.
+     *
+     * @param row the row, each row is a list of columns.
+     *
+     * @return the processed row or null if the row should be skipped.
+     */
+    List<String> apply(List<String> row);
+
+}
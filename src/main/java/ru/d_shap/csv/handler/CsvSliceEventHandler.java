@@ -0,0 +1,46 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.handler;
+
+/**
+ * Interface to process column values as slices of the CSV parser internal buffer. If {@link CsvEventHandler}
+ * object also implements this interface, then the column value is not converted to the string, and
+ * this interface method is invoked instead of {@link CsvEventHandler#pushColumn(String, int)}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public interface CsvSliceEventHandler {
+
+    /**
+     * Process column value, pushed from CSV parser. The column value is located in the specified buffer
+     * from the specified offset and has the specified length. The buffer is the CSV parser internal
+     * buffer, it is valid only during this method invocation and should not be modified. If the maximum
+     * column value length is specified and the actual column value length exceeds the maximum column
+     * value length, then the actual column value would be trimmed. The actual column value length is
+     * not affected by the maximum column value length configuration.
+     *
+     * @param buffer       the buffer, that contains the actual column value.
+     * @param offset       the offset of the actual column value in the buffer.
+     * @param length       the length of the actual column value in the buffer.
+     * @param actualLength the actual column value length.
+     */
+    void pushColumn(char[] buffer, int offset, int length, int actualLength);
+
+}
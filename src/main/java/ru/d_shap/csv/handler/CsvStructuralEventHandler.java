@@ -0,0 +1,38 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.handler;
+
+/**
+ * Interface to process only the structure of CSV source, that is columns and rows, without column
+ * values. If {@link CsvEventHandler} object also implements this interface, then column values are
+ * not stored, and this interface method is invoked instead of {@link CsvEventHandler#pushColumn(String, int)}.
+ * Column values are still stored, if column predicates are specified, or the maximum column value
+ * length check is enabled.
+ *
+ * @author Dmitry Shapovalov
+ */
+public interface CsvStructuralEventHandler {
+
+    /**
+     * Process column, pushed from CSV parser. The column value is not available.
+     */
+    void pushColumn();
+
+}
@@ -0,0 +1,76 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.handler;
+
+/**
+ * Interface to process typed column values, decoded by the {@link TypedEventHandler} object.
+ *
+ * @author Dmitry Shapovalov
+ */
+public interface CsvTypedEventHandler {
+
+    /**
+     * Process the column value of the {@link ColumnType#STRING} type.
+     *
+     * @param value the column value.
+     */
+    void pushString(String value);
+
+    /**
+     * Process the column value of the {@link ColumnType#LONG} type.
+     *
+     * @param value the column value.
+     */
+    void pushLong(long value);
+
+    /**
+     * Process the column value of the {@link ColumnType#DOUBLE} type.
+     *
+     * @param value the column value.
+     */
+    void pushDouble(double value);
+
+    /**
+     * Process the column value of the {@link ColumnType#DECIMAL} type. The column value is equal to
+     * unscaledValue * 10^(-scale).
+     *
+     * @param unscaledValue the unscaled column value.
+     * @param scale         the number of digits after the decimal point.
+     */
+    void pushDecimal(long unscaledValue, int scale);
+
+    /**
+     * Process the column value of the {@link ColumnType#BOOLEAN} type.
+     *
+     * @param value the column value.
+     */
+    void pushBoolean(boolean value);
+
+    /**
+     * Process the empty column value of any type except {@link ColumnType#STRING}.
+     */
+    void pushNull();
+
+    /**
+     * Process row.
+     */
+    void pushRow();
+
+}
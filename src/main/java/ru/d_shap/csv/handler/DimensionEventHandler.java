@@ -27,7 +27,7 @@ import ru.d_shap.csv.CsvParserConfiguration;
  *
  * @author Dmitry Shapovalov
  */
-public final class DimensionEventHandler implements CsvConfigurable, CsvEventHandler {
+public final class DimensionEventHandler implements CsvConfigurable, CsvEventHandler, CsvMergeable<DimensionEventHandler>, CsvSliceEventHandler, CsvStructuralEventHandler {
 
     private boolean _firstRow;
 
@@ -59,12 +59,40 @@ public final class DimensionEventHandler implements CsvConfigurable, CsvEventHan
         }
     }
 
+    @Override
+    public void pushColumn(final char[] buffer, final int offset, final int length, final int actualLength) {
+        if (_firstRow) {
+            _columnCount++;
+        }
+    }
+
+    @Override
+    public void pushColumn() {
+        if (_firstRow) {
+            _columnCount++;
+        }
+    }
+
     @Override
     public void pushRow() {
         _firstRow = false;
         _rowCount++;
     }
 
+    @Override
+    public DimensionEventHandler createPartialHandler() {
+        return new DimensionEventHandler();
+    }
+
+    @Override
+    public void merge(final DimensionEventHandler partialHandler) {
+        if (_firstRow) {
+            _firstRow = partialHandler._firstRow;
+            _columnCount = partialHandler._columnCount;
+        }
+        _rowCount += partialHandler._rowCount;
+    }
+
     /**
      * Get row count.
      *
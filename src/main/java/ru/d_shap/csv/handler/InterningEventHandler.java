@@ -0,0 +1,81 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.handler;
+
+import ru.d_shap.csv.CsvParserConfiguration;
+
+/**
+ * CSV parser event handler, that looks up column values in the {@link ValueCache} object and pushes
+ * the cached column values to the wrapped event handler. The wrapped event handler receives the same
+ * string object for all equal column values. If the wrapped event handler also implements
+ * {@link CsvConfigurable} interface, then the wrapped event handler configures CSV parser.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class InterningEventHandler implements CsvConfigurable, CsvEventHandler, CsvSliceEventHandler {
+
+    private final CsvEventHandler _csvEventHandler;
+
+    private final ValueCache _valueCache;
+
+    /**
+     * Create a new object.
+     *
+     * @param csvEventHandler the wrapped event handler.
+     * @param valueCache      the cache of column values.
+     */
+    public InterningEventHandler(final CsvEventHandler csvEventHandler, final ValueCache valueCache) {
+        super();
+        _csvEventHandler = csvEventHandler;
+        _valueCache = valueCache;
+    }
+
+    @Override
+    public void configure(final CsvParserConfiguration csvParserConfiguration) {
+        if (_csvEventHandler instanceof CsvConfigurable) {
+            ((CsvConfigurable) _csvEventHandler).configure(csvParserConfiguration);
+        }
+    }
+
+    @Override
+    public void pushColumn(final String column, final int actualLength) {
+        _csvEventHandler.pushColumn(_valueCache.getValue(column), actualLength);
+    }
+
+    @Override
+    public void pushColumn(final char[] buffer, final int offset, final int length, final int actualLength) {
+        _csvEventHandler.pushColumn(_valueCache.getValue(buffer, offset, length), actualLength);
+    }
+
+    @Override
+    public void pushRow() {
+        _csvEventHandler.pushRow();
+    }
+
+    /**
+     * Get the cache of column values.
+     *
+     * @return the cache of column values.
+     */
+    public ValueCache getValueCache() {
+        return _valueCache;
+    }
+
+}
@@ -22,11 +22,13 @@ package ru.d_shap.csv.handler;
 import ru.d_shap.csv.CsvParserConfiguration;
 
 /**
- * CSV parser event handler, that accumulates columns and rows in memory.
+ * CSV parser event handler, that accumulates columns and rows in memory. If the {@link ValueCache} object
+ * is specified, then each partial event handler uses its own cache, and the statistics of the partial
+ * caches are added to this cache on merge.
  *
  * @author Dmitry Shapovalov
  */
-public final class ListEventHandler extends AbstractListEventHandler implements CsvConfigurable {
+public final class ListEventHandler extends AbstractListEventHandler implements CsvConfigurable, CsvMergeable<ListEventHandler> {
 
     /**
      * Create a new object.
@@ -35,6 +37,15 @@ public final class ListEventHandler extends AbstractListEventHandler implements
         super();
     }
 
+    /**
+     * Create a new object.
+     *
+     * @param valueCache the cache of column values.
+     */
+    public ListEventHandler(final ValueCache valueCache) {
+        super(valueCache);
+    }
+
     @Override
     public void configure(final CsvParserConfiguration csvParserConfiguration) {
         csvParserConfiguration.setMaxColumnLength(-1);
@@ -46,4 +57,23 @@ public final class ListEventHandler extends AbstractListEventHandler implements
         addColumnToCurrentRow(column);
     }
 
+    @Override
+    public ListEventHandler createPartialHandler() {
+        ValueCache valueCache = getValueCache();
+        if (valueCache == null) {
+            return new ListEventHandler();
+        } else {
+            return new ListEventHandler(valueCache.createEmptyCache());
+        }
+    }
+
+    @Override
+    public void merge(final ListEventHandler partialHandler) {
+        getCsv().addAll(partialHandler.getCsv());
+        ValueCache valueCache = getValueCache();
+        if (valueCache != null) {
+            valueCache.addStatistics(partialHandler.getValueCache());
+        }
+    }
+
 }
@@ -27,7 +27,7 @@ package ru.d_shap.csv.handler;
  *
  * @author Dmitry Shapovalov
  */
-public final class NoopEventHandler implements CsvEventHandler {
+public final class NoopEventHandler implements CsvEventHandler, CsvMergeable<NoopEventHandler>, CsvSliceEventHandler, CsvStructuralEventHandler {
 
     /**
      * Create a new object.
@@ -41,9 +41,29 @@ public final class NoopEventHandler implements CsvEventHandler {
         // Ignore
     }
 
+    @Override
+    public void pushColumn(final char[] buffer, final int offset, final int length, final int actualLength) {
+        // Ignore
+    }
+
+    @Override
+    public void pushColumn() {
+        // Ignore
+    }
+
     @Override
     public void pushRow() {
         // Ignore
     }
 
+    @Override
+    public NoopEventHandler createPartialHandler() {
+        return new NoopEventHandler();
+    }
+
+    @Override
+    public void merge(final NoopEventHandler partialHandler) {
+        // Ignore
+    }
+
 }
@@ -0,0 +1,342 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.handler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import ru.d_shap.csv.CsvInterruptedException;
+import ru.d_shap.csv.CsvParserConfiguration;
+
+/**
+ * <p>
+ * CSV parser event handler, that processes rows in parallel and pushes the processed rows to the
+ * wrapped event handler in the original order.
+ * </p>
+ * <p>
+ * Rows are collected into batches. Each batch is processed with the {@link CsvRowFunction} object
+ * in the specified executor service, while CSV parser continues with the next rows. The processed
+ * batches are pushed to the wrapped event handler in the current thread in the order of batches.
+ * The number of batches, that are processed at the same time, is bounded, so CSV parser waits for
+ * the oldest batch when the limit is reached. If the column value is not changed, then the actual
+ * column value length is passed to the wrapped event handler as is, otherwise the actual column
+ * value length is the length of the processed column value. The processed row must not contain
+ * null column values, otherwise {@link IllegalStateException} is thrown and no column of the row is
+ * pushed to the wrapped event handler.
+ * </p>
+ * <p>
+ * The {@link #finish()} method must be invoked after CSV is parsed to push the remaining rows.
+ * If the wrapped event handler also implements {@link CsvStoppable} interface and is stopped,
+ * then the remaining rows are discarded and CSV parsing is stopped. If the wrapped event handler
+ * also implements {@link CsvConfigurable} interface, then the wrapped event handler configures
+ * CSV parser.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class OrderedParallelEventHandler implements CsvConfigurable, CsvEventHandler, CsvStoppable {
+
+    /**
+     * Default number of rows in the batch.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 4096;
+
+    private static final int INITIAL_COLUMN_COUNT = 16;
+
+    private final CsvRowFunction _csvRowFunction;
+
+    private final CsvEventHandler _csvEventHandler;
+
+    private final ExecutorService _executorService;
+
+    private final int _batchSize;
+
+    private final int _maxPendingBatches;
+
+    private final Deque<Future<List<List<String>>>> _pendingBatches;
+
+    private final Deque<List<OriginalRow>> _pendingOriginalRows;
+
+    private List<List<String>> _currentBatch;
+
+    private List<OriginalRow> _currentOriginalRows;
+
+    private List<String> _currentRow;
+
+    private int[] _currentActualLengths;
+
+    private boolean _currentRowTruncated;
+
+    private long _rowIndex;
+
+    private boolean _stopped;
+
+    /**
+     * Create a new object. The default batch size is used, and the number of batches, processed at
+     * the same time, is twice the number of available processors.
+     *
+     * @param csvRowFunction  the function to process rows.
+     * @param csvEventHandler the wrapped event handler.
+     * @param executorService the executor service to process batches.
+     */
+    public OrderedParallelEventHandler(final CsvRowFunction csvRowFunction, final CsvEventHandler csvEventHandler, final ExecutorService executorService) {
+        this(csvRowFunction, csvEventHandler, executorService, DEFAULT_BATCH_SIZE, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Create a new object.
+     *
+     * @param csvRowFunction    the function to process rows.
+     * @param csvEventHandler   the wrapped event handler.
+     * @param executorService   the executor service to process batches.
+     * @param batchSize         the number of rows in the batch.
+     * @param maxPendingBatches the maximum number of batches, processed at the same time.
+     */
+    public OrderedParallelEventHandler(final CsvRowFunction csvRowFunction, final CsvEventHandler csvEventHandler, final ExecutorService executorService, final int batchSize, final int maxPendingBatches) {
+        super();
+        _csvRowFunction = csvRowFunction;
+        _csvEventHandler = csvEventHandler;
+        _executorService = executorService;
+        _batchSize = Math.max(batchSize, 1);
+        _maxPendingBatches = Math.max(maxPendingBatches, 1);
+        _pendingBatches = new ArrayDeque<>();
+        _pendingOriginalRows = new ArrayDeque<>();
+        _currentBatch = new ArrayList<>(_batchSize);
+        _currentOriginalRows = new ArrayList<>(_batchSize);
+        _currentRow = new ArrayList<>();
+        _currentActualLengths = new int[INITIAL_COLUMN_COUNT];
+        _currentRowTruncated = false;
+        _rowIndex = 0L;
+        _stopped = false;
+    }
+
+    @Override
+    public void configure(final CsvParserConfiguration csvParserConfiguration) {
+        if (_csvEventHandler instanceof CsvConfigurable) {
+            ((CsvConfigurable) _csvEventHandler).configure(csvParserConfiguration);
+        }
+    }
+
+    @Override
+    public void pushColumn(final String column, final int actualLength) {
+        int index = _currentRow.size();
+        if (index == _currentActualLengths.length) {
+            _currentActualLengths = Arrays.copyOf(_currentActualLengths, index * 2);
+        }
+        _currentActualLengths[index] = actualLength;
+        if (actualLength != column.length()) {
+            _currentRowTruncated = true;
+        }
+        _currentRow.add(column);
+    }
+
+    @Override
+    public void pushRow() {
+        if (_currentRowTruncated) {
+            _currentBatch.add(new ArrayList<>(_currentRow));
+            _currentOriginalRows.add(new OriginalRow(_currentRow, Arrays.copyOf(_currentActualLengths, _currentRow.size())));
+            _currentRowTruncated = false;
+        } else {
+            _currentBatch.add(_currentRow);
+            _currentOriginalRows.add(null);
+        }
+        _currentRow = new ArrayList<>();
+        if (_currentBatch.size() >= _batchSize) {
+            submitBatch();
+        }
+    }
+
+    @Override
+    public boolean isStopped() {
+        return _stopped;
+    }
+
+    /**
+     * Push the remaining rows to the wrapped event handler. This method waits for all batches to
+     * be processed.
+     */
+    public void finish() {
+        if (!_currentBatch.isEmpty()) {
+            submitBatch();
+        }
+        while (!_pendingBatches.isEmpty()) {
+            pushBatch();
+        }
+    }
+
+    private void submitBatch() {
+        if (_pendingBatches.size() >= _maxPendingBatches) {
+            pushBatch();
+        }
+        if (!_stopped) {
+            _pendingBatches.add(_executorService.submit(new BatchTask(_csvRowFunction, _currentBatch)));
+            _pendingOriginalRows.add(_currentOriginalRows);
+        }
+        _currentBatch = new ArrayList<>(_batchSize);
+        _currentOriginalRows = new ArrayList<>(_batchSize);
+        while (!_pendingBatches.isEmpty() && _pendingBatches.peek().isDone()) {
+            pushBatch();
+        }
+    }
+
+    private void pushBatch() {
+        List<OriginalRow> originalRows = _pendingOriginalRows.poll();
+        List<List<String>> rows = getRows(_pendingBatches.poll());
+        for (int i = 0; i < rows.size(); i++) {
+            List<String> row = rows.get(i);
+            if (row != null) {
+                checkProcessedRow(row, i);
+                pushProcessedRow(row, originalRows.get(i));
+                if (_csvEventHandler instanceof CsvStoppable && ((CsvStoppable) _csvEventHandler).isStopped()) {
+                    _stopped = true;
+                    cancelPendingBatches();
+                    return;
+                }
+            }
+            _rowIndex++;
+        }
+    }
+
+    private void checkProcessedRow(final List<String> row, final int batchRowIndex) {
+        int columnIndex = 0;
+        for (String column : row) {
+            if (column == null) {
+                cancelPendingBatches();
+                throw new IllegalStateException("Row function returned the null column value. Row index: " + _rowIndex + ", batch row index: " + batchRowIndex + ", column index: " + columnIndex + ".");
+            }
+            columnIndex++;
+        }
+    }
+
+    private void pushProcessedRow(final List<String> row, final OriginalRow originalRow) {
+        int columnIndex = 0;
+        for (String column : row) {
+            _csvEventHandler.pushColumn(column, getActualLength(column, originalRow, columnIndex));
+            columnIndex++;
+        }
+        _csvEventHandler.pushRow();
+    }
+
+    private static int getActualLength(final String column, final OriginalRow originalRow, final int columnIndex) {
+        if (originalRow != null && originalRow.isSameColumn(column, columnIndex)) {
+            return originalRow.getActualLength(columnIndex);
+        } else {
+            return column.length();
+        }
+    }
+
+    private List<List<String>> getRows(final Future<List<List<String>>> future) {
+        boolean completed = false;
+        try {
+            List<List<String>> rows = future.get();
+            completed = true;
+            return rows;
+        } catch (ExecutionException ex) {
+            throw createException(ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CsvInterruptedException(ex);
+        } finally {
+            if (!completed) {
+                cancelPendingBatches();
+            }
+        }
+    }
+
+    private static RuntimeException createException(final ExecutionException ex) {
+        Throwable cause = ex.getCause();
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return (RuntimeException) cause;
+    }
+
+    private void cancelPendingBatches() {
+        for (Future<List<List<String>>> future : _pendingBatches) {
+            future.cancel(false);
+        }
+        _pendingBatches.clear();
+        _pendingOriginalRows.clear();
+    }
+
+    /**
+     * Row before it is processed. The row is stored only if the row has truncated column values,
+     * so the actual column value length is passed to the wrapped event handler for the unchanged
+     * column values.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class OriginalRow {
+
+        private final List<String> _columns;
+
+        private final int[] _actualLengths;
+
+        OriginalRow(final List<String> columns, final int[] actualLengths) {
+            super();
+            _columns = columns;
+            _actualLengths = actualLengths;
+        }
+
+        boolean isSameColumn(final String column, final int columnIndex) {
+            return columnIndex < _columns.size() && column.equals(_columns.get(columnIndex));
+        }
+
+        int getActualLength(final int columnIndex) {
+            return _actualLengths[columnIndex];
+        }
+
+    }
+
+    /**
+     * Task to process the batch of rows.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class BatchTask implements Callable<List<List<String>>> {
+
+        private final CsvRowFunction _csvRowFunction;
+
+        private final List<List<String>> _rows;
+
+        BatchTask(final CsvRowFunction csvRowFunction, final List<List<String>> rows) {
+            super();
+            _csvRowFunction = csvRowFunction;
+            _rows = rows;
+        }
+
+        @Override
+        public List<List<String>> call() {
+            for (int i = 0; i < _rows.size(); i++) {
+                _rows.set(i, _csvRowFunction.apply(_rows.get(i)));
+            }
+            return _rows;
+        }
+
+    }
+
+}
@@ -0,0 +1,284 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.handler;
+
+import ru.d_shap.csv.CsvParserConfiguration;
+import ru.d_shap.csv.WrongColumnValueException;
+
+/**
+ * <p>
+ * CSV parser event handler, that decodes column values to the types, specified for each column, and
+ * pushes typed column values to the {@link CsvTypedEventHandler} object.
+ * </p>
+ * <p>
+ * Column values are decoded directly from the CSV parser internal buffer, no string is created for
+ * the column values of {@link ColumnType#LONG}, {@link ColumnType#DECIMAL} and {@link ColumnType#BOOLEAN}
+ * types. The column value of {@link ColumnType#DOUBLE} type is decoded from the buffer if it has no
+ * exponent and at most 15 digits, otherwise it is decoded with {@link Double#parseDouble(String)}. The
+ * empty column value of any type except {@link ColumnType#STRING} is pushed as null. The columns
+ * without the specified type are pushed as strings.
+ * </p>
+ * <p>
+ * All numeric types share the same grammar: an optional sign and at least one digit. The column value
+ * of {@link ColumnType#DECIMAL} and {@link ColumnType#DOUBLE} types can also have one decimal point,
+ * and the column value of {@link ColumnType#DOUBLE} type can also have an exponent: 'e' or 'E', an
+ * optional sign and at least one digit. Whitespaces, type suffixes, NaN, infinity and hexadecimal
+ * values are not allowed.
+ * </p>
+ * <p>
+ * If the column value can not be decoded, then {@link WrongColumnValueException} is thrown. The row
+ * index of the exception is the index of the row, pushed to this event handler.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class TypedEventHandler implements CsvConfigurable, CsvEventHandler, CsvSliceEventHandler {
+
+    private static final int MAX_FAST_DOUBLE_DIGITS = 15;
+
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15};
+
+    private static final String TRUE = "true";
+
+    private static final String FALSE = "false";
+
+    private final ColumnType[] _columnTypes;
+
+    private final CsvTypedEventHandler _csvTypedEventHandler;
+
+    private long _rowIndex;
+
+    private int _columnIndex;
+
+    /**
+     * Create a new object.
+     *
+     * @param columnTypes          the types of the column values, the index of the type is the index of the column.
+     * @param csvTypedEventHandler event handler to process typed column values.
+     */
+    public TypedEventHandler(final ColumnType[] columnTypes, final CsvTypedEventHandler csvTypedEventHandler) {
+        super();
+        _columnTypes = columnTypes.clone();
+        _csvTypedEventHandler = csvTypedEventHandler;
+        _rowIndex = 0L;
+        _columnIndex = 0;
+    }
+
+    @Override
+    public void configure(final CsvParserConfiguration csvParserConfiguration) {
+        if (_csvTypedEventHandler instanceof CsvConfigurable) {
+            ((CsvConfigurable) _csvTypedEventHandler).configure(csvParserConfiguration);
+        }
+    }
+
+    @Override
+    public void pushColumn(final String column, final int actualLength) {
+        char[] buffer = column.toCharArray();
+        pushColumn(buffer, 0, buffer.length, actualLength);
+    }
+
+    @Override
+    public void pushColumn(final char[] buffer, final int offset, final int length, final int actualLength) {
+        ColumnType columnType = getColumnType();
+        if (columnType == ColumnType.STRING) {
+            _csvTypedEventHandler.pushString(new String(buffer, offset, length));
+        } else if (length == 0) {
+            _csvTypedEventHandler.pushNull();
+        } else {
+            pushTypedColumn(columnType, buffer, offset, length);
+        }
+        _columnIndex++;
+    }
+
+    private ColumnType getColumnType() {
+        if (_columnIndex < _columnTypes.length && _columnTypes[_columnIndex] != null) {
+            return _columnTypes[_columnIndex];
+        } else {
+            return ColumnType.STRING;
+        }
+    }
+
+    private void pushTypedColumn(final ColumnType columnType, final char[] buffer, final int offset, final int length) {
+        switch (columnType) {
+            case LONG:
+                int longEnd = getMantissaEnd(buffer, offset, length, columnType);
+                _csvTypedEventHandler.pushLong(decodeUnscaledValue(buffer, offset, length, longEnd, columnType));
+                break;
+            case DECIMAL:
+                int decimalEnd = getMantissaEnd(buffer, offset, length, columnType);
+                long unscaledValue = decodeUnscaledValue(buffer, offset, length, decimalEnd, columnType);
+                _csvTypedEventHandler.pushDecimal(unscaledValue, getScale(buffer, offset, decimalEnd));
+                break;
+            case DOUBLE:
+                _csvTypedEventHandler.pushDouble(decodeDouble(buffer, offset, length));
+                break;
+            default:
+                _csvTypedEventHandler.pushBoolean(decodeBoolean(buffer, offset, length));
+                break;
+        }
+    }
+
+    private int getMantissaEnd(final char[] buffer, final int offset, final int length, final ColumnType columnType) {
+        int end = offset + length;
+        int index = skipSign(buffer, offset, end);
+        int digitCount = 0;
+        boolean decimalPoint = columnType == ColumnType.LONG;
+        for (; index < end; index++) {
+            char character = buffer[index];
+            if (isDigit(character)) {
+                digitCount++;
+            } else if (character == '.' && !decimalPoint) {
+                decimalPoint = true;
+            } else {
+                break;
+            }
+        }
+        if (digitCount == 0) {
+            throw createWrongColumnValueException(buffer, offset, length, columnType);
+        }
+        int mantissaEnd = index;
+        if (index < end && columnType == ColumnType.DOUBLE && (buffer[index] == 'e' || buffer[index] == 'E')) {
+            index = skipSign(buffer, index + 1, end);
+            int exponentStart = index;
+            while (index < end && isDigit(buffer[index])) {
+                index++;
+            }
+            if (index == exponentStart) {
+                throw createWrongColumnValueException(buffer, offset, length, columnType);
+            }
+        }
+        if (index < end) {
+            throw createWrongColumnValueException(buffer, offset, length, columnType);
+        }
+        return mantissaEnd;
+    }
+
+    private int skipSign(final char[] buffer, final int index, final int end) {
+        if (index < end && (buffer[index] == '-' || buffer[index] == '+')) {
+            return index + 1;
+        } else {
+            return index;
+        }
+    }
+
+    private boolean isDigit(final char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    private long decodeUnscaledValue(final char[] buffer, final int offset, final int length, final int mantissaEnd, final ColumnType columnType) {
+        boolean negative = buffer[offset] == '-';
+        long limit;
+        if (negative) {
+            limit = Long.MIN_VALUE;
+        } else {
+            limit = -Long.MAX_VALUE;
+        }
+        long multiplyLimit = limit / 10;
+        long result = 0L;
+        for (int i = skipSign(buffer, offset, mantissaEnd); i < mantissaEnd; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0) {
+                continue;
+            }
+            if (result < multiplyLimit) {
+                throw createWrongColumnValueException(buffer, offset, length, columnType);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw createWrongColumnValueException(buffer, offset, length, columnType);
+            }
+            result -= digit;
+        }
+        if (negative) {
+            return result;
+        } else {
+            return -result;
+        }
+    }
+
+    private int getScale(final char[] buffer, final int offset, final int mantissaEnd) {
+        for (int i = mantissaEnd - 1; i >= offset; i--) {
+            if (buffer[i] == '.') {
+                return mantissaEnd - i - 1;
+            }
+        }
+        return 0;
+    }
+
+    private double decodeDouble(final char[] buffer, final int offset, final int length) {
+        int end = offset + length;
+        int mantissaEnd = getMantissaEnd(buffer, offset, length, ColumnType.DOUBLE);
+        if (mantissaEnd < end) {
+            return Double.parseDouble(new String(buffer, offset, length));
+        }
+        long unscaledValue = 0L;
+        int digitCount = 0;
+        for (int i = skipSign(buffer, offset, end); i < end; i++) {
+            int digit = buffer[i] - '0';
+            if (digit >= 0) {
+                if (digitCount == MAX_FAST_DOUBLE_DIGITS) {
+                    return Double.parseDouble(new String(buffer, offset, length));
+                }
+                unscaledValue = unscaledValue * 10 + digit;
+                digitCount++;
+            }
+        }
+        double value = unscaledValue / POWERS_OF_TEN[getScale(buffer, offset, end)];
+        if (buffer[offset] == '-') {
+            return -value;
+        } else {
+            return value;
+        }
+    }
+
+    private boolean decodeBoolean(final char[] buffer, final int offset, final int length) {
+        if (isEqualIgnoreCase(buffer, offset, length, TRUE)) {
+            return true;
+        }
+        if (isEqualIgnoreCase(buffer, offset, length, FALSE)) {
+            return false;
+        }
+        throw createWrongColumnValueException(buffer, offset, length, ColumnType.BOOLEAN);
+    }
+
+    private boolean isEqualIgnoreCase(final char[] buffer, final int offset, final int length, final String value) {
+        if (length != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (Character.toLowerCase(buffer[offset + i]) != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private WrongColumnValueException createWrongColumnValueException(final char[] buffer, final int offset, final int length, final ColumnType columnType) {
+        return new WrongColumnValueException(new String(buffer, offset, length), columnType.name(), _rowIndex, _columnIndex);
+    }
+
+    @Override
+    public void pushRow() {
+        _csvTypedEventHandler.pushRow();
+        _rowIndex++;
+        _columnIndex = 0;
+    }
+
+}
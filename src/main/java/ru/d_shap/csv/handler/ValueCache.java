@@ -0,0 +1,223 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.handler;
+
+import ru.d_shap.csv.ColumnValues;
+
+/**
+ * Bounded cache of column values. Column values are looked up in the cache before the string is created,
+ * so the same string object is used for all equal column values. This reduces the memory consumption if
+ * column values are repeated often, for example country codes, statuses or boolean values. The cache is
+ * a set-associative hash table with the fixed number of entries. Each column value is mapped to a set of
+ * up to four entries, and the new column value replaces the least recently used column value of the set.
+ * So a few frequent column values, that are mapped to the same set, do not evict each other. Only short
+ * column values are cached. The number of entries is the size of the cache, rounded up to the power
+ * of two, but not more than 2^30. The cache is not thread safe.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ValueCache {
+
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private static final int DEFAULT_MAX_VALUE_LENGTH = 32;
+
+    private static final int MAX_WAY_COUNT = 4;
+
+    private static final int HASH_SHIFT = 16;
+
+    private static final int HASH_MIX = 0x85EBCA6B;
+
+    private final String[] _values;
+
+    private final int[] _hashes;
+
+    private final int _wayCount;
+
+    private final int _setMask;
+
+    private final int _maxValueLength;
+
+    private long _hitCount;
+
+    private long _missCount;
+
+    /**
+     * Create a new object.
+     *
+     * @param size the maximum number of cached column values, must be positive.
+     */
+    public ValueCache(final int size) {
+        this(size, DEFAULT_MAX_VALUE_LENGTH);
+    }
+
+    /**
+     * Create a new object.
+     *
+     * @param size           the maximum number of cached column values, must be positive.
+     * @param maxValueLength the maximum length of the cached column value, must be positive.
+     */
+    public ValueCache(final int size, final int maxValueLength) {
+        super();
+        if (size <= 0) {
+            throw new IllegalArgumentException("Wrong value cache size: " + size + ".");
+        }
+        if (maxValueLength <= 0) {
+            throw new IllegalArgumentException("Wrong maximum cached value length: " + maxValueLength + ".");
+        }
+        int capacity = getCapacity(size);
+        _values = new String[capacity];
+        _hashes = new int[capacity];
+        _wayCount = Math.min(capacity, MAX_WAY_COUNT);
+        _setMask = capacity / _wayCount - 1;
+        _maxValueLength = maxValueLength;
+        _hitCount = 0L;
+        _missCount = 0L;
+    }
+
+    static int getCapacity(final int size) {
+        if (size >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        int capacity = 1;
+        while (capacity < size) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    ValueCache createEmptyCache() {
+        return new ValueCache(_values.length, _maxValueLength);
+    }
+
+    void addStatistics(final ValueCache valueCache) {
+        _hitCount += valueCache._hitCount;
+        _missCount += valueCache._missCount;
+    }
+
+    /**
+     * Get the cached column value, equal to the column value in the specified buffer. If no such column
+     * value is cached, then the new string is created and cached.
+     *
+     * @param buffer the buffer, that contains the column value.
+     * @param offset the offset of the column value in the buffer.
+     * @param length the length of the column value in the buffer.
+     *
+     * @return the cached column value.
+     */
+    public String getValue(final char[] buffer, final int offset, final int length) {
+        if (length > _maxValueLength) {
+            _missCount++;
+            return new String(buffer, offset, length);
+        }
+        int hash = ColumnValues.getHashCode(buffer, offset, length);
+        int first = getIndex(hash, _setMask) * _wayCount;
+        int end = first + _wayCount;
+        String value;
+        for (int i = first; i < end; i++) {
+            value = _values[i];
+            if (value != null && _hashes[i] == hash && ColumnValues.isEqual(value, buffer, offset, length)) {
+                _hitCount++;
+                putFirst(first, i, value, hash);
+                return value;
+            }
+        }
+        _missCount++;
+        value = new String(buffer, offset, length);
+        putFirst(first, end - 1, value, hash);
+        return value;
+    }
+
+    /**
+     * Get the cached column value, equal to the specified column value. If no such column value is
+     * cached, then the specified column value is cached.
+     *
+     * @param value the column value.
+     *
+     * @return the cached column value.
+     */
+    public String getValue(final String value) {
+        if (value.length() > _maxValueLength) {
+            _missCount++;
+            return value;
+        }
+        int hash = value.hashCode();
+        int first = getIndex(hash, _setMask) * _wayCount;
+        int end = first + _wayCount;
+        String cachedValue;
+        for (int i = first; i < end; i++) {
+            cachedValue = _values[i];
+            if (cachedValue != null && _hashes[i] == hash && cachedValue.equals(value)) {
+                _hitCount++;
+                putFirst(first, i, cachedValue, hash);
+                return cachedValue;
+            }
+        }
+        _missCount++;
+        putFirst(first, end - 1, value, hash);
+        return value;
+    }
+
+    private void putFirst(final int first, final int index, final String value, final int hash) {
+        int count = index - first;
+        System.arraycopy(_values, first, _values, first + 1, count);
+        System.arraycopy(_hashes, first, _hashes, first + 1, count);
+        _values[first] = value;
+        _hashes[first] = hash;
+    }
+
+    static int getIndex(final int hash, final int mask) {
+        int mixedHash = (hash ^ hash >>> HASH_SHIFT) * HASH_MIX;
+        return (mixedHash ^ mixedHash >>> HASH_SHIFT) & mask;
+    }
+
+    /**
+     * Get the number of column values, found in the cache.
+     *
+     * @return the number of column values, found in the cache.
+     */
+    public long getHitCount() {
+        return _hitCount;
+    }
+
+    /**
+     * Get the number of column values, not found in the cache.
+     *
+     * @return the number of column values, not found in the cache.
+     */
+    public long getMissCount() {
+        return _missCount;
+    }
+
+    /**
+     * Get the ratio of the column values, found in the cache, to all column values.
+     *
+     * @return the ratio of the column values, found in the cache, or 0 if no column values are processed.
+     */
+    public double getHitRate() {
+        long count = _hitCount + _missCount;
+        if (count == 0L) {
+            return 0.0;
+        } else {
+            return (double) _hitCount / count;
+        }
+    }
+
+}
@@ -37,5 +37,47 @@
  * no way to cancel {@link ru.d_shap.csv.handler.CsvEventHandler} modification in CSV parser behaviour.
  * In this case another {@link ru.d_shap.csv.handler.CsvEventHandler} should be used.
  * </p>
+ * <p>
+ * If the {@link ru.d_shap.csv.handler.CsvEventHandler} object also implements {@link ru.d_shap.csv.handler.CsvSliceEventHandler}
+ * interface, then column values are pushed as slices of the CSV parser internal buffer and no string
+ * is created for each column value. This is useful, if column values are ignored, hashed, compared or
+ * copied selectively.
+ * </p>
+ * <p>
+ * If the {@link ru.d_shap.csv.handler.CsvEventHandler} object also implements {@link ru.d_shap.csv.handler.CsvStructuralEventHandler}
+ * interface, then column values are not stored at all, and only columns and rows are pushed. This is
+ * useful, if CSV source is validated, or rows and columns are counted.
+ * </p>
+ * <p>
+ * If the {@link ru.d_shap.csv.handler.CsvEventHandler} object also implements {@link ru.d_shap.csv.handler.CsvChunkEventHandler}
+ * interface, then large column values are pushed in chunks as soon as the chunk size is reached. The
+ * memory, used to parse the column value, is bounded by the chunk size, so large column values can be
+ * written to the file or another storage without holding the whole column value.
+ * </p>
+ * <p>
+ * If the {@link ru.d_shap.csv.handler.CsvEventHandler} object also implements {@link ru.d_shap.csv.handler.CsvMergeable}
+ * interface, then CSV file can be parsed in parallel. Each chunk of CSV file is parsed with the separate
+ * partial event handler, and then partial event handlers are merged in the order of chunks.
+ * </p>
+ * <p>
+ * If the {@link ru.d_shap.csv.handler.CsvEventHandler} object also implements {@link ru.d_shap.csv.handler.CsvStoppable}
+ * interface, then the {@link ru.d_shap.csv.handler.CsvEventHandler} object can stop CSV parsing after
+ * any row. The rest of the CSV source is not read.
+ * </p>
+ * <p>
+ * If column values are repeated often, then the {@link ru.d_shap.csv.handler.ValueCache} object can
+ * be used to store equal column values as the same string object. The {@link ru.d_shap.csv.handler.ValueCache}
+ * object is specified for the {@link ru.d_shap.csv.handler.ListEventHandler} object, or the event
+ * handler is wrapped with the {@link ru.d_shap.csv.handler.InterningEventHandler} object.
+ * </p>
+ * <p>
+ * The {@link ru.d_shap.csv.handler.ColumnarEventHandler} object stores column values by columns
+ * instead of rows. Columns with few distinct column values are dictionary encoded.
+ * </p>
+ * <p>
+ * The {@link ru.d_shap.csv.handler.OrderedParallelEventHandler} object processes rows in parallel
+ * with the {@link ru.d_shap.csv.handler.CsvRowFunction} object, and pushes the processed rows to the
+ * wrapped event handler in the original order.
+ * </p>
  */
 package ru.d_shap.csv.handler;
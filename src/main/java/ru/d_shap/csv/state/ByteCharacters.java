@@ -0,0 +1,114 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.state;
+
+import java.nio.charset.Charset;
+
+/**
+ * Helper to decode characters, where each character holds one byte of the CSV source.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class ByteCharacters {
+
+    private static final int ASCII_CHARACTER_LIMIT = 0x80;
+
+    private static final int MAX_SEQUENCE_LENGTH = 4;
+
+    private static final int CONTINUATION_MASK = 0xC0;
+
+    private static final int CONTINUATION_BYTE = 0x80;
+
+    private static final int TWO_BYTE_MASK = 0xE0;
+
+    private static final int TWO_BYTE_LEAD = 0xC0;
+
+    private static final int THREE_BYTE_MASK = 0xF0;
+
+    private static final int THREE_BYTE_LEAD = 0xE0;
+
+    private static final int FOUR_BYTE_MASK = 0xF8;
+
+    private static final int FOUR_BYTE_LEAD = 0xF0;
+
+    private ByteCharacters() {
+        super();
+    }
+
+    static boolean isAscii(final char[] chars, final int offset, final int length) {
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            if (chars[i] >= ASCII_CHARACTER_LIMIT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String decode(final char[] chars, final int offset, final int length, final Charset charset) {
+        if (isAscii(chars, offset, length)) {
+            return new String(chars, offset, length);
+        }
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) chars[offset + i];
+        }
+        return new String(bytes, charset);
+    }
+
+    static int getSequenceStart(final char[] chars, final int length) {
+        int start = 0;
+        int limit = Math.min(length, MAX_SEQUENCE_LENGTH - 1);
+        while (start < limit && (chars[start] & CONTINUATION_MASK) == CONTINUATION_BYTE) {
+            start++;
+        }
+        return start;
+    }
+
+    static int getCompleteLength(final char[] chars, final int length) {
+        if (length == 0) {
+            return 0;
+        }
+        int start = length - 1;
+        int limit = Math.max(length - MAX_SEQUENCE_LENGTH, 0);
+        while (start > limit && (chars[start] & CONTINUATION_MASK) == CONTINUATION_BYTE) {
+            start--;
+        }
+        if (start + getSequenceLength(chars[start]) > length) {
+            return start;
+        } else {
+            return length;
+        }
+    }
+
+    private static int getSequenceLength(final char lead) {
+        if ((lead & TWO_BYTE_MASK) == TWO_BYTE_LEAD) {
+            return 2;
+        }
+        if ((lead & THREE_BYTE_MASK) == THREE_BYTE_LEAD) {
+            return 3;
+        }
+        if ((lead & FOUR_BYTE_MASK) == FOUR_BYTE_LEAD) {
+            return 4;
+        }
+        return 1;
+    }
+
+}
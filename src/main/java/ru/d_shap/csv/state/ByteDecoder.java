@@ -0,0 +1,76 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.state;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Decoder to decode characters, where each character holds one byte of the CSV source, into the
+ * reusable buffer. The buffer is valid until the next decoding.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class ByteDecoder {
+
+    private static final int INITIAL_BUFFER_SIZE = 64;
+
+    private final CharsetDecoder _charsetDecoder;
+
+    private ByteBuffer _byteBuffer;
+
+    private CharBuffer _charBuffer;
+
+    ByteDecoder(final Charset charset) {
+        super();
+        _charsetDecoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+        _byteBuffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+        _charBuffer = CharBuffer.allocate(INITIAL_BUFFER_SIZE);
+    }
+
+    void decode(final char[] chars, final int offset, final int length) {
+        if (_byteBuffer.capacity() < length) {
+            _byteBuffer = ByteBuffer.allocate(length);
+            _charBuffer = CharBuffer.allocate(length);
+        }
+        byte[] bytes = _byteBuffer.array();
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) chars[offset + i];
+        }
+        _byteBuffer.clear();
+        _byteBuffer.limit(length);
+        _charBuffer.clear();
+        _charsetDecoder.reset();
+        _charsetDecoder.decode(_byteBuffer, _charBuffer, true);
+        _charsetDecoder.flush(_charBuffer);
+    }
+
+    char[] getBuffer() {
+        return _charBuffer.array();
+    }
+
+    int getLength() {
+        return _charBuffer.position();
+    }
+
+}
@@ -19,8 +19,14 @@
 ///////////////////////////////////////////////////////////////////////////////////////////////////
 package ru.d_shap.csv.state;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 /**
- * Buffer for characters.
+ * Buffer for characters. If the characters hold the bytes of UTF-8 CSV source, then the length is
+ * measured in the decoded characters. The buffer is truncated only at the boundary of UTF-8 sequence
+ * or surrogate pair, so the bytes of UTF-8 CSV source and the characters of the decoded CSV source
+ * are truncated to the same characters.
  *
  * @author Dmitry Shapovalov
  */
@@ -28,19 +34,40 @@ final class CharBuffer {
 
     private static final int INITIAL_BUFFER_SIZE = 20;
 
+    private static final int BYTE_MASK = 0xFF;
+
+    private static final int CONTINUATION_MASK = 0xC0;
+
+    private static final int CONTINUATION_BYTE = 0x80;
+
+    private static final int FOUR_BYTE_MASK = 0xF8;
+
+    private static final int FOUR_BYTE_LEAD = 0xF0;
+
     private final int _maxLength;
 
     private final boolean _checkMaxLength;
 
+    private final boolean _utf8;
+
     private char[] _buffer;
 
     private int _currentIndex;
 
+    private int _charLength;
+
     private int _actualLength;
 
+    private boolean _truncated;
+
     CharBuffer(final int maxLength, final boolean checkMaxLength) {
+        this(maxLength, checkMaxLength, false);
+    }
+
+    CharBuffer(final int maxLength, final boolean checkMaxLength, final boolean utf8) {
         super();
         _maxLength = maxLength;
+        _utf8 = utf8;
         if (_maxLength >= 0) {
             _checkMaxLength = checkMaxLength;
             _buffer = new char[_maxLength];
@@ -49,33 +76,163 @@ final class CharBuffer {
             _buffer = new char[INITIAL_BUFFER_SIZE];
         }
         _currentIndex = 0;
+        _charLength = 0;
         _actualLength = 0;
+        _truncated = false;
     }
 
-    boolean canAppend() {
-        return !_checkMaxLength || _currentIndex < _maxLength;
+    boolean canAppend(final char ch) {
+        return !_checkMaxLength || _charLength + getCharCount(ch) <= _maxLength;
     }
 
-    void append(final char ch) {
-        if (_maxLength < 0 && _currentIndex >= _buffer.length) {
-            char[] newBuffer = new char[_buffer.length * 2 + 1];
-            System.arraycopy(_buffer, 0, newBuffer, 0, _buffer.length);
-            _buffer = newBuffer;
+    boolean canAppend(final char[] chars, final int offset, final int length) {
+        return !_checkMaxLength || _charLength + getCharCount(chars, offset, length) <= _maxLength;
+    }
+
+    boolean canAppend(final ByteBuffer bytes, final int offset, final int length) {
+        return !_checkMaxLength || _charLength + getCharCount(bytes, offset, length) <= _maxLength;
+    }
+
+    int getAppendableLength(final char[] chars, final int offset, final int length) {
+        int charLength = _charLength;
+        for (int i = 0; i < length; i++) {
+            charLength += getCharCount(chars[offset + i]);
+            if (charLength > _maxLength) {
+                return i;
+            }
         }
-        if (_maxLength < 0 || _currentIndex < _maxLength) {
+        return length;
+    }
+
+    int getAppendableLength(final ByteBuffer bytes, final int offset, final int length) {
+        int charLength = _charLength;
+        for (int i = 0; i < length; i++) {
+            charLength += getCharCount((char) (bytes.get(offset + i) & BYTE_MASK));
+            if (charLength > _maxLength) {
+                return i;
+            }
+        }
+        return length;
+    }
+
+    void append(final char ch) {
+        int charCount = getCharCount(ch);
+        if (_maxLength < 0 || !_truncated && _charLength + charCount <= _maxLength) {
+            if (_currentIndex >= _buffer.length) {
+                _buffer = Arrays.copyOf(_buffer, _buffer.length * 2 + 1);
+            }
             _buffer[_currentIndex] = ch;
             _currentIndex++;
+            _charLength += charCount;
+        } else {
+            _truncated = true;
         }
-        _actualLength++;
+        _actualLength += charCount;
+    }
+
+    void append(final char[] chars, final int offset, final int length) {
+        if (_utf8 || _maxLength >= 0) {
+            for (int i = 0; i < length; i++) {
+                append(chars[offset + i]);
+            }
+        } else {
+            int count = reserve(length);
+            System.arraycopy(chars, offset, _buffer, _currentIndex, count);
+            _currentIndex += count;
+            _charLength += count;
+            _actualLength += length;
+        }
+    }
+
+    void append(final ByteBuffer bytes, final int offset, final int length) {
+        if (_utf8) {
+            for (int i = 0; i < length; i++) {
+                append((char) (bytes.get(offset + i) & BYTE_MASK));
+            }
+        } else {
+            int count = reserve(length);
+            char[] buffer = _buffer;
+            int index = _currentIndex;
+            for (int i = 0; i < count; i++) {
+                buffer[index + i] = (char) (bytes.get(offset + i) & BYTE_MASK);
+            }
+            _currentIndex += count;
+            _charLength += count;
+            _actualLength += length;
+        }
+    }
+
+    private int reserve(final int length) {
+        if (_maxLength < 0) {
+            if (_currentIndex + length > _buffer.length) {
+                _buffer = Arrays.copyOf(_buffer, Math.max(_buffer.length * 2 + 1, _currentIndex + length));
+            }
+            return length;
+        } else {
+            return Math.min(length, _maxLength - _currentIndex);
+        }
+    }
+
+    private int getCharCount(final char ch) {
+        if (_utf8) {
+            if ((ch & CONTINUATION_MASK) == CONTINUATION_BYTE) {
+                return 0;
+            }
+            if ((ch & FOUR_BYTE_MASK) == FOUR_BYTE_LEAD) {
+                return 2;
+            }
+        } else {
+            if (Character.isHighSurrogate(ch)) {
+                return 2;
+            }
+            if (Character.isLowSurrogate(ch)) {
+                return 0;
+            }
+        }
+        return 1;
+    }
+
+    private int getCharCount(final char[] chars, final int offset, final int length) {
+        int charCount = 0;
+        for (int i = 0; i < length; i++) {
+            charCount += getCharCount(chars[offset + i]);
+        }
+        return charCount;
+    }
+
+    private int getCharCount(final ByteBuffer bytes, final int offset, final int length) {
+        int charCount = 0;
+        for (int i = 0; i < length; i++) {
+            charCount += getCharCount((char) (bytes.get(offset + i) & BYTE_MASK));
+        }
+        return charCount;
+    }
+
+    char[] getBuffer() {
+        return _buffer;
+    }
+
+    int getLength() {
+        return _currentIndex;
     }
 
     int getActualLength() {
         return _actualLength;
     }
 
+    void remove(final int length) {
+        int charCount = getCharCount(_buffer, 0, length);
+        System.arraycopy(_buffer, length, _buffer, 0, _currentIndex - length);
+        _currentIndex -= length;
+        _charLength -= charCount;
+        _actualLength -= charCount;
+    }
+
     void clear() {
         _currentIndex = 0;
+        _charLength = 0;
         _actualLength = 0;
+        _truncated = false;
     }
 
     @Override
@@ -19,6 +19,8 @@
 ///////////////////////////////////////////////////////////////////////////////////////////////////
 package ru.d_shap.csv.state;
 
+import java.nio.ByteBuffer;
+
 /**
  * Last processed characters for correct exception messages.
  *
@@ -26,6 +28,8 @@ package ru.d_shap.csv.state;
  */
 final class CharStack {
 
+    private static final int BYTE_MASK = 0xFF;
+
     private final char[] _buffer;
 
     private final int _stringBuilderSize;
@@ -53,6 +57,27 @@ final class CharStack {
         }
     }
 
+    void append(final char[] chars, final int offset, final int length) {
+        int end = offset + length;
+        for (int i = Math.max(offset, end - _buffer.length); i < end; i++) {
+            append(chars[i]);
+        }
+    }
+
+    void append(final ByteBuffer bytes, final int offset, final int length) {
+        int end = offset + length;
+        for (int i = Math.max(offset, end - _buffer.length); i < end; i++) {
+            append((char) (bytes.get(i) & BYTE_MASK));
+        }
+    }
+
+    void append(final CharStack charStack) {
+        if (charStack._overflow) {
+            append(charStack._buffer, charStack._index, charStack._buffer.length - charStack._index);
+        }
+        append(charStack._buffer, 0, charStack._index);
+    }
+
     @Override
     public String toString() {
         String result;
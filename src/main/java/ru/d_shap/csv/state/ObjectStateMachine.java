@@ -0,0 +1,103 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.state;
+
+import java.nio.ByteBuffer;
+
+/**
+ * CSV parser state machine, that delegates each input character to the current {@link State} object.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class ObjectStateMachine extends StateMachine {
+
+    private static final int BYTE_MASK = 0xFF;
+
+    private final StateHandler _stateHandler;
+
+    private State _state;
+
+    ObjectStateMachine(final StateHandler stateHandler) {
+        super();
+        _stateHandler = stateHandler;
+        _state = State.getInitState();
+    }
+
+    @Override
+    public int processCharacters(final char[] buffer, final int offset, final int length) {
+        _stateHandler.startBlock(buffer, offset);
+        _stateHandler.clearCurrentIndex();
+        State state = _state;
+        int end = offset + length;
+        int index = offset;
+        try {
+            while (index < end) {
+                state = state.processCharacter(buffer[index], _stateHandler);
+                if (_stateHandler.isPaused()) {
+                    index++;
+                    break;
+                }
+                index = state.processCharacters(buffer, index + 1, end, _stateHandler);
+            }
+        } catch (UnknownIndexException ex) {
+            throw _stateHandler.createException(ex, index);
+        }
+        _stateHandler.endBlock(index);
+        _state = state;
+        return index;
+    }
+
+    @Override
+    public int processBytes(final ByteBuffer buffer, final int offset, final int length) {
+        _stateHandler.startBlock(buffer, offset);
+        _stateHandler.clearCurrentIndex();
+        State state = _state;
+        int end = offset + length;
+        int index = offset;
+        try {
+            while (index < end) {
+                state = state.processCharacter(buffer.get(index) & BYTE_MASK, _stateHandler);
+                if (_stateHandler.isPaused()) {
+                    index++;
+                    break;
+                }
+                index = state.processBytes(buffer, index + 1, end, _stateHandler);
+            }
+        } catch (UnknownIndexException ex) {
+            throw _stateHandler.createException(ex, index);
+        }
+        _stateHandler.endBlock(index);
+        _state = state;
+        return index;
+    }
+
+    @Override
+    public void processEndOfInput() {
+        if (!_stateHandler.isStopped()) {
+            _state.processCharacter(SpecialCharacter.END_OF_INPUT, _stateHandler);
+        }
+    }
+
+    @Override
+    public boolean isStopped() {
+        return _stateHandler.isStopped();
+    }
+
+}
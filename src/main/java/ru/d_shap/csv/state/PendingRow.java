@@ -0,0 +1,98 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.state;
+
+import java.util.Arrays;
+
+/**
+ * Storage for the column values of the row, that are held until the row is matched by the column predicates.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class PendingRow {
+
+    private static final int INITIAL_BUFFER_SIZE = 64;
+
+    private static final int INITIAL_COLUMN_COUNT = 4;
+
+    private char[] _buffer;
+
+    private int[] _columnEnds;
+
+    private int[] _actualLengths;
+
+    private int _length;
+
+    private int _columnCount;
+
+    PendingRow() {
+        super();
+        _buffer = new char[INITIAL_BUFFER_SIZE];
+        _columnEnds = new int[INITIAL_COLUMN_COUNT];
+        _actualLengths = new int[INITIAL_COLUMN_COUNT];
+        _length = 0;
+        _columnCount = 0;
+    }
+
+    void add(final char[] chars, final int offset, final int length, final int actualLength) {
+        if (_length + length > _buffer.length) {
+            _buffer = Arrays.copyOf(_buffer, Math.max(_buffer.length * 2, _length + length));
+        }
+        if (_columnCount == _columnEnds.length) {
+            _columnEnds = Arrays.copyOf(_columnEnds, _columnEnds.length * 2);
+            _actualLengths = Arrays.copyOf(_actualLengths, _actualLengths.length * 2);
+        }
+        System.arraycopy(chars, offset, _buffer, _length, length);
+        _length += length;
+        _columnEnds[_columnCount] = _length;
+        _actualLengths[_columnCount] = actualLength;
+        _columnCount++;
+    }
+
+    char[] getBuffer() {
+        return _buffer;
+    }
+
+    int getColumnCount() {
+        return _columnCount;
+    }
+
+    int getColumnOffset(final int column) {
+        if (column == 0) {
+            return 0;
+        } else {
+            return _columnEnds[column - 1];
+        }
+    }
+
+    int getColumnLength(final int column) {
+        return _columnEnds[column] - getColumnOffset(column);
+    }
+
+    int getActualLength(final int column) {
+        return _actualLengths[column];
+    }
+
+    void clear() {
+        _length = 0;
+        _columnCount = 0;
+    }
+
+}
@@ -19,6 +19,8 @@
 ///////////////////////////////////////////////////////////////////////////////////////////////////
 package ru.d_shap.csv.state;
 
+import java.nio.ByteBuffer;
+
 /**
  * CSV parser state abstraction.
  *
@@ -48,7 +50,6 @@ public abstract class State {
      * @return next CSV parser state.
      */
     public final State processCharacter(final int character, final StateHandler stateHandler) {
-        stateHandler.pushLastProcessedCharacter(character);
         switch (character) {
             case SpecialCharacter.END_OF_INPUT:
                 processEndOfInput(stateHandler);
@@ -68,6 +69,35 @@ public abstract class State {
         }
     }
 
+    /**
+     * Process the span of ordinary input characters, that do not change the CSV parser state.
+     *
+     * @param buffer       the block of input characters.
+     * @param offset       the index of the first character of the span.
+     * @param end          the index after the last character of the block.
+     * @param stateHandler handler to process CSV parser events.
+     *
+     * @return the index of the first character, that was not processed.
+     */
+    int processCharacters(final char[] buffer, final int offset, final int end, final StateHandler stateHandler) {
+        return offset;
+    }
+
+    /**
+     * Process the span of ordinary input bytes, that do not change the CSV parser state. Each byte
+     * is processed as one input character.
+     *
+     * @param buffer       the block of input bytes.
+     * @param offset       the index of the first byte of the span.
+     * @param end          the index after the last byte of the block.
+     * @param stateHandler handler to process CSV parser events.
+     *
+     * @return the index of the first byte, that was not processed.
+     */
+    int processBytes(final ByteBuffer buffer, final int offset, final int end, final StateHandler stateHandler) {
+        return offset;
+    }
+
     abstract void processEndOfInput(StateHandler stateHandler);
 
     abstract State processComma(StateHandler stateHandler);
@@ -19,6 +19,8 @@
 ///////////////////////////////////////////////////////////////////////////////////////////////////
 package ru.d_shap.csv.state;
 
+import java.nio.ByteBuffer;
+
 /**
  * State of the CSV parser state machine.
  * State to process quoted column.
@@ -33,6 +35,16 @@ final class State6 extends State {
         super();
     }
 
+    @Override
+    int processCharacters(final char[] buffer, final int offset, final int end, final StateHandler stateHandler) {
+        return stateHandler.pushQuotedCharacters(buffer, offset, end);
+    }
+
+    @Override
+    int processBytes(final ByteBuffer buffer, final int offset, final int end, final StateHandler stateHandler) {
+        return stateHandler.pushQuotedBytes(buffer, offset, end);
+    }
+
     @Override
     void processEndOfInput(final StateHandler stateHandler) {
         throw stateHandler.createCsvParseException(SpecialCharacter.END_OF_INPUT);
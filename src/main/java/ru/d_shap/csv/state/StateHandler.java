@@ -19,35 +19,110 @@
 ///////////////////////////////////////////////////////////////////////////////////////////////////
 package ru.d_shap.csv.state;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import ru.d_shap.csv.CsvColumnPredicate;
+import ru.d_shap.csv.CsvException;
 import ru.d_shap.csv.CsvParseException;
 import ru.d_shap.csv.CsvParserConfiguration;
 import ru.d_shap.csv.WrongColumnCountException;
 import ru.d_shap.csv.WrongColumnLengthException;
+import ru.d_shap.csv.handler.CsvChunkEventHandler;
 import ru.d_shap.csv.handler.CsvEventHandler;
+import ru.d_shap.csv.handler.CsvSliceEventHandler;
+import ru.d_shap.csv.handler.CsvStoppable;
+import ru.d_shap.csv.handler.CsvStructuralEventHandler;
 
 /**
  * Class to process events from the CSV parser state machine and delegate them to a {@link CsvEventHandler} object.
+ * The state machine specifies the current block of input characters and the index of the current
+ * character only before the actions. The last processed characters, the position, the row index and
+ * the column index are defined from the current block only when an exception is thrown.
  *
  * @author Dmitry Shapovalov
  */
 public final class StateHandler {
 
-    private static final int LAST_CHARACTERS_COUNT = 25;
+    /**
+     * The count of the last processed characters, that are specified in the exception messages.
+     */
+    public static final int LAST_CHARACTERS_COUNT = 25;
 
     private static final int INITIAL_ROW_COLUMN_COUNT = -1;
 
+    private static final int UNKNOWN_INDEX = -1;
+
+    private static final int ASCII_CHARACTER_COUNT = 128;
+
     private final CsvEventHandler _csvEventHandler;
 
+    private final CsvSliceEventHandler _csvSliceEventHandler;
+
+    private final CsvStoppable _csvStoppable;
+
+    private final CsvStructuralEventHandler _csvStructuralEventHandler;
+
+    private final CsvChunkEventHandler _csvChunkEventHandler;
+
+    private final int _chunkSize;
+
+    private final Charset _byteCharset;
+
+    private final ByteDecoder _byteDecoder;
+
     private final CsvParserConfiguration _csvParserConfiguration;
 
-    private final CharStack _lastProcessedCharacters;
+    private final CharStack _previousBlockCharacters;
 
     private final CharBuffer _currentColumnCharacters;
 
+    private final boolean[] _unquotedSpanEndCharacters;
+
+    private final boolean[] _selectedColumns;
+
+    private final CsvColumnPredicate[] _columnPredicates;
+
+    private final PendingRow _pendingRow;
+
     private int _firstRowColumnCount;
 
     private int _currentColumnCount;
 
+    private boolean _currentColumnStored;
+
+    private int _currentColumnChunkSize;
+
+    private boolean _currentColumnChunked;
+
+    private boolean _rowRejected;
+
+    private long _skipRows;
+
+    private long _limitRows;
+
+    private boolean _stopped;
+
+    private boolean _pauseAfterRow;
+
+    private boolean _paused;
+
+    private char[] _block;
+
+    private ByteBuffer _byteBlock;
+
+    private int _blockOffset;
+
+    private int _currentIndex;
+
+    private long _blockPosition;
+
+    private long _rowIndex;
+
+    private long _rowCount;
+
     /**
      * Create a new object.
      *
@@ -55,14 +130,163 @@ public final class StateHandler {
      * @param csvParserConfiguration CSV parser configuration object.
      */
     public StateHandler(final CsvEventHandler csvEventHandler, final CsvParserConfiguration csvParserConfiguration) {
+        this(csvEventHandler, csvParserConfiguration, null);
+    }
+
+    /**
+     * Create a new object to process characters, where each character holds one byte of the CSV source.
+     * Column values are decoded with the specified charset, when they are pushed to the event handler.
+     * If the specified charset is null, then characters are not decoded.
+     *
+     * @param csvEventHandler        event handler to process CSV parser events.
+     * @param csvParserConfiguration CSV parser configuration object.
+     * @param byteCharset            charset to decode column values.
+     */
+    public StateHandler(final CsvEventHandler csvEventHandler, final CsvParserConfiguration csvParserConfiguration, final Charset byteCharset) {
         super();
         _csvEventHandler = csvEventHandler;
+        if (csvEventHandler instanceof CsvSliceEventHandler) {
+            _csvSliceEventHandler = (CsvSliceEventHandler) csvEventHandler;
+        } else {
+            _csvSliceEventHandler = null;
+        }
+        if (csvEventHandler instanceof CsvStoppable) {
+            _csvStoppable = (CsvStoppable) csvEventHandler;
+        } else {
+            _csvStoppable = null;
+        }
+        _byteCharset = byteCharset;
+        _byteDecoder = createByteDecoder(byteCharset);
         csvParserConfiguration.validate();
         _csvParserConfiguration = csvParserConfiguration;
-        _lastProcessedCharacters = new CharStack(LAST_CHARACTERS_COUNT);
-        _currentColumnCharacters = new CharBuffer(_csvParserConfiguration.getMaxColumnLength(), _csvParserConfiguration.isMaxColumnLengthCheckEnabled());
+        _csvStructuralEventHandler = getStructuralEventHandler(csvEventHandler, csvParserConfiguration);
+        _csvChunkEventHandler = getChunkEventHandler(csvEventHandler, csvParserConfiguration);
+        _chunkSize = getChunkSize(_csvChunkEventHandler);
+        _previousBlockCharacters = new CharStack(LAST_CHARACTERS_COUNT);
+        _currentColumnCharacters = new CharBuffer(_csvParserConfiguration.getMaxColumnLength(), _csvParserConfiguration.isMaxColumnLengthCheckEnabled(), StandardCharsets.UTF_8.equals(byteCharset));
+        _unquotedSpanEndCharacters = createUnquotedSpanEndCharacters(_csvParserConfiguration);
+        _selectedColumns = createSelectedColumns(_csvParserConfiguration.getProjection());
+        _columnPredicates = createColumnPredicates(_csvParserConfiguration.getColumnPredicates());
+        _pendingRow = new PendingRow();
         _firstRowColumnCount = INITIAL_ROW_COLUMN_COUNT;
         _currentColumnCount = 0;
+        _rowRejected = false;
+        _skipRows = _csvParserConfiguration.getSkipRows();
+        _limitRows = _csvParserConfiguration.getLimitRows();
+        _stopped = _limitRows == 0L;
+        _currentColumnStored = isColumnStored(0);
+        _currentColumnChunkSize = getColumnChunkSize(0);
+        _currentColumnChunked = false;
+        _pauseAfterRow = false;
+        _paused = false;
+        _block = null;
+        _byteBlock = null;
+        _blockOffset = 0;
+        _currentIndex = 0;
+        _blockPosition = 0L;
+        _rowIndex = 0L;
+        _rowCount = 0L;
+    }
+
+    private static CsvStructuralEventHandler getStructuralEventHandler(final CsvEventHandler csvEventHandler, final CsvParserConfiguration csvParserConfiguration) {
+        if (!(csvEventHandler instanceof CsvStructuralEventHandler) || !csvParserConfiguration.getColumnPredicates().isEmpty()) {
+            return null;
+        }
+        if (csvParserConfiguration.isMaxColumnLengthCheckEnabled() && csvParserConfiguration.getMaxColumnLength() >= 0) {
+            return null;
+        }
+        return (CsvStructuralEventHandler) csvEventHandler;
+    }
+
+    private static ByteDecoder createByteDecoder(final Charset byteCharset) {
+        if (byteCharset == null) {
+            return null;
+        } else {
+            return new ByteDecoder(byteCharset);
+        }
+    }
+
+    private static CsvChunkEventHandler getChunkEventHandler(final CsvEventHandler csvEventHandler, final CsvParserConfiguration csvParserConfiguration) {
+        if (!(csvEventHandler instanceof CsvChunkEventHandler) || csvParserConfiguration.getMaxColumnLength() >= 0) {
+            return null;
+        }
+        return (CsvChunkEventHandler) csvEventHandler;
+    }
+
+    private static int getChunkSize(final CsvChunkEventHandler csvChunkEventHandler) {
+        if (csvChunkEventHandler == null) {
+            return Integer.MAX_VALUE;
+        } else {
+            return Math.max(csvChunkEventHandler.getChunkSize(), 1);
+        }
+    }
+
+    static boolean[] createUnquotedSpanEndCharacters(final CsvParserConfiguration csvParserConfiguration) {
+        boolean[] unquotedSpanEndCharacters = new boolean[ASCII_CHARACTER_COUNT];
+        unquotedSpanEndCharacters[SpecialCharacter.COMMA] = csvParserConfiguration.isCommaSeparator();
+        unquotedSpanEndCharacters[SpecialCharacter.SEMICOLON] = csvParserConfiguration.isSemicolonSeparator();
+        unquotedSpanEndCharacters[SpecialCharacter.CR] = csvParserConfiguration.isCrSeparator() || csvParserConfiguration.isCrLfSeparator();
+        unquotedSpanEndCharacters[SpecialCharacter.LF] = csvParserConfiguration.isLfSeparator();
+        unquotedSpanEndCharacters[SpecialCharacter.QUOT] = true;
+        return unquotedSpanEndCharacters;
+    }
+
+    static boolean[] createSelectedColumns(final int[] projection) {
+        if (projection == null) {
+            return null;
+        }
+        int columnCount = 0;
+        for (int column : projection) {
+            columnCount = Math.max(columnCount, column + 1);
+        }
+        boolean[] selectedColumns = new boolean[columnCount];
+        for (int column : projection) {
+            selectedColumns[column] = true;
+        }
+        return selectedColumns;
+    }
+
+    private boolean isColumnSelected(final int column) {
+        if (_selectedColumns == null) {
+            return true;
+        } else {
+            return column < _selectedColumns.length && _selectedColumns[column];
+        }
+    }
+
+    static CsvColumnPredicate[] createColumnPredicates(final Map<Integer, CsvColumnPredicate> columnPredicates) {
+        int columnCount = 0;
+        for (Integer column : columnPredicates.keySet()) {
+            columnCount = Math.max(columnCount, column + 1);
+        }
+        CsvColumnPredicate[] result = new CsvColumnPredicate[columnCount];
+        for (Map.Entry<Integer, CsvColumnPredicate> entry : columnPredicates.entrySet()) {
+            result[entry.getKey()] = entry.getValue();
+        }
+        return result;
+    }
+
+    private CsvColumnPredicate getColumnPredicate(final int column) {
+        if (column < _columnPredicates.length) {
+            return _columnPredicates[column];
+        } else {
+            return null;
+        }
+    }
+
+    private boolean isColumnStored(final int column) {
+        if (_csvStructuralEventHandler != null || _rowRejected || _skipRows > 0L) {
+            return false;
+        }
+        return isColumnSelected(column) || getColumnPredicate(column) != null;
+    }
+
+    private int getColumnChunkSize(final int column) {
+        if (_currentColumnStored && column >= _columnPredicates.length) {
+            return _chunkSize;
+        } else {
+            return Integer.MAX_VALUE;
+        }
     }
 
     boolean isCommaSeparator() {
@@ -85,54 +309,413 @@ public final class StateHandler {
         return _csvParserConfiguration.isCrLfSeparator();
     }
 
-    void pushLastProcessedCharacter(final int character) {
-        if (character != SpecialCharacter.END_OF_INPUT) {
-            _lastProcessedCharacters.append((char) character);
+    boolean isTableEngineEnabled() {
+        return _csvParserConfiguration.isTableEngineEnabled();
+    }
+
+    /**
+     * Specify if the state machine should stop processing characters after each pushed row.
+     *
+     * @param pauseAfterRow true if the state machine should stop processing characters after each pushed row.
+     */
+    public void setPauseAfterRow(final boolean pauseAfterRow) {
+        _pauseAfterRow = pauseAfterRow;
+    }
+
+    boolean isPaused() {
+        return _paused;
+    }
+
+    boolean isStopped() {
+        return _stopped;
+    }
+
+    /**
+     * Specify the position of the first character to process, if the processing does not start
+     * from the beginning of the CSV source. In this case the row index is unknown.
+     *
+     * @param position the position of the first character to process.
+     */
+    public void setStartPosition(final long position) {
+        _blockPosition = position;
+        _rowIndex = -1L;
+    }
+
+    /**
+     * Specify the index of the first row to process and the column count of the first row of the
+     * CSV source, if the processing does not start from the beginning of the CSV source. This
+     * method must be called after the start position is specified. The specified bytes precede the
+     * first character to process, they are specified as the last processed characters of the
+     * exceptions.
+     *
+     * @param rowIndex            the index of the first row to process.
+     * @param firstRowColumnCount the column count of the first row of the CSV source, or -1 if no row is pushed yet.
+     * @param previousBytes       the bytes, that precede the first character to process.
+     */
+    public void setStartRow(final long rowIndex, final int firstRowColumnCount, final ByteBuffer previousBytes) {
+        _rowIndex = rowIndex;
+        _firstRowColumnCount = firstRowColumnCount;
+        _previousBlockCharacters.append(previousBytes, previousBytes.position(), previousBytes.remaining());
+    }
+
+    /**
+     * Get the column count of the first pushed row.
+     *
+     * @return the column count of the first pushed row, or -1 if no row is pushed yet.
+     */
+    public int getFirstRowColumnCount() {
+        return _firstRowColumnCount;
+    }
+
+    /**
+     * Get the count of the processed rows. Skipped empty rows are counted.
+     *
+     * @return the count of the processed rows.
+     */
+    public long getRowCount() {
+        return _rowCount;
+    }
+
+    void startBlock(final char[] buffer, final int offset) {
+        _block = buffer;
+        _blockOffset = offset;
+        _currentIndex = offset;
+        _paused = false;
+    }
+
+    void startBlock(final ByteBuffer buffer, final int offset) {
+        _byteBlock = buffer;
+        _blockOffset = offset;
+        _currentIndex = offset;
+        _paused = false;
+    }
+
+    void setCurrentIndex(final int index) {
+        _currentIndex = index;
+    }
+
+    void clearCurrentIndex() {
+        _currentIndex = UNKNOWN_INDEX;
+    }
+
+    void endBlock(final int end) {
+        if (_byteBlock == null) {
+            _previousBlockCharacters.append(_block, _blockOffset, end - _blockOffset);
+        } else {
+            _previousBlockCharacters.append(_byteBlock, _blockOffset, end - _blockOffset);
+        }
+        _blockPosition += end - _blockOffset;
+        _block = null;
+        _byteBlock = null;
+    }
+
+    private boolean isInBlock() {
+        return _block != null || _byteBlock != null;
+    }
+
+    long getPosition() {
+        if (isInBlock()) {
+            return _blockPosition + _currentIndex - _blockOffset;
+        } else {
+            return _blockPosition;
         }
     }
 
     String getLastProcessedCharacters() {
-        return _lastProcessedCharacters.toString();
+        CharStack charStack = new CharStack(LAST_CHARACTERS_COUNT);
+        charStack.append(_previousBlockCharacters);
+        if (_block != null) {
+            charStack.append(_block, _blockOffset, _currentIndex + 1 - _blockOffset);
+        }
+        if (_byteBlock != null) {
+            charStack.append(_byteBlock, _blockOffset, _currentIndex + 1 - _blockOffset);
+        }
+        String lastProcessedCharacters = charStack.toString();
+        if (_byteCharset == null) {
+            return lastProcessedCharacters;
+        } else {
+            char[] chars = lastProcessedCharacters.toCharArray();
+            int start = ByteCharacters.getSequenceStart(chars, chars.length);
+            int end = ByteCharacters.getCompleteLength(chars, chars.length);
+            return ByteCharacters.decode(chars, start, end - start, _byteCharset);
+        }
     }
 
     CsvParseException createCsvParseException(final int character) {
-        return new CsvParseException(character, getLastProcessedCharacters());
+        checkCurrentIndex(UnknownIndexException.CSV_PARSE_EXCEPTION, character);
+        return new CsvParseException(character, getLastProcessedCharacters(), getPosition(), _rowIndex, _currentColumnCount);
+    }
+
+    private WrongColumnLengthException createWrongColumnLengthException() {
+        checkCurrentIndex(UnknownIndexException.WRONG_COLUMN_LENGTH_EXCEPTION, SpecialCharacter.END_OF_INPUT);
+        return new WrongColumnLengthException(getLastProcessedCharacters(), getPosition(), _rowIndex, _currentColumnCount);
+    }
+
+    private WrongColumnCountException createWrongColumnCountException() {
+        checkCurrentIndex(UnknownIndexException.WRONG_COLUMN_COUNT_EXCEPTION, SpecialCharacter.END_OF_INPUT);
+        return new WrongColumnCountException(getLastProcessedCharacters(), getPosition(), _rowIndex, _currentColumnCount);
+    }
+
+    private void checkCurrentIndex(final int exceptionType, final int character) {
+        if (_currentIndex == UNKNOWN_INDEX && isInBlock()) {
+            throw new UnknownIndexException(exceptionType, character);
+        }
+    }
+
+    CsvException createException(final UnknownIndexException unknownIndexException, final int index) {
+        _currentIndex = index;
+        switch (unknownIndexException.getExceptionType()) {
+            case UnknownIndexException.CSV_PARSE_EXCEPTION:
+                return createCsvParseException(unknownIndexException.getCharacter());
+            case UnknownIndexException.WRONG_COLUMN_LENGTH_EXCEPTION:
+                return createWrongColumnLengthException();
+            default:
+                return createWrongColumnCountException();
+        }
     }
 
     void pushCharacter(final int character) {
-        if (_currentColumnCharacters.canAppend()) {
+        if (!_currentColumnStored) {
+            return;
+        }
+        if (_currentColumnCharacters.canAppend((char) character)) {
             _currentColumnCharacters.append((char) character);
+            if (_currentColumnCharacters.getLength() >= _currentColumnChunkSize) {
+                pushColumnChunk();
+            }
         } else {
-            throw new WrongColumnLengthException(getLastProcessedCharacters());
+            throw createWrongColumnLengthException();
+        }
+    }
+
+    int pushQuotedCharacters(final char[] buffer, final int offset, final int end) {
+        int index = offset;
+        while (index < end && buffer[index] != SpecialCharacter.QUOT) {
+            index++;
+        }
+        pushCharacters(buffer, offset, index - offset);
+        return index;
+    }
+
+    int pushUnquotedCharacters(final char[] buffer, final int offset, final int end) {
+        boolean[] unquotedSpanEndCharacters = _unquotedSpanEndCharacters;
+        int index = offset;
+        char character;
+        while (index < end) {
+            character = buffer[index];
+            if (character < ASCII_CHARACTER_COUNT && unquotedSpanEndCharacters[character]) {
+                break;
+            }
+            index++;
+        }
+        pushCharacters(buffer, offset, index - offset);
+        return index;
+    }
+
+    int pushQuotedBytes(final ByteBuffer buffer, final int offset, final int end) {
+        int index = offset;
+        while (index < end && buffer.get(index) != SpecialCharacter.QUOT) {
+            index++;
+        }
+        pushBytes(buffer, offset, index - offset);
+        return index;
+    }
+
+    int pushUnquotedBytes(final ByteBuffer buffer, final int offset, final int end) {
+        boolean[] unquotedSpanEndCharacters = _unquotedSpanEndCharacters;
+        int index = offset;
+        byte character;
+        while (index < end) {
+            character = buffer.get(index);
+            if (character >= 0 && unquotedSpanEndCharacters[character]) {
+                break;
+            }
+            index++;
+        }
+        pushBytes(buffer, offset, index - offset);
+        return index;
+    }
+
+    private void pushBytes(final ByteBuffer buffer, final int offset, final int length) {
+        if (length > 0 && _currentColumnStored) {
+            if (_currentColumnCharacters.canAppend(buffer, offset, length)) {
+                _currentColumnCharacters.append(buffer, offset, length);
+                if (_currentColumnCharacters.getLength() >= _currentColumnChunkSize) {
+                    pushColumnChunk();
+                }
+            } else {
+                _currentIndex = offset + _currentColumnCharacters.getAppendableLength(buffer, offset, length);
+                throw createWrongColumnLengthException();
+            }
+        }
+    }
+
+    private void pushCharacters(final char[] buffer, final int offset, final int length) {
+        if (length > 0 && _currentColumnStored) {
+            if (_currentColumnCharacters.canAppend(buffer, offset, length)) {
+                _currentColumnCharacters.append(buffer, offset, length);
+                if (_currentColumnCharacters.getLength() >= _currentColumnChunkSize) {
+                    pushColumnChunk();
+                }
+            } else {
+                _currentIndex = offset + _currentColumnCharacters.getAppendableLength(buffer, offset, length);
+                throw createWrongColumnLengthException();
+            }
         }
     }
 
     void pushColumn() {
         if (_csvParserConfiguration.isColumnCountCheckEnabled() && _firstRowColumnCount != INITIAL_ROW_COLUMN_COUNT && _currentColumnCount >= _firstRowColumnCount) {
-            throw new WrongColumnCountException(getLastProcessedCharacters());
+            throw createWrongColumnCountException();
+        }
+
+        if (_currentColumnStored) {
+            pushStoredColumn();
+        } else if (_csvStructuralEventHandler != null && _skipRows == 0L && isColumnSelected(_currentColumnCount)) {
+            _csvStructuralEventHandler.pushColumn();
+        }
+        _currentColumnCount++;
+        _currentColumnStored = isColumnStored(_currentColumnCount);
+        _currentColumnChunkSize = getColumnChunkSize(_currentColumnCount);
+    }
+
+    private void pushColumnChunk() {
+        char[] buffer = _currentColumnCharacters.getBuffer();
+        int length = getChunkLength(buffer, _currentColumnCharacters.getLength());
+        if (length > 0) {
+            pushChunkToHandler(buffer, length, false);
+            _currentColumnCharacters.remove(length);
+            _currentColumnChunked = true;
+        }
+    }
+
+    private int getChunkLength(final char[] buffer, final int length) {
+        if (_byteCharset != null) {
+            return ByteCharacters.getCompleteLength(buffer, length);
+        }
+        if (Character.isHighSurrogate(buffer[length - 1])) {
+            return length - 1;
+        } else {
+            return length;
         }
+    }
 
-        String column = _currentColumnCharacters.toString();
+    private void pushChunkToHandler(final char[] buffer, final int length, final boolean last) {
+        if (_byteDecoder == null || ByteCharacters.isAscii(buffer, 0, length)) {
+            _csvChunkEventHandler.pushColumnChunk(buffer, 0, length, last);
+        } else {
+            _byteDecoder.decode(buffer, 0, length);
+            _csvChunkEventHandler.pushColumnChunk(_byteDecoder.getBuffer(), 0, _byteDecoder.getLength(), last);
+        }
+    }
+
+    private void pushStoredColumn() {
+        int column = _currentColumnCount;
         int actualLength = _currentColumnCharacters.getActualLength();
-        _csvEventHandler.pushColumn(column, actualLength);
+        char[] buffer = _currentColumnCharacters.getBuffer();
+        int length = _currentColumnCharacters.getLength();
         _currentColumnCharacters.clear();
-        _currentColumnCount++;
+        if (_currentColumnChunked) {
+            _currentColumnChunked = false;
+            pushChunkToHandler(buffer, length, true);
+            return;
+        }
+        CsvColumnPredicate columnPredicate = getColumnPredicate(column);
+        if (columnPredicate != null && !testColumnPredicate(columnPredicate, buffer, length)) {
+            _rowRejected = true;
+            _pendingRow.clear();
+            return;
+        }
+        if (column == _columnPredicates.length - 1) {
+            pushPendingRow();
+        }
+        if (isColumnSelected(column)) {
+            if (column < _columnPredicates.length - 1) {
+                _pendingRow.add(buffer, 0, length, actualLength);
+            } else {
+                pushColumnToHandler(buffer, 0, length, actualLength);
+            }
+        }
+    }
+
+    private boolean testColumnPredicate(final CsvColumnPredicate columnPredicate, final char[] buffer, final int length) {
+        if (_byteDecoder == null || ByteCharacters.isAscii(buffer, 0, length)) {
+            return columnPredicate.test(buffer, 0, length);
+        } else {
+            _byteDecoder.decode(buffer, 0, length);
+            return columnPredicate.test(_byteDecoder.getBuffer(), 0, _byteDecoder.getLength());
+        }
+    }
+
+    private void pushPendingRow() {
+        char[] buffer = _pendingRow.getBuffer();
+        for (int i = 0; i < _pendingRow.getColumnCount(); i++) {
+            pushColumnToHandler(buffer, _pendingRow.getColumnOffset(i), _pendingRow.getColumnLength(i), _pendingRow.getActualLength(i));
+        }
+        _pendingRow.clear();
+    }
+
+    private void pushColumnToHandler(final char[] buffer, final int offset, final int length, final int actualLength) {
+        if (_csvSliceEventHandler == null) {
+            String column = createColumn(buffer, offset, length);
+            _csvEventHandler.pushColumn(column, actualLength);
+        } else if (_byteDecoder == null || ByteCharacters.isAscii(buffer, offset, length)) {
+            _csvSliceEventHandler.pushColumn(buffer, offset, length, actualLength);
+        } else {
+            _byteDecoder.decode(buffer, offset, length);
+            _csvSliceEventHandler.pushColumn(_byteDecoder.getBuffer(), 0, _byteDecoder.getLength(), actualLength);
+        }
+    }
+
+    private String createColumn(final char[] buffer, final int offset, final int length) {
+        if (_byteCharset == null) {
+            return new String(buffer, offset, length);
+        } else {
+            return ByteCharacters.decode(buffer, offset, length, _byteCharset);
+        }
     }
 
     void pushRow() {
         if (_csvParserConfiguration.isSkipEmptyRowsEnabled() && _currentColumnCount == 0) {
+            nextRowIndex();
             return;
         }
 
         if (_firstRowColumnCount == INITIAL_ROW_COLUMN_COUNT) {
             _firstRowColumnCount = _currentColumnCount;
         } else if (_csvParserConfiguration.isColumnCountCheckEnabled() && _firstRowColumnCount != _currentColumnCount) {
-            throw new WrongColumnCountException(getLastProcessedCharacters());
+            throw createWrongColumnCountException();
         }
 
-        _csvEventHandler.pushRow();
+        if (_skipRows > 0L) {
+            _skipRows--;
+        } else if (!_rowRejected && _currentColumnCount >= _columnPredicates.length) {
+            pushRowToHandler();
+        }
+        nextRowIndex();
         _currentColumnCharacters.clear();
+        _pendingRow.clear();
         _currentColumnCount = 0;
+        _rowRejected = false;
+        _currentColumnStored = isColumnStored(0);
+        _currentColumnChunkSize = getColumnChunkSize(0);
+        _currentColumnChunked = false;
+    }
+
+    private void pushRowToHandler() {
+        _csvEventHandler.pushRow();
+        if (_limitRows > 0L) {
+            _limitRows--;
+        }
+        _stopped = _limitRows == 0L || _csvStoppable != null && _csvStoppable.isStopped();
+        _paused = _pauseAfterRow || _stopped;
+    }
+
+    private void nextRowIndex() {
+        _rowCount++;
+        if (_rowIndex >= 0L) {
+            _rowIndex++;
+        }
     }
 
 }
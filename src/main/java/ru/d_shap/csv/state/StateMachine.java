@@ -0,0 +1,89 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.state;
+
+import java.nio.ByteBuffer;
+
+/**
+ * CSV parser state machine. State machine processes input characters block by block and pushes
+ * events to the {@link StateHandler} object.
+ *
+ * @author Dmitry Shapovalov
+ */
+public abstract class StateMachine {
+
+    StateMachine() {
+        super();
+    }
+
+    /**
+     * Create a new state machine for the specified state handler.
+     *
+     * @param stateHandler handler to process CSV parser events.
+     *
+     * @return a new state machine.
+     */
+    public static StateMachine createStateMachine(final StateHandler stateHandler) {
+        if (stateHandler.isTableEngineEnabled()) {
+            return new TableStateMachine(stateHandler);
+        } else {
+            return new ObjectStateMachine(stateHandler);
+        }
+    }
+
+    /**
+     * Process the block of input characters. If the state handler pauses after each row, then
+     * the processing stops after the row is pushed.
+     *
+     * @param buffer the block of input characters.
+     * @param offset the index of the first character to process.
+     * @param length the number of characters to process.
+     *
+     * @return the index of the first not processed character.
+     */
+    public abstract int processCharacters(char[] buffer, int offset, int length);
+
+    /**
+     * Process the block of input bytes, where each byte is one input character. The bytes are read
+     * with absolute indexes, so the position of the buffer is not changed. If the state handler
+     * pauses after each row, then the processing stops after the row is pushed.
+     *
+     * @param buffer the block of input bytes.
+     * @param offset the index of the first byte to process.
+     * @param length the number of bytes to process.
+     *
+     * @return the index of the first not processed byte.
+     */
+    public abstract int processBytes(ByteBuffer buffer, int offset, int length);
+
+    /**
+     * Process the end of input.
+     */
+    public abstract void processEndOfInput();
+
+    /**
+     * Check if the processing is stopped, because the row limit is reached or the event handler
+     * is stopped. The stopped state machine ignores the end of input.
+     *
+     * @return true if the processing is stopped.
+     */
+    public abstract boolean isStopped();
+
+}
@@ -0,0 +1,655 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.state;
+
+import java.util.Arrays;
+
+import ru.d_shap.csv.CsvColumnPredicate;
+import ru.d_shap.csv.CsvParseException;
+import ru.d_shap.csv.CsvParserConfiguration;
+import ru.d_shap.csv.WrongColumnCountException;
+import ru.d_shap.csv.WrongColumnLengthException;
+
+/**
+ * <p>
+ * Structural index of the CSV source. The index is built in one pass with the transition table of
+ * the {@link TableStateMachine} object. For each column the index stores only the bounds of the
+ * column value in the source and a bit, if the column value contains doubled quotes. Column values
+ * are not copied while the index is built. Column values are created and unescaped only when they
+ * are accessed.
+ * </p>
+ * <p>
+ * The source is indexed block by block. The bounds of the column values are relative to the block,
+ * that contains the row. The characters of the last incomplete row of the block are carried to the
+ * next block, so each row is contained in one block. The block grows, if the row does not fit in it.
+ * </p>
+ * <p>
+ * The skipped rows, the rows rejected by the column predicates and the columns, that are not
+ * selected by the projection, are not stored in the index.
+ * </p>
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class StructuralIndex {
+
+    private static final int LAST_CHARACTERS_COUNT = 25;
+
+    private static final int INITIAL_COLUMN_COUNT = 64;
+
+    private static final int INITIAL_ROW_COUNT = 16;
+
+    private static final int INITIAL_BLOCK_COUNT = 4;
+
+    private static final int INITIAL_ROW_COLUMN_COUNT = -1;
+
+    private final CsvParserConfiguration _csvParserConfiguration;
+
+    private final int _blockSize;
+
+    private final int _maxColumnLength;
+
+    private final boolean _maxColumnLengthCheckEnabled;
+
+    private final boolean[] _unquotedSpanEndCharacters;
+
+    private final int[] _transitions;
+
+    private final boolean[] _selectedColumns;
+
+    private final CsvColumnPredicate[] _columnPredicates;
+
+    private final CharStack _previousBlockCharacters;
+
+    private char[][] _blocks;
+
+    private int _blockCount;
+
+    private char[] _block;
+
+    private int _blockLength;
+
+    private long _blockPosition;
+
+    private int _rowStart;
+
+    private int _state;
+
+    private int[] _columnStarts;
+
+    private int[] _columnEnds;
+
+    private int _columnCount;
+
+    private int[] _rowOffsets;
+
+    private int[] _rowBlocks;
+
+    private int _rowCount;
+
+    private int _firstRowColumnCount;
+
+    private long _rowIndex;
+
+    private long _skipRows;
+
+    private long _limitRows;
+
+    private boolean _stopped;
+
+    private int _currentRowColumnCount;
+
+    private boolean _rowRejected;
+
+    private boolean _currentColumnStored;
+
+    private int _currentColumnStart;
+
+    private int _currentColumnEnd;
+
+    private int _currentColumnLength;
+
+    private boolean _currentColumnEscaped;
+
+    /**
+     * Create a new object to index the CSV source block by block. The characters of the source are
+     * read into the block, returned by the {@link #getBlock()} method, and then are processed with
+     * the {@link #processCharacters(int)} method.
+     *
+     * @param csvParserConfiguration CSV parser configuration object.
+     * @param blockSize              the initial size of the block.
+     */
+    public StructuralIndex(final CsvParserConfiguration csvParserConfiguration, final int blockSize) {
+        this(csvParserConfiguration, new char[Math.max(blockSize, 1)]);
+    }
+
+    /**
+     * Create a new object and build the structural index of the CSV source. The source array
+     * is not copied and should not be modified after the index is built.
+     *
+     * @param csvParserConfiguration CSV parser configuration object.
+     * @param source                 the CSV source.
+     * @param length                 the number of characters of the CSV source.
+     */
+    public StructuralIndex(final CsvParserConfiguration csvParserConfiguration, final char[] source, final int length) {
+        this(csvParserConfiguration, source);
+        _blockLength = length;
+        createIndex(0, length);
+        processEndOfInput();
+    }
+
+    private StructuralIndex(final CsvParserConfiguration csvParserConfiguration, final char[] block) {
+        super();
+        csvParserConfiguration.validate();
+        _csvParserConfiguration = csvParserConfiguration;
+        _blockSize = block.length;
+        _maxColumnLength = csvParserConfiguration.getMaxColumnLength();
+        _maxColumnLengthCheckEnabled = _maxColumnLength >= 0 && csvParserConfiguration.isMaxColumnLengthCheckEnabled();
+        _unquotedSpanEndCharacters = StateHandler.createUnquotedSpanEndCharacters(csvParserConfiguration);
+        _transitions = TableStateMachine.createTransitions(csvParserConfiguration.isCommaSeparator(), csvParserConfiguration.isSemicolonSeparator(), csvParserConfiguration.isCrSeparator(), csvParserConfiguration.isLfSeparator(), csvParserConfiguration.isCrLfSeparator());
+        _selectedColumns = StateHandler.createSelectedColumns(csvParserConfiguration.getProjection());
+        _columnPredicates = StateHandler.createColumnPredicates(csvParserConfiguration.getColumnPredicates());
+        _previousBlockCharacters = new CharStack(LAST_CHARACTERS_COUNT);
+        _blocks = new char[INITIAL_BLOCK_COUNT][];
+        _blockCount = 0;
+        _block = block;
+        _blockLength = 0;
+        _blockPosition = 0L;
+        _rowStart = 0;
+        _state = TableStateMachine.STATE_1;
+        _columnStarts = new int[INITIAL_COLUMN_COUNT];
+        _columnEnds = new int[INITIAL_COLUMN_COUNT];
+        _columnCount = 0;
+        _rowOffsets = new int[INITIAL_ROW_COUNT];
+        _rowBlocks = new int[INITIAL_ROW_COUNT];
+        _rowCount = 0;
+        _firstRowColumnCount = INITIAL_ROW_COLUMN_COUNT;
+        _rowIndex = 0L;
+        _skipRows = csvParserConfiguration.getSkipRows();
+        _limitRows = csvParserConfiguration.getLimitRows();
+        _stopped = _limitRows == 0L;
+        _currentRowColumnCount = 0;
+        _rowRejected = false;
+        _currentColumnStored = isColumnStored(0);
+        clearCurrentColumn();
+    }
+
+    private void clearCurrentColumn() {
+        _currentColumnStart = -1;
+        _currentColumnEnd = 0;
+        _currentColumnLength = 0;
+        _currentColumnEscaped = false;
+    }
+
+    private boolean isColumnSelected(final int column) {
+        if (_selectedColumns == null) {
+            return true;
+        } else {
+            return column < _selectedColumns.length && _selectedColumns[column];
+        }
+    }
+
+    private CsvColumnPredicate getColumnPredicate(final int column) {
+        if (column < _columnPredicates.length) {
+            return _columnPredicates[column];
+        } else {
+            return null;
+        }
+    }
+
+    private boolean isColumnStored(final int column) {
+        if (_rowRejected || _skipRows > 0L) {
+            return false;
+        }
+        return isColumnSelected(column) || getColumnPredicate(column) != null;
+    }
+
+    /**
+     * Get the block to read the characters of the source into. The characters should be read
+     * into the block starting from the index, returned by the {@link #getBlockLength()} method.
+     *
+     * @return the block.
+     */
+    public char[] getBlock() {
+        return _block;
+    }
+
+    /**
+     * Get the number of characters in the block.
+     *
+     * @return the number of characters in the block.
+     */
+    public int getBlockLength() {
+        return _blockLength;
+    }
+
+    /**
+     * Check if the index is complete, because the maximum number of rows is indexed.
+     *
+     * @return true if the index is complete.
+     */
+    public boolean isStopped() {
+        return _stopped;
+    }
+
+    /**
+     * Process the characters, that are read into the block. If the block is full, then the next
+     * block is started.
+     *
+     * @param length the number of characters, that are read into the block.
+     */
+    public void processCharacters(final int length) {
+        int offset = _blockLength;
+        _blockLength += length;
+        createIndex(offset, _blockLength);
+        if (_blockLength == _block.length && !_stopped) {
+            nextBlock();
+        }
+    }
+
+    /**
+     * Process the end of the source.
+     */
+    public void processEndOfInput() {
+        if (!_stopped) {
+            int transition = _transitions[_state * TableStateMachine.CLASS_COUNT + TableStateMachine.CLASS_END_OF_INPUT];
+            performActions(transition >>> TableStateMachine.STATE_BITS, _state, _blockLength, SpecialCharacter.END_OF_INPUT);
+        }
+        addBlock();
+    }
+
+    private void createIndex(final int offset, final int end) {
+        char[] block = _block;
+        int[] transitions = _transitions;
+        int state = _state;
+        int index = skipCharacters(state, offset, end);
+        int transition;
+        int nextState;
+        while (index < end && !_stopped) {
+            transition = transitions[state * TableStateMachine.CLASS_COUNT + TableStateMachine.getCharacterClass(block[index])];
+            nextState = transition & TableStateMachine.STATE_MASK;
+            performActions(transition >>> TableStateMachine.STATE_BITS, state, index, block[index]);
+            if (nextState == TableStateMachine.STATE_6 && state != TableStateMachine.STATE_7) {
+                _currentColumnStart = index + 1;
+            } else if (nextState == TableStateMachine.STATE_7) {
+                _currentColumnEnd = index;
+            }
+            state = nextState;
+            index = skipCharacters(state, index + 1, end);
+        }
+        _state = state;
+    }
+
+    private int skipCharacters(final int state, final int offset, final int end) {
+        if (_stopped) {
+            return offset;
+        } else if (state == TableStateMachine.STATE_6) {
+            return skipQuotedCharacters(offset, end);
+        } else if (state == TableStateMachine.STATE_8) {
+            return skipUnquotedCharacters(offset, end);
+        } else {
+            return offset;
+        }
+    }
+
+    private void nextBlock() {
+        addBlock();
+        _previousBlockCharacters.append(_block, 0, _rowStart);
+        int carriedLength = _blockLength - _rowStart;
+        char[] block = new char[(int) Math.min(Math.max((long) _blockSize, carriedLength * 2L), Integer.MAX_VALUE)];
+        System.arraycopy(_block, _rowStart, block, 0, carriedLength);
+        for (int i = _rowOffsets[_rowCount]; i < _columnCount; i++) {
+            if (_columnStarts[i] >= 0) {
+                _columnStarts[i] -= _rowStart;
+            } else {
+                _columnStarts[i] += _rowStart;
+            }
+            _columnEnds[i] -= _rowStart;
+        }
+        if (_currentColumnStart >= 0) {
+            _currentColumnStart -= _rowStart;
+            _currentColumnEnd -= _rowStart;
+        }
+        _blockPosition += _rowStart;
+        _block = block;
+        _blockLength = carriedLength;
+        _rowStart = 0;
+    }
+
+    private void addBlock() {
+        if (_rowCount > 0 && _rowBlocks[_rowCount - 1] == _blockCount) {
+            if (_blockCount >= _blocks.length) {
+                _blocks = Arrays.copyOf(_blocks, _blocks.length * 2);
+            }
+            _blocks[_blockCount] = _block;
+            _blockCount++;
+        }
+    }
+
+    private int skipQuotedCharacters(final int offset, final int end) {
+        char[] block = _block;
+        int index = offset;
+        while (index < end && block[index] != SpecialCharacter.QUOT) {
+            index++;
+        }
+        addCurrentColumnLength(index - offset, offset);
+        return index;
+    }
+
+    private int skipUnquotedCharacters(final int offset, final int end) {
+        char[] block = _block;
+        boolean[] unquotedSpanEndCharacters = _unquotedSpanEndCharacters;
+        int index = offset;
+        char character;
+        while (index < end) {
+            character = block[index];
+            if (character < unquotedSpanEndCharacters.length && unquotedSpanEndCharacters[character]) {
+                break;
+            }
+            index++;
+        }
+        _currentColumnEnd = index;
+        addCurrentColumnLength(index - offset, offset);
+        return index;
+    }
+
+    private void performActions(final int actions, final int state, final int index, final int character) {
+        if (actions == TableStateMachine.ACTION_NONE) {
+            return;
+        }
+        if ((actions & TableStateMachine.ACTION_THROW_EXCEPTION) != 0) {
+            throw new CsvParseException(character, getLastProcessedCharacters(index), getPosition(index), _rowIndex, _currentRowColumnCount);
+        }
+        if ((actions & TableStateMachine.ACTION_PUSH_CR) != 0) {
+            pushUnquotedCharacter(index - 1, index);
+        }
+        if ((actions & TableStateMachine.ACTION_PUSH_COLUMN) != 0) {
+            pushColumn(index);
+        }
+        if ((actions & TableStateMachine.ACTION_PUSH_ROW) != 0) {
+            pushRow(index, character);
+        }
+        if ((actions & TableStateMachine.ACTION_PUSH_SEPARATED_COLUMN) != 0) {
+            pushColumn(index);
+        }
+        if ((actions & TableStateMachine.ACTION_PUSH_CHARACTER) != 0) {
+            if (state == TableStateMachine.STATE_7) {
+                _currentColumnEscaped = true;
+                addCurrentColumnLength(1, index);
+            } else {
+                pushUnquotedCharacter(index, index);
+            }
+        }
+    }
+
+    private void pushUnquotedCharacter(final int characterIndex, final int index) {
+        if (_currentColumnStart < 0) {
+            _currentColumnStart = characterIndex;
+        }
+        _currentColumnEnd = characterIndex + 1;
+        addCurrentColumnLength(1, index);
+    }
+
+    private void addCurrentColumnLength(final int length, final int index) {
+        _currentColumnLength += length;
+        if (_currentColumnStored && _maxColumnLengthCheckEnabled && _currentColumnLength > _maxColumnLength) {
+            int wrongCharacterIndex = Math.max(getSourceIndex(_currentColumnStart, _currentColumnEscaped, _maxColumnLength), index);
+            throw new WrongColumnLengthException(getLastProcessedCharacters(wrongCharacterIndex), getPosition(wrongCharacterIndex), _rowIndex, _currentRowColumnCount);
+        }
+    }
+
+    private int getSourceIndex(final int start, final boolean escaped, final int length) {
+        if (!escaped) {
+            return start + length;
+        }
+        int index = start;
+        for (int i = 0; i < length; i++) {
+            if (_block[index] == SpecialCharacter.QUOT) {
+                index++;
+            }
+            index++;
+        }
+        if (_block[index] == SpecialCharacter.QUOT) {
+            index++;
+        }
+        return index;
+    }
+
+    private void pushColumn(final int index) {
+        if (_csvParserConfiguration.isColumnCountCheckEnabled() && _firstRowColumnCount != INITIAL_ROW_COLUMN_COUNT && _currentRowColumnCount >= _firstRowColumnCount) {
+            throw new WrongColumnCountException(getLastProcessedCharacters(index), getPosition(index), _rowIndex, _currentRowColumnCount);
+        }
+
+        if (_currentColumnStored) {
+            pushStoredColumn();
+        }
+        _currentRowColumnCount++;
+        _currentColumnStored = isColumnStored(_currentRowColumnCount);
+        clearCurrentColumn();
+    }
+
+    private void pushStoredColumn() {
+        int start = Math.max(_currentColumnStart, _rowStart);
+        int end = Math.max(_currentColumnEnd, start);
+        int columnStart;
+        if (_currentColumnEscaped) {
+            columnStart = ~start;
+        } else {
+            columnStart = start;
+        }
+        CsvColumnPredicate columnPredicate = getColumnPredicate(_currentRowColumnCount);
+        if (columnPredicate != null && !testColumnPredicate(columnPredicate, columnStart, end)) {
+            _rowRejected = true;
+            _columnCount = _rowOffsets[_rowCount];
+            return;
+        }
+        if (isColumnSelected(_currentRowColumnCount)) {
+            if (_columnCount >= _columnStarts.length) {
+                _columnStarts = Arrays.copyOf(_columnStarts, _columnStarts.length * 2);
+                _columnEnds = Arrays.copyOf(_columnEnds, _columnEnds.length * 2);
+            }
+            _columnStarts[_columnCount] = columnStart;
+            _columnEnds[_columnCount] = end;
+            _columnCount++;
+        }
+    }
+
+    private boolean testColumnPredicate(final CsvColumnPredicate columnPredicate, final int start, final int end) {
+        int length = getValueLength(_block, start, end);
+        if (start >= 0) {
+            return columnPredicate.test(_block, start, length);
+        } else {
+            return columnPredicate.test(unescape(_block, ~start, length), 0, length);
+        }
+    }
+
+    private void pushRow(final int index, final int character) {
+        if (character == SpecialCharacter.CR || character == SpecialCharacter.LF) {
+            _rowStart = index + 1;
+        } else {
+            _rowStart = index;
+        }
+        if (_csvParserConfiguration.isSkipEmptyRowsEnabled() && _currentRowColumnCount == 0) {
+            _rowIndex++;
+            return;
+        }
+
+        if (_firstRowColumnCount == INITIAL_ROW_COLUMN_COUNT) {
+            _firstRowColumnCount = _currentRowColumnCount;
+        } else if (_csvParserConfiguration.isColumnCountCheckEnabled() && _firstRowColumnCount != _currentRowColumnCount) {
+            throw new WrongColumnCountException(getLastProcessedCharacters(index), getPosition(index), _rowIndex, _currentRowColumnCount);
+        }
+
+        if (_skipRows > 0L) {
+            _skipRows--;
+        } else if (!_rowRejected && _currentRowColumnCount >= _columnPredicates.length) {
+            addRow();
+        }
+        _rowIndex++;
+        _columnCount = _rowOffsets[_rowCount];
+        _currentRowColumnCount = 0;
+        _rowRejected = false;
+        _currentColumnStored = isColumnStored(0);
+    }
+
+    private void addRow() {
+        if (_rowCount + 1 >= _rowOffsets.length) {
+            _rowOffsets = Arrays.copyOf(_rowOffsets, _rowOffsets.length * 2);
+            _rowBlocks = Arrays.copyOf(_rowBlocks, _rowBlocks.length * 2);
+        }
+        _rowBlocks[_rowCount] = _blockCount;
+        _rowCount++;
+        _rowOffsets[_rowCount] = _columnCount;
+        if (_limitRows > 0L) {
+            _limitRows--;
+        }
+        _stopped = _limitRows == 0L;
+    }
+
+    private long getPosition(final int index) {
+        return _blockPosition + index;
+    }
+
+    private String getLastProcessedCharacters(final int index) {
+        CharStack lastProcessedCharacters = new CharStack(LAST_CHARACTERS_COUNT);
+        lastProcessedCharacters.append(_previousBlockCharacters);
+        lastProcessedCharacters.append(_block, 0, Math.min(index + 1, _blockLength));
+        return lastProcessedCharacters.toString();
+    }
+
+    /**
+     * Get row count.
+     *
+     * @return row count.
+     */
+    public int getRowCount() {
+        return _rowCount;
+    }
+
+    /**
+     * Get column count of the specified row.
+     *
+     * @param row the row index.
+     *
+     * @return column count of the specified row.
+     */
+    public int getColumnCount(final int row) {
+        checkRowIndex(row);
+        return _rowOffsets[row + 1] - _rowOffsets[row];
+    }
+
+    /**
+     * Get the column value. The column value is created and unescaped on each call.
+     *
+     * @param row    the row index.
+     * @param column the column index.
+     *
+     * @return the column value.
+     */
+    public String getColumn(final int row, final int column) {
+        int columnIndex = getColumnIndex(row, column);
+        char[] block = _blocks[_rowBlocks[row]];
+        int start = _columnStarts[columnIndex];
+        int length = getValueLength(block, start, _columnEnds[columnIndex]);
+        if (start >= 0) {
+            return new String(block, start, length);
+        } else {
+            return new String(unescape(block, ~start, length));
+        }
+    }
+
+    private static char[] unescape(final char[] block, final int start, final int length) {
+        char[] chars = new char[length];
+        int index = start;
+        for (int i = 0; i < length; i++) {
+            if (block[index] == SpecialCharacter.QUOT) {
+                index++;
+            }
+            chars[i] = block[index];
+            index++;
+        }
+        return chars;
+    }
+
+    /**
+     * Get the column value length. If the maximum column value length is specified, then the column
+     * value length does not exceed the maximum column value length.
+     *
+     * @param row    the row index.
+     * @param column the column index.
+     *
+     * @return the column value length.
+     */
+    public int getColumnLength(final int row, final int column) {
+        int columnIndex = getColumnIndex(row, column);
+        return getValueLength(_blocks[_rowBlocks[row]], _columnStarts[columnIndex], _columnEnds[columnIndex]);
+    }
+
+    private int getValueLength(final char[] block, final int start, final int end) {
+        int actualLength = getValueActualLength(block, start, end);
+        if (_maxColumnLength >= 0 && actualLength > _maxColumnLength) {
+            return _maxColumnLength;
+        } else {
+            return actualLength;
+        }
+    }
+
+    /**
+     * Get the actual column value length. The actual column value length is not affected by the
+     * maximum column value length configuration.
+     *
+     * @param row    the row index.
+     * @param column the column index.
+     *
+     * @return the actual column value length.
+     */
+    public int getColumnActualLength(final int row, final int column) {
+        int columnIndex = getColumnIndex(row, column);
+        return getValueActualLength(_blocks[_rowBlocks[row]], _columnStarts[columnIndex], _columnEnds[columnIndex]);
+    }
+
+    private static int getValueActualLength(final char[] block, final int start, final int end) {
+        if (start >= 0) {
+            return end - start;
+        }
+        int quotCount = 0;
+        for (int i = ~start; i < end; i++) {
+            if (block[i] == SpecialCharacter.QUOT) {
+                quotCount++;
+            }
+        }
+        return end - ~start - quotCount / 2;
+    }
+
+    private int getColumnIndex(final int row, final int column) {
+        checkRowIndex(row);
+        int columnCount = _rowOffsets[row + 1] - _rowOffsets[row];
+        if (column < 0 || column >= columnCount) {
+            throw new IndexOutOfBoundsException("Column index: " + column + ", column count: " + columnCount);
+        }
+        return _rowOffsets[row] + column;
+    }
+
+    private void checkRowIndex(final int row) {
+        if (row < 0 || row >= _rowCount) {
+            throw new IndexOutOfBoundsException("Row index: " + row + ", row count: " + _rowCount);
+        }
+    }
+
+}
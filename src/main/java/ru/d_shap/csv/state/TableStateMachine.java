@@ -0,0 +1,376 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.state;
+
+import java.nio.ByteBuffer;
+
+/**
+ * CSV parser state machine, that uses the transition table. The transition table is compiled
+ * from the configured separators once. The table is indexed by the current state and the class of
+ * the input character. Each table entry contains the next state and the actions to perform.
+ * The actions are performed in the order of their bits. The spans of ordinary characters inside
+ * the column are pushed at once.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class TableStateMachine extends StateMachine {
+
+    static final int CLASS_COMMA = 0;
+
+    static final int CLASS_SEMICOLON = 1;
+
+    static final int CLASS_CR = 2;
+
+    static final int CLASS_LF = 3;
+
+    static final int CLASS_QUOT = 4;
+
+    static final int CLASS_DEFAULT = 5;
+
+    static final int CLASS_END_OF_INPUT = 6;
+
+    static final int CLASS_COUNT = 7;
+
+    static final int STATE_1 = 0;
+
+    static final int STATE_2 = 1;
+
+    static final int STATE_3 = 2;
+
+    static final int STATE_4 = 3;
+
+    static final int STATE_5 = 4;
+
+    static final int STATE_6 = 5;
+
+    static final int STATE_7 = 6;
+
+    static final int STATE_8 = 7;
+
+    static final int STATE_COUNT = 8;
+
+    static final int ACTION_NONE = 0;
+
+    static final int ACTION_PUSH_CR = 1;
+
+    static final int ACTION_PUSH_COLUMN = 2;
+
+    static final int ACTION_PUSH_ROW = 4;
+
+    static final int ACTION_PUSH_SEPARATED_COLUMN = 8;
+
+    static final int ACTION_PUSH_CHARACTER = 16;
+
+    static final int ACTION_THROW_EXCEPTION = 32;
+
+    static final int STATE_BITS = 3;
+
+    static final int STATE_MASK = (1 << STATE_BITS) - 1;
+
+    static final int ASCII_CHARACTER_COUNT = 128;
+
+    private static final int BYTE_MASK = 0xFF;
+
+    private static final int[] CHARACTER_CLASSES = createCharacterClasses();
+
+    private final StateHandler _stateHandler;
+
+    private final int[] _transitions;
+
+    private int _state;
+
+    TableStateMachine(final StateHandler stateHandler) {
+        super();
+        _stateHandler = stateHandler;
+        _transitions = createTransitions(stateHandler);
+        _state = STATE_1;
+    }
+
+    private static int[] createCharacterClasses() {
+        int[] characterClasses = new int[ASCII_CHARACTER_COUNT];
+        for (int i = 0; i < ASCII_CHARACTER_COUNT; i++) {
+            characterClasses[i] = CLASS_DEFAULT;
+        }
+        characterClasses[SpecialCharacter.COMMA] = CLASS_COMMA;
+        characterClasses[SpecialCharacter.SEMICOLON] = CLASS_SEMICOLON;
+        characterClasses[SpecialCharacter.CR] = CLASS_CR;
+        characterClasses[SpecialCharacter.LF] = CLASS_LF;
+        characterClasses[SpecialCharacter.QUOT] = CLASS_QUOT;
+        return characterClasses;
+    }
+
+    static int getCharacterClass(final char character) {
+        if (character < ASCII_CHARACTER_COUNT) {
+            return CHARACTER_CLASSES[character];
+        } else {
+            return CLASS_DEFAULT;
+        }
+    }
+
+    private static int[] createTransitions(final StateHandler stateHandler) {
+        return createTransitions(stateHandler.isCommaSeparator(), stateHandler.isSemicolonSeparator(), stateHandler.isCrSeparator(), stateHandler.isLfSeparator(), stateHandler.isCrLfSeparator());
+    }
+
+    static int[] createTransitions(final boolean comma, final boolean semicolon, final boolean cr, final boolean lf, final boolean crLf) {
+        int[] transitions = new int[STATE_COUNT * CLASS_COUNT];
+
+        setTransition(transitions, STATE_1, CLASS_COMMA, allowedColumnSeparator(comma, ACTION_NONE));
+        setTransition(transitions, STATE_1, CLASS_SEMICOLON, allowedColumnSeparator(semicolon, ACTION_NONE));
+        setTransition(transitions, STATE_1, CLASS_CR, rowSeparatorCr(crLf, cr, STATE_3, ACTION_PUSH_ROW));
+        setTransition(transitions, STATE_1, CLASS_LF, rowSeparatorLf(lf, ACTION_PUSH_ROW));
+        setTransition(transitions, STATE_1, CLASS_QUOT, transition(ACTION_NONE, STATE_6));
+        setTransition(transitions, STATE_1, CLASS_DEFAULT, transition(ACTION_PUSH_CHARACTER, STATE_8));
+        setTransition(transitions, STATE_1, CLASS_END_OF_INPUT, transition(ACTION_NONE, STATE_1));
+
+        setTransition(transitions, STATE_2, CLASS_COMMA, allowedColumnSeparator(comma, ACTION_NONE));
+        setTransition(transitions, STATE_2, CLASS_SEMICOLON, allowedColumnSeparator(semicolon, ACTION_NONE));
+        setTransition(transitions, STATE_2, CLASS_CR, rowSeparatorCr(crLf, cr, STATE_4, ACTION_PUSH_COLUMN | ACTION_PUSH_ROW));
+        setTransition(transitions, STATE_2, CLASS_LF, rowSeparatorLf(lf, ACTION_PUSH_COLUMN | ACTION_PUSH_ROW));
+        setTransition(transitions, STATE_2, CLASS_QUOT, transition(ACTION_NONE, STATE_6));
+        setTransition(transitions, STATE_2, CLASS_DEFAULT, transition(ACTION_PUSH_CHARACTER, STATE_8));
+        setTransition(transitions, STATE_2, CLASS_END_OF_INPUT, transition(ACTION_PUSH_COLUMN | ACTION_PUSH_ROW, STATE_1));
+
+        setPendingCrTransitions(transitions, STATE_3, comma, semicolon, cr, ACTION_PUSH_ROW);
+        setPendingCrTransitions(transitions, STATE_4, comma, semicolon, cr, ACTION_PUSH_COLUMN | ACTION_PUSH_ROW);
+
+        if (cr) {
+            setTransition(transitions, STATE_5, CLASS_COMMA, allowedColumnSeparator(comma, ACTION_PUSH_COLUMN | ACTION_PUSH_ROW));
+            setTransition(transitions, STATE_5, CLASS_SEMICOLON, allowedColumnSeparator(semicolon, ACTION_PUSH_COLUMN | ACTION_PUSH_ROW));
+            setTransition(transitions, STATE_5, CLASS_CR, transition(ACTION_PUSH_COLUMN | ACTION_PUSH_ROW, STATE_3));
+            setTransition(transitions, STATE_5, CLASS_QUOT, transition(ACTION_PUSH_COLUMN | ACTION_PUSH_ROW, STATE_6));
+            setTransition(transitions, STATE_5, CLASS_DEFAULT, transition(ACTION_PUSH_COLUMN | ACTION_PUSH_ROW | ACTION_PUSH_CHARACTER, STATE_8));
+            setTransition(transitions, STATE_5, CLASS_END_OF_INPUT, transition(ACTION_PUSH_COLUMN | ACTION_PUSH_ROW, STATE_1));
+        } else {
+            setTransition(transitions, STATE_5, CLASS_COMMA, transition(ACTION_THROW_EXCEPTION, STATE_5));
+            setTransition(transitions, STATE_5, CLASS_SEMICOLON, transition(ACTION_THROW_EXCEPTION, STATE_5));
+            setTransition(transitions, STATE_5, CLASS_CR, transition(ACTION_THROW_EXCEPTION, STATE_5));
+            setTransition(transitions, STATE_5, CLASS_QUOT, transition(ACTION_THROW_EXCEPTION, STATE_5));
+            setTransition(transitions, STATE_5, CLASS_DEFAULT, transition(ACTION_THROW_EXCEPTION, STATE_5));
+            setTransition(transitions, STATE_5, CLASS_END_OF_INPUT, transition(ACTION_THROW_EXCEPTION, STATE_5));
+        }
+        setTransition(transitions, STATE_5, CLASS_LF, transition(ACTION_PUSH_COLUMN | ACTION_PUSH_ROW, STATE_1));
+
+        setTransition(transitions, STATE_6, CLASS_COMMA, transition(ACTION_PUSH_CHARACTER, STATE_6));
+        setTransition(transitions, STATE_6, CLASS_SEMICOLON, transition(ACTION_PUSH_CHARACTER, STATE_6));
+        setTransition(transitions, STATE_6, CLASS_CR, transition(ACTION_PUSH_CHARACTER, STATE_6));
+        setTransition(transitions, STATE_6, CLASS_LF, transition(ACTION_PUSH_CHARACTER, STATE_6));
+        setTransition(transitions, STATE_6, CLASS_QUOT, transition(ACTION_NONE, STATE_7));
+        setTransition(transitions, STATE_6, CLASS_DEFAULT, transition(ACTION_PUSH_CHARACTER, STATE_6));
+        setTransition(transitions, STATE_6, CLASS_END_OF_INPUT, transition(ACTION_THROW_EXCEPTION, STATE_6));
+
+        setTransition(transitions, STATE_7, CLASS_COMMA, disallowedColumnSeparator(comma));
+        setTransition(transitions, STATE_7, CLASS_SEMICOLON, disallowedColumnSeparator(semicolon));
+        if (crLf) {
+            setTransition(transitions, STATE_7, CLASS_CR, transition(ACTION_NONE, STATE_5));
+        } else if (cr) {
+            setTransition(transitions, STATE_7, CLASS_CR, transition(ACTION_PUSH_COLUMN | ACTION_PUSH_ROW, STATE_1));
+        } else {
+            setTransition(transitions, STATE_7, CLASS_CR, transition(ACTION_THROW_EXCEPTION, STATE_7));
+        }
+        if (lf) {
+            setTransition(transitions, STATE_7, CLASS_LF, transition(ACTION_PUSH_COLUMN | ACTION_PUSH_ROW, STATE_1));
+        } else {
+            setTransition(transitions, STATE_7, CLASS_LF, transition(ACTION_THROW_EXCEPTION, STATE_7));
+        }
+        setTransition(transitions, STATE_7, CLASS_QUOT, transition(ACTION_PUSH_CHARACTER, STATE_6));
+        setTransition(transitions, STATE_7, CLASS_DEFAULT, transition(ACTION_THROW_EXCEPTION, STATE_7));
+        setTransition(transitions, STATE_7, CLASS_END_OF_INPUT, transition(ACTION_PUSH_COLUMN | ACTION_PUSH_ROW, STATE_1));
+
+        setTransition(transitions, STATE_8, CLASS_COMMA, allowedColumnSeparator(comma, ACTION_NONE));
+        setTransition(transitions, STATE_8, CLASS_SEMICOLON, allowedColumnSeparator(semicolon, ACTION_NONE));
+        setTransition(transitions, STATE_8, CLASS_CR, rowSeparatorCr(crLf, cr, STATE_4, ACTION_PUSH_COLUMN | ACTION_PUSH_ROW));
+        setTransition(transitions, STATE_8, CLASS_LF, rowSeparatorLf(lf, ACTION_PUSH_COLUMN | ACTION_PUSH_ROW));
+        setTransition(transitions, STATE_8, CLASS_QUOT, transition(ACTION_THROW_EXCEPTION, STATE_8));
+        setTransition(transitions, STATE_8, CLASS_DEFAULT, transition(ACTION_PUSH_CHARACTER, STATE_8));
+        setTransition(transitions, STATE_8, CLASS_END_OF_INPUT, transition(ACTION_PUSH_COLUMN | ACTION_PUSH_ROW, STATE_1));
+
+        return transitions;
+    }
+
+    private static void setPendingCrTransitions(final int[] transitions, final int state, final boolean comma, final boolean semicolon, final boolean cr, final int rowActions) {
+        int pendingCrActions;
+        if (cr) {
+            pendingCrActions = rowActions;
+            setTransition(transitions, state, CLASS_CR, transition(rowActions, STATE_3));
+            setTransition(transitions, state, CLASS_QUOT, transition(rowActions, STATE_6));
+            setTransition(transitions, state, CLASS_END_OF_INPUT, transition(rowActions, STATE_1));
+        } else {
+            pendingCrActions = ACTION_PUSH_CR;
+            setTransition(transitions, state, CLASS_CR, transition(ACTION_PUSH_CR, STATE_4));
+            setTransition(transitions, state, CLASS_QUOT, transition(ACTION_THROW_EXCEPTION, state));
+            setTransition(transitions, state, CLASS_END_OF_INPUT, transition(ACTION_PUSH_CR | ACTION_PUSH_COLUMN | ACTION_PUSH_ROW, STATE_1));
+        }
+        setTransition(transitions, state, CLASS_COMMA, allowedColumnSeparator(comma, pendingCrActions));
+        setTransition(transitions, state, CLASS_SEMICOLON, allowedColumnSeparator(semicolon, pendingCrActions));
+        setTransition(transitions, state, CLASS_LF, transition(rowActions, STATE_1));
+        setTransition(transitions, state, CLASS_DEFAULT, transition(pendingCrActions | ACTION_PUSH_CHARACTER, STATE_8));
+    }
+
+    private static int allowedColumnSeparator(final boolean separator, final int actions) {
+        if (separator) {
+            return transition(actions | ACTION_PUSH_SEPARATED_COLUMN, STATE_2);
+        } else {
+            return transition(actions | ACTION_PUSH_CHARACTER, STATE_8);
+        }
+    }
+
+    private static int disallowedColumnSeparator(final boolean separator) {
+        if (separator) {
+            return transition(ACTION_PUSH_SEPARATED_COLUMN, STATE_2);
+        } else {
+            return transition(ACTION_THROW_EXCEPTION, STATE_7);
+        }
+    }
+
+    private static int rowSeparatorCr(final boolean crLf, final boolean cr, final int pendingCrState, final int rowActions) {
+        if (crLf) {
+            return transition(ACTION_NONE, pendingCrState);
+        } else if (cr) {
+            return transition(rowActions, STATE_1);
+        } else {
+            return transition(ACTION_PUSH_CHARACTER, STATE_8);
+        }
+    }
+
+    private static int rowSeparatorLf(final boolean lf, final int rowActions) {
+        if (lf) {
+            return transition(rowActions, STATE_1);
+        } else {
+            return transition(ACTION_PUSH_CHARACTER, STATE_8);
+        }
+    }
+
+    private static int transition(final int actions, final int nextState) {
+        return actions << STATE_BITS | nextState;
+    }
+
+    private static void setTransition(final int[] transitions, final int state, final int characterClass, final int transition) {
+        transitions[state * CLASS_COUNT + characterClass] = transition;
+    }
+
+    @Override
+    public int processCharacters(final char[] buffer, final int offset, final int length) {
+        _stateHandler.startBlock(buffer, offset);
+        int[] transitions = _transitions;
+        int state = _state;
+        int end = offset + length;
+        int index = offset;
+        int transition;
+        char character;
+        while (index < end) {
+            character = buffer[index];
+            if (character < ASCII_CHARACTER_COUNT) {
+                transition = transitions[state * CLASS_COUNT + CHARACTER_CLASSES[character]];
+            } else {
+                transition = transitions[state * CLASS_COUNT + CLASS_DEFAULT];
+            }
+            state = transition & STATE_MASK;
+            index++;
+            if (transition > STATE_MASK) {
+                _stateHandler.setCurrentIndex(index - 1);
+                performActions(transition >>> STATE_BITS, character);
+                if (_stateHandler.isPaused()) {
+                    break;
+                }
+            }
+            if (state == STATE_6) {
+                index = _stateHandler.pushQuotedCharacters(buffer, index, end);
+            } else if (state == STATE_8) {
+                index = _stateHandler.pushUnquotedCharacters(buffer, index, end);
+            }
+        }
+        _stateHandler.endBlock(index);
+        _state = state;
+        return index;
+    }
+
+    @Override
+    public int processBytes(final ByteBuffer buffer, final int offset, final int length) {
+        _stateHandler.startBlock(buffer, offset);
+        int[] transitions = _transitions;
+        int state = _state;
+        int end = offset + length;
+        int index = offset;
+        int transition;
+        byte character;
+        while (index < end) {
+            character = buffer.get(index);
+            if (character >= 0) {
+                transition = transitions[state * CLASS_COUNT + CHARACTER_CLASSES[character]];
+            } else {
+                transition = transitions[state * CLASS_COUNT + CLASS_DEFAULT];
+            }
+            state = transition & STATE_MASK;
+            index++;
+            if (transition > STATE_MASK) {
+                _stateHandler.setCurrentIndex(index - 1);
+                performActions(transition >>> STATE_BITS, character & BYTE_MASK);
+                if (_stateHandler.isPaused()) {
+                    break;
+                }
+            }
+            if (state == STATE_6) {
+                index = _stateHandler.pushQuotedBytes(buffer, index, end);
+            } else if (state == STATE_8) {
+                index = _stateHandler.pushUnquotedBytes(buffer, index, end);
+            }
+        }
+        _stateHandler.endBlock(index);
+        _state = state;
+        return index;
+    }
+
+    @Override
+    public void processEndOfInput() {
+        if (_stateHandler.isStopped()) {
+            return;
+        }
+        int transition = _transitions[_state * CLASS_COUNT + CLASS_END_OF_INPUT];
+        performActions(transition >>> STATE_BITS, SpecialCharacter.END_OF_INPUT);
+        _state = transition & STATE_MASK;
+    }
+
+    @Override
+    public boolean isStopped() {
+        return _stateHandler.isStopped();
+    }
+
+    private void performActions(final int actions, final int character) {
+        if ((actions & ACTION_THROW_EXCEPTION) != 0) {
+            throw _stateHandler.createCsvParseException(character);
+        }
+        if ((actions & ACTION_PUSH_CR) != 0) {
+            _stateHandler.pushCharacter(SpecialCharacter.CR);
+        }
+        if ((actions & ACTION_PUSH_COLUMN) != 0) {
+            _stateHandler.pushColumn();
+        }
+        if ((actions & ACTION_PUSH_ROW) != 0) {
+            _stateHandler.pushRow();
+        }
+        if ((actions & ACTION_PUSH_SEPARATED_COLUMN) != 0) {
+            _stateHandler.pushColumn();
+        }
+        if ((actions & ACTION_PUSH_CHARACTER) != 0) {
+            _stateHandler.pushCharacter(character);
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.state;
+
+/**
+ * Signal, that the exception can not be created, because the index of the current character is
+ * unknown. The state machine, that does not track the index of the current character, catches the
+ * signal and creates the exception with the index of the current character.
+ *
+ * @author Dmitry Shapovalov
+ */
+final class UnknownIndexException extends RuntimeException {
+
+    static final int CSV_PARSE_EXCEPTION = 0;
+
+    static final int WRONG_COLUMN_LENGTH_EXCEPTION = 1;
+
+    static final int WRONG_COLUMN_COUNT_EXCEPTION = 2;
+
+    private static final long serialVersionUID = 1L;
+
+    private final int _exceptionType;
+
+    private final int _character;
+
+    UnknownIndexException(final int exceptionType, final int character) {
+        super(null, null, false, false);
+        _exceptionType = exceptionType;
+        _character = character;
+    }
+
+    int getExceptionType() {
+        return _exceptionType;
+    }
+
+    int getCharacter() {
+        return _character;
+    }
+
+}
@@ -0,0 +1,282 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.csv.handler.ListEventHandler;
+
+/**
+ * Tests for {@link AsyncCsvParser}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class AsyncCsvParserTest extends CsvTest {
+
+    /**
+     * Test class constructor.
+     */
+    public AsyncCsvParserTest() {
+        super();
+    }
+
+    /**
+     * {@link AsyncCsvParser} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void callTest() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            csv.append(i).append(",\"Ж").append(i).append("\r\n").append(i).append("\"\r\n");
+        }
+        Charset[] charsets = {StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1, StandardCharsets.UTF_16};
+        for (Charset charset : charsets) {
+            Path path = Files.createTempFile("csv", ".csv");
+            try {
+                Files.write(path, csv.toString().getBytes(charset));
+                CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+                List<List<String>> expected = new CsvParser(csvParserConfiguration).parse(path, charset);
+                Assertions.assertThat(expected).hasSize(100);
+                for (int blockSize = 1; blockSize <= 17; blockSize += 4) {
+                    AsyncCsvParser<ListEventHandler> asyncCsvParser = new AsyncCsvParser<>(csvParserConfiguration, path, charset, new ListEventHandler(), blockSize);
+                    Assertions.assertThat(asyncCsvParser.call().getCsv()).containsExactlyInOrder(expected);
+                }
+                AsyncCsvParser<ListEventHandler> asyncCsvParser = new AsyncCsvParser<>(csvParserConfiguration, path, charset, new ListEventHandler());
+                Assertions.assertThat(asyncCsvParser.call().getCsv()).containsExactlyInOrder(expected);
+            } finally {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * {@link AsyncCsvParser} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void callEmptyFileTest() throws IOException {
+        Path path = Files.createTempFile("csv", ".csv");
+        try {
+            AsyncCsvParser<ListEventHandler> asyncCsvParser = new AsyncCsvParser<>(createCsvParserConfiguration(), path, StandardCharsets.UTF_8, new ListEventHandler());
+            Assertions.assertThat(asyncCsvParser.call().getCsv()).hasSize(0);
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link AsyncCsvParser} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void callWithLimitRowsTest() throws IOException {
+        Path path = Files.createTempFile("csv", ".csv");
+        try {
+            Files.write(path, "a\r\nb\r\nc\r\n\"d".getBytes(StandardCharsets.UTF_8));
+            CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+            csvParserConfiguration.setLimitRows(2L);
+            AsyncCsvParser<ListEventHandler> asyncCsvParser = new AsyncCsvParser<>(csvParserConfiguration, path, StandardCharsets.UTF_8, new ListEventHandler(), 2);
+            List<List<String>> result = asyncCsvParser.call().getCsv();
+            Assertions.assertThat(result).hasSize(2);
+            Assertions.assertThat(result.get(0)).containsExactlyInOrder("a");
+            Assertions.assertThat(result.get(1)).containsExactlyInOrder("b");
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link AsyncCsvParser} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void callWithParseErrorTest() throws IOException {
+        Path path = Files.createTempFile("csv", ".csv");
+        try {
+            Files.write(path, "a\r\nb\"c\r\nd\r\ne\r\n".getBytes(StandardCharsets.UTF_8));
+            AsyncCsvParser<ListEventHandler> asyncCsvParser = new AsyncCsvParser<>(createCsvParserConfiguration(), path, StandardCharsets.UTF_8, new ListEventHandler(), 4);
+            asyncCsvParser.call();
+            Assertions.fail("AsyncCsvParser test fail");
+        } catch (CsvParseException ex) {
+            Assertions.assertThat(ex.getPosition()).isEqualTo(4L);
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link AsyncCsvParser} class test.
+     */
+    @Test
+    public void callNotExistingPathTest() {
+        Path path = Paths.get("target", "not-existing-file.csv");
+        try {
+            new AsyncCsvParser<>(createCsvParserConfiguration(), path, StandardCharsets.UTF_8, new ListEventHandler()).call();
+            Assertions.fail("AsyncCsvParser test fail");
+        } catch (CsvIOException ex) {
+            Assertions.assertThat(ex).hasMessage(path.toString());
+        }
+    }
+
+    /**
+     * {@link AsyncCsvParser} class test.
+     */
+    @Test
+    public void getReadCountTest() {
+        FutureTask<Integer> futureTask1 = new FutureTask<>(new ReadCallable());
+        futureTask1.run();
+        Assertions.assertThat(AsyncCsvParser.getReadCount(futureTask1)).isEqualTo(5);
+
+        FutureTask<Integer> futureTask2 = new FutureTask<>(new ReadCallable());
+        Thread.currentThread().interrupt();
+        try {
+            AsyncCsvParser.getReadCount(futureTask2);
+            Assertions.fail("AsyncCsvParser test fail");
+        } catch (CsvInterruptedException ex) {
+            Assertions.assertThat(ex).hasMessage("CSV parsing is interrupted.");
+            Assertions.assertThat(Thread.interrupted()).isTrue();
+        }
+    }
+
+    /**
+     * {@link AsyncCsvParser} class test.
+     */
+    @Test
+    public void awaitReadTest() {
+        FutureTask<Integer> futureTask1 = new FutureTask<>(new ReadCallable());
+        futureTask1.run();
+        Assertions.assertThat(AsyncCsvParser.awaitRead(futureTask1)).isTrue();
+
+        FutureTask<Integer> futureTask2 = new FutureTask<>(new FailedReadCallable());
+        futureTask2.run();
+        Assertions.assertThat(AsyncCsvParser.awaitRead(futureTask2)).isFalse();
+
+        FutureTask<Integer> futureTask3 = new FutureTask<>(new ReadCallable());
+        Thread.currentThread().interrupt();
+        Assertions.assertThat(AsyncCsvParser.awaitRead(futureTask3)).isFalse();
+        Assertions.assertThat(Thread.interrupted()).isTrue();
+        Assertions.assertThat(futureTask3.isCancelled()).isTrue();
+    }
+
+    /**
+     * {@link AsyncCsvParser} class test.
+     *
+     * @throws IOException          IO exception.
+     * @throws InterruptedException interrupted exception.
+     * @throws ExecutionException   execution exception.
+     */
+    @Test
+    public void parseAsyncTest() throws IOException, InterruptedException, ExecutionException {
+        Path path = Files.createTempFile("csv", ".csv");
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Files.write(path, "a,b\r\nc,d\r\ne\"f".getBytes(StandardCharsets.UTF_8));
+            CsvParser csvParser = CsvParserBuilder.getInstance().setLimitRows(2L).build();
+            Future<ListEventHandler> future1 = csvParser.parseAsync(path, StandardCharsets.UTF_8, new ListEventHandler(), executorService);
+            List<List<String>> result = future1.get().getCsv();
+            Assertions.assertThat(result).hasSize(2);
+            Assertions.assertThat(result.get(1)).containsExactlyInOrder("c", "d");
+
+            Future<ListEventHandler> future2 = CsvParserBuilder.getInstance().build().parseAsync(path, StandardCharsets.UTF_8, new ListEventHandler(), executorService);
+            try {
+                future2.get();
+                Assertions.fail("AsyncCsvParser test fail");
+            } catch (ExecutionException ex) {
+                Assertions.assertThat(ex.getCause()).isInstanceOf(CsvParseException.class);
+            }
+        } finally {
+            executorService.shutdown();
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link AsyncCsvParser} class test.
+     */
+    @Test
+    public void parseAsyncNullCharsetTest() {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            CsvParserBuilder.getInstance().build().parseAsync(Paths.get("target", "file.csv"), null, new ListEventHandler(), executorService);
+            Assertions.fail("AsyncCsvParser test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("CSV charset is null.");
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class ReadCallable implements Callable<Integer> {
+
+        ReadCallable() {
+            super();
+        }
+
+        @Override
+        public Integer call() {
+            return 5;
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class FailedReadCallable implements Callable<Integer> {
+
+        FailedReadCallable() {
+            super();
+        }
+
+        @Override
+        public Integer call() throws IOException {
+            throw new IOException("ERROR");
+        }
+
+    }
+
+}
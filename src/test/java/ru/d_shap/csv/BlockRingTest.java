@@ -0,0 +1,250 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link BlockRing}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class BlockRingTest extends CsvTest {
+
+    /**
+     * Test class constructor.
+     */
+    public BlockRingTest() {
+        super();
+    }
+
+    /**
+     * {@link BlockRing} class test.
+     */
+    @Test
+    public void claimAndTakeTest() {
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        BlockRing<int[]> blockRing = new BlockRing<>(new int[][]{new int[1], new int[1]}, cancelled);
+        int[] block1 = blockRing.claim();
+        block1[0] = 1;
+        blockRing.publish();
+        int[] block2 = blockRing.claim();
+        block2[0] = 2;
+        blockRing.publish();
+        Assertions.assertThat(block1).isNotSameAs(block2);
+        Assertions.assertThat(blockRing.take()).isSameAs(block1);
+        blockRing.release();
+        Assertions.assertThat(blockRing.claim()).isSameAs(block1);
+        blockRing.publish();
+        Assertions.assertThat(blockRing.take()).isSameAs(block2);
+        blockRing.release();
+        Assertions.assertThat(blockRing.take()).isSameAs(block1);
+        blockRing.release();
+        Assertions.assertThat(cancelled.get()).isFalse();
+    }
+
+    /**
+     * {@link BlockRing} class test.
+     */
+    @Test
+    public void cancelTest() {
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        BlockRing<int[]> blockRing = new BlockRing<>(new int[][]{new int[1], new int[1]}, cancelled);
+        int[] block = blockRing.claim();
+        blockRing.publish();
+        cancelled.set(true);
+        Assertions.assertThat(blockRing.claim()).isNull();
+        Assertions.assertThat(blockRing.take()).isSameAs(block);
+        blockRing.release();
+        Assertions.assertThat(blockRing.take()).isNull();
+    }
+
+    /**
+     * {@link BlockRing} class test.
+     */
+    @Test
+    public void interruptTest() {
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        BlockRing<int[]> blockRing = new BlockRing<>(new int[][]{new int[1]}, cancelled);
+        Thread.currentThread().interrupt();
+        try {
+            Assertions.assertThat(blockRing.take()).isNull();
+            Assertions.assertThat(cancelled.get()).isTrue();
+        } finally {
+            Assertions.assertThat(Thread.interrupted()).isTrue();
+        }
+    }
+
+    /**
+     * {@link BlockRing} class test.
+     *
+     * @throws Exception exception.
+     */
+    @Test
+    public void producerConsumerTest() throws Exception {
+        final AtomicBoolean cancelled = new AtomicBoolean(false);
+        final BlockRing<int[]> blockRing = new BlockRing<>(new int[][]{new int[1], new int[1], new int[1]}, cancelled);
+        final int count = 100000;
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> future = executorService.submit(new Runnable() {
+
+                @Override
+                public void run() {
+                    for (int i = 0; i < count; i++) {
+                        blockRing.claim()[0] = i;
+                        blockRing.publish();
+                    }
+                }
+
+            });
+            for (int i = 0; i < count; i++) {
+                Assertions.assertThat(blockRing.take()[0]).isEqualTo(i);
+                blockRing.release();
+            }
+            future.get();
+            Assertions.assertThat(cancelled.get()).isFalse();
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * {@link BlockRing} class test.
+     *
+     * @throws Exception exception.
+     */
+    @Test
+    public void parkedConsumerTest() throws Exception {
+        final BlockRing<int[]> blockRing = new BlockRing<>(new int[][]{new int[1]}, new AtomicBoolean(false));
+        final AtomicReference<Thread> thread = new AtomicReference<>();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<int[]> future = executorService.submit(new Callable<int[]>() {
+
+                @Override
+                public int[] call() {
+                    thread.set(Thread.currentThread());
+                    return blockRing.take();
+                }
+
+            });
+            awaitParked(thread);
+            int[] block = blockRing.claim();
+            blockRing.publish();
+            Assertions.assertThat(future.get()).isSameAs(block);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * {@link BlockRing} class test.
+     *
+     * @throws Exception exception.
+     */
+    @Test
+    public void parkedProducerTest() throws Exception {
+        final BlockRing<int[]> blockRing = new BlockRing<>(new int[][]{new int[1]}, new AtomicBoolean(false));
+        final AtomicReference<Thread> thread = new AtomicReference<>();
+        int[] block = blockRing.claim();
+        blockRing.publish();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<int[]> future = executorService.submit(new Callable<int[]>() {
+
+                @Override
+                public int[] call() {
+                    thread.set(Thread.currentThread());
+                    return blockRing.claim();
+                }
+
+            });
+            awaitParked(thread);
+            Assertions.assertThat(blockRing.take()).isSameAs(block);
+            blockRing.release();
+            Assertions.assertThat(future.get()).isSameAs(block);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * {@link BlockRing} class test.
+     *
+     * @throws Exception exception.
+     */
+    @Test
+    public void wakeUpTest() throws Exception {
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        final BlockRing<int[]> emptyBlockRing = new BlockRing<>(new int[][]{new int[1]}, cancelled);
+        final BlockRing<int[]> fullBlockRing = new BlockRing<>(new int[][]{new int[1]}, cancelled);
+        fullBlockRing.claim();
+        fullBlockRing.publish();
+        final AtomicReference<Thread> consumerThread = new AtomicReference<>();
+        final AtomicReference<Thread> producerThread = new AtomicReference<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<int[]> consumerFuture = executorService.submit(new Callable<int[]>() {
+
+                @Override
+                public int[] call() {
+                    consumerThread.set(Thread.currentThread());
+                    return emptyBlockRing.take();
+                }
+
+            });
+            Future<int[]> producerFuture = executorService.submit(new Callable<int[]>() {
+
+                @Override
+                public int[] call() {
+                    producerThread.set(Thread.currentThread());
+                    return fullBlockRing.claim();
+                }
+
+            });
+            awaitParked(consumerThread);
+            awaitParked(producerThread);
+            cancelled.set(true);
+            emptyBlockRing.wakeUp();
+            fullBlockRing.wakeUp();
+            Assertions.assertThat(consumerFuture.get()).isNull();
+            Assertions.assertThat(producerFuture.get()).isNull();
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private static void awaitParked(final AtomicReference<Thread> thread) throws InterruptedException {
+        while (thread.get() == null || thread.get().getState() != Thread.State.WAITING) {
+            Thread.sleep(1L);
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link ColumnValues}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ColumnValuesTest extends CsvTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ColumnValuesTest() {
+        super();
+    }
+
+    /**
+     * {@link ColumnValues} class test.
+     */
+    @Test
+    public void constructorTest() {
+        Assertions.assertThat(ColumnValues.class).hasOnePrivateConstructor();
+    }
+
+    /**
+     * {@link ColumnValues} class test.
+     */
+    @Test
+    public void getHashCodeTest() {
+        char[] buffer = "xabc,\u0444\u044B\u0432x".toCharArray();
+        Assertions.assertThat(ColumnValues.getHashCode(buffer, 1, 3)).isEqualTo("abc".hashCode());
+        Assertions.assertThat(ColumnValues.getHashCode(buffer, 5, 3)).isEqualTo("\u0444\u044B\u0432".hashCode());
+        Assertions.assertThat(ColumnValues.getHashCode(buffer, 4, 0)).isEqualTo("".hashCode());
+        Assertions.assertThat(ColumnValues.getHashCode("Aa".toCharArray(), 0, 2)).isEqualTo(ColumnValues.getHashCode("BB".toCharArray(), 0, 2));
+    }
+
+    /**
+     * {@link ColumnValues} class test.
+     */
+    @Test
+    public void isEqualTest() {
+        char[] buffer = "xabc,dx".toCharArray();
+        Assertions.assertThat(ColumnValues.isEqual("abc", buffer, 1, 3)).isTrue();
+        Assertions.assertThat(ColumnValues.isEqual("ab", buffer, 1, 2)).isTrue();
+        Assertions.assertThat(ColumnValues.isEqual("", buffer, 1, 0)).isTrue();
+        Assertions.assertThat(ColumnValues.isEqual("abd", buffer, 1, 3)).isFalse();
+        Assertions.assertThat(ColumnValues.isEqual("ab", buffer, 1, 3)).isFalse();
+        Assertions.assertThat(ColumnValues.isEqual("abc,", buffer, 1, 3)).isFalse();
+    }
+
+}
@@ -0,0 +1,104 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link CsvColumnPredicates}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class CsvColumnPredicatesTest extends CsvTest {
+
+    /**
+     * Test class constructor.
+     */
+    public CsvColumnPredicatesTest() {
+        super();
+    }
+
+    /**
+     * {@link CsvColumnPredicates} class test.
+     */
+    @Test
+    public void constructorTest() {
+        Assertions.assertThat(CsvColumnPredicates.class).hasOnePrivateConstructor();
+    }
+
+    /**
+     * {@link CsvColumnPredicates} class test.
+     */
+    @Test
+    public void equalToTest() {
+        char[] buffer = "xabcAaBBx".toCharArray();
+        CsvColumnPredicate columnPredicate1 = CsvColumnPredicates.equalTo("abc", "", "Aa");
+        Assertions.assertThat(columnPredicate1.test(buffer, 1, 3)).isTrue();
+        Assertions.assertThat(columnPredicate1.test(buffer, 1, 0)).isTrue();
+        Assertions.assertThat(columnPredicate1.test(buffer, 4, 2)).isTrue();
+        Assertions.assertThat(columnPredicate1.test(buffer, 6, 2)).isFalse();
+        Assertions.assertThat(columnPredicate1.test(buffer, 1, 2)).isFalse();
+        Assertions.assertThat(columnPredicate1.test(buffer, 0, 4)).isFalse();
+
+        CsvColumnPredicate columnPredicate2 = CsvColumnPredicates.equalTo("BB");
+        Assertions.assertThat(columnPredicate2.test(buffer, 4, 2)).isFalse();
+        Assertions.assertThat(columnPredicate2.test(buffer, 6, 2)).isTrue();
+
+        CsvColumnPredicate columnPredicate3 = CsvColumnPredicates.equalTo("\u0000");
+        Assertions.assertThat(columnPredicate3.test(buffer, 1, 0)).isFalse();
+        Assertions.assertThat(columnPredicate3.test(new char[]{'\u0000'}, 0, 1)).isTrue();
+
+        CsvColumnPredicate columnPredicate4 = CsvColumnPredicates.equalTo();
+        Assertions.assertThat(columnPredicate4.test(buffer, 1, 3)).isFalse();
+    }
+
+    /**
+     * {@link CsvColumnPredicates} class test.
+     */
+    @Test
+    public void equalToCopyTest() {
+        String[] values = {"abc"};
+        CsvColumnPredicate columnPredicate = CsvColumnPredicates.equalTo(values);
+        values[0] = "def";
+        Assertions.assertThat(columnPredicate.test("abc".toCharArray(), 0, 3)).isTrue();
+        Assertions.assertThat(columnPredicate.test("def".toCharArray(), 0, 3)).isFalse();
+    }
+
+    /**
+     * {@link CsvColumnPredicates} class test.
+     */
+    @Test
+    public void startsWithTest() {
+        char[] buffer = "xabcdx".toCharArray();
+        CsvColumnPredicate columnPredicate1 = CsvColumnPredicates.startsWith("ab");
+        Assertions.assertThat(columnPredicate1.test(buffer, 1, 2)).isTrue();
+        Assertions.assertThat(columnPredicate1.test(buffer, 1, 4)).isTrue();
+        Assertions.assertThat(columnPredicate1.test(buffer, 1, 1)).isFalse();
+        Assertions.assertThat(columnPredicate1.test(buffer, 0, 4)).isFalse();
+        Assertions.assertThat(columnPredicate1.test(buffer, 2, 4)).isFalse();
+
+        CsvColumnPredicate columnPredicate2 = CsvColumnPredicates.startsWith("");
+        Assertions.assertThat(columnPredicate2.test(buffer, 0, 0)).isTrue();
+        Assertions.assertThat(columnPredicate2.test(buffer, 0, 6)).isTrue();
+    }
+
+}
@@ -0,0 +1,60 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link CsvEstimate}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class CsvEstimateTest extends CsvTest {
+
+    /**
+     * Test class constructor.
+     */
+    public CsvEstimateTest() {
+        super();
+    }
+
+    /**
+     * {@link CsvEstimate} class test.
+     */
+    @Test
+    public void getValuesTest() {
+        CsvEstimate csvEstimate1 = new CsvEstimate(100L, 10L, 8.5, 12L, false);
+        Assertions.assertThat(csvEstimate1.getRowCount()).isEqualTo(100L);
+        Assertions.assertThat(csvEstimate1.getRowCountError()).isEqualTo(10L);
+        Assertions.assertThat(csvEstimate1.getAverageRowLength()).isEqualTo(8.5, 0.0);
+        Assertions.assertThat(csvEstimate1.getSampledRowCount()).isEqualTo(12L);
+        Assertions.assertThat(csvEstimate1.isExact()).isFalse();
+
+        CsvEstimate csvEstimate2 = new CsvEstimate(5L, 0L, 4.0, 5L, true);
+        Assertions.assertThat(csvEstimate2.getRowCount()).isEqualTo(5L);
+        Assertions.assertThat(csvEstimate2.getRowCountError()).isEqualTo(0L);
+        Assertions.assertThat(csvEstimate2.getAverageRowLength()).isEqualTo(4.0, 0.0);
+        Assertions.assertThat(csvEstimate2.getSampledRowCount()).isEqualTo(5L);
+        Assertions.assertThat(csvEstimate2.isExact()).isTrue();
+    }
+
+}
@@ -0,0 +1,432 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link CsvEstimator}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class CsvEstimatorTest extends CsvTest {
+
+    /**
+     * Test class constructor.
+     */
+    public CsvEstimatorTest() {
+        super();
+    }
+
+    /**
+     * {@link CsvEstimator} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void estimateSmallFileTest() throws IOException {
+        Path path1 = createFile("a,b\nc,d\n", StandardCharsets.UTF_8);
+        try {
+            CsvEstimate csvEstimate = estimate(createCsvParserConfiguration(), path1, StandardCharsets.UTF_8, 16, 1024);
+            Assertions.assertThat(csvEstimate.getRowCount()).isEqualTo(2L);
+            Assertions.assertThat(csvEstimate.getRowCountError()).isEqualTo(0L);
+            Assertions.assertThat(csvEstimate.getAverageRowLength()).isEqualTo(4.0, 0.0);
+            Assertions.assertThat(csvEstimate.getSampledRowCount()).isEqualTo(2L);
+            Assertions.assertThat(csvEstimate.isExact()).isTrue();
+        } finally {
+            Files.delete(path1);
+        }
+
+        Path path2 = createFile("", StandardCharsets.UTF_8);
+        try {
+            CsvEstimate csvEstimate = estimate(createCsvParserConfiguration(), path2, StandardCharsets.UTF_8, 16, 1024);
+            Assertions.assertThat(csvEstimate.getRowCount()).isEqualTo(0L);
+            Assertions.assertThat(csvEstimate.getRowCountError()).isEqualTo(0L);
+            Assertions.assertThat(csvEstimate.getAverageRowLength()).isEqualTo(0.0, 0.0);
+            Assertions.assertThat(csvEstimate.getSampledRowCount()).isEqualTo(0L);
+            Assertions.assertThat(csvEstimate.isExact()).isTrue();
+        } finally {
+            Files.delete(path2);
+        }
+    }
+
+    /**
+     * {@link CsvEstimator} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void estimateNotByteCharsetTest() throws IOException {
+        Path path = createFile(repeat("aaa,bbb\n", 100), StandardCharsets.UTF_16BE);
+        try {
+            CsvEstimate csvEstimate = estimate(createCsvParserConfiguration(), path, StandardCharsets.UTF_16BE, 2, 100);
+            Assertions.assertThat(csvEstimate.getRowCount()).isEqualTo(100L);
+            Assertions.assertThat(csvEstimate.getRowCountError()).isEqualTo(0L);
+            Assertions.assertThat(csvEstimate.getAverageRowLength()).isEqualTo(16.0, 0.0);
+            Assertions.assertThat(csvEstimate.getSampledRowCount()).isEqualTo(100L);
+            Assertions.assertThat(csvEstimate.isExact()).isTrue();
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvEstimator} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void estimateSampledTest() throws IOException {
+        Path path = createFile(repeat("aaa,bbb\n", 1000), StandardCharsets.UTF_8);
+        try {
+            CsvEstimate csvEstimate = estimate(createCsvParserConfiguration(), path, StandardCharsets.UTF_8, 4, 100);
+            Assertions.assertThat(csvEstimate.getRowCount()).isEqualTo(1000L);
+            Assertions.assertThat(csvEstimate.getRowCountError()).isEqualTo(0L);
+            Assertions.assertThat(csvEstimate.getAverageRowLength()).isEqualTo(8.0, 0.0);
+            Assertions.assertThat(csvEstimate.getSampledRowCount()).isEqualTo(46L);
+            Assertions.assertThat(csvEstimate.isExact()).isFalse();
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvEstimator} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void estimateSampledWithErrorTest() throws IOException {
+        Path path = createFile(repeat("a,b\n", 125) + repeat("aaaa,bbbb\n", 50), StandardCharsets.UTF_8);
+        try {
+            CsvEstimate csvEstimate = estimate(createCsvParserConfiguration(), path, StandardCharsets.UTF_8, 2, 100);
+            Assertions.assertThat(csvEstimate.getRowCount()).isEqualTo(179L);
+            Assertions.assertThat(csvEstimate.getRowCountError()).isEqualTo(189L);
+            Assertions.assertThat(csvEstimate.getAverageRowLength()).isEqualTo(190.0 / 34.0, 0.0);
+            Assertions.assertThat(csvEstimate.getSampledRowCount()).isEqualTo(34L);
+            Assertions.assertThat(csvEstimate.isExact()).isFalse();
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvEstimator} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void estimateSampledInsideQuotesTest() throws IOException {
+        Path path = createFile(repeat("\"a\nb\",c\n", 100), StandardCharsets.UTF_8);
+        try {
+            CsvEstimate csvEstimate1 = estimate(createCsvParserConfiguration(), path, StandardCharsets.UTF_8, 2, 79);
+            Assertions.assertThat(csvEstimate1.getRowCount()).isEqualTo(100L);
+            Assertions.assertThat(csvEstimate1.getRowCountError()).isEqualTo(0L);
+            Assertions.assertThat(csvEstimate1.getAverageRowLength()).isEqualTo(8.0, 0.0);
+            Assertions.assertThat(csvEstimate1.getSampledRowCount()).isEqualTo(18L);
+            Assertions.assertThat(csvEstimate1.isExact()).isFalse();
+
+            CsvEstimate csvEstimate2 = estimate(createCsvParserConfiguration(), path, StandardCharsets.UTF_8, 2, 77);
+            Assertions.assertThat(csvEstimate2.getRowCount()).isEqualTo(100L);
+            Assertions.assertThat(csvEstimate2.getRowCountError()).isEqualTo(0L);
+            Assertions.assertThat(csvEstimate2.getAverageRowLength()).isEqualTo(8.0, 0.0);
+            Assertions.assertThat(csvEstimate2.getSampledRowCount()).isEqualTo(18L);
+            Assertions.assertThat(csvEstimate2.isExact()).isFalse();
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvEstimator} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void estimateSampledWithBothQuoteStatesTest() throws IOException {
+        Path path = createFile(repeat("1,\"\n\n\n\",2\n", 100), StandardCharsets.UTF_8);
+        try {
+            CsvEstimate csvEstimate1 = estimate(createCsvParserConfiguration(), path, StandardCharsets.UTF_8, 4, 100);
+            Assertions.assertThat(csvEstimate1.getRowCount()).isEqualTo(100L);
+            Assertions.assertThat(csvEstimate1.getRowCountError()).isEqualTo(0L);
+            Assertions.assertThat(csvEstimate1.getAverageRowLength()).isEqualTo(10.0, 0.0);
+            Assertions.assertThat(csvEstimate1.isExact()).isFalse();
+
+            CsvEstimate csvEstimate2 = estimate(createCsvParserConfiguration(), path, StandardCharsets.UTF_8, 8, 97);
+            Assertions.assertThat(csvEstimate2.getRowCount()).isEqualTo(100L);
+            Assertions.assertThat(csvEstimate2.getRowCountError()).isEqualTo(0L);
+            Assertions.assertThat(csvEstimate2.getAverageRowLength()).isEqualTo(10.0, 0.0);
+            Assertions.assertThat(csvEstimate2.isExact()).isFalse();
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvEstimator} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void estimateAmbiguousSampleTest() throws IOException {
+        Path path = createFile(repeat("a", 199) + "\n" + repeat("1,\"\n\n\n\",2\n", 100), StandardCharsets.UTF_8);
+        try {
+            CsvEstimate csvEstimate = estimate(createCsvParserConfiguration(), path, StandardCharsets.UTF_8, 4, 100);
+            Assertions.assertThat(csvEstimate.getRowCount()).isEqualTo(101L);
+            Assertions.assertThat(csvEstimate.getRowCountError()).isEqualTo(0L);
+            Assertions.assertThat(csvEstimate.isExact()).isTrue();
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvEstimator} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void estimateSingleSampleTest() throws IOException {
+        Path path = createFile(repeat("aaa,bbb\n", 100), StandardCharsets.UTF_8);
+        try {
+            CsvEstimate csvEstimate = estimate(createCsvParserConfiguration(), path, StandardCharsets.UTF_8, 1, 100);
+            Assertions.assertThat(csvEstimate.getRowCount()).isEqualTo(100L);
+            Assertions.assertThat(csvEstimate.getRowCountError()).isEqualTo(100L);
+            Assertions.assertThat(csvEstimate.getAverageRowLength()).isEqualTo(8.0, 0.0);
+            Assertions.assertThat(csvEstimate.getSampledRowCount()).isEqualTo(12L);
+            Assertions.assertThat(csvEstimate.isExact()).isFalse();
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvEstimator} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void estimateNoValidSampleTest() throws IOException {
+        Path path = createFile(repeat(repeat("a", 299) + "\n", 3), StandardCharsets.UTF_8);
+        try {
+            CsvEstimate csvEstimate = estimate(createCsvParserConfiguration(), path, StandardCharsets.UTF_8, 2, 100);
+            Assertions.assertThat(csvEstimate.getRowCount()).isEqualTo(3L);
+            Assertions.assertThat(csvEstimate.getRowCountError()).isEqualTo(0L);
+            Assertions.assertThat(csvEstimate.getAverageRowLength()).isEqualTo(300.0, 0.0);
+            Assertions.assertThat(csvEstimate.getSampledRowCount()).isEqualTo(3L);
+            Assertions.assertThat(csvEstimate.isExact()).isTrue();
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvEstimator} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void estimateWrongSampleParametersTest() throws IOException {
+        Path path = createFile("a\nb\n", StandardCharsets.UTF_8);
+        try {
+            CsvEstimate csvEstimate = estimate(createCsvParserConfiguration(), path, StandardCharsets.UTF_8, 0, 0);
+            Assertions.assertThat(csvEstimate.getRowCount()).isEqualTo(2L);
+            Assertions.assertThat(csvEstimate.isExact()).isTrue();
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvEstimator} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void estimateWithMaxColumnLengthCheckTest() throws IOException {
+        Path path = createFile("a,b\nc,d\n", StandardCharsets.UTF_8);
+        try {
+            CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+            csvParserConfiguration.setMaxColumnLength(1);
+            csvParserConfiguration.setMaxColumnLengthCheckEnabled(true);
+            CsvEstimate csvEstimate = estimate(csvParserConfiguration, path, StandardCharsets.UTF_8, 16, 1024);
+            Assertions.assertThat(csvEstimate.getRowCount()).isEqualTo(2L);
+            Assertions.assertThat(csvEstimate.isExact()).isTrue();
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvEstimator} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void estimateSampledWithMaxColumnLengthCheckTest() throws IOException {
+        Path path = createFile(repeat("aaa,bbb\n", 1000), StandardCharsets.UTF_8);
+        try {
+            CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+            csvParserConfiguration.setMaxColumnLength(1);
+            csvParserConfiguration.setMaxColumnLengthCheckEnabled(true);
+            csvParserConfiguration.addColumnPredicate(0, CsvColumnPredicates.equalTo("x"));
+            CsvEstimate csvEstimate = estimate(csvParserConfiguration, path, StandardCharsets.UTF_8, 4, 100);
+            Assertions.assertThat(csvEstimate.getRowCount()).isEqualTo(1000L);
+            Assertions.assertThat(csvEstimate.getSampledRowCount()).isEqualTo(46L);
+            Assertions.assertThat(csvEstimate.isExact()).isFalse();
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvEstimator} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void estimateWithRowSelectionTest() throws IOException {
+        Path path = createFile(repeat("aaa,bbb\n", 1000), StandardCharsets.UTF_8);
+        try {
+            CsvParserConfiguration csvParserConfiguration1 = createCsvParserConfiguration();
+            csvParserConfiguration1.setLimitRows(10L);
+            CsvEstimate csvEstimate1 = estimate(csvParserConfiguration1, path, StandardCharsets.UTF_8, 16, 1024);
+            Assertions.assertThat(csvEstimate1.getRowCount()).isEqualTo(1000L);
+            Assertions.assertThat(csvEstimate1.isExact()).isTrue();
+
+            CsvParserConfiguration csvParserConfiguration2 = createCsvParserConfiguration();
+            csvParserConfiguration2.setSkipRows(990L);
+            CsvEstimate csvEstimate2 = estimate(csvParserConfiguration2, path, StandardCharsets.UTF_8, 16, 1024);
+            Assertions.assertThat(csvEstimate2.getRowCount()).isEqualTo(1000L);
+            Assertions.assertThat(csvEstimate2.isExact()).isTrue();
+
+            CsvParserConfiguration csvParserConfiguration3 = createCsvParserConfiguration();
+            csvParserConfiguration3.setMaxColumnLength(2);
+            csvParserConfiguration3.setMaxColumnLengthCheckEnabled(true);
+            csvParserConfiguration3.setProjection(1);
+            csvParserConfiguration3.addColumnPredicate(0, CsvColumnPredicates.equalTo("x"));
+            CsvEstimate csvEstimate3 = estimate(csvParserConfiguration3, path, StandardCharsets.UTF_8, 16, 1024);
+            Assertions.assertThat(csvEstimate3.getRowCount()).isEqualTo(1000L);
+            Assertions.assertThat(csvEstimate3.isExact()).isTrue();
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvEstimator} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void estimateWithEmptyRowsTest() throws IOException {
+        Path path = createFile(repeat("aaa,bbb\n\n", 1000), StandardCharsets.UTF_8);
+        try {
+            CsvParserConfiguration csvParserConfiguration1 = createCsvParserConfiguration();
+            csvParserConfiguration1.setSkipEmptyRowsEnabled(true);
+            CsvEstimate csvEstimate1 = estimate(csvParserConfiguration1, path, StandardCharsets.UTF_8, 4, 100);
+            Assertions.assertThat(csvEstimate1.getRowCount()).isEqualTo(995L);
+            Assertions.assertThat(csvEstimate1.getRowCountError()).isEqualTo(7L);
+            Assertions.assertThat(csvEstimate1.getSampledRowCount()).isEqualTo(42L);
+            Assertions.assertThat(csvEstimate1.isExact()).isFalse();
+
+            CsvEstimate csvEstimate2 = estimate(csvParserConfiguration1, path, StandardCharsets.UTF_8, 16, 1024);
+            Assertions.assertThat(csvEstimate2.getRowCount()).isEqualTo(1000L);
+            Assertions.assertThat(csvEstimate2.isExact()).isTrue();
+
+            CsvParserConfiguration csvParserConfiguration2 = createCsvParserConfiguration();
+            csvParserConfiguration2.setSkipEmptyRowsEnabled(false);
+            CsvEstimate csvEstimate3 = estimate(csvParserConfiguration2, path, StandardCharsets.UTF_8, 4, 100);
+            Assertions.assertThat(csvEstimate3.getRowCount()).isEqualTo(2037L);
+            Assertions.assertThat(csvEstimate3.getRowCountError()).isEqualTo(44L);
+            Assertions.assertThat(csvEstimate3.isExact()).isFalse();
+
+            CsvEstimate csvEstimate4 = estimate(csvParserConfiguration2, path, StandardCharsets.UTF_8, 16, 1024);
+            Assertions.assertThat(csvEstimate4.getRowCount()).isEqualTo(2000L);
+            Assertions.assertThat(csvEstimate4.isExact()).isTrue();
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvEstimator} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void estimateSampledWithCrSeparatorTest() throws IOException {
+        Path path = createFile(repeat("aaa,bbb\r", 1000), StandardCharsets.UTF_8);
+        try {
+            CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+            csvParserConfiguration.setCrSeparator(true);
+            csvParserConfiguration.setCrLfSeparator(true);
+            CsvEstimate csvEstimate = estimate(csvParserConfiguration, path, StandardCharsets.UTF_8, 4, 100);
+            Assertions.assertThat(csvEstimate.getRowCount()).isEqualTo(1000L);
+            Assertions.assertThat(csvEstimate.getRowCountError()).isEqualTo(0L);
+            Assertions.assertThat(csvEstimate.getAverageRowLength()).isEqualTo(8.0, 0.0);
+            Assertions.assertThat(csvEstimate.isExact()).isFalse();
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvEstimator} class test.
+     */
+    @Test
+    public void estimateNotExistingFileTest() {
+        try {
+            Path path = Paths.get("target", "not-existing-file.csv");
+            estimate(createCsvParserConfiguration(), path, StandardCharsets.UTF_8, 16, 1024);
+            Assertions.fail("CsvEstimator test fail");
+        } catch (CsvIOException ex) {
+            Assertions.assertThat(ex).hasMessage(Paths.get("target", "not-existing-file.csv").toString());
+        }
+    }
+
+    private CsvEstimate estimate(final CsvParserConfiguration csvParserConfiguration, final Path path, final Charset charset, final int sampleCount, final int sampleSize) {
+        return new CsvEstimator(csvParserConfiguration, sampleCount, sampleSize).estimate(path, charset);
+    }
+
+    private Path createFile(final String csv, final Charset charset) throws IOException {
+        Path path = Files.createTempFile("csv", ".csv");
+        Files.write(path, csv.getBytes(charset));
+        return path;
+    }
+
+    private String repeat(final String str, final int count) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            result.append(str);
+        }
+        return result.toString();
+    }
+
+}
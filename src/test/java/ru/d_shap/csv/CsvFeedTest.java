@@ -0,0 +1,245 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.csv.handler.ListEventHandler;
+
+/**
+ * Tests for {@link CsvFeed}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class CsvFeedTest extends CsvTest {
+
+    private static final String CSV = "a,\"b\r\n\"\"Ж\"\"\"\r\n\r\n€d,e\rf\n,g";
+
+    /**
+     * Test class constructor.
+     */
+    public CsvFeedTest() {
+        super();
+    }
+
+    /**
+     * {@link CsvFeed} class test.
+     */
+    @Test
+    public void feedCharsTest() {
+        char[] chars = CSV.toCharArray();
+        for (int i = 0; i < 2; i++) {
+            CsvParserBuilder builder = CsvParserBuilder.getInstance().setCrSeparator(true).setLfSeparator(true).setTableEngineEnabled(i == 0);
+            List<List<String>> expected = builder.parse(CSV);
+            for (int split = 0; split <= chars.length; split++) {
+                ListEventHandler eventHandler = new ListEventHandler();
+                CsvFeed csvFeed = builder.createCsvFeed(eventHandler);
+                csvFeed.feed(chars, 0, split);
+                csvFeed.feed(chars, split, chars.length - split);
+                csvFeed.finish();
+                Assertions.assertThat(eventHandler.getCsv()).containsExactlyInOrder(expected);
+            }
+
+            ListEventHandler eventHandler = new ListEventHandler();
+            CsvFeed csvFeed = builder.createCsvFeed(eventHandler);
+            for (char ch : chars) {
+                csvFeed.feed(new char[]{ch});
+            }
+            csvFeed.finish();
+            Assertions.assertThat(eventHandler.getCsv()).containsExactlyInOrder(expected);
+        }
+    }
+
+    /**
+     * {@link CsvFeed} class test.
+     */
+    @Test
+    public void feedRowsAsSoonAsCompleteTest() {
+        ListEventHandler eventHandler = new ListEventHandler();
+        CsvFeed csvFeed = CsvParserBuilder.getInstance().createCsvFeed(eventHandler);
+        csvFeed.feed("a,b\r".toCharArray());
+        Assertions.assertThat(eventHandler.getCsv()).hasSize(0);
+        csvFeed.feed("\nc,".toCharArray());
+        Assertions.assertThat(eventHandler.getCsv()).hasSize(1);
+        Assertions.assertThat(eventHandler.getCsv().get(0)).containsExactlyInOrder("a", "b");
+        csvFeed.feed("d".toCharArray());
+        csvFeed.finish();
+        Assertions.assertThat(eventHandler.getCsv()).hasSize(2);
+        Assertions.assertThat(eventHandler.getCsv().get(1)).containsExactlyInOrder("c", "d");
+    }
+
+    /**
+     * {@link CsvFeed} class test.
+     */
+    @Test
+    public void feedBytesTest() {
+        Charset[] charsets = {StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1, StandardCharsets.UTF_16, StandardCharsets.UTF_16LE, Charset.forName("windows-1252")};
+        for (Charset charset : charsets) {
+            byte[] bytes = CSV.getBytes(charset);
+            for (int readBufferSize = 1; readBufferSize <= 4; readBufferSize++) {
+                CsvParserBuilder builder = CsvParserBuilder.getInstance().setCrSeparator(true).setLfSeparator(true).setReadBufferSize(readBufferSize);
+                List<List<String>> expected = builder.parse(new String(bytes, charset));
+                for (int split = 0; split <= bytes.length; split++) {
+                    ListEventHandler eventHandler = new ListEventHandler();
+                    CsvFeed csvFeed = builder.createCsvFeed(charset, eventHandler);
+                    csvFeed.feed(ByteBuffer.wrap(bytes, 0, split));
+                    csvFeed.feed(ByteBuffer.wrap(bytes, split, bytes.length - split));
+                    csvFeed.finish();
+                    Assertions.assertThat(eventHandler.getCsv()).containsExactlyInOrder(expected);
+                }
+
+                ListEventHandler eventHandler = new ListEventHandler();
+                CsvFeed csvFeed = builder.createCsvFeed(charset, eventHandler);
+                for (byte b : bytes) {
+                    csvFeed.feed(ByteBuffer.wrap(new byte[]{b}));
+                }
+                csvFeed.finish();
+                Assertions.assertThat(eventHandler.getCsv()).containsExactlyInOrder(expected);
+            }
+        }
+    }
+
+    /**
+     * {@link CsvFeed} class test.
+     */
+    @Test
+    public void feedMalformedBytesTest() {
+        ListEventHandler eventHandler1 = new ListEventHandler();
+        CsvFeed csvFeed1 = CsvParserBuilder.getInstance().createCsvFeed(StandardCharsets.UTF_16BE, eventHandler1);
+        csvFeed1.feed(ByteBuffer.wrap(new byte[]{0, 'a', 0, ',', 0}));
+        csvFeed1.finish();
+        Assertions.assertThat(eventHandler1.getCsv()).hasSize(1);
+        Assertions.assertThat(eventHandler1.getCsv().get(0)).containsExactlyInOrder("a", "\uFFFD");
+
+        ListEventHandler eventHandler2 = new ListEventHandler();
+        CsvFeed csvFeed2 = CsvParserBuilder.getInstance().createCsvFeed(StandardCharsets.UTF_8, eventHandler2);
+        csvFeed2.feed(ByteBuffer.wrap(new byte[]{'a', ',', (byte) 0xD0}));
+        csvFeed2.finish();
+        Assertions.assertThat(eventHandler2.getCsv()).hasSize(1);
+        Assertions.assertThat(eventHandler2.getCsv().get(0)).containsExactlyInOrder("a", "\uFFFD");
+    }
+
+    /**
+     * {@link CsvFeed} class test.
+     */
+    @Test
+    public void feedWithLimitRowsTest() {
+        ListEventHandler eventHandler1 = new ListEventHandler();
+        CsvFeed csvFeed1 = CsvParserBuilder.getInstance().setLimitRows(1L).createCsvFeed(eventHandler1);
+        Assertions.assertThat(csvFeed1.isStopped()).isFalse();
+        csvFeed1.feed("a\r\nb\r\n".toCharArray());
+        Assertions.assertThat(csvFeed1.isStopped()).isTrue();
+        csvFeed1.feed("\"c".toCharArray());
+        csvFeed1.finish();
+        Assertions.assertThat(eventHandler1.getCsv()).hasSize(1);
+        Assertions.assertThat(eventHandler1.getCsv().get(0)).containsExactlyInOrder("a");
+
+        ListEventHandler eventHandler2 = new ListEventHandler();
+        CsvFeed csvFeed2 = CsvParserBuilder.getInstance().setLimitRows(1L).setReadBufferSize(2).createCsvFeed(StandardCharsets.UTF_8, eventHandler2);
+        csvFeed2.feed(ByteBuffer.wrap("a\r\nb\r\n\"c".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertThat(csvFeed2.isStopped()).isTrue();
+        csvFeed2.finish();
+        Assertions.assertThat(eventHandler2.getCsv()).hasSize(1);
+
+        ListEventHandler eventHandler3 = new ListEventHandler();
+        CsvFeed csvFeed3 = CsvParserBuilder.getInstance().setLimitRows(1L).setReadBufferSize(2).createCsvFeed(StandardCharsets.UTF_16LE, eventHandler3);
+        csvFeed3.feed(ByteBuffer.wrap("a\r\nb\r\n\"c".getBytes(StandardCharsets.UTF_16LE)));
+        Assertions.assertThat(csvFeed3.isStopped()).isTrue();
+        csvFeed3.feed(ByteBuffer.wrap("\"".getBytes(StandardCharsets.UTF_16LE)));
+        csvFeed3.finish();
+        Assertions.assertThat(eventHandler3.getCsv()).hasSize(1);
+    }
+
+    /**
+     * {@link CsvFeed} class test.
+     */
+    @Test
+    public void feedParseErrorTest() {
+        CsvFeed csvFeed = CsvParserBuilder.getInstance().createCsvFeed(new ListEventHandler());
+        csvFeed.feed("a,b\r\n".toCharArray());
+        try {
+            csvFeed.feed("c\"d".toCharArray());
+            Assertions.fail("CsvFeed test fail");
+        } catch (CsvParseException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained: '\"' (34). Last characters: \"a,b\\r\\nc\"\".");
+            Assertions.assertThat(ex.getPosition()).isEqualTo(6L);
+            Assertions.assertThat(ex.getRowIndex()).isEqualTo(1L);
+        }
+    }
+
+    /**
+     * {@link CsvFeed} class test.
+     */
+    @Test
+    public void feedWrongInputTest() {
+        CsvFeed csvFeed1 = CsvParserBuilder.getInstance().createCsvFeed(new ListEventHandler());
+        try {
+            csvFeed1.feed(ByteBuffer.wrap(new byte[]{'a'}));
+            Assertions.fail("CsvFeed test fail");
+        } catch (IllegalStateException ex) {
+            Assertions.assertThat(ex).hasMessage("CSV feed accepts only characters.");
+        }
+
+        CsvFeed csvFeed2 = CsvParserBuilder.getInstance().createCsvFeed(StandardCharsets.UTF_8, new ListEventHandler());
+        try {
+            csvFeed2.feed(new char[]{'a'});
+            Assertions.fail("CsvFeed test fail");
+        } catch (IllegalStateException ex) {
+            Assertions.assertThat(ex).hasMessage("CSV feed accepts only bytes.");
+        }
+    }
+
+    /**
+     * {@link CsvFeed} class test.
+     */
+    @Test
+    public void finishTest() {
+        CsvFeed csvFeed1 = CsvParserBuilder.getInstance().createCsvFeed(new ListEventHandler());
+        csvFeed1.finish();
+        try {
+            csvFeed1.feed(new char[]{'a'});
+            Assertions.fail("CsvFeed test fail");
+        } catch (IllegalStateException ex) {
+            Assertions.assertThat(ex).hasMessage("CSV feed is finished.");
+        }
+        try {
+            csvFeed1.finish();
+            Assertions.fail("CsvFeed test fail");
+        } catch (IllegalStateException ex) {
+            Assertions.assertThat(ex).hasMessage("CSV feed is finished.");
+        }
+
+        CsvFeed csvFeed2 = CsvParserBuilder.getInstance().createCsvFeed(StandardCharsets.UTF_16, new ListEventHandler());
+        csvFeed2.finish();
+        try {
+            csvFeed2.feed(ByteBuffer.wrap(new byte[]{'a'}));
+            Assertions.fail("CsvFeed test fail");
+        } catch (IllegalStateException ex) {
+            Assertions.assertThat(ex).hasMessage("CSV feed is finished.");
+        }
+    }
+
+}
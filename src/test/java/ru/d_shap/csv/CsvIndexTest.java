@@ -0,0 +1,113 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.csv.state.StructuralIndex;
+
+/**
+ * Tests for {@link CsvIndex}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class CsvIndexTest extends CsvTest {
+
+    /**
+     * Test class constructor.
+     */
+    public CsvIndexTest() {
+        super();
+    }
+
+    /**
+     * {@link CsvIndex} class test.
+     */
+    @Test
+    public void getRowCountTest() {
+        Assertions.assertThat(createCsvIndex("").getRowCount()).isEqualTo(0);
+        Assertions.assertThat(createCsvIndex("a").getRowCount()).isEqualTo(1);
+        Assertions.assertThat(createCsvIndex("a\nb,c\n").getRowCount()).isEqualTo(2);
+    }
+
+    /**
+     * {@link CsvIndex} class test.
+     */
+    @Test
+    public void getColumnCountTest() {
+        CsvIndex csvIndex = createCsvIndex("a\nb,c\n\n");
+        Assertions.assertThat(csvIndex.getColumnCount(0)).isEqualTo(1);
+        Assertions.assertThat(csvIndex.getColumnCount(1)).isEqualTo(2);
+        Assertions.assertThat(csvIndex.getColumnCount(2)).isEqualTo(0);
+    }
+
+    /**
+     * {@link CsvIndex} class test.
+     */
+    @Test
+    public void getColumnTest() {
+        CsvIndex csvIndex = createCsvIndex("a,\"b\"\"c\"\n\"d,e\",");
+        Assertions.assertThat(csvIndex.getColumn(0, 0)).isEqualTo("a");
+        Assertions.assertThat(csvIndex.getColumn(0, 1)).isEqualTo("b\"c");
+        Assertions.assertThat(csvIndex.getColumn(1, 0)).isEqualTo("d,e");
+        Assertions.assertThat(csvIndex.getColumn(1, 1)).isEqualTo("");
+    }
+
+    /**
+     * {@link CsvIndex} class test.
+     */
+    @Test
+    public void getColumnLengthTest() {
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+        csvParserConfiguration.setMaxColumnLength(2);
+        char[] source = "a,\"b\"\"c\"".toCharArray();
+        CsvIndex csvIndex = new CsvIndex(new StructuralIndex(csvParserConfiguration, source, source.length));
+        Assertions.assertThat(csvIndex.getColumn(0, 1)).isEqualTo("b\"");
+        Assertions.assertThat(csvIndex.getColumnLength(0, 0)).isEqualTo(1);
+        Assertions.assertThat(csvIndex.getColumnActualLength(0, 0)).isEqualTo(1);
+        Assertions.assertThat(csvIndex.getColumnLength(0, 1)).isEqualTo(2);
+        Assertions.assertThat(csvIndex.getColumnActualLength(0, 1)).isEqualTo(3);
+    }
+
+    /**
+     * {@link CsvIndex} class test.
+     */
+    @Test
+    public void getRowTest() {
+        CsvIndex csvIndex = createCsvIndex("a,\"b\"\"c\"\n\n\"d,e\",");
+        Assertions.assertThat(csvIndex.getRow(0)).containsExactlyInOrder("a", "b\"c");
+        Assertions.assertThat(csvIndex.getRow(1)).isEmpty();
+        Assertions.assertThat(csvIndex.getRow(2)).containsExactlyInOrder("d,e", "");
+        try {
+            csvIndex.getRow(3);
+            Assertions.fail("CsvIndex test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).hasMessage("Row index: 3, row count: 3");
+        }
+    }
+
+    private CsvIndex createCsvIndex(final String csv) {
+        char[] source = csv.toCharArray();
+        StructuralIndex structuralIndex = new StructuralIndex(createCsvParserConfiguration(), source, source.length);
+        return new CsvIndex(structuralIndex);
+    }
+
+}
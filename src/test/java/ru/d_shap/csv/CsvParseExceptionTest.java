@@ -53,4 +53,21 @@ public final class CsvParseExceptionTest extends CsvTest {
         Assertions.assertThat(exception3).hasMessage("End of input obtained. Last characters: \"xyz\".");
     }
 
+    /**
+     * {@link CsvParseException} class test.
+     */
+    @Test
+    public void positionTest() {
+        CsvParseException exception1 = new CsvParseException('a', "bvda");
+        Assertions.assertThat(exception1.getPosition()).isEqualTo(-1L);
+        Assertions.assertThat(exception1.getRowIndex()).isEqualTo(-1L);
+        Assertions.assertThat(exception1.getColumnIndex()).isEqualTo(-1);
+
+        CsvParseException exception2 = new CsvParseException('a', "bvda", 15L, 3L, 2);
+        Assertions.assertThat(exception2).hasMessage("Wrong character obtained: 'a' (97). Last characters: \"bvda\".");
+        Assertions.assertThat(exception2.getPosition()).isEqualTo(15L);
+        Assertions.assertThat(exception2.getRowIndex()).isEqualTo(3L);
+        Assertions.assertThat(exception2.getColumnIndex()).isEqualTo(2);
+    }
+
 }
@@ -19,15 +19,30 @@
 ///////////////////////////////////////////////////////////////////////////////////////////////////
 package ru.d_shap.csv;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.junit.Test;
 
 import ru.d_shap.assertions.Assertions;
 import ru.d_shap.csv.handler.AbstractListEventHandler;
+import ru.d_shap.csv.handler.CsvChunkEventHandler;
+import ru.d_shap.csv.handler.CsvEventHandler;
+import ru.d_shap.csv.handler.DimensionEventHandler;
 import ru.d_shap.csv.handler.ListEventHandler;
 import ru.d_shap.csv.handler.NoopEventHandler;
+import ru.d_shap.csv.handler.RestrictedListEventHandler;
 
 /**
  * Tests for {@link CsvParserBuilder}.
@@ -550,6 +565,129 @@ public final class CsvParserBuilderTest extends CsvTest {
         csvParserBuilder.parse("abc,12345", new NoopEventHandler());
     }
 
+    /**
+     * {@link CsvParserBuilder} class test.
+     */
+    @Test
+    public void readBufferSizeTest() {
+        CsvParserBuilder csvParserBuilder = CsvParserBuilder.getInstance();
+
+        try {
+            csvParserBuilder = csvParserBuilder.setReadBufferSize(0);
+            csvParserBuilder.parse("abc,12345\r\ndef,67890");
+            Assertions.fail("CsvParserBuilder test fail");
+        } catch (WrongReadBufferSizeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong read buffer size is specified.");
+        }
+
+        csvParserBuilder = csvParserBuilder.setReadBufferSize(1);
+        List<List<String>> result1 = csvParserBuilder.parse("abc,12345\r\ndef,67890");
+        Assertions.assertThat(result1).hasSize(2);
+        Assertions.assertThat(result1.get(0)).containsExactlyInOrder("abc", "12345");
+        Assertions.assertThat(result1.get(1)).containsExactlyInOrder("def", "67890");
+
+        csvParserBuilder = csvParserBuilder.setReadBufferSize(4);
+        List<List<String>> result2 = csvParserBuilder.parse("abc,12345\r\ndef,67890");
+        Assertions.assertThat(result2).hasSize(2);
+        Assertions.assertThat(result2.get(0)).containsExactlyInOrder("abc", "12345");
+        Assertions.assertThat(result2.get(1)).containsExactlyInOrder("def", "67890");
+    }
+
+    /**
+     * {@link CsvParserBuilder} class test.
+     */
+    @Test
+    public void tableEngineEnabledTest() {
+        CsvParserBuilder csvParserBuilder = CsvParserBuilder.getInstance();
+        csvParserBuilder.setMaxColumnLength(3).setMaxColumnLengthCheckEnabled(true);
+
+        try {
+            csvParserBuilder = csvParserBuilder.setTableEngineEnabled(true);
+            csvParserBuilder.parse("abc,12345", new NoopEventHandler());
+            Assertions.fail("CsvParserBuilder test fail");
+        } catch (WrongColumnLengthException ex) {
+            Assertions.assertThat(ex).hasMessage("Maximum column value length exceeded. Last characters: \"abc,1234\".");
+        }
+
+        csvParserBuilder = csvParserBuilder.setMaxColumnLength(-1).setMaxColumnLengthCheckEnabled(false);
+        List<List<String>> result1 = csvParserBuilder.setTableEngineEnabled(true).parse("abc,12345\r\ndef,\"67,890\"");
+        Assertions.assertThat(result1).hasSize(2);
+        Assertions.assertThat(result1.get(0)).containsExactlyInOrder("abc", "12345");
+        Assertions.assertThat(result1.get(1)).containsExactlyInOrder("def", "67,890");
+
+        List<List<String>> result2 = csvParserBuilder.setTableEngineEnabled(false).parse("abc,12345\r\ndef,\"67,890\"");
+        Assertions.assertThat(result2).hasSize(2);
+        Assertions.assertThat(result2.get(0)).containsExactlyInOrder("abc", "12345");
+        Assertions.assertThat(result2.get(1)).containsExactlyInOrder("def", "67,890");
+    }
+
+    /**
+     * {@link CsvParserBuilder} class test.
+     */
+    @Test
+    public void skipRowsTest() {
+        CsvParserBuilder csvParserBuilder = CsvParserBuilder.getInstance();
+        csvParserBuilder = csvParserBuilder.setSkipRows(1L);
+        List<List<String>> result1 = csvParserBuilder.parse("a,b\r\nc,d\r\ne,f");
+        Assertions.assertThat(result1).hasSize(2);
+        Assertions.assertThat(result1.get(0)).containsExactlyInOrder("c", "d");
+        Assertions.assertThat(result1.get(1)).containsExactlyInOrder("e", "f");
+
+        List<List<String>> result2 = csvParserBuilder.setSkipRows(0L).parse("a,b\r\nc,d\r\ne,f");
+        Assertions.assertThat(result2).hasSize(3);
+    }
+
+    /**
+     * {@link CsvParserBuilder} class test.
+     */
+    @Test
+    public void limitRowsTest() {
+        CsvParserBuilder csvParserBuilder = CsvParserBuilder.getInstance();
+        csvParserBuilder = csvParserBuilder.setLimitRows(2L);
+        List<List<String>> result1 = csvParserBuilder.parse("a,b\r\nc,d\r\ne,f");
+        Assertions.assertThat(result1).hasSize(2);
+        Assertions.assertThat(result1.get(0)).containsExactlyInOrder("a", "b");
+        Assertions.assertThat(result1.get(1)).containsExactlyInOrder("c", "d");
+
+        List<List<String>> result2 = csvParserBuilder.setLimitRows(-1L).parse("a,b\r\nc,d\r\ne,f");
+        Assertions.assertThat(result2).hasSize(3);
+    }
+
+    /**
+     * {@link CsvParserBuilder} class test.
+     */
+    @Test
+    public void projectionTest() {
+        CsvParserBuilder csvParserBuilder = CsvParserBuilder.getInstance();
+        csvParserBuilder = csvParserBuilder.setProjection(0, 2);
+        List<List<String>> result1 = csvParserBuilder.parse("a,b,c\r\nd,e,f");
+        Assertions.assertThat(result1).hasSize(2);
+        Assertions.assertThat(result1.get(0)).containsExactlyInOrder("a", "c");
+        Assertions.assertThat(result1.get(1)).containsExactlyInOrder("d", "f");
+
+        List<List<String>> result2 = csvParserBuilder.setProjection((int[]) null).parse("a,b,c\r\nd,e,f");
+        Assertions.assertThat(result2).hasSize(2);
+        Assertions.assertThat(result2.get(0)).containsExactlyInOrder("a", "b", "c");
+        Assertions.assertThat(result2.get(1)).containsExactlyInOrder("d", "e", "f");
+    }
+
+    /**
+     * {@link CsvParserBuilder} class test.
+     */
+    @Test
+    public void columnPredicatesTest() {
+        CsvParserBuilder csvParserBuilder = CsvParserBuilder.getInstance();
+        csvParserBuilder = csvParserBuilder.addColumnPredicate(1, CsvColumnPredicates.equalTo("e"));
+        List<List<String>> result1 = csvParserBuilder.parse("a,b,c\r\nd,e,f");
+        Assertions.assertThat(result1).hasSize(1);
+        Assertions.assertThat(result1.get(0)).containsExactlyInOrder("d", "e", "f");
+
+        List<List<String>> result2 = csvParserBuilder.clearColumnPredicates().parse("a,b,c\r\nd,e,f");
+        Assertions.assertThat(result2).hasSize(2);
+        Assertions.assertThat(result2.get(0)).containsExactlyInOrder("a", "b", "c");
+        Assertions.assertThat(result2.get(1)).containsExactlyInOrder("d", "e", "f");
+    }
+
     /**
      * {@link CsvParserBuilder} class test.
      */
@@ -592,6 +730,370 @@ public final class CsvParserBuilderTest extends CsvTest {
         Assertions.assertThat(eventHandler.getCsv().get(0)).containsExactlyInOrder("a", "b");
     }
 
+    /**
+     * {@link CsvParserBuilder} class test.
+     */
+    @Test
+    public void parseInputStreamTest() {
+        List<List<String>> result = CsvParserBuilder.getInstance().parse(new ByteArrayInputStream("a,b".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+        Assertions.assertThat(result).hasSize(1);
+        Assertions.assertThat(result.get(0)).containsExactlyInOrder("a", "b");
+    }
+
+    /**
+     * {@link CsvParserBuilder} class test.
+     */
+    @Test
+    public void parseInputStreamWithCsvEventHandlerTest() {
+        ListEventHandler eventHandler = new ListEventHandler();
+        CsvParserBuilder.getInstance().parse(new ByteArrayInputStream("a,b".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, eventHandler);
+        Assertions.assertThat(eventHandler.getCsv()).hasSize(1);
+        Assertions.assertThat(eventHandler.getCsv().get(0)).containsExactlyInOrder("a", "b");
+    }
+
+    /**
+     * {@link CsvParserBuilder} class test.
+     */
+    @Test
+    public void parseByteBufferTest() {
+        List<List<String>> result = CsvParserBuilder.getInstance().parse(ByteBuffer.wrap("a,b".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+        Assertions.assertThat(result).hasSize(1);
+        Assertions.assertThat(result.get(0)).containsExactlyInOrder("a", "b");
+    }
+
+    /**
+     * {@link CsvParserBuilder} class test.
+     */
+    @Test
+    public void parseByteBufferWithCsvEventHandlerTest() {
+        ListEventHandler eventHandler = new ListEventHandler();
+        CsvParserBuilder.getInstance().parse(ByteBuffer.wrap("a,b".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, eventHandler);
+        Assertions.assertThat(eventHandler.getCsv()).hasSize(1);
+        Assertions.assertThat(eventHandler.getCsv().get(0)).containsExactlyInOrder("a", "b");
+    }
+
+    /**
+     * {@link CsvParserBuilder} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void parsePathTest() throws IOException {
+        Path path = Files.createTempFile("csv", ".csv");
+        try {
+            Files.write(path, "a,b".getBytes(StandardCharsets.UTF_8));
+            List<List<String>> result = CsvParserBuilder.getInstance().parse(path, StandardCharsets.UTF_8);
+            Assertions.assertThat(result).hasSize(1);
+            Assertions.assertThat(result.get(0)).containsExactlyInOrder("a", "b");
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvParserBuilder} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void parsePathWithCsvEventHandlerTest() throws IOException {
+        Path path = Files.createTempFile("csv", ".csv");
+        try {
+            Files.write(path, "a,b".getBytes(StandardCharsets.UTF_8));
+            ListEventHandler eventHandler = new ListEventHandler();
+            CsvParserBuilder.getInstance().parse(path, StandardCharsets.UTF_8, eventHandler);
+            Assertions.assertThat(eventHandler.getCsv()).hasSize(1);
+            Assertions.assertThat(eventHandler.getCsv().get(0)).containsExactlyInOrder("a", "b");
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvParserBuilder} class test.
+     */
+    @Test
+    public void createCsvReaderTest() {
+        try (CsvReader csvReader = CsvParserBuilder.getInstance().createCsvReader("a,b\nc")) {
+            Assertions.assertThat(csvReader.nextRow().toList()).containsExactlyInOrder("a", "b");
+            Assertions.assertThat(csvReader.nextRow().toList()).containsExactlyInOrder("c");
+            Assertions.assertThat(csvReader.nextRow()).isNull();
+        }
+        try (CsvReader csvReader = CsvParserBuilder.getInstance().createCsvReader(new StringReader("a,b\nc"))) {
+            Assertions.assertThat(csvReader.nextRow().toList()).containsExactlyInOrder("a", "b");
+            Assertions.assertThat(csvReader.nextRow().toList()).containsExactlyInOrder("c");
+            Assertions.assertThat(csvReader.nextRow()).isNull();
+        }
+    }
+
+    /**
+     * {@link CsvParserBuilder} class test.
+     */
+    @Test
+    public void createCsvFeedTest() {
+        ListEventHandler eventHandler1 = new ListEventHandler();
+        CsvFeed csvFeed1 = CsvParserBuilder.getInstance().createCsvFeed(eventHandler1);
+        csvFeed1.feed("a,b\nc".toCharArray());
+        csvFeed1.finish();
+        Assertions.assertThat(eventHandler1.getCsv()).hasSize(2);
+        Assertions.assertThat(eventHandler1.getCsv().get(0)).containsExactlyInOrder("a", "b");
+        Assertions.assertThat(eventHandler1.getCsv().get(1)).containsExactlyInOrder("c");
+
+        ListEventHandler eventHandler2 = new ListEventHandler();
+        CsvFeed csvFeed2 = CsvParserBuilder.getInstance().createCsvFeed(StandardCharsets.UTF_8, eventHandler2);
+        csvFeed2.feed(ByteBuffer.wrap("a,b\nc".getBytes(StandardCharsets.UTF_8)));
+        csvFeed2.finish();
+        Assertions.assertThat(eventHandler2.getCsv()).hasSize(2);
+        Assertions.assertThat(eventHandler2.getCsv().get(0)).containsExactlyInOrder("a", "b");
+        Assertions.assertThat(eventHandler2.getCsv().get(1)).containsExactlyInOrder("c");
+    }
+
+    /**
+     * {@link CsvParserBuilder} class test.
+     */
+    @Test
+    public void iterateTest() {
+        try (CsvRowIterator csvRowIterator = CsvParserBuilder.getInstance().iterate("a,b\nc")) {
+            Assertions.assertThat(csvRowIterator.next()).containsExactlyInOrder("a", "b");
+            Assertions.assertThat(csvRowIterator.next()).containsExactlyInOrder("c");
+            Assertions.assertThat(csvRowIterator.hasNext()).isFalse();
+        }
+        try (CsvRowIterator csvRowIterator = CsvParserBuilder.getInstance().iterate(new StringReader("a,b\nc"))) {
+            Assertions.assertThat(csvRowIterator.next()).containsExactlyInOrder("a", "b");
+            Assertions.assertThat(csvRowIterator.next()).containsExactlyInOrder("c");
+            Assertions.assertThat(csvRowIterator.hasNext()).isFalse();
+        }
+    }
+
+    /**
+     * {@link CsvParserBuilder} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void iteratePathTest() throws IOException {
+        Path path = Files.createTempFile("csv", ".csv");
+        try {
+            Files.write(path, "a,b".getBytes(StandardCharsets.UTF_8));
+            try (CsvRowIterator csvRowIterator = CsvParserBuilder.getInstance().iterate(path, StandardCharsets.UTF_8)) {
+                Assertions.assertThat(csvRowIterator.next()).containsExactlyInOrder("a", "b");
+                Assertions.assertThat(csvRowIterator.hasNext()).isFalse();
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvParserBuilder} class test.
+     */
+    @Test
+    public void indexTest() {
+        CsvIndex csvIndex1 = CsvParserBuilder.getInstance().index("a,b\nc");
+        Assertions.assertThat(csvIndex1.getRowCount()).isEqualTo(2);
+        Assertions.assertThat(csvIndex1.getRow(0)).containsExactlyInOrder("a", "b");
+        Assertions.assertThat(csvIndex1.getRow(1)).containsExactlyInOrder("c");
+
+        CsvIndex csvIndex2 = CsvParserBuilder.getInstance().index(new StringReader("a,b\nc"));
+        Assertions.assertThat(csvIndex2.getRowCount()).isEqualTo(2);
+        Assertions.assertThat(csvIndex2.getRow(0)).containsExactlyInOrder("a", "b");
+        Assertions.assertThat(csvIndex2.getRow(1)).containsExactlyInOrder("c");
+    }
+
+    /**
+     * {@link CsvParserBuilder} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void estimateTest() throws IOException {
+        Path path = Files.createTempFile("csv", ".csv");
+        try {
+            Files.write(path, "a,b\nc,d\n".getBytes(StandardCharsets.UTF_8));
+            CsvEstimate csvEstimate1 = CsvParserBuilder.getInstance().estimate(path, StandardCharsets.UTF_8);
+            Assertions.assertThat(csvEstimate1.getRowCount()).isEqualTo(2L);
+            Assertions.assertThat(csvEstimate1.isExact()).isTrue();
+
+            CsvEstimate csvEstimate2 = CsvParserBuilder.getInstance().estimate(path, StandardCharsets.UTF_8, 1, 4);
+            Assertions.assertThat(csvEstimate2.getRowCount()).isEqualTo(2L);
+            Assertions.assertThat(csvEstimate2.getRowCountError()).isEqualTo(2L);
+            Assertions.assertThat(csvEstimate2.isExact()).isFalse();
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvParserBuilder} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void parseParallelPathTest() throws IOException {
+        Path path = Files.createTempFile("csv", ".csv");
+        try {
+            Files.write(path, "a,b".getBytes(StandardCharsets.UTF_8));
+            List<List<String>> result = CsvParserBuilder.getInstance().parseParallel(path, StandardCharsets.UTF_8);
+            Assertions.assertThat(result).hasSize(1);
+            Assertions.assertThat(result.get(0)).containsExactlyInOrder("a", "b");
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvParserBuilder} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void parseParallelPathWithCsvEventHandlerTest() throws IOException {
+        Path path = Files.createTempFile("csv", ".csv");
+        ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+        try {
+            Files.write(path, "a,b".getBytes(StandardCharsets.UTF_8));
+            ListEventHandler eventHandler1 = new ListEventHandler();
+            CsvParserBuilder.getInstance().parseParallel(path, StandardCharsets.UTF_8, eventHandler1);
+            Assertions.assertThat(eventHandler1.getCsv()).hasSize(1);
+            Assertions.assertThat(eventHandler1.getCsv().get(0)).containsExactlyInOrder("a", "b");
+
+            ListEventHandler eventHandler2 = new ListEventHandler();
+            CsvParserBuilder.getInstance().parseParallel(path, StandardCharsets.UTF_8, eventHandler2, forkJoinPool);
+            Assertions.assertThat(eventHandler2.getCsv()).hasSize(1);
+            Assertions.assertThat(eventHandler2.getCsv().get(0)).containsExactlyInOrder("a", "b");
+        } finally {
+            forkJoinPool.shutdown();
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvParserBuilder} class test.
+     *
+     * @throws IOException          IO exception.
+     * @throws InterruptedException interrupted exception.
+     * @throws ExecutionException   execution exception.
+     */
+    @Test
+    public void parseAsyncTest() throws IOException, InterruptedException, ExecutionException {
+        Path path = Files.createTempFile("csv", ".csv");
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Files.write(path, "a,b".getBytes(StandardCharsets.UTF_8));
+            ListEventHandler eventHandler = CsvParserBuilder.getInstance().parseAsync(path, StandardCharsets.UTF_8, new ListEventHandler(), executorService).get();
+            Assertions.assertThat(eventHandler.getCsv()).hasSize(1);
+            Assertions.assertThat(eventHandler.getCsv().get(0)).containsExactlyInOrder("a", "b");
+        } finally {
+            executorService.shutdown();
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvParserBuilder} class test.
+     */
+    @Test
+    public void parsePipelinedTest() {
+        ListEventHandler eventHandler1 = new ListEventHandler();
+        CsvParserBuilder.getInstance().parsePipelined(new StringReader("a,b\r\nc"), eventHandler1);
+        Assertions.assertThat(eventHandler1.getCsv()).hasSize(2);
+        Assertions.assertThat(eventHandler1.getCsv().get(0)).containsExactlyInOrder("a", "b");
+        Assertions.assertThat(eventHandler1.getCsv().get(1)).containsExactlyInOrder("c");
+
+        ListEventHandler eventHandler2 = new ListEventHandler();
+        CsvParserBuilder.getInstance().parsePipelined(new ByteArrayInputStream("a,b\r\nc".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, eventHandler2);
+        Assertions.assertThat(eventHandler2.getCsv()).hasSize(2);
+        Assertions.assertThat(eventHandler2.getCsv().get(0)).containsExactlyInOrder("a", "b");
+        Assertions.assertThat(eventHandler2.getCsv().get(1)).containsExactlyInOrder("c");
+
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        try {
+            ListEventHandler eventHandler3 = new ListEventHandler();
+            CsvParserBuilder.getInstance().parsePipelined(new StringReader("a,b\r\nc"), eventHandler3, executorService);
+            Assertions.assertThat(eventHandler3.getCsv()).hasSize(2);
+            Assertions.assertThat(eventHandler3.getCsv().get(0)).containsExactlyInOrder("a", "b");
+            Assertions.assertThat(eventHandler3.getCsv().get(1)).containsExactlyInOrder("c");
+
+            ListEventHandler eventHandler4 = new ListEventHandler();
+            CsvParserBuilder.getInstance().parsePipelined(new ByteArrayInputStream("a,b\r\nc".getBytes(StandardCharsets.UTF_16)), StandardCharsets.UTF_16, eventHandler4, executorService);
+            Assertions.assertThat(eventHandler4.getCsv()).hasSize(2);
+            Assertions.assertThat(eventHandler4.getCsv().get(0)).containsExactlyInOrder("a", "b");
+            Assertions.assertThat(eventHandler4.getCsv().get(1)).containsExactlyInOrder("c");
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * {@link CsvParserBuilder} class test.
+     */
+    @Test
+    public void parsePipelinedConfigurableTest() {
+        RestrictedListEventHandler eventHandler1 = new RestrictedListEventHandler(2);
+        CsvParserBuilder.getInstance().parsePipelined(new StringReader("abc,d\r\nef"), eventHandler1);
+        Assertions.assertThat(eventHandler1.getCsv()).hasSize(2);
+        Assertions.assertThat(eventHandler1.getCsv().get(0)).containsExactlyInOrder("ab", "d");
+        Assertions.assertThat(eventHandler1.getCsv().get(1)).containsExactlyInOrder("ef");
+
+        DimensionEventHandler eventHandler2 = new DimensionEventHandler();
+        CsvParserBuilder.getInstance().parsePipelined(new ByteArrayInputStream("a,b\r\nc,d\r\ne,f".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, eventHandler2);
+        Assertions.assertThat(eventHandler2.getRowCount()).isEqualTo(3);
+        Assertions.assertThat(eventHandler2.getColumnCount()).isEqualTo(2);
+
+        try {
+            CsvParserBuilder.getInstance().parsePipelined(new StringReader("a,b\r\nc"), new DimensionEventHandler());
+            Assertions.fail("CsvParserBuilder test fail");
+        } catch (WrongColumnCountException ex) {
+            Assertions.assertThat(ex).messageMatches("CSV has rows with different column count.*");
+        }
+    }
+
+    /**
+     * {@link CsvParserBuilder} class test.
+     */
+    @Test
+    public void parsePipelinedSmallExecutorTest() {
+        ThreadPoolExecutor executorService1 = (ThreadPoolExecutor) Executors.newFixedThreadPool(1);
+        ThreadPoolExecutor executorService2 = (ThreadPoolExecutor) Executors.newFixedThreadPool(2);
+        try {
+            ListEventHandler eventHandler1 = new ListEventHandler();
+            CsvParserBuilder.getInstance().parsePipelined(new StringReader("a,b\r\nc"), eventHandler1, executorService1);
+            Assertions.assertThat(eventHandler1.getCsv()).hasSize(2);
+            Assertions.assertThat(eventHandler1.getCsv().get(0)).containsExactlyInOrder("a", "b");
+            Assertions.assertThat(eventHandler1.getCsv().get(1)).containsExactlyInOrder("c");
+            Assertions.assertThat(executorService1.getTaskCount()).isEqualTo(0L);
+
+            ListEventHandler eventHandler2 = new ListEventHandler();
+            CsvParserBuilder.getInstance().parsePipelined(new ByteArrayInputStream("a,b\r\nc".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, eventHandler2, executorService2);
+            Assertions.assertThat(eventHandler2.getCsv()).hasSize(2);
+            Assertions.assertThat(eventHandler2.getCsv().get(0)).containsExactlyInOrder("a", "b");
+            Assertions.assertThat(eventHandler2.getCsv().get(1)).containsExactlyInOrder("c");
+            Assertions.assertThat(executorService2.getTaskCount()).isEqualTo(0L);
+        } finally {
+            executorService1.shutdown();
+            executorService2.shutdown();
+        }
+    }
+
+    /**
+     * {@link CsvParserBuilder} class test.
+     */
+    @Test
+    public void parsePipelinedChunkEventHandlerTest() {
+        try {
+            CsvParserBuilder.getInstance().parsePipelined(new StringReader("a,b"), new ChunkEventHandler());
+            Assertions.fail("CsvParserBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("CSV chunk event handler is not supported by the pipelined parser.");
+        }
+        try {
+            CsvParserBuilder.getInstance().parsePipelined(new ByteArrayInputStream("a,b".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, new ChunkEventHandler());
+            Assertions.fail("CsvParserBuilder test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("CSV chunk event handler is not supported by the pipelined parser.");
+        }
+    }
+
     /**
      * Test class.
      *
@@ -613,4 +1115,37 @@ public final class CsvParserBuilderTest extends CsvTest {
 
     }
 
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class ChunkEventHandler implements CsvEventHandler, CsvChunkEventHandler {
+
+        ChunkEventHandler() {
+            super();
+        }
+
+        @Override
+        public int getChunkSize() {
+            return 1;
+        }
+
+        @Override
+        public void pushColumn(final String column, final int actualLength) {
+            // Ignore
+        }
+
+        @Override
+        public void pushColumnChunk(final char[] buffer, final int offset, final int length, final boolean last) {
+            // Ignore
+        }
+
+        @Override
+        public void pushRow() {
+            // Ignore
+        }
+
+    }
+
 }
@@ -52,6 +52,8 @@ public final class CsvParserConfigurationTest extends CsvTest {
         Assertions.assertThat(csvParserConfiguration.isSkipEmptyRowsEnabled()).isFalse();
         Assertions.assertThat(csvParserConfiguration.getMaxColumnLength()).isEqualTo(0);
         Assertions.assertThat(csvParserConfiguration.isMaxColumnLengthCheckEnabled()).isFalse();
+        Assertions.assertThat(csvParserConfiguration.getReadBufferSize()).isEqualTo(8192);
+        Assertions.assertThat(csvParserConfiguration.isTableEngineEnabled()).isFalse();
     }
 
     /**
@@ -69,7 +71,15 @@ public final class CsvParserConfigurationTest extends CsvTest {
         csvParserConfiguration1.setSkipEmptyRowsEnabled(true);
         csvParserConfiguration1.setMaxColumnLength(1);
         csvParserConfiguration1.setMaxColumnLengthCheckEnabled(true);
+        csvParserConfiguration1.setReadBufferSize(1);
+        csvParserConfiguration1.setTableEngineEnabled(true);
+        csvParserConfiguration1.setSkipRows(2L);
+        csvParserConfiguration1.setLimitRows(5L);
+        csvParserConfiguration1.setProjection(1, 3);
+        CsvColumnPredicate columnPredicate = CsvColumnPredicates.equalTo("a");
+        csvParserConfiguration1.addColumnPredicate(2, columnPredicate);
         CsvParserConfiguration csvParserConfigurationCopy1 = csvParserConfiguration1.copyOf();
+        csvParserConfiguration1.clearColumnPredicates();
         Assertions.assertThat(csvParserConfigurationCopy1.isCommaSeparator()).isTrue();
         Assertions.assertThat(csvParserConfigurationCopy1.isSemicolonSeparator()).isTrue();
         Assertions.assertThat(csvParserConfigurationCopy1.isCrSeparator()).isTrue();
@@ -79,6 +89,13 @@ public final class CsvParserConfigurationTest extends CsvTest {
         Assertions.assertThat(csvParserConfigurationCopy1.isSkipEmptyRowsEnabled()).isTrue();
         Assertions.assertThat(csvParserConfigurationCopy1.getMaxColumnLength()).isEqualTo(1);
         Assertions.assertThat(csvParserConfigurationCopy1.isMaxColumnLengthCheckEnabled()).isTrue();
+        Assertions.assertThat(csvParserConfigurationCopy1.getReadBufferSize()).isEqualTo(1);
+        Assertions.assertThat(csvParserConfigurationCopy1.isTableEngineEnabled()).isTrue();
+        Assertions.assertThat(csvParserConfigurationCopy1.getSkipRows()).isEqualTo(2L);
+        Assertions.assertThat(csvParserConfigurationCopy1.getLimitRows()).isEqualTo(5L);
+        Assertions.assertThat(csvParserConfigurationCopy1.getProjection()).containsExactlyInOrder(1, 3);
+        Assertions.assertThat(csvParserConfigurationCopy1.getColumnPredicates()).hasSize(1);
+        Assertions.assertThat(csvParserConfigurationCopy1.getColumnPredicates().get(2)).isSameAs(columnPredicate);
 
         CsvParserConfiguration csvParserConfiguration2 = new CsvParserConfiguration();
         csvParserConfiguration2.setCommaSeparator(false);
@@ -90,6 +107,8 @@ public final class CsvParserConfigurationTest extends CsvTest {
         csvParserConfiguration2.setSkipEmptyRowsEnabled(false);
         csvParserConfiguration2.setMaxColumnLength(-1);
         csvParserConfiguration2.setMaxColumnLengthCheckEnabled(false);
+        csvParserConfiguration2.setReadBufferSize(1024);
+        csvParserConfiguration2.setTableEngineEnabled(false);
         CsvParserConfiguration csvParserConfigurationCopy2 = csvParserConfiguration2.copyOf();
         Assertions.assertThat(csvParserConfigurationCopy2.isCommaSeparator()).isFalse();
         Assertions.assertThat(csvParserConfigurationCopy2.isSemicolonSeparator()).isFalse();
@@ -100,6 +119,12 @@ public final class CsvParserConfigurationTest extends CsvTest {
         Assertions.assertThat(csvParserConfigurationCopy2.isSkipEmptyRowsEnabled()).isFalse();
         Assertions.assertThat(csvParserConfigurationCopy2.getMaxColumnLength()).isEqualTo(-1);
         Assertions.assertThat(csvParserConfigurationCopy2.isMaxColumnLengthCheckEnabled()).isFalse();
+        Assertions.assertThat(csvParserConfigurationCopy2.getReadBufferSize()).isEqualTo(1024);
+        Assertions.assertThat(csvParserConfigurationCopy2.isTableEngineEnabled()).isFalse();
+        Assertions.assertThat(csvParserConfigurationCopy2.getSkipRows()).isEqualTo(0L);
+        Assertions.assertThat(csvParserConfigurationCopy2.getLimitRows()).isEqualTo(-1L);
+        Assertions.assertThat(csvParserConfigurationCopy2.getProjection()).isNull();
+        Assertions.assertThat(csvParserConfigurationCopy2.getColumnPredicates()).isEmpty();
     }
 
     /**
@@ -233,6 +258,34 @@ public final class CsvParserConfigurationTest extends CsvTest {
         } catch (WrongRowSeparatorException ex) {
             Assertions.assertThat(ex).hasMessage("No row separator is specified.");
         }
+
+        CsvParserConfiguration csvParserConfiguration21 = new CsvParserConfiguration();
+        csvParserConfiguration21.setCommaSeparator(true);
+        csvParserConfiguration21.setCrLfSeparator(true);
+        csvParserConfiguration21.setReadBufferSize(1);
+        csvParserConfiguration21.validate();
+
+        CsvParserConfiguration csvParserConfiguration22 = new CsvParserConfiguration();
+        csvParserConfiguration22.setCommaSeparator(true);
+        csvParserConfiguration22.setCrLfSeparator(true);
+        csvParserConfiguration22.setReadBufferSize(0);
+        try {
+            csvParserConfiguration22.validate();
+            Assertions.fail("CsvParserConfiguration test fail");
+        } catch (WrongReadBufferSizeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong read buffer size is specified.");
+        }
+
+        CsvParserConfiguration csvParserConfiguration23 = new CsvParserConfiguration();
+        csvParserConfiguration23.setCommaSeparator(true);
+        csvParserConfiguration23.setCrLfSeparator(true);
+        csvParserConfiguration23.setReadBufferSize(-1);
+        try {
+            csvParserConfiguration23.validate();
+            Assertions.fail("CsvParserConfiguration test fail");
+        } catch (WrongReadBufferSizeException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong read buffer size is specified.");
+        }
     }
 
     /**
@@ -354,4 +407,110 @@ public final class CsvParserConfigurationTest extends CsvTest {
         Assertions.assertThat(csvParserConfiguration.isMaxColumnLengthCheckEnabled()).isTrue();
     }
 
+    /**
+     * {@link CsvParserConfiguration} class test.
+     */
+    @Test
+    public void readBufferSizeTest() {
+        CsvParserConfiguration csvParserConfiguration = new CsvParserConfiguration();
+        Assertions.assertThat(csvParserConfiguration.getReadBufferSize()).isEqualTo(8192);
+        csvParserConfiguration.setReadBufferSize(1);
+        Assertions.assertThat(csvParserConfiguration.getReadBufferSize()).isEqualTo(1);
+        csvParserConfiguration.setReadBufferSize(100);
+        Assertions.assertThat(csvParserConfiguration.getReadBufferSize()).isEqualTo(100);
+    }
+
+    /**
+     * {@link CsvParserConfiguration} class test.
+     */
+    @Test
+    public void tableEngineEnabledTest() {
+        CsvParserConfiguration csvParserConfiguration = new CsvParserConfiguration();
+        Assertions.assertThat(csvParserConfiguration.isTableEngineEnabled()).isFalse();
+        csvParserConfiguration.setTableEngineEnabled(true);
+        Assertions.assertThat(csvParserConfiguration.isTableEngineEnabled()).isTrue();
+        csvParserConfiguration.setTableEngineEnabled(false);
+        Assertions.assertThat(csvParserConfiguration.isTableEngineEnabled()).isFalse();
+    }
+
+    /**
+     * {@link CsvParserConfiguration} class test.
+     */
+    @Test
+    public void skipRowsTest() {
+        CsvParserConfiguration csvParserConfiguration = new CsvParserConfiguration();
+        Assertions.assertThat(csvParserConfiguration.getSkipRows()).isEqualTo(0L);
+        csvParserConfiguration.setSkipRows(10L);
+        Assertions.assertThat(csvParserConfiguration.getSkipRows()).isEqualTo(10L);
+        csvParserConfiguration.setSkipRows(0L);
+        Assertions.assertThat(csvParserConfiguration.getSkipRows()).isEqualTo(0L);
+    }
+
+    /**
+     * {@link CsvParserConfiguration} class test.
+     */
+    @Test
+    public void limitRowsTest() {
+        CsvParserConfiguration csvParserConfiguration = new CsvParserConfiguration();
+        Assertions.assertThat(csvParserConfiguration.getLimitRows()).isEqualTo(-1L);
+        csvParserConfiguration.setLimitRows(100L);
+        Assertions.assertThat(csvParserConfiguration.getLimitRows()).isEqualTo(100L);
+        csvParserConfiguration.setLimitRows(0L);
+        Assertions.assertThat(csvParserConfiguration.getLimitRows()).isEqualTo(0L);
+        csvParserConfiguration.setLimitRows(-5L);
+        Assertions.assertThat(csvParserConfiguration.getLimitRows()).isEqualTo(-5L);
+    }
+
+    /**
+     * {@link CsvParserConfiguration} class test.
+     */
+    @Test
+    public void projectionTest() {
+        CsvParserConfiguration csvParserConfiguration = new CsvParserConfiguration();
+        Assertions.assertThat(csvParserConfiguration.getProjection()).isNull();
+        int[] projection = {2, 0};
+        csvParserConfiguration.setProjection(projection);
+        projection[0] = 5;
+        Assertions.assertThat(csvParserConfiguration.getProjection()).containsExactlyInOrder(2, 0);
+        csvParserConfiguration.getProjection()[0] = 5;
+        Assertions.assertThat(csvParserConfiguration.getProjection()).containsExactlyInOrder(2, 0);
+        csvParserConfiguration.setProjection();
+        Assertions.assertThat(csvParserConfiguration.getProjection()).isEmpty();
+        csvParserConfiguration.setProjection((int[]) null);
+        Assertions.assertThat(csvParserConfiguration.getProjection()).isNull();
+    }
+
+    /**
+     * {@link CsvParserConfiguration} class test.
+     */
+    @Test
+    public void columnPredicatesTest() {
+        CsvParserConfiguration csvParserConfiguration = new CsvParserConfiguration();
+        Assertions.assertThat(csvParserConfiguration.getColumnPredicates()).isEmpty();
+        CsvColumnPredicate columnPredicate1 = CsvColumnPredicates.equalTo("a");
+        CsvColumnPredicate columnPredicate2 = CsvColumnPredicates.startsWith("b");
+        CsvColumnPredicate columnPredicate3 = CsvColumnPredicates.startsWith("c");
+        csvParserConfiguration.addColumnPredicate(3, columnPredicate1);
+        csvParserConfiguration.addColumnPredicate(1, columnPredicate2);
+        Assertions.assertThat(csvParserConfiguration.getColumnPredicates().keySet()).containsExactlyInOrder(1, 3);
+        csvParserConfiguration.addColumnPredicate(3, columnPredicate3);
+        Assertions.assertThat(csvParserConfiguration.getColumnPredicates()).hasSize(2);
+        Assertions.assertThat(csvParserConfiguration.getColumnPredicates().get(3)).isSameAs(columnPredicate3);
+        try {
+            csvParserConfiguration.getColumnPredicates().clear();
+            Assertions.fail("CsvParserConfiguration test fail");
+        } catch (UnsupportedOperationException ex) {
+            Assertions.assertThat(ex).isNotNull();
+        }
+        csvParserConfiguration.clearColumnPredicates();
+        Assertions.assertThat(csvParserConfiguration.getColumnPredicates()).isEmpty();
+        try {
+            csvParserConfiguration.addColumnPredicate(0, null);
+            Assertions.fail("CsvParserConfiguration test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("CSV column predicate is null.");
+        }
+        Assertions.assertThat(csvParserConfiguration.getColumnPredicates()).isEmpty();
+    }
+
 }
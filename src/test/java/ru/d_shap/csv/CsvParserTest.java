@@ -19,9 +19,19 @@
 ///////////////////////////////////////////////////////////////////////////////////////////////////
 package ru.d_shap.csv;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.Test;
 
@@ -30,7 +40,11 @@ import ru.d_shap.assertions.mock.IsCloseable;
 import ru.d_shap.assertions.util.DataHelper;
 import ru.d_shap.csv.handler.ColumnCountEventHandler;
 import ru.d_shap.csv.handler.ColumnLengthEventHandler;
+import ru.d_shap.csv.handler.CsvEventHandler;
+import ru.d_shap.csv.handler.CsvMergeable;
+import ru.d_shap.csv.handler.CsvStoppable;
 import ru.d_shap.csv.handler.DimensionEventHandler;
+import ru.d_shap.csv.handler.ListEventHandler;
 import ru.d_shap.csv.handler.NoopEventHandler;
 import ru.d_shap.csv.handler.RestrictedListEventHandler;
 
@@ -76,6 +90,77 @@ public final class CsvParserTest extends CsvTest {
         } catch (WrongColumnSeparatorException ex) {
             Assertions.assertThat(ex).hasMessage("No column separator is specified.");
         }
+        try {
+            CsvParserConfiguration csvParserConfiguration = new CsvParserConfiguration();
+            csvParserConfiguration.setCommaSeparator(true);
+            csvParserConfiguration.setCrLfSeparator(true);
+            csvParserConfiguration.setProjection(0, -1);
+            new CsvParser(csvParserConfiguration);
+            Assertions.fail("CsvParser test fail");
+        } catch (WrongProjectionException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong projection column index is specified.");
+        }
+        try {
+            CsvParserConfiguration csvParserConfiguration = new CsvParserConfiguration();
+            csvParserConfiguration.setCommaSeparator(true);
+            csvParserConfiguration.setCrLfSeparator(true);
+            csvParserConfiguration.setProjection(0, CsvParserConfiguration.MAX_COLUMN_INDEX + 1);
+            new CsvParser(csvParserConfiguration);
+            Assertions.fail("CsvParser test fail");
+        } catch (WrongProjectionException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong projection column index is specified.");
+        }
+        try {
+            CsvParserConfiguration csvParserConfiguration = new CsvParserConfiguration();
+            csvParserConfiguration.setCommaSeparator(true);
+            csvParserConfiguration.setCrLfSeparator(true);
+            csvParserConfiguration.setProjection(Integer.MAX_VALUE);
+            new CsvParser(csvParserConfiguration);
+            Assertions.fail("CsvParser test fail");
+        } catch (WrongProjectionException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong projection column index is specified.");
+        }
+        try {
+            CsvParserConfiguration csvParserConfiguration = new CsvParserConfiguration();
+            csvParserConfiguration.setCommaSeparator(true);
+            csvParserConfiguration.setCrLfSeparator(true);
+            csvParserConfiguration.addColumnPredicate(1, CsvColumnPredicates.equalTo("a"));
+            csvParserConfiguration.addColumnPredicate(-1, CsvColumnPredicates.equalTo("a"));
+            new CsvParser(csvParserConfiguration);
+            Assertions.fail("CsvParser test fail");
+        } catch (WrongColumnPredicateException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong column predicate column index is specified.");
+        }
+        try {
+            CsvParserConfiguration csvParserConfiguration = new CsvParserConfiguration();
+            csvParserConfiguration.setCommaSeparator(true);
+            csvParserConfiguration.setCrLfSeparator(true);
+            csvParserConfiguration.addColumnPredicate(CsvParserConfiguration.MAX_COLUMN_INDEX + 1, CsvColumnPredicates.equalTo("a"));
+            new CsvParser(csvParserConfiguration);
+            Assertions.fail("CsvParser test fail");
+        } catch (WrongColumnPredicateException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong column predicate column index is specified.");
+        }
+        try {
+            CsvParserConfiguration csvParserConfiguration = new CsvParserConfiguration();
+            csvParserConfiguration.setCommaSeparator(true);
+            csvParserConfiguration.setCrLfSeparator(true);
+            csvParserConfiguration.addColumnPredicate(Integer.MAX_VALUE, CsvColumnPredicates.startsWith("a"));
+            new CsvParser(csvParserConfiguration);
+            Assertions.fail("CsvParser test fail");
+        } catch (WrongColumnPredicateException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong column predicate column index is specified.");
+        }
+        try {
+            CsvParserConfiguration csvParserConfiguration = new CsvParserConfiguration();
+            csvParserConfiguration.setCommaSeparator(true);
+            csvParserConfiguration.setCrLfSeparator(true);
+            csvParserConfiguration.setSkipRows(-1L);
+            new CsvParser(csvParserConfiguration);
+            Assertions.fail("CsvParser test fail");
+        } catch (WrongSkipRowsException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong number of rows to skip is specified.");
+        }
     }
 
     /**
@@ -1857,6 +1942,357 @@ public final class CsvParserTest extends CsvTest {
         Assertions.assertThat(result.get(0)).containsExactlyInOrder("1", "2", "3\u00004");
     }
 
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void parseCsvWithReadBufferBoundariesTest() {
+        String csv = "a,\"b,\"\"c\"\"\r\nd\";e\r\n\r\nf\rg\ngh,\"\"\r";
+        for (int readBufferSize = 1; readBufferSize <= csv.length() + 1; readBufferSize++) {
+            CsvParserBuilder builder = CsvParserBuilder.getInstance();
+            builder.setCommaSeparator(true).setSemicolonSeparator(true).setCrSeparator(true).setLfSeparator(true).setCrLfSeparator(true);
+            List<List<String>> result = builder.setReadBufferSize(readBufferSize).parse(new StringReader(csv));
+            Assertions.assertThat(result).hasSize(5);
+            Assertions.assertThat(result.get(0)).containsExactlyInOrder("a", "b,\"c\"\r\nd", "e");
+            Assertions.assertThat(result.get(1)).containsExactlyInOrder();
+            Assertions.assertThat(result.get(2)).containsExactlyInOrder("f");
+            Assertions.assertThat(result.get(3)).containsExactlyInOrder("g");
+            Assertions.assertThat(result.get(4)).containsExactlyInOrder("gh", "");
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void parseErrorPositionTest() {
+        String csv1 = "a,b\r\n\r\nc,\"d\"x,e";
+        for (int readBufferSize = 1; readBufferSize <= csv1.length() + 1; readBufferSize++) {
+            try {
+                CsvParserBuilder builder = CsvParserBuilder.getInstance();
+                builder.setCommaSeparator(true).setCrLfSeparator(true).setSkipEmptyRowsEnabled(true);
+                builder.setReadBufferSize(readBufferSize).parse(new StringReader(csv1));
+                Assertions.fail("CsvParser test fail");
+            } catch (CsvParseException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong character obtained: 'x' (120). Last characters: \"a,b\\r\\n\\r\\nc,\"d\"x\".");
+                Assertions.assertThat(ex.getPosition()).isEqualTo(12L);
+                Assertions.assertThat(ex.getRowIndex()).isEqualTo(2L);
+                Assertions.assertThat(ex.getColumnIndex()).isEqualTo(1);
+            }
+        }
+
+        String csv2 = "a,b\nc,d,e\n";
+        for (int readBufferSize = 1; readBufferSize <= csv2.length() + 1; readBufferSize++) {
+            try {
+                CsvParserBuilder builder = CsvParserBuilder.getInstance();
+                builder.setCommaSeparator(true).setLfSeparator(true).setColumnCountCheckEnabled(true);
+                builder.setReadBufferSize(readBufferSize).parse(new StringReader(csv2));
+                Assertions.fail("CsvParser test fail");
+            } catch (WrongColumnCountException ex) {
+                Assertions.assertThat(ex).hasMessage("CSV has rows with different column count. Last characters: \"a,b\\nc,d,e\\n\".");
+                Assertions.assertThat(ex.getPosition()).isEqualTo(9L);
+                Assertions.assertThat(ex.getRowIndex()).isEqualTo(1L);
+                Assertions.assertThat(ex.getColumnIndex()).isEqualTo(2);
+            }
+        }
+
+        byte[] bytes = "\u0416,\"x\"y".getBytes(StandardCharsets.UTF_8);
+        for (int readBufferSize = 1; readBufferSize <= bytes.length + 1; readBufferSize++) {
+            try {
+                CsvParserBuilder builder = CsvParserBuilder.getInstance();
+                builder.setCommaSeparator(true).setLfSeparator(true);
+                builder.setReadBufferSize(readBufferSize).parse(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8);
+                Assertions.fail("CsvParser test fail");
+            } catch (CsvParseException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong character obtained: 'y' (121). Last characters: \"\u0416,\"x\"y\".");
+                Assertions.assertThat(ex.getPosition()).isEqualTo(6L);
+                Assertions.assertThat(ex.getRowIndex()).isEqualTo(0L);
+                Assertions.assertThat(ex.getColumnIndex()).isEqualTo(1);
+            }
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void parseWithProjectionTest() {
+        String csv = "a,\"b,\"\"c\"\"\r\nd\";e,f\r\n\r\ng,h\r\n\"i\",\"j\",\"k\",\"l\",\"m\"\r\n";
+        for (int readBufferSize = 1; readBufferSize <= csv.length() + 1; readBufferSize++) {
+            for (int i = 0; i < 2; i++) {
+                CsvParserBuilder builder = CsvParserBuilder.getInstance();
+                builder.setCommaSeparator(true).setSemicolonSeparator(true).setCrLfSeparator(true).setTableEngineEnabled(i == 0);
+                builder.setMaxColumnLength(2).setMaxColumnLengthCheckEnabled(true).setReadBufferSize(readBufferSize);
+                List<List<String>> result = builder.setProjection(3, 2).parse(new StringReader(csv));
+                Assertions.assertThat(result).hasSize(4);
+                Assertions.assertThat(result.get(0)).containsExactlyInOrder("e", "f");
+                Assertions.assertThat(result.get(1)).containsExactlyInOrder();
+                Assertions.assertThat(result.get(2)).containsExactlyInOrder();
+                Assertions.assertThat(result.get(3)).containsExactlyInOrder("k", "l");
+            }
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void parseWithColumnPredicatesTest() {
+        String csv = "a,b,k1,c\r\n\"d,\"\"\",e,k2,f\r\n\r\ng,h\r\n\"i\",j,\"k1\"\r\nl,m,k3,n,o\r\np,q2,k1\r\n";
+        for (int readBufferSize = 1; readBufferSize <= csv.length() + 1; readBufferSize++) {
+            for (int i = 0; i < 2; i++) {
+                CsvParserBuilder builder = CsvParserBuilder.getInstance();
+                builder.setCommaSeparator(true).setCrLfSeparator(true).setTableEngineEnabled(i == 0).setReadBufferSize(readBufferSize);
+                builder.addColumnPredicate(2, CsvColumnPredicates.equalTo("k1", "k3")).addColumnPredicate(1, CsvColumnPredicates.startsWith("q"));
+                List<List<String>> result1 = builder.parse(new StringReader(csv));
+                Assertions.assertThat(result1).hasSize(1);
+                Assertions.assertThat(result1.get(0)).containsExactlyInOrder("p", "q2", "k1");
+
+                builder.clearColumnPredicates().addColumnPredicate(2, CsvColumnPredicates.equalTo("k1", "k3"));
+                List<List<String>> result2 = builder.parse(new StringReader(csv));
+                Assertions.assertThat(result2).hasSize(4);
+                Assertions.assertThat(result2.get(0)).containsExactlyInOrder("a", "b", "k1", "c");
+                Assertions.assertThat(result2.get(1)).containsExactlyInOrder("i", "j", "k1");
+                Assertions.assertThat(result2.get(2)).containsExactlyInOrder("l", "m", "k3", "n", "o");
+                Assertions.assertThat(result2.get(3)).containsExactlyInOrder("p", "q2", "k1");
+
+                List<List<String>> result3 = builder.setProjection(3, 0).parse(new StringReader(csv));
+                Assertions.assertThat(result3).hasSize(4);
+                Assertions.assertThat(result3.get(0)).containsExactlyInOrder("a", "c");
+                Assertions.assertThat(result3.get(1)).containsExactlyInOrder("i");
+                Assertions.assertThat(result3.get(2)).containsExactlyInOrder("l", "n");
+                Assertions.assertThat(result3.get(3)).containsExactlyInOrder("p");
+            }
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void parseWithColumnPredicatesAndCharsetTest() {
+        byte[] bytes = "\u0416,a\r\nb,\u0416\u0416\r\n\u20ac,\u0416\r\n".getBytes(StandardCharsets.UTF_8);
+        for (int readBufferSize = 1; readBufferSize <= bytes.length + 1; readBufferSize++) {
+            CsvParserBuilder builder = CsvParserBuilder.getInstance();
+            builder.setCommaSeparator(true).setCrLfSeparator(true).setReadBufferSize(readBufferSize);
+            builder.addColumnPredicate(1, CsvColumnPredicates.startsWith("\u0416"));
+            List<List<String>> result = builder.parse(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8);
+            Assertions.assertThat(result).hasSize(2);
+            Assertions.assertThat(result.get(0)).containsExactlyInOrder("b", "\u0416\u0416");
+            Assertions.assertThat(result.get(1)).containsExactlyInOrder("\u20ac", "\u0416");
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void parseWithColumnPredicatesErrorTest() {
+        try {
+            CsvParserBuilder builder = CsvParserBuilder.getInstance();
+            builder.setCommaSeparator(true).setCrLfSeparator(true).setColumnCountCheckEnabled(true);
+            builder.addColumnPredicate(0, CsvColumnPredicates.equalTo("x"));
+            builder.parse("a,b\r\nc,d,e\r\n");
+            Assertions.fail("CsvParser test fail");
+        } catch (WrongColumnCountException ex) {
+            Assertions.assertThat(ex.getRowIndex()).isEqualTo(1L);
+            Assertions.assertThat(ex.getColumnIndex()).isEqualTo(2);
+        }
+        List<List<String>> result = CsvParserBuilder.getInstance().setMaxColumnLength(2).setMaxColumnLengthCheckEnabled(true).addColumnPredicate(0, CsvColumnPredicates.equalTo("x")).parse("a,bcd\r\nx,y\r\n");
+        Assertions.assertThat(result).hasSize(1);
+        Assertions.assertThat(result.get(0)).containsExactlyInOrder("x", "y");
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void parseWithSkipAndLimitRowsTest() {
+        String csv = "a,\"b\r\nc\"\r\n\r\nd,e\r\nf,g\r\nh,i\r\nj,\"k";
+        for (int readBufferSize = 1; readBufferSize <= csv.length() + 1; readBufferSize++) {
+            for (int i = 0; i < 2; i++) {
+                CsvParserBuilder builder = CsvParserBuilder.getInstance();
+                builder.setCommaSeparator(true).setCrLfSeparator(true).setSkipEmptyRowsEnabled(true).setTableEngineEnabled(i == 0).setReadBufferSize(readBufferSize);
+                List<List<String>> result1 = builder.setSkipRows(1L).setLimitRows(2L).parse(new StringReader(csv));
+                Assertions.assertThat(result1).hasSize(2);
+                Assertions.assertThat(result1.get(0)).containsExactlyInOrder("d", "e");
+                Assertions.assertThat(result1.get(1)).containsExactlyInOrder("f", "g");
+
+                List<List<String>> result2 = builder.setSkipRows(2L).setLimitRows(1L).addColumnPredicate(0, CsvColumnPredicates.equalTo("h")).parse(new StringReader(csv));
+                Assertions.assertThat(result2).hasSize(1);
+                Assertions.assertThat(result2.get(0)).containsExactlyInOrder("h", "i");
+
+                List<List<String>> result3 = builder.setSkipRows(0L).setLimitRows(0L).parse(new StringReader(csv));
+                Assertions.assertThat(result3).hasSize(0);
+            }
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void parseWithSkipRowsErrorTest() {
+        try {
+            CsvParserBuilder builder = CsvParserBuilder.getInstance();
+            builder.setCommaSeparator(true).setCrLfSeparator(true).setColumnCountCheckEnabled(true).setSkipRows(1L);
+            builder.parse("a,b\r\nc,d,e\r\n");
+            Assertions.fail("CsvParser test fail");
+        } catch (WrongColumnCountException ex) {
+            Assertions.assertThat(ex.getRowIndex()).isEqualTo(1L);
+            Assertions.assertThat(ex.getColumnIndex()).isEqualTo(2);
+        }
+        try {
+            CsvParserBuilder builder = CsvParserBuilder.getInstance();
+            builder.setCommaSeparator(true).setCrLfSeparator(true).setSkipRows(5L);
+            builder.parse("a,b\r\nc\"d\r\n");
+            Assertions.fail("CsvParser test fail");
+        } catch (CsvParseException ex) {
+            Assertions.assertThat(ex.getRowIndex()).isEqualTo(1L);
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void parseWithLimitRowsStopsReadingTest() {
+        RepeatingReader reader = new RepeatingReader("a,b\r\n");
+        List<List<String>> result = CsvParserBuilder.getInstance().setLimitRows(3L).setReadBufferSize(4).parse(reader);
+        Assertions.assertThat(result).hasSize(3);
+        Assertions.assertThat(result.get(2)).containsExactlyInOrder("a", "b");
+        Assertions.assertThat(reader.isClosed()).isTrue();
+
+        InputStream inputStream = DataHelper.createInputStreamBuilder().setContent("a\r\nb\r\n\"c".getBytes(StandardCharsets.UTF_8)).buildInputStream();
+        List<List<String>> resultInputStream = CsvParserBuilder.getInstance().setLimitRows(2L).parse(inputStream, StandardCharsets.UTF_8);
+        Assertions.assertThat(resultInputStream).hasSize(2);
+        Assertions.assertThat(((IsCloseable) inputStream).isClosed()).isTrue();
+
+        ByteBuffer byteBuffer = ByteBuffer.wrap("a\r\nb\r\n\"c".getBytes(StandardCharsets.UTF_8));
+        List<List<String>> resultByteBuffer = CsvParserBuilder.getInstance().setLimitRows(2L).setReadBufferSize(3).parse(byteBuffer, StandardCharsets.UTF_8);
+        Assertions.assertThat(resultByteBuffer).hasSize(2);
+        Assertions.assertThat(resultByteBuffer.get(1)).containsExactlyInOrder("b");
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void parsePathWithLimitRowsTest() throws IOException {
+        Path path = Files.createTempFile("csv", ".csv");
+        ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+        try {
+            Files.write(path, "a\r\nb\r\nc\r\nd\r\n\"e".getBytes(StandardCharsets.UTF_8));
+            List<List<String>> result1 = CsvParserBuilder.getInstance().setLimitRows(2L).build().parse(path, StandardCharsets.UTF_8);
+            Assertions.assertThat(result1).hasSize(2);
+            Assertions.assertThat(result1.get(1)).containsExactlyInOrder("b");
+
+            ListEventHandler eventHandler2 = new ListEventHandler();
+            CsvParserBuilder.getInstance().setLimitRows(2L).build().parse(path, StandardCharsets.UTF_8, eventHandler2, 4L);
+            Assertions.assertThat(eventHandler2.getCsv()).hasSize(2);
+
+            ListEventHandler eventHandler3 = new ListEventHandler();
+            CsvParserBuilder.getInstance().setSkipRows(1L).setLimitRows(2L).build().parseParallel(path, StandardCharsets.UTF_8, eventHandler3, forkJoinPool, 1L, 1L);
+            Assertions.assertThat(eventHandler3.getCsv()).hasSize(2);
+            Assertions.assertThat(eventHandler3.getCsv().get(0)).containsExactlyInOrder("b");
+            Assertions.assertThat(eventHandler3.getCsv().get(1)).containsExactlyInOrder("c");
+
+            ListEventHandler eventHandler4 = new ListEventHandler();
+            CsvParserBuilder.getInstance().setLimitRows(3L).build().parseParallel(path, StandardCharsets.UTF_8, eventHandler4, forkJoinPool, 1L, 1L);
+            Assertions.assertThat(eventHandler4.getCsv()).hasSize(3);
+
+            ListEventHandler eventHandler5 = new ListEventHandler();
+            CsvParserBuilder.getInstance().setSkipRows(3L).build().parseParallel(path, StandardCharsets.UTF_8, eventHandler5, forkJoinPool, 1L, 1L);
+            Assertions.fail("CsvParser test fail");
+        } catch (CsvParseException ex) {
+            Assertions.assertThat(ex.getRowIndex()).isEqualTo(4L);
+        } finally {
+            forkJoinPool.shutdown();
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void parseWithStoppableEventHandlerTest() throws IOException {
+        RepeatingReader reader = new RepeatingReader("a,b\r\nc,d\r\n");
+        StoppableEventHandler eventHandler1 = new StoppableEventHandler("c");
+        CsvParserBuilder.getInstance().parse(reader, eventHandler1);
+        Assertions.assertThat(eventHandler1.getCsv()).hasSize(2);
+        Assertions.assertThat(eventHandler1.getCsv().get(1)).containsExactlyInOrder("c", "d");
+        Assertions.assertThat(reader.isClosed()).isTrue();
+
+        StoppableEventHandler eventHandler2 = new StoppableEventHandler("x");
+        CsvParserBuilder.getInstance().parse("a,b\r\nc,d\r\n", eventHandler2);
+        Assertions.assertThat(eventHandler2.getCsv()).hasSize(2);
+
+        Path path = Files.createTempFile("csv", ".csv");
+        ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+        try {
+            Files.write(path, "a\r\nb\r\nc\r\n\"d".getBytes(StandardCharsets.UTF_8));
+            StoppableEventHandler eventHandler3 = new StoppableEventHandler("c");
+            CsvParserBuilder.getInstance().build().parseParallel(path, StandardCharsets.UTF_8, eventHandler3, forkJoinPool, 1L, 1L);
+            Assertions.assertThat(eventHandler3.getCsv()).hasSize(3);
+        } finally {
+            forkJoinPool.shutdown();
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void parseWithMaxProjectionColumnIndexTest() {
+        CsvParserBuilder builder = CsvParserBuilder.getInstance();
+        builder.setCommaSeparator(true).setCrLfSeparator(true).setProjection(1, CsvParserConfiguration.MAX_COLUMN_INDEX);
+        List<List<String>> result = builder.parse("a,b\r\nc,d\r\n");
+        Assertions.assertThat(result).hasSize(2);
+        Assertions.assertThat(result.get(0)).containsExactlyInOrder("b");
+        Assertions.assertThat(result.get(1)).containsExactlyInOrder("d");
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void parseWithMaxColumnPredicateColumnIndexTest() {
+        CsvParserBuilder builder = CsvParserBuilder.getInstance();
+        builder.setCommaSeparator(true).setCrLfSeparator(true).addColumnPredicate(CsvParserConfiguration.MAX_COLUMN_INDEX, CsvColumnPredicates.startsWith("a"));
+        Assertions.assertThat(builder.parse("a,b\r\nc,d\r\n")).hasSize(0);
+        Assertions.assertThat(builder.index("a,b\r\nc,d\r\n").getRowCount()).isEqualTo(0);
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void parseWithProjectionErrorTest() {
+        try {
+            CsvParserBuilder builder = CsvParserBuilder.getInstance();
+            builder.setCommaSeparator(true).setCrLfSeparator(true).setColumnCountCheckEnabled(true).setProjection(0);
+            builder.parse("a,b\r\nc,d,e\r\n");
+            Assertions.fail("CsvParser test fail");
+        } catch (WrongColumnCountException ex) {
+            Assertions.assertThat(ex.getRowIndex()).isEqualTo(1L);
+            Assertions.assertThat(ex.getColumnIndex()).isEqualTo(2);
+        }
+        try {
+            CsvParserBuilder builder = CsvParserBuilder.getInstance();
+            builder.setCommaSeparator(true).setCrLfSeparator(true).setProjection(1);
+            builder.parse("a,b\r\nc\"d,e\r\n");
+            Assertions.fail("CsvParser test fail");
+        } catch (CsvParseException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained: '\"' (34). Last characters: \"a,b\\r\\nc\"\".");
+        }
+    }
+
     /**
      * {@link CsvParser} class test.
      */
@@ -1882,4 +2318,639 @@ public final class CsvParserTest extends CsvTest {
         }
     }
 
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void parseInputStreamTest() {
+        String csv = "a,\"Жb,\"\"c\"\"\r\nd\";eЖЖ\r\n\r\nf\rg\n\u20acgh,\"\"\r";
+        byte[] bytes = csv.getBytes(StandardCharsets.UTF_8);
+        for (int readBufferSize = 1; readBufferSize <= bytes.length + 1; readBufferSize++) {
+            CsvParserBuilder builder = CsvParserBuilder.getInstance();
+            builder.setCommaSeparator(true).setSemicolonSeparator(true).setCrSeparator(true).setLfSeparator(true).setCrLfSeparator(true);
+            List<List<String>> result = builder.setReadBufferSize(readBufferSize).parse(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8);
+            Assertions.assertThat(result).hasSize(5);
+            Assertions.assertThat(result.get(0)).containsExactlyInOrder("a", "Жb,\"c\"\r\nd", "eЖЖ");
+            Assertions.assertThat(result.get(1)).containsExactlyInOrder();
+            Assertions.assertThat(result.get(2)).containsExactlyInOrder("f");
+            Assertions.assertThat(result.get(3)).containsExactlyInOrder("g");
+            Assertions.assertThat(result.get(4)).containsExactlyInOrder("\u20acgh", "");
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void parseInputStreamWithCharsetTest() {
+        String csv = "a,\u00e9\r\n\"\u00e9\u00e9\",b\r\n";
+        Charset[] charsets = {StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1, StandardCharsets.UTF_16, StandardCharsets.UTF_16LE, Charset.forName("windows-1252")};
+        for (Charset charset : charsets) {
+            List<List<String>> result = createCsvParser(true, true, true, true, true).parse(new ByteArrayInputStream(csv.getBytes(charset)), charset);
+            Assertions.assertThat(result).hasSize(2);
+            Assertions.assertThat(result.get(0)).containsExactlyInOrder("a", "\u00e9");
+            Assertions.assertThat(result.get(1)).containsExactlyInOrder("\u00e9\u00e9", "b");
+        }
+
+        List<List<String>> result = createCsvParser(true, true, true, true, true).parse(new ByteArrayInputStream(csv.getBytes(StandardCharsets.ISO_8859_1)), StandardCharsets.US_ASCII);
+        Assertions.assertThat(result).hasSize(2);
+        Assertions.assertThat(result.get(0)).containsExactlyInOrder("a", "\ufffd");
+        Assertions.assertThat(result.get(1)).containsExactlyInOrder("\ufffd\ufffd", "b");
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void parseInputStreamWithColumnLengthEventHandlerTest() {
+        ColumnLengthEventHandler eventHandler = new ColumnLengthEventHandler();
+        byte[] bytes = "a,Ж\r\n\u20ac".getBytes(StandardCharsets.UTF_8);
+        createCsvParser(true, true, true, true, true).parse(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8, eventHandler);
+        Assertions.assertThat(eventHandler.getColumnLengths()).hasSize(2);
+        Assertions.assertThat(eventHandler.getColumnLengths().get(0)).containsExactlyInOrder(1, 1);
+        Assertions.assertThat(eventHandler.getColumnLengths().get(1)).containsExactlyInOrder(1);
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void parseInputStreamWithMaxColumnLengthTest() {
+        String csv = "a\u00e9\u20ac\ud83d\ude00b,\u00e9\r\n\"\u20ac\u20ac\",x\r\n";
+        byte[] bytes = csv.getBytes(StandardCharsets.UTF_8);
+        CsvParserBuilder builder = CsvParserBuilder.getInstance();
+        builder.setCommaSeparator(true).setCrLfSeparator(true).setColumnCountCheckEnabled(false);
+        String[] values = {"", "a", "a\u00e9", "a\u00e9\u20ac", "a\u00e9\u20ac", "a\u00e9\u20ac\ud83d\ude00", "a\u00e9\u20ac\ud83d\ude00b", "a\u00e9\u20ac\ud83d\ude00b"};
+        for (int maxColumnLength = 0; maxColumnLength < 8; maxColumnLength++) {
+            RestrictedListEventHandler eventHandler1 = new RestrictedListEventHandler(maxColumnLength);
+            builder.parse(csv, eventHandler1);
+            Assertions.assertThat(eventHandler1.getCsv().get(0).get(0)).isEqualTo(values[maxColumnLength]);
+            RestrictedListEventHandler eventHandler2 = new RestrictedListEventHandler(maxColumnLength);
+            builder.parse(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8, eventHandler2);
+            Assertions.assertThat(eventHandler2.getCsv()).containsExactlyInOrder(eventHandler1.getCsv());
+            RestrictedListEventHandler eventHandler3 = new RestrictedListEventHandler(maxColumnLength);
+            builder.parse(ByteBuffer.wrap(bytes), StandardCharsets.UTF_8, eventHandler3);
+            Assertions.assertThat(eventHandler3.getCsv()).containsExactlyInOrder(eventHandler1.getCsv());
+        }
+
+        ColumnLengthEventHandler eventHandler1 = new ColumnLengthEventHandler();
+        builder.parse(csv, eventHandler1);
+        Assertions.assertThat(eventHandler1.getColumnLengths().get(0)).containsExactlyInOrder(6, 1);
+        Assertions.assertThat(eventHandler1.getColumnLengths().get(1)).containsExactlyInOrder(2, 1);
+        ColumnLengthEventHandler eventHandler2 = new ColumnLengthEventHandler();
+        builder.parse(ByteBuffer.wrap(bytes), StandardCharsets.UTF_8, eventHandler2);
+        Assertions.assertThat(eventHandler2.getColumnLengths()).containsExactlyInOrder(eventHandler1.getColumnLengths());
+
+        builder.setMaxColumnLength(6).setMaxColumnLengthCheckEnabled(true);
+        builder.parse(csv, new NoopEventHandler());
+        builder.parse(ByteBuffer.wrap(bytes), StandardCharsets.UTF_8, new NoopEventHandler());
+
+        for (int maxColumnLength = 0; maxColumnLength < 6; maxColumnLength++) {
+            builder.setMaxColumnLength(maxColumnLength).setMaxColumnLengthCheckEnabled(true);
+            try {
+                builder.parse(ByteBuffer.wrap(bytes), StandardCharsets.UTF_8, new NoopEventHandler());
+                Assertions.fail("CsvParser test fail");
+            } catch (WrongColumnLengthException ex) {
+                Assertions.assertThat(ex.getRowIndex()).isEqualTo(0L);
+                Assertions.assertThat(ex.getColumnIndex()).isEqualTo(0);
+            }
+        }
+
+        builder.setMaxColumnLength(3).setMaxColumnLengthCheckEnabled(true);
+        try {
+            builder.parse(ByteBuffer.wrap(bytes), StandardCharsets.UTF_8, new NoopEventHandler());
+            Assertions.fail("CsvParser test fail");
+        } catch (WrongColumnLengthException ex) {
+            Assertions.assertThat(ex).hasMessage("Maximum column value length exceeded. Last characters: \"a\u00e9\u20ac\".");
+            Assertions.assertThat(ex.getPosition()).isEqualTo(6L);
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void parseInputStreamWithParseErrorTest() {
+        try {
+            byte[] bytes = "\"Ж\"a".getBytes(StandardCharsets.UTF_8);
+            createCsvParser(true, true, true, true, true).parse(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8);
+            Assertions.fail("CsvParser test fail");
+        } catch (CsvParseException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained: 'a' (97). Last characters: \"\"Ж\"a\".");
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void parseInputStreamWithErrorTest() {
+        try {
+            InputStream inputStream = DataHelper.createInputStreamBuilder().setReadException("ERROR").buildInputStream();
+            createCsvParser(true, true, true, true, true).parse(inputStream, StandardCharsets.UTF_8);
+            Assertions.fail("CsvParser test fail");
+        } catch (CsvIOException ex) {
+            Assertions.assertThat(ex).hasMessage("ERROR");
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void closeInputStreamTest() {
+        InputStream inputStream1 = DataHelper.createInputStreamBuilder().buildInputStream();
+        Assertions.assertThat(((IsCloseable) inputStream1).isClosed()).isFalse();
+        CsvParserBuilder.getInstance().parse(inputStream1, StandardCharsets.UTF_8);
+        Assertions.assertThat(((IsCloseable) inputStream1).isClosed()).isTrue();
+
+        InputStream inputStream2 = DataHelper.createInputStreamBuilder().buildInputStream();
+        Assertions.assertThat(((IsCloseable) inputStream2).isClosed()).isFalse();
+        CsvParserBuilder.getInstance().parse(inputStream2, StandardCharsets.UTF_16);
+        Assertions.assertThat(((IsCloseable) inputStream2).isClosed()).isTrue();
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void errorOnCloseInputStreamTest() {
+        try {
+            InputStream inputStream = DataHelper.createInputStreamBuilder().setCloseException("ERROR").buildInputStream();
+            CsvParserBuilder.getInstance().parse(inputStream, StandardCharsets.UTF_8);
+            Assertions.fail("CsvParser test fail");
+        } catch (CsvIOException ex) {
+            Assertions.assertThat(ex).hasMessage("ERROR");
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void parseByteBufferTest() {
+        String csv = "x\na,\"Жb,\"\"c\"\"\r\nd\";eЖЖ\r\n\r\nf\rg\n\u20acgh,\"\"\r";
+        byte[] bytes = csv.getBytes(StandardCharsets.UTF_8);
+        for (int readBufferSize = 1; readBufferSize <= bytes.length + 1; readBufferSize++) {
+            CsvParserBuilder builder = CsvParserBuilder.getInstance();
+            builder.setCommaSeparator(true).setSemicolonSeparator(true).setCrSeparator(true).setLfSeparator(true).setCrLfSeparator(true);
+            ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
+            byteBuffer.position(2);
+            List<List<String>> result = builder.setReadBufferSize(readBufferSize).parse(byteBuffer, StandardCharsets.UTF_8);
+            Assertions.assertThat(byteBuffer.hasRemaining()).isFalse();
+            Assertions.assertThat(result).hasSize(5);
+            Assertions.assertThat(result.get(0)).containsExactlyInOrder("a", "Жb,\"c\"\r\nd", "eЖЖ");
+            Assertions.assertThat(result.get(1)).containsExactlyInOrder();
+            Assertions.assertThat(result.get(2)).containsExactlyInOrder("f");
+            Assertions.assertThat(result.get(3)).containsExactlyInOrder("g");
+            Assertions.assertThat(result.get(4)).containsExactlyInOrder("\u20acgh", "");
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void parseByteBufferWithCharsetTest() {
+        String csv = "a,\u00e9\r\n\"\u00e9\u00e9\",b\r\n";
+        Charset[] charsets = {StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1, StandardCharsets.UTF_16, StandardCharsets.UTF_16LE, Charset.forName("windows-1252")};
+        for (Charset charset : charsets) {
+            List<List<String>> result = createCsvParser(true, true, true, true, true).parse(ByteBuffer.wrap(csv.getBytes(charset)), charset);
+            Assertions.assertThat(result).hasSize(2);
+            Assertions.assertThat(result.get(0)).containsExactlyInOrder("a", "\u00e9");
+            Assertions.assertThat(result.get(1)).containsExactlyInOrder("\u00e9\u00e9", "b");
+        }
+
+        ColumnCountEventHandler eventHandler = new ColumnCountEventHandler();
+        createCsvParser(true, true, true, true, true).parse(ByteBuffer.wrap("a,b\nc".getBytes(StandardCharsets.US_ASCII)), StandardCharsets.US_ASCII, eventHandler);
+        Assertions.assertThat(eventHandler.getColumnCounts()).containsExactlyInOrder(2, 1);
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void parsePathTest() throws IOException {
+        String csv = "a,\"Жb,\"\"c\"\"\r\nd\";eЖЖ\r\n\r\nf\rg\n\u20acgh,\"\"\r";
+        byte[] bytes = csv.getBytes(StandardCharsets.UTF_8);
+        Path path = Files.createTempFile("csv", ".csv");
+        try {
+            Files.write(path, bytes);
+            for (int mappedWindowSize = 1; mappedWindowSize <= bytes.length + 1; mappedWindowSize++) {
+                CsvParserBuilder builder = CsvParserBuilder.getInstance();
+                builder.setCommaSeparator(true).setSemicolonSeparator(true).setCrSeparator(true).setLfSeparator(true).setCrLfSeparator(true);
+                ListEventHandler eventHandler = new ListEventHandler();
+                builder.setReadBufferSize(3).build().parse(path, StandardCharsets.UTF_8, eventHandler, mappedWindowSize);
+                List<List<String>> result = eventHandler.getCsv();
+                Assertions.assertThat(result).hasSize(5);
+                Assertions.assertThat(result.get(0)).containsExactlyInOrder("a", "Жb,\"c\"\r\nd", "eЖЖ");
+                Assertions.assertThat(result.get(1)).containsExactlyInOrder();
+                Assertions.assertThat(result.get(2)).containsExactlyInOrder("f");
+                Assertions.assertThat(result.get(3)).containsExactlyInOrder("g");
+                Assertions.assertThat(result.get(4)).containsExactlyInOrder("\u20acgh", "");
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void parsePathWithCharsetTest() throws IOException {
+        String csv = "a,\u00e9\r\n\"\u00e9\u00e9\",b\r\n";
+        Charset[] charsets = {StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1, StandardCharsets.UTF_16, StandardCharsets.UTF_16LE, Charset.forName("windows-1252")};
+        for (Charset charset : charsets) {
+            Path path = Files.createTempFile("csv", ".csv");
+            try {
+                Files.write(path, csv.getBytes(charset));
+                List<List<String>> result = createCsvParser(true, true, true, true, true).parse(path, charset);
+                Assertions.assertThat(result).hasSize(2);
+                Assertions.assertThat(result.get(0)).containsExactlyInOrder("a", "\u00e9");
+                Assertions.assertThat(result.get(1)).containsExactlyInOrder("\u00e9\u00e9", "b");
+            } finally {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void parseEmptyPathTest() throws IOException {
+        Path path = Files.createTempFile("csv", ".csv");
+        try {
+            ColumnCountEventHandler eventHandler = new ColumnCountEventHandler();
+            createCsvParser(true, true, true, true, true).parse(path, StandardCharsets.UTF_8, eventHandler);
+            Assertions.assertThat(eventHandler.getColumnCounts()).containsExactlyInOrder();
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void parseNotExistingPathTest() {
+        Path path = Paths.get("target", "not-existing-file.csv");
+        try {
+            createCsvParser(true, true, true, true, true).parse(path, StandardCharsets.UTF_8);
+            Assertions.fail("CsvParser test fail");
+        } catch (CsvIOException ex) {
+            Assertions.assertThat(ex).hasMessage(path.toString());
+        }
+        try {
+            createCsvParser(true, true, true, true, true).parse(path, StandardCharsets.UTF_16);
+            Assertions.fail("CsvParser test fail");
+        } catch (CsvIOException ex) {
+            Assertions.assertThat(ex).hasMessage(path.toString());
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void createCsvReaderTest() {
+        CsvParser csvParser = createCsvParser(true, false, false, true, false);
+        try (CsvReader csvReader = csvParser.createCsvReader("a,\"b\nc\"\n\nd")) {
+            Assertions.assertThat(csvReader.nextRow().toList()).containsExactlyInOrder("a", "b\nc");
+            Assertions.assertThat(csvReader.nextRow().toList()).isEmpty();
+            Assertions.assertThat(csvReader.nextRow().toList()).containsExactlyInOrder("d");
+            Assertions.assertThat(csvReader.nextRow()).isNull();
+        }
+        try (CsvReader csvReader = csvParser.createCsvReader(new StringReader("a\"b\nc"))) {
+            csvReader.nextRow();
+            Assertions.fail("CsvParser test fail");
+        } catch (CsvParseException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained: '\"' (34). Last characters: \"a\"\".");
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void iterateTest() {
+        CsvParser csvParser = createCsvParser(true, false, false, true, false);
+        try (CsvRowIterator csvRowIterator = csvParser.iterate("a,\"b\nc\"\nd")) {
+            Assertions.assertThat(csvRowIterator.next()).containsExactlyInOrder("a", "b\nc");
+            Assertions.assertThat(csvRowIterator.next()).containsExactlyInOrder("d");
+            Assertions.assertThat(csvRowIterator.hasNext()).isFalse();
+        }
+        try (CsvRowIterator csvRowIterator = csvParser.iterate(new StringReader("a,b\nc"))) {
+            Assertions.assertThat(csvRowIterator.next()).containsExactlyInOrder("a", "b");
+            Assertions.assertThat(csvRowIterator.next()).containsExactlyInOrder("c");
+            Assertions.assertThat(csvRowIterator.hasNext()).isFalse();
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void iteratePathTest() throws IOException {
+        Path path = Files.createTempFile("csv", ".csv");
+        try {
+            Files.write(path, "a,\u0436\nb,\"c\"".getBytes(StandardCharsets.UTF_8));
+            CsvParser csvParser = createCsvParser(true, false, false, true, false);
+            try (CsvRowIterator csvRowIterator = csvParser.iterate(path, StandardCharsets.UTF_8)) {
+                Assertions.assertThat(csvRowIterator.next()).containsExactlyInOrder("a", "\u0436");
+                Assertions.assertThat(csvRowIterator.next()).containsExactlyInOrder("b", "c");
+                Assertions.assertThat(csvRowIterator.hasNext()).isFalse();
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void iterateNotExistingPathTest() {
+        Path path = Paths.get("target", "not-existing-file.csv");
+        try {
+            createCsvParser(true, false, false, true, false).iterate(path, StandardCharsets.UTF_8);
+            Assertions.fail("CsvParser test fail");
+        } catch (CsvIOException ex) {
+            Assertions.assertThat(ex).hasMessage(path.toString());
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void indexTest() {
+        CsvParser csvParser = createCsvParser(true, false, false, true, false);
+        CsvIndex csvIndex1 = csvParser.index("a,\"b\nc\"\nd");
+        Assertions.assertThat(csvIndex1.getRowCount()).isEqualTo(2);
+        Assertions.assertThat(csvIndex1.getRow(0)).containsExactlyInOrder("a", "b\nc");
+        Assertions.assertThat(csvIndex1.getRow(1)).containsExactlyInOrder("d");
+
+        CsvIndex csvIndex2 = csvParser.index(new StringReader("a,b\nc"));
+        Assertions.assertThat(csvIndex2.getRowCount()).isEqualTo(2);
+        Assertions.assertThat(csvIndex2.getRow(0)).containsExactlyInOrder("a", "b");
+        Assertions.assertThat(csvIndex2.getRow(1)).containsExactlyInOrder("c");
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void indexLargeReaderTest() {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            csv.append(i).append(",\"").append(i).append("\"\n");
+        }
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+        CsvIndex csvIndex1 = new CsvParser(csvParserConfiguration).index(new StringReader(csv.toString()), 10);
+        Assertions.assertThat(csvIndex1.getRowCount()).isEqualTo(1000);
+        for (int i = 0; i < 1000; i++) {
+            Assertions.assertThat(csvIndex1.getRow(i)).containsExactlyInOrder(String.valueOf(i), String.valueOf(i));
+        }
+
+        csvParserConfiguration.setSkipRows(10L);
+        csvParserConfiguration.setLimitRows(5L);
+        Reader reader = DataHelper.createReaderBuilder().setContent(csv.toString()).buildReader();
+        CsvIndex csvIndex2 = new CsvParser(csvParserConfiguration).index(reader, 10);
+        Assertions.assertThat(csvIndex2.getRowCount()).isEqualTo(5);
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertThat(csvIndex2.getRow(i)).containsExactlyInOrder(String.valueOf(i + 10), String.valueOf(i + 10));
+        }
+        Assertions.assertThat(((IsCloseable) reader).isClosed()).isTrue();
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void indexErrorReaderTest() {
+        try {
+            Reader reader = DataHelper.createReaderBuilder().setReadException("ERROR").buildReader();
+            createCsvParser(true, true, true, true, true).index(reader);
+            Assertions.fail("CsvParser test fail");
+        } catch (CsvIOException ex) {
+            Assertions.assertThat(ex).hasMessage("ERROR");
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     */
+    @Test
+    public void indexCloseReaderTest() {
+        Reader reader = DataHelper.createReaderBuilder().setContent("a,b").buildReader();
+        Assertions.assertThat(((IsCloseable) reader).isClosed()).isFalse();
+        createCsvParser(true, true, true, true, true).index(reader);
+        Assertions.assertThat(((IsCloseable) reader).isClosed()).isTrue();
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void parseParallelTest() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            csv.append(i).append(",\"Ж").append(i).append("\r\n").append(i).append("\"\r\n");
+        }
+        Path path = Files.createTempFile("csv", ".csv");
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            Files.write(path, csv.toString().getBytes(StandardCharsets.UTF_8));
+            List<List<String>> expected = createCsvParserWithColumnCountCheck(true, false, false, true, true).parse(path, StandardCharsets.UTF_8);
+
+            ListEventHandler eventHandler1 = new ListEventHandler();
+            createCsvParserWithColumnCountCheck(true, false, false, true, true).parseParallel(path, StandardCharsets.UTF_8, eventHandler1, forkJoinPool, 100L, 1000L);
+            Assertions.assertThat(eventHandler1.getCsv()).containsExactlyInOrder(expected);
+
+            ListEventHandler eventHandler2 = new ListEventHandler();
+            createCsvParserWithColumnCountCheck(true, false, false, true, true).parseParallel(path, StandardCharsets.UTF_8, eventHandler2, forkJoinPool);
+            Assertions.assertThat(eventHandler2.getCsv()).containsExactlyInOrder(expected);
+
+            ListEventHandler eventHandler3 = new ListEventHandler();
+            createCsvParserWithColumnCountCheck(true, false, false, true, true).parseParallel(path, StandardCharsets.UTF_8, eventHandler3);
+            Assertions.assertThat(eventHandler3.getCsv()).containsExactlyInOrder(expected);
+
+            List<List<String>> result = createCsvParserWithColumnCountCheck(true, false, false, true, true).parseParallel(path, StandardCharsets.UTF_8);
+            Assertions.assertThat(result).containsExactlyInOrder(expected);
+
+            DimensionEventHandler eventHandler4 = new DimensionEventHandler();
+            createCsvParser(true, false, false, true, true).parseParallel(path, StandardCharsets.UTF_8, eventHandler4, forkJoinPool, 100L, 1000L);
+            Assertions.assertThat(eventHandler4.getRowCount()).isEqualTo(1000);
+            Assertions.assertThat(eventHandler4.getColumnCount()).isEqualTo(2);
+        } finally {
+            forkJoinPool.shutdown();
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void parseParallelErrorPositionTest() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            csv.append(i).append(",\"").append(i).append("\"\r\n");
+        }
+        int position = csv.length() + 1;
+        csv.append("a\"b,c\r\n");
+        Path path = Files.createTempFile("csv", ".csv");
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            Files.write(path, csv.toString().getBytes(StandardCharsets.UTF_8));
+            createCsvParser(true, false, false, true, true).parseParallel(path, StandardCharsets.UTF_8, new ListEventHandler(), forkJoinPool, 100L, 1000L);
+            Assertions.fail("CsvParser test fail");
+        } catch (CsvParseException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained: '\"' (34). Last characters: \"\\n998,\"998\"\\r\\n999,\"999\"\\r\\na\"\".");
+            Assertions.assertThat(ex.getPosition()).isEqualTo(position);
+            Assertions.assertThat(ex.getRowIndex()).isEqualTo(1000L);
+            Assertions.assertThat(ex.getColumnIndex()).isEqualTo(0);
+        } finally {
+            forkJoinPool.shutdown();
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link CsvParser} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void parseParallelSequentiallyTest() throws IOException {
+        String csv = "a,\u00e9\r\n\"\u00e9\u00e9\",b\r\n";
+        Path path = Files.createTempFile("csv", ".csv");
+        ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+        try {
+            Files.write(path, csv.getBytes(StandardCharsets.UTF_16));
+            List<List<String>> result = createCsvParser(true, true, true, true, true).parseParallel(path, StandardCharsets.UTF_16);
+            Assertions.assertThat(result).hasSize(2);
+            Assertions.assertThat(result.get(0)).containsExactlyInOrder("a", "\u00e9");
+            Assertions.assertThat(result.get(1)).containsExactlyInOrder("\u00e9\u00e9", "b");
+
+            Files.write(path, "a,bb\r\n\"cc\",d\r\n".getBytes(StandardCharsets.UTF_8));
+            RestrictedListEventHandler eventHandler = new RestrictedListEventHandler(1);
+            createCsvParser(true, true, true, true, true).parseParallel(path, StandardCharsets.UTF_8, eventHandler, forkJoinPool, 1L, 1L);
+            Assertions.assertThat(eventHandler.getCsv()).hasSize(2);
+            Assertions.assertThat(eventHandler.getCsv().get(0)).containsExactlyInOrder("a", "b");
+            Assertions.assertThat(eventHandler.getCsv().get(1)).containsExactlyInOrder("c", "d");
+        } finally {
+            forkJoinPool.shutdown();
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class RepeatingReader extends Reader {
+
+        private final String _content;
+
+        private int _index;
+
+        private boolean _closed;
+
+        RepeatingReader(final String content) {
+            super();
+            _content = content;
+            _index = 0;
+            _closed = false;
+        }
+
+        @Override
+        public int read(final char[] cbuf, final int off, final int len) {
+            for (int i = off; i < off + len; i++) {
+                cbuf[i] = _content.charAt(_index);
+                _index = (_index + 1) % _content.length();
+            }
+            return len;
+        }
+
+        @Override
+        public void close() {
+            _closed = true;
+        }
+
+        boolean isClosed() {
+            return _closed;
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class StoppableEventHandler implements CsvEventHandler, CsvStoppable, CsvMergeable<ListEventHandler> {
+
+        private final ListEventHandler _listEventHandler;
+
+        private final String _stopColumn;
+
+        private boolean _stopped;
+
+        StoppableEventHandler(final String stopColumn) {
+            super();
+            _listEventHandler = new ListEventHandler();
+            _stopColumn = stopColumn;
+            _stopped = false;
+        }
+
+        @Override
+        public void pushColumn(final String column, final int actualLength) {
+            _listEventHandler.pushColumn(column, actualLength);
+            if (_stopColumn.equals(column)) {
+                _stopped = true;
+            }
+        }
+
+        @Override
+        public void pushRow() {
+            _listEventHandler.pushRow();
+        }
+
+        @Override
+        public boolean isStopped() {
+            return _stopped;
+        }
+
+        @Override
+        public ListEventHandler createPartialHandler() {
+            return _listEventHandler.createPartialHandler();
+        }
+
+        @Override
+        public void merge(final ListEventHandler partialHandler) {
+            _listEventHandler.merge(partialHandler);
+        }
+
+        List<List<String>> getCsv() {
+            return _listEventHandler.getCsv();
+        }
+
+    }
+
 }
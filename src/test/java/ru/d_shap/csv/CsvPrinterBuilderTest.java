@@ -491,7 +491,7 @@ public final class CsvPrinterBuilderTest extends CsvTest {
             Assertions.assertThat(csvPrinter1.getCsv()).isNotNull();
             Assertions.assertThat(csvPrinter1.getCsv()).isEqualTo("1234567890\r\n");
         }
-        Assertions.assertThat(writer1.getBuffer()).isEqualTo("1234567890\r\n");
+        Assertions.assertThat(writer1.toString()).isEqualTo("1234567890\r\n");
 
         ByteArrayOutputStream baos2 = new ByteArrayOutputStream();
         try (CsvPrinter csvPrinter2 = csvPrinterBuilder.build(new OutputStreamWriter(baos2))) {
@@ -0,0 +1,248 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.mock.IsCloseable;
+import ru.d_shap.assertions.util.DataHelper;
+import ru.d_shap.csv.handler.ListEventHandler;
+
+/**
+ * Tests for {@link CsvReader}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class CsvReaderTest extends CsvTest {
+
+    private static final char[] ALPHABET = {',', '\r', '\n', '"', 'a'};
+
+    private static final int MAX_CSV_LENGTH = 4;
+
+    /**
+     * Test class constructor.
+     */
+    public CsvReaderTest() {
+        super();
+    }
+
+    /**
+     * {@link CsvReader} class test.
+     */
+    @Test
+    public void nextRowTest() {
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+        CsvReader csvReader = new CsvReader(csvParserConfiguration, new StringReader("a,b\r\n\"c\"\"d\"\ne,,f"));
+        CsvRow csvRow1 = csvReader.nextRow();
+        Assertions.assertThat(csvRow1.toList()).containsExactlyInOrder("a", "b");
+        CsvRow csvRow2 = csvReader.nextRow();
+        Assertions.assertThat(csvRow2.toList()).containsExactlyInOrder("c\"d");
+        CsvRow csvRow3 = csvReader.nextRow();
+        Assertions.assertThat(csvRow3.toList()).containsExactlyInOrder("e", "", "f");
+        Assertions.assertThat(csvReader.nextRow()).isNull();
+        Assertions.assertThat(csvReader.nextRow()).isNull();
+    }
+
+    /**
+     * {@link CsvReader} class test.
+     */
+    @Test
+    public void nextRowWithSkipAndLimitRowsTest() {
+        CsvParserConfiguration csvParserConfiguration1 = createCsvParserConfiguration();
+        csvParserConfiguration1.setSkipRows(1L);
+        csvParserConfiguration1.setLimitRows(2L);
+        CsvReader csvReader1 = new CsvReader(csvParserConfiguration1, new StringReader("a\nb\nc\nd\"\n"));
+        Assertions.assertThat(csvReader1.nextRow().toList()).containsExactlyInOrder("b");
+        Assertions.assertThat(csvReader1.nextRow().toList()).containsExactlyInOrder("c");
+        Assertions.assertThat(csvReader1.nextRow()).isNull();
+        Assertions.assertThat(csvReader1.nextRow()).isNull();
+
+        CsvParserConfiguration csvParserConfiguration2 = createCsvParserConfiguration();
+        csvParserConfiguration2.setLimitRows(0L);
+        CsvReader csvReader2 = new CsvReader(csvParserConfiguration2, new StringReader("a\nb\n"));
+        Assertions.assertThat(csvReader2.nextRow()).isNull();
+    }
+
+    /**
+     * {@link CsvReader} class test.
+     */
+    @Test
+    public void nextRowReuseTest() {
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+        CsvReader csvReader = new CsvReader(csvParserConfiguration, new StringReader("a\nb\nc\n"));
+        CsvRow csvRow1 = csvReader.nextRow();
+        Assertions.assertThat(csvRow1.toList()).containsExactlyInOrder("a");
+        CsvRow csvRow2 = csvReader.nextRow();
+        Assertions.assertThat(csvRow2.toList()).containsExactlyInOrder("b");
+        Assertions.assertThat(csvRow1.toList()).isEmpty();
+        CsvRow csvRow3 = csvReader.nextRow();
+        Assertions.assertThat(csvRow3).isSameAs(csvRow1);
+        Assertions.assertThat(csvRow3.toList()).containsExactlyInOrder("c");
+        Assertions.assertThat(csvReader.nextRow()).isNull();
+    }
+
+    /**
+     * {@link CsvReader} class test.
+     */
+    @Test
+    public void nextRowWithPendingCarriageReturnTest() {
+        for (int i = 0; i < 2; i++) {
+            CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+            csvParserConfiguration.setTableEngineEnabled(i == 1);
+            csvParserConfiguration.setReadBufferSize(1);
+            CsvReader csvReader = new CsvReader(csvParserConfiguration, new StringReader("a\rb\r"));
+            Assertions.assertThat(csvReader.nextRow().toList()).containsExactlyInOrder("a");
+            Assertions.assertThat(csvReader.nextRow().toList()).containsExactlyInOrder("b");
+            Assertions.assertThat(csvReader.nextRow()).isNull();
+        }
+    }
+
+    /**
+     * {@link CsvReader} class test.
+     */
+    @Test
+    public void nextRowWithParseErrorTest() {
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+        CsvReader csvReader = new CsvReader(csvParserConfiguration, new StringReader("a\nb\"c"));
+        Assertions.assertThat(csvReader.nextRow().toList()).containsExactlyInOrder("a");
+        try {
+            csvReader.nextRow();
+            Assertions.fail("CsvReader test fail");
+        } catch (CsvParseException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained: '\"' (34). Last characters: \"a\\nb\"\".");
+        }
+    }
+
+    /**
+     * {@link CsvReader} class test.
+     */
+    @Test
+    public void sameRowsAsParserTest() {
+        List<String> csvs = new ArrayList<>();
+        createCsvs("", csvs);
+        for (String csv : csvs) {
+            for (int configuration = 0; configuration < 64; configuration++) {
+                CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+                csvParserConfiguration.setCrSeparator((configuration & 2) != 0);
+                csvParserConfiguration.setLfSeparator((configuration & 4) != 0);
+                csvParserConfiguration.setCrLfSeparator((configuration & 8) != 0);
+                csvParserConfiguration.setColumnCountCheckEnabled((configuration & 1) != 0);
+                csvParserConfiguration.setSkipEmptyRowsEnabled((configuration & 1) != 0);
+                csvParserConfiguration.setTableEngineEnabled((configuration & 16) != 0);
+                if ((configuration & 32) != 0) {
+                    csvParserConfiguration.setReadBufferSize(1);
+                }
+                if ((configuration & 14) != 0) {
+                    List<String> expectedRows = parse(csvParserConfiguration, csv);
+                    Assertions.assertThat(read(csvParserConfiguration, csv)).containsExactlyInOrder(expectedRows);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link CsvReader} class test.
+     */
+    @Test
+    public void readErrorTest() {
+        try {
+            Reader reader = DataHelper.createReaderBuilder().setReadException("ERROR").buildReader();
+            CsvReader csvReader = new CsvReader(createCsvParserConfiguration(), reader);
+            csvReader.nextRow();
+            Assertions.fail("CsvReader test fail");
+        } catch (CsvIOException ex) {
+            Assertions.assertThat(ex).hasMessage("ERROR");
+        }
+    }
+
+    /**
+     * {@link CsvReader} class test.
+     */
+    @Test
+    public void closeTest() {
+        Reader reader = DataHelper.createReaderBuilder().buildReader();
+        try (CsvReader csvReader = new CsvReader(createCsvParserConfiguration(), reader)) {
+            Assertions.assertThat(csvReader.nextRow()).isNull();
+            Assertions.assertThat(((IsCloseable) reader).isClosed()).isFalse();
+        }
+        Assertions.assertThat(((IsCloseable) reader).isClosed()).isTrue();
+    }
+
+    /**
+     * {@link CsvReader} class test.
+     */
+    @Test
+    public void closeErrorTest() {
+        try {
+            Reader reader = DataHelper.createReaderBuilder().setCloseException("ERROR").buildReader();
+            CsvReader csvReader = new CsvReader(createCsvParserConfiguration(), reader);
+            csvReader.close();
+            Assertions.fail("CsvReader test fail");
+        } catch (CsvIOException ex) {
+            Assertions.assertThat(ex).hasMessage("ERROR");
+        }
+    }
+
+    private void createCsvs(final String prefix, final List<String> csvs) {
+        csvs.add(prefix);
+        if (prefix.length() < MAX_CSV_LENGTH) {
+            for (char ch : ALPHABET) {
+                createCsvs(prefix + ch, csvs);
+            }
+        }
+    }
+
+    private List<String> parse(final CsvParserConfiguration csvParserConfiguration, final String csv) {
+        ListEventHandler listEventHandler = new ListEventHandler();
+        List<String> rows = new ArrayList<>();
+        try {
+            new CsvParser(csvParserConfiguration).parse(csv, listEventHandler);
+        } catch (CsvException ex) {
+            rows.add("exception");
+        }
+        List<String> result = new ArrayList<>();
+        for (List<String> row : listEventHandler.getCsv()) {
+            result.add(row.toString());
+        }
+        result.addAll(rows);
+        return result;
+    }
+
+    private List<String> read(final CsvParserConfiguration csvParserConfiguration, final String csv) {
+        List<String> rows = new ArrayList<>();
+        try (CsvReader csvReader = new CsvReader(csvParserConfiguration, new StringReader(csv))) {
+            CsvRow csvRow = csvReader.nextRow();
+            while (csvRow != null) {
+                rows.add(csvRow.toString());
+                csvRow = csvReader.nextRow();
+            }
+        } catch (CsvException ex) {
+            rows.add("exception");
+        }
+        return rows;
+    }
+
+}
@@ -0,0 +1,177 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.mock.IsCloseable;
+import ru.d_shap.assertions.util.DataHelper;
+
+/**
+ * Tests for {@link CsvRowIterator}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class CsvRowIteratorTest extends CsvTest {
+
+    /**
+     * Test class constructor.
+     */
+    public CsvRowIteratorTest() {
+        super();
+    }
+
+    /**
+     * {@link CsvRowIterator} class test.
+     */
+    @Test
+    public void iterateTest() {
+        CsvRowIterator csvRowIterator = createCsvRowIterator(new StringReader("a,b\n\"c\"\"d\"\ne"));
+        Assertions.assertThat(csvRowIterator.hasNext()).isTrue();
+        Assertions.assertThat(csvRowIterator.hasNext()).isTrue();
+        Assertions.assertThat(csvRowIterator.next()).containsExactlyInOrder("a", "b");
+        Assertions.assertThat(csvRowIterator.next()).containsExactlyInOrder("c\"d");
+        Assertions.assertThat(csvRowIterator.hasNext()).isTrue();
+        Assertions.assertThat(csvRowIterator.next()).containsExactlyInOrder("e");
+        Assertions.assertThat(csvRowIterator.hasNext()).isFalse();
+        Assertions.assertThat(csvRowIterator.hasNext()).isFalse();
+        try {
+            csvRowIterator.next();
+            Assertions.fail("CsvRowIterator test fail");
+        } catch (NoSuchElementException ex) {
+            Assertions.assertThat(ex).messageIsNull();
+        }
+    }
+
+    /**
+     * {@link CsvRowIterator} class test.
+     */
+    @Test
+    public void rowsAreNotReusedTest() {
+        CsvRowIterator csvRowIterator = createCsvRowIterator(new StringReader("a\nb\nc"));
+        Assertions.assertThat(csvRowIterator.next()).isNotSameAs(csvRowIterator.next());
+        Assertions.assertThat(csvRowIterator.next()).containsExactlyInOrder("c");
+    }
+
+    /**
+     * {@link CsvRowIterator} class test.
+     */
+    @Test
+    public void lazyIterateTest() {
+        StringBuilder csv = new StringBuilder("a\n");
+        for (int i = 0; i < 1000; i++) {
+            csv.append("b,c\n");
+        }
+        csv.append("d\"e");
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+        csvParserConfiguration.setReadBufferSize(16);
+        CsvRowIterator csvRowIterator = new CsvRowIterator(new CsvReader(csvParserConfiguration, new StringReader(csv.toString())));
+        Assertions.assertThat(csvRowIterator.next()).containsExactlyInOrder("a");
+        Assertions.assertThat(csvRowIterator.next()).containsExactlyInOrder("b", "c");
+        csvRowIterator.close();
+        Assertions.assertThat(csvRowIterator.hasNext()).isFalse();
+    }
+
+    /**
+     * {@link CsvRowIterator} class test.
+     */
+    @Test
+    public void removeTest() {
+        CsvRowIterator csvRowIterator = createCsvRowIterator(new StringReader("a"));
+        csvRowIterator.next();
+        try {
+            csvRowIterator.remove();
+            Assertions.fail("CsvRowIterator test fail");
+        } catch (UnsupportedOperationException ex) {
+            Assertions.assertThat(ex).messageIsNull();
+        }
+    }
+
+    /**
+     * {@link CsvRowIterator} class test.
+     */
+    @Test
+    public void closeAtEndOfInputTest() {
+        Reader reader = DataHelper.createReaderBuilder().setContent("a").buildReader();
+        CsvRowIterator csvRowIterator = createCsvRowIterator(reader);
+        Assertions.assertThat(csvRowIterator.next()).containsExactlyInOrder("a");
+        Assertions.assertThat(((IsCloseable) reader).isClosed()).isFalse();
+        Assertions.assertThat(csvRowIterator.hasNext()).isFalse();
+        Assertions.assertThat(((IsCloseable) reader).isClosed()).isTrue();
+        csvRowIterator.close();
+        Assertions.assertThat(((IsCloseable) reader).isClosed()).isTrue();
+    }
+
+    /**
+     * {@link CsvRowIterator} class test.
+     */
+    @Test
+    public void closeOnParseErrorTest() {
+        Reader reader = DataHelper.createReaderBuilder().setContent("a\"b").buildReader();
+        CsvRowIterator csvRowIterator = createCsvRowIterator(reader);
+        try {
+            csvRowIterator.hasNext();
+            Assertions.fail("CsvRowIterator test fail");
+        } catch (CsvParseException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained: '\"' (34). Last characters: \"a\"\".");
+        }
+        Assertions.assertThat(((IsCloseable) reader).isClosed()).isTrue();
+        Assertions.assertThat(csvRowIterator.hasNext()).isFalse();
+    }
+
+    /**
+     * {@link CsvRowIterator} class test.
+     */
+    @Test
+    public void closeTest() {
+        Reader reader = DataHelper.createReaderBuilder().setContent("a\nb").buildReader();
+        try (CsvRowIterator csvRowIterator = createCsvRowIterator(reader)) {
+            Assertions.assertThat(csvRowIterator.next()).containsExactlyInOrder("a");
+            Assertions.assertThat(((IsCloseable) reader).isClosed()).isFalse();
+        }
+        Assertions.assertThat(((IsCloseable) reader).isClosed()).isTrue();
+    }
+
+    /**
+     * {@link CsvRowIterator} class test.
+     */
+    @Test
+    public void closeErrorTest() {
+        try {
+            Reader reader = DataHelper.createReaderBuilder().setCloseException("ERROR").buildReader();
+            CsvRowIterator csvRowIterator = createCsvRowIterator(reader);
+            csvRowIterator.close();
+            Assertions.fail("CsvRowIterator test fail");
+        } catch (CsvIOException ex) {
+            Assertions.assertThat(ex).hasMessage("ERROR");
+        }
+    }
+
+    private CsvRowIterator createCsvRowIterator(final Reader reader) {
+        CsvReader csvReader = new CsvReader(createCsvParserConfiguration(), reader);
+        return new CsvRowIterator(csvReader);
+    }
+
+}
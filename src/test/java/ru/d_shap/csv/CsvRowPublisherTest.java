@@ -0,0 +1,303 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.mock.IsCloseable;
+import ru.d_shap.assertions.util.DataHelper;
+
+/**
+ * Tests for {@link CsvRowPublisher}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class CsvRowPublisherTest extends CsvTest {
+
+    /**
+     * Test class constructor.
+     */
+    public CsvRowPublisherTest() {
+        super();
+    }
+
+    /**
+     * {@link CsvRowPublisher} class test.
+     */
+    @Test
+    public void requestTest() {
+        Reader reader = DataHelper.createReaderBuilder().setContent("a,b\nc\nd,e\nf").buildReader();
+        RecordingSubscriber subscriber = new RecordingSubscriber(0L, -1);
+        createCsvRowPublisher(reader).subscribe(subscriber);
+        Assertions.assertThat(subscriber.getRows()).hasSize(0);
+        subscriber.getSubscription().request(1L);
+        Assertions.assertThat(subscriber.getRows()).hasSize(1);
+        Assertions.assertThat(subscriber.getRows().get(0)).containsExactlyInOrder("a", "b");
+        subscriber.getSubscription().request(2L);
+        Assertions.assertThat(subscriber.getRows()).hasSize(3);
+        Assertions.assertThat(subscriber.getRows().get(1)).containsExactlyInOrder("c");
+        Assertions.assertThat(subscriber.getRows().get(2)).containsExactlyInOrder("d", "e");
+        Assertions.assertThat(subscriber.getCompleteCount()).isEqualTo(0);
+        Assertions.assertThat(((IsCloseable) reader).isClosed()).isFalse();
+        subscriber.getSubscription().request(10L);
+        Assertions.assertThat(subscriber.getRows()).hasSize(4);
+        Assertions.assertThat(subscriber.getRows().get(3)).containsExactlyInOrder("f");
+        Assertions.assertThat(subscriber.getCompleteCount()).isEqualTo(1);
+        Assertions.assertThat(((IsCloseable) reader).isClosed()).isTrue();
+        subscriber.getSubscription().request(1L);
+        subscriber.getSubscription().cancel();
+        Assertions.assertThat(subscriber.getCompleteCount()).isEqualTo(1);
+        Assertions.assertThat(subscriber.getErrors()).hasSize(0);
+    }
+
+    /**
+     * {@link CsvRowPublisher} class test.
+     */
+    @Test
+    public void noDemandTest() {
+        Reader reader = DataHelper.createReaderBuilder().setReadException("ERROR").buildReader();
+        RecordingSubscriber subscriber = new RecordingSubscriber(0L, -1);
+        createCsvRowPublisher(reader).subscribe(subscriber);
+        Assertions.assertThat(subscriber.getErrors()).hasSize(0);
+        subscriber.getSubscription().request(1L);
+        Assertions.assertThat(subscriber.getErrors()).hasSize(1);
+        Assertions.assertThat(subscriber.getErrors().get(0)).isInstanceOf(CsvIOException.class);
+        Assertions.assertThat(subscriber.getErrors().get(0)).hasMessage("ERROR");
+        Assertions.assertThat(((IsCloseable) reader).isClosed()).isTrue();
+    }
+
+    /**
+     * {@link CsvRowPublisher} class test.
+     */
+    @Test
+    public void requestFromSubscriberTest() {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            csv.append(i).append('\n');
+        }
+        RecordingSubscriber subscriber1 = new RecordingSubscriber(1L, -1);
+        createCsvRowPublisher(new StringReader(csv.toString())).subscribe(subscriber1);
+        subscriber1.getSubscription().request(1L);
+        Assertions.assertThat(subscriber1.getRows()).hasSize(1000);
+        for (int i = 0; i < 1000; i++) {
+            Assertions.assertThat(subscriber1.getRows().get(i)).containsExactlyInOrder(String.valueOf(i));
+        }
+        Assertions.assertThat(subscriber1.getCompleteCount()).isEqualTo(1);
+
+        RecordingSubscriber subscriber2 = new RecordingSubscriber(Long.MAX_VALUE, -1);
+        createCsvRowPublisher(new StringReader(csv.toString())).subscribe(subscriber2);
+        subscriber2.getSubscription().request(Long.MAX_VALUE);
+        Assertions.assertThat(subscriber2.getRows()).hasSize(1000);
+        Assertions.assertThat(subscriber2.getCompleteCount()).isEqualTo(1);
+    }
+
+    /**
+     * {@link CsvRowPublisher} class test.
+     */
+    @Test
+    public void cancelTest() {
+        Reader reader1 = DataHelper.createReaderBuilder().setContent("a\nb\nc").buildReader();
+        RecordingSubscriber subscriber1 = new RecordingSubscriber(0L, 2);
+        createCsvRowPublisher(reader1).subscribe(subscriber1);
+        subscriber1.getSubscription().request(10L);
+        Assertions.assertThat(subscriber1.getRows()).hasSize(2);
+        Assertions.assertThat(((IsCloseable) reader1).isClosed()).isTrue();
+        subscriber1.getSubscription().request(10L);
+        subscriber1.getSubscription().cancel();
+        Assertions.assertThat(subscriber1.getRows()).hasSize(2);
+        Assertions.assertThat(subscriber1.getCompleteCount()).isEqualTo(0);
+        Assertions.assertThat(subscriber1.getErrors()).hasSize(0);
+
+        Reader reader2 = DataHelper.createReaderBuilder().setContent("a\nb\nc").setCloseException("ERROR").buildReader();
+        RecordingSubscriber subscriber2 = new RecordingSubscriber(0L, -1);
+        createCsvRowPublisher(reader2).subscribe(subscriber2);
+        subscriber2.getSubscription().cancel();
+        Assertions.assertThat(subscriber2.getRows()).hasSize(0);
+        Assertions.assertThat(subscriber2.getErrors()).hasSize(0);
+    }
+
+    /**
+     * {@link CsvRowPublisher} class test.
+     */
+    @Test
+    public void wrongRequestTest() {
+        Reader reader = DataHelper.createReaderBuilder().setContent("a\nb\nc").buildReader();
+        RecordingSubscriber subscriber = new RecordingSubscriber(0L, -1);
+        createCsvRowPublisher(reader).subscribe(subscriber);
+        subscriber.getSubscription().request(0L);
+        Assertions.assertThat(subscriber.getErrors()).hasSize(1);
+        Assertions.assertThat(subscriber.getErrors().get(0)).isInstanceOf(IllegalArgumentException.class);
+        Assertions.assertThat(subscriber.getErrors().get(0)).hasMessage("Wrong number of requested rows: 0.");
+        Assertions.assertThat(((IsCloseable) reader).isClosed()).isTrue();
+        subscriber.getSubscription().request(-1L);
+        subscriber.getSubscription().request(1L);
+        Assertions.assertThat(subscriber.getErrors()).hasSize(1);
+        Assertions.assertThat(subscriber.getRows()).hasSize(0);
+    }
+
+    /**
+     * {@link CsvRowPublisher} class test.
+     */
+    @Test
+    public void parseErrorTest() {
+        Reader reader = DataHelper.createReaderBuilder().setContent("a\nb\"c\nd").setCloseException("ERROR").buildReader();
+        RecordingSubscriber subscriber = new RecordingSubscriber(0L, -1);
+        createCsvRowPublisher(reader).subscribe(subscriber);
+        subscriber.getSubscription().request(10L);
+        Assertions.assertThat(subscriber.getRows()).hasSize(1);
+        Assertions.assertThat(subscriber.getErrors()).hasSize(1);
+        Assertions.assertThat(subscriber.getErrors().get(0)).isInstanceOf(CsvParseException.class);
+        Assertions.assertThat(subscriber.getCompleteCount()).isEqualTo(0);
+    }
+
+    /**
+     * {@link CsvRowPublisher} class test.
+     */
+    @Test
+    public void closeErrorTest() {
+        Reader reader = DataHelper.createReaderBuilder().setContent("a").setCloseException("ERROR").buildReader();
+        RecordingSubscriber subscriber = new RecordingSubscriber(0L, -1);
+        createCsvRowPublisher(reader).subscribe(subscriber);
+        subscriber.getSubscription().request(10L);
+        Assertions.assertThat(subscriber.getRows()).hasSize(1);
+        Assertions.assertThat(subscriber.getErrors()).hasSize(1);
+        Assertions.assertThat(subscriber.getErrors().get(0)).isInstanceOf(CsvIOException.class);
+        Assertions.assertThat(subscriber.getErrors().get(0)).hasMessage("ERROR");
+        Assertions.assertThat(subscriber.getCompleteCount()).isEqualTo(0);
+    }
+
+    /**
+     * {@link CsvRowPublisher} class test.
+     */
+    @Test
+    public void subscribeTwiceTest() {
+        CsvRowPublisher csvRowPublisher = createCsvRowPublisher(new StringReader("a"));
+        csvRowPublisher.subscribe(new RecordingSubscriber(0L, -1));
+        try {
+            csvRowPublisher.subscribe(new RecordingSubscriber(0L, -1));
+            Assertions.fail("CsvRowPublisher test fail");
+        } catch (IllegalStateException ex) {
+            Assertions.assertThat(ex).hasMessage("CSV row publisher is already subscribed.");
+        }
+    }
+
+    /**
+     * {@link CsvRowPublisher} class test.
+     */
+    @Test
+    public void publishTest() {
+        RecordingSubscriber subscriber1 = new RecordingSubscriber(0L, -1);
+        CsvParserBuilder.getInstance().publish("a,b\r\nc").subscribe(subscriber1);
+        subscriber1.getSubscription().request(5L);
+        Assertions.assertThat(subscriber1.getRows()).hasSize(2);
+        Assertions.assertThat(subscriber1.getRows().get(0)).containsExactlyInOrder("a", "b");
+        Assertions.assertThat(subscriber1.getRows().get(1)).containsExactlyInOrder("c");
+
+        RecordingSubscriber subscriber2 = new RecordingSubscriber(0L, -1);
+        CsvParserBuilder.getInstance().publish(new StringReader("a,b\r\nc")).subscribe(subscriber2);
+        subscriber2.getSubscription().request(5L);
+        Assertions.assertThat(subscriber2.getRows()).hasSize(2);
+        Assertions.assertThat(subscriber2.getCompleteCount()).isEqualTo(1);
+    }
+
+    private CsvRowPublisher createCsvRowPublisher(final Reader reader) {
+        return new CsvRowPublisher(new CsvReader(createCsvParserConfiguration(), reader));
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class RecordingSubscriber implements CsvRowSubscriber {
+
+        private final long _requestOnNext;
+
+        private final int _cancelAfter;
+
+        private final List<List<String>> _rows;
+
+        private final List<Throwable> _errors;
+
+        private CsvRowSubscription _subscription;
+
+        private int _completeCount;
+
+        RecordingSubscriber(final long requestOnNext, final int cancelAfter) {
+            super();
+            _requestOnNext = requestOnNext;
+            _cancelAfter = cancelAfter;
+            _rows = new ArrayList<>();
+            _errors = new ArrayList<>();
+            _subscription = null;
+            _completeCount = 0;
+        }
+
+        @Override
+        public void onSubscribe(final CsvRowSubscription subscription) {
+            _subscription = subscription;
+        }
+
+        @Override
+        public void onNext(final List<String> row) {
+            _rows.add(row);
+            if (_rows.size() == _cancelAfter) {
+                _subscription.cancel();
+            }
+            if (_requestOnNext > 0L) {
+                _subscription.request(_requestOnNext);
+            }
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            _errors.add(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            _completeCount++;
+        }
+
+        CsvRowSubscription getSubscription() {
+            return _subscription;
+        }
+
+        List<List<String>> getRows() {
+            return _rows;
+        }
+
+        List<Throwable> getErrors() {
+            return _errors;
+        }
+
+        int getCompleteCount() {
+            return _completeCount;
+        }
+
+    }
+
+}
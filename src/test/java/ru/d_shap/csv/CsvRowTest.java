@@ -0,0 +1,176 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link CsvRow}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class CsvRowTest extends CsvTest {
+
+    /**
+     * Test class constructor.
+     */
+    public CsvRowTest() {
+        super();
+    }
+
+    /**
+     * {@link CsvRow} class test.
+     */
+    @Test
+    public void addColumnTest() {
+        CsvRow csvRow = new CsvRow();
+        Assertions.assertThat(csvRow.getColumnCount()).isEqualTo(0);
+        csvRow.addColumn("xabcx".toCharArray(), 1, 3, 5);
+        Assertions.assertThat(csvRow.getColumnCount()).isEqualTo(1);
+        Assertions.assertThat(csvRow.getColumn(0)).isEqualTo("abc");
+        Assertions.assertThat(csvRow.getColumnLength(0)).isEqualTo(3);
+        Assertions.assertThat(csvRow.getColumnActualLength(0)).isEqualTo(5);
+        csvRow.addColumn(new char[0], 0, 0, 0);
+        Assertions.assertThat(csvRow.getColumnCount()).isEqualTo(2);
+        Assertions.assertThat(csvRow.getColumn(1)).isEqualTo("");
+        Assertions.assertThat(csvRow.getColumnLength(1)).isEqualTo(0);
+        Assertions.assertThat(csvRow.getColumnActualLength(1)).isEqualTo(0);
+    }
+
+    /**
+     * {@link CsvRow} class test.
+     */
+    @Test
+    public void addManyColumnsTest() {
+        CsvRow csvRow = new CsvRow();
+        char[] buffer = new char[50];
+        for (int i = 0; i < buffer.length; i++) {
+            buffer[i] = (char) ('a' + i % 26);
+        }
+        for (int i = 0; i < 20; i++) {
+            csvRow.addColumn(buffer, i, buffer.length - i, buffer.length);
+        }
+        Assertions.assertThat(csvRow.getColumnCount()).isEqualTo(20);
+        for (int i = 0; i < 20; i++) {
+            Assertions.assertThat(csvRow.getColumn(i)).isEqualTo(new String(buffer, i, buffer.length - i));
+            Assertions.assertThat(csvRow.getColumnLength(i)).isEqualTo(buffer.length - i);
+            Assertions.assertThat(csvRow.getColumnActualLength(i)).isEqualTo(buffer.length);
+        }
+    }
+
+    /**
+     * {@link CsvRow} class test.
+     */
+    @Test
+    public void clearTest() {
+        CsvRow csvRow = new CsvRow();
+        csvRow.addColumn("abc".toCharArray(), 0, 3, 3);
+        csvRow.addColumn("de".toCharArray(), 0, 2, 2);
+        Assertions.assertThat(csvRow.getColumnCount()).isEqualTo(2);
+        csvRow.clear();
+        Assertions.assertThat(csvRow.getColumnCount()).isEqualTo(0);
+        Assertions.assertThat(csvRow.toList()).isEmpty();
+        csvRow.addColumn("f".toCharArray(), 0, 1, 1);
+        Assertions.assertThat(csvRow.getColumnCount()).isEqualTo(1);
+        Assertions.assertThat(csvRow.getColumn(0)).isEqualTo("f");
+    }
+
+    /**
+     * {@link CsvRow} class test.
+     */
+    @Test
+    public void wrongIndexTest() {
+        CsvRow csvRow = new CsvRow();
+        csvRow.addColumn("abc".toCharArray(), 0, 3, 3);
+        try {
+            csvRow.getColumn(-1);
+            Assertions.fail("CsvRow test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).hasMessage("Column index: -1, column count: 1");
+        }
+        try {
+            csvRow.getColumn(1);
+            Assertions.fail("CsvRow test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).hasMessage("Column index: 1, column count: 1");
+        }
+        try {
+            csvRow.getColumnLength(1);
+            Assertions.fail("CsvRow test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).hasMessage("Column index: 1, column count: 1");
+        }
+        try {
+            csvRow.getColumnActualLength(1);
+            Assertions.fail("CsvRow test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).hasMessage("Column index: 1, column count: 1");
+        }
+        try {
+            csvRow.copyColumn(1, new char[10], 0);
+            Assertions.fail("CsvRow test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).hasMessage("Column index: 1, column count: 1");
+        }
+    }
+
+    /**
+     * {@link CsvRow} class test.
+     */
+    @Test
+    public void copyColumnTest() {
+        CsvRow csvRow = new CsvRow();
+        csvRow.addColumn("abc".toCharArray(), 0, 3, 3);
+        csvRow.addColumn("de".toCharArray(), 0, 2, 2);
+        char[] destination = "xxxxxx".toCharArray();
+        Assertions.assertThat(csvRow.copyColumn(1, destination, 1)).isEqualTo(2);
+        Assertions.assertThat(destination).containsExactlyInOrder('x', 'd', 'e', 'x', 'x', 'x');
+        Assertions.assertThat(csvRow.copyColumn(0, destination, 3)).isEqualTo(3);
+        Assertions.assertThat(destination).containsExactlyInOrder('x', 'd', 'e', 'a', 'b', 'c');
+    }
+
+    /**
+     * {@link CsvRow} class test.
+     */
+    @Test
+    public void toListTest() {
+        CsvRow csvRow = new CsvRow();
+        Assertions.assertThat(csvRow.toList()).isEmpty();
+        csvRow.addColumn("abc".toCharArray(), 0, 3, 3);
+        csvRow.addColumn("".toCharArray(), 0, 0, 0);
+        csvRow.addColumn("de".toCharArray(), 0, 2, 2);
+        Assertions.assertThat(csvRow.toList()).containsExactlyInOrder("abc", "", "de");
+    }
+
+    /**
+     * {@link CsvRow} class test.
+     */
+    @Test
+    public void toStringTest() {
+        CsvRow csvRow = new CsvRow();
+        Assertions.assertThat(csvRow.toString()).isEqualTo("[]");
+        csvRow.addColumn("abc".toCharArray(), 0, 3, 3);
+        csvRow.addColumn("de".toCharArray(), 0, 2, 2);
+        Assertions.assertThat(csvRow.toString()).isEqualTo("[abc, de]");
+    }
+
+}
@@ -0,0 +1,556 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.csv.handler.CsvEventHandler;
+import ru.d_shap.csv.handler.CsvMergeable;
+import ru.d_shap.csv.handler.ListEventHandler;
+
+/**
+ * Tests for {@link ParallelCsvParser}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ParallelCsvParserTest extends CsvTest {
+
+    private static final char[] ALPHABET = {',', '\r', '\n', '"', 'a'};
+
+    private static final int MAX_CSV_LENGTH = 4;
+
+    /**
+     * Test class constructor.
+     */
+    public ParallelCsvParserTest() {
+        super();
+    }
+
+    /**
+     * {@link ParallelCsvParser} class test.
+     */
+    @Test
+    public void getChunkPositionsTest() {
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+        ParallelCsvParser parallelCsvParser1 = new ParallelCsvParser(csvParserConfiguration, null, 10L, 100L);
+        Assertions.assertThat(parallelCsvParser1.getChunkPositions(0L, 4)).containsExactlyInOrder(0L, 0L);
+        Assertions.assertThat(parallelCsvParser1.getChunkPositions(5L, 4)).containsExactlyInOrder(0L, 5L);
+        Assertions.assertThat(parallelCsvParser1.getChunkPositions(10L, 4)).containsExactlyInOrder(0L, 10L);
+        Assertions.assertThat(parallelCsvParser1.getChunkPositions(11L, 4)).containsExactlyInOrder(0L, 5L, 11L);
+        Assertions.assertThat(parallelCsvParser1.getChunkPositions(100L, 1)).containsExactlyInOrder(0L, 25L, 50L, 75L, 100L);
+        Assertions.assertThat(parallelCsvParser1.getChunkPositions(1000L, 1)).containsExactlyInOrder(0L, 250L, 500L, 750L, 1000L);
+
+        ParallelCsvParser parallelCsvParser2 = new ParallelCsvParser(csvParserConfiguration, null, 1L, 100L);
+        Assertions.assertThat(parallelCsvParser2.getChunkPositions(3L, 4)).containsExactlyInOrder(0L, 1L, 2L, 3L);
+        Assertions.assertThat(parallelCsvParser2.getChunkPositions(10L, 1)).containsExactlyInOrder(0L, 2L, 5L, 7L, 10L);
+        Assertions.assertThat(parallelCsvParser2.getChunkPositions(Long.MAX_VALUE, 1)).containsExactlyInOrder(0L, Long.MAX_VALUE / 4, Long.MAX_VALUE / 4 * 2 + 1, Long.MAX_VALUE / 4 * 3 + 2, Long.MAX_VALUE);
+    }
+
+    /**
+     * {@link ParallelCsvParser} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void isOddQuoteCountTest() throws IOException {
+        Path path = createFile("a\"b\"\"c\"d");
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ParallelCsvParser parallelCsvParser = new ParallelCsvParser(createCsvParserConfiguration(), null, 1L, 2L);
+            Assertions.assertThat(parallelCsvParser.isOddQuoteCount(fileChannel, 0L, 0L)).isFalse();
+            Assertions.assertThat(parallelCsvParser.isOddQuoteCount(fileChannel, 0L, 2L)).isTrue();
+            Assertions.assertThat(parallelCsvParser.isOddQuoteCount(fileChannel, 0L, 4L)).isFalse();
+            Assertions.assertThat(parallelCsvParser.isOddQuoteCount(fileChannel, 0L, 5L)).isTrue();
+            Assertions.assertThat(parallelCsvParser.isOddQuoteCount(fileChannel, 0L, 8L)).isFalse();
+            Assertions.assertThat(parallelCsvParser.isOddQuoteCount(fileChannel, 3L, 8L)).isTrue();
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link ParallelCsvParser} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void findSplitPositionTest() throws IOException {
+        Path path = createFile("a\nb\"\n\"\r\nc\rd");
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            CsvParserConfiguration csvParserConfiguration1 = createCsvParserConfiguration();
+            csvParserConfiguration1.setCrSeparator(false);
+            csvParserConfiguration1.setLfSeparator(true);
+            csvParserConfiguration1.setCrLfSeparator(false);
+            ParallelCsvParser parallelCsvParser1 = new ParallelCsvParser(csvParserConfiguration1, null, 1L, 2L);
+            Assertions.assertThat(parallelCsvParser1.findSplitPosition(fileChannel, 1L, 11L, false)).isEqualTo(2L);
+            Assertions.assertThat(parallelCsvParser1.findSplitPosition(fileChannel, 2L, 11L, false)).isEqualTo(8L);
+            Assertions.assertThat(parallelCsvParser1.findSplitPosition(fileChannel, 4L, 11L, true)).isEqualTo(8L);
+            Assertions.assertThat(parallelCsvParser1.findSplitPosition(fileChannel, 5L, 11L, true)).isEqualTo(8L);
+            Assertions.assertThat(parallelCsvParser1.findSplitPosition(fileChannel, 8L, 11L, false)).isEqualTo(11L);
+
+            CsvParserConfiguration csvParserConfiguration2 = createCsvParserConfiguration();
+            csvParserConfiguration2.setCrSeparator(false);
+            csvParserConfiguration2.setLfSeparator(false);
+            csvParserConfiguration2.setCrLfSeparator(true);
+            ParallelCsvParser parallelCsvParser2 = new ParallelCsvParser(csvParserConfiguration2, null, 1L, 2L);
+            Assertions.assertThat(parallelCsvParser2.findSplitPosition(fileChannel, 1L, 11L, false)).isEqualTo(8L);
+            Assertions.assertThat(parallelCsvParser2.findSplitPosition(fileChannel, 8L, 11L, false)).isEqualTo(11L);
+
+            CsvParserConfiguration csvParserConfiguration3 = createCsvParserConfiguration();
+            csvParserConfiguration3.setCrSeparator(true);
+            csvParserConfiguration3.setLfSeparator(false);
+            csvParserConfiguration3.setCrLfSeparator(false);
+            ParallelCsvParser parallelCsvParser3 = new ParallelCsvParser(csvParserConfiguration3, null, 1L, 2L);
+            Assertions.assertThat(parallelCsvParser3.findSplitPosition(fileChannel, 1L, 11L, false)).isEqualTo(7L);
+            Assertions.assertThat(parallelCsvParser3.findSplitPosition(fileChannel, 7L, 11L, false)).isEqualTo(10L);
+
+            CsvParserConfiguration csvParserConfiguration4 = createCsvParserConfiguration();
+            csvParserConfiguration4.setCrSeparator(true);
+            csvParserConfiguration4.setLfSeparator(false);
+            csvParserConfiguration4.setCrLfSeparator(true);
+            ParallelCsvParser parallelCsvParser4 = new ParallelCsvParser(csvParserConfiguration4, null, 1L, 2L);
+            Assertions.assertThat(parallelCsvParser4.findSplitPosition(fileChannel, 1L, 11L, false)).isEqualTo(8L);
+            Assertions.assertThat(parallelCsvParser4.findSplitPosition(fileChannel, 8L, 11L, false)).isEqualTo(10L);
+            Assertions.assertThat(parallelCsvParser4.findSplitPosition(fileChannel, 10L, 11L, false)).isEqualTo(10L);
+            Assertions.assertThat(parallelCsvParser4.findSplitPosition(fileChannel, 10L, 11L, true)).isEqualTo(11L);
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link ParallelCsvParser} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void sameEventsAsSequentialParserTest() throws IOException {
+        List<String> csvs = new ArrayList<>();
+        createCsvs("", csvs);
+        ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+        Path path = Files.createTempFile("csv", ".csv");
+        try {
+            for (String csv : csvs) {
+                Files.write(path, csv.getBytes(StandardCharsets.UTF_8));
+                for (int configuration = 2; configuration < 16; configuration++) {
+                    CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+                    csvParserConfiguration.setCrSeparator((configuration & 2) != 0);
+                    csvParserConfiguration.setLfSeparator((configuration & 4) != 0);
+                    csvParserConfiguration.setCrLfSeparator((configuration & 8) != 0);
+                    csvParserConfiguration.setColumnCountCheckEnabled((configuration & 1) != 0);
+                    csvParserConfiguration.setSkipEmptyRowsEnabled((configuration & 1) != 0);
+                    CsvParser csvParser = new CsvParser(csvParserConfiguration);
+                    List<String> events = parse(csvParser, path);
+                    for (int minChunkSize = 1; minChunkSize <= 3; minChunkSize++) {
+                        ParallelCsvParser parallelCsvParser = new ParallelCsvParser(csvParserConfiguration, StandardCharsets.UTF_8, minChunkSize, 2L);
+                        Assertions.assertThat(parseParallel(parallelCsvParser, path, forkJoinPool)).containsExactlyInOrder(events);
+                    }
+                }
+            }
+        } finally {
+            Files.delete(path);
+            forkJoinPool.shutdown();
+        }
+    }
+
+    /**
+     * {@link ParallelCsvParser} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void parseWithColumnCountCheckTest() throws IOException {
+        ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+        Path path = createFile("a,b\nc,d\ne\nf,g\n");
+        try {
+            CsvParserConfiguration csvParserConfiguration1 = createCsvParserConfiguration();
+            csvParserConfiguration1.setColumnCountCheckEnabled(false);
+            ListEventHandler listEventHandler1 = new ListEventHandler();
+            new ParallelCsvParser(csvParserConfiguration1, null, 1L, 2L).parse(path, listEventHandler1, forkJoinPool, 4);
+            Assertions.assertThat(listEventHandler1.getCsv()).hasSize(4);
+            Assertions.assertThat(listEventHandler1.getCsv().get(2)).containsExactlyInOrder("e");
+
+            try {
+                CsvParserConfiguration csvParserConfiguration2 = createCsvParserConfiguration();
+                csvParserConfiguration2.setColumnCountCheckEnabled(true);
+                ListEventHandler listEventHandler2 = new ListEventHandler();
+                new ParallelCsvParser(csvParserConfiguration2, null, 1L, 2L).parse(path, listEventHandler2, forkJoinPool, 4);
+                Assertions.fail("ParallelCsvParser test fail");
+            } catch (WrongColumnCountException ex) {
+                Assertions.assertThat(ex).hasMessage("CSV has rows with different column count. Last characters: \"a,b\\nc,d\\ne\\n\".");
+                Assertions.assertThat(ex.getPosition()).isEqualTo(9L);
+                Assertions.assertThat(ex.getRowIndex()).isEqualTo(2L);
+                Assertions.assertThat(ex.getColumnIndex()).isEqualTo(1);
+            }
+        } finally {
+            Files.delete(path);
+            forkJoinPool.shutdown();
+        }
+    }
+
+    /**
+     * {@link ParallelCsvParser} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void parseWithWrongCharacterTest() throws IOException {
+        ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+        Path path = createFile("a,b\nc,d\ne,f\"g\nh,i\n");
+        try {
+            CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+            List<String> events = parse(new CsvParser(csvParserConfiguration), path);
+            Assertions.assertThat(events).containsExactlyInOrder("exception: ru.d_shap.csv.CsvParseException, Wrong character obtained: '\"' (34). Last characters: \"a,b\\nc,d\\ne,f\"\".", "position: 11, row index: 2, column index: 1");
+            Assertions.assertThat(parseParallel(new ParallelCsvParser(csvParserConfiguration, null, 1L, 2L), path, forkJoinPool)).containsExactlyInOrder(events);
+
+            Files.write(path, "a\"b\nc,d\ne,f\n".getBytes(StandardCharsets.UTF_8));
+            Assertions.assertThat(parseParallel(new ParallelCsvParser(csvParserConfiguration, null, 1L, 2L), path, forkJoinPool)).containsExactlyInOrder("exception: ru.d_shap.csv.CsvParseException, Wrong character obtained: '\"' (34). Last characters: \"a\"\".", "position: 1, row index: 0, column index: 0");
+
+            Files.write(path, "a,b\nc,d\ne,x\n".getBytes(StandardCharsets.UTF_8));
+            try {
+                new ParallelCsvParser(csvParserConfiguration, null, 1L, 2L).parse(path, new FailingEventHandler(), forkJoinPool, 8);
+                Assertions.fail("ParallelCsvParser test fail");
+            } catch (WrongColumnValueException ex) {
+                Assertions.assertThat(ex.getPosition()).isEqualTo(-1L);
+                Assertions.assertThat(ex.getRowIndex()).isEqualTo(-1L);
+                Assertions.assertThat(ex.getColumnIndex()).isEqualTo(-1);
+            }
+        } finally {
+            Files.delete(path);
+            forkJoinPool.shutdown();
+        }
+    }
+
+    /**
+     * {@link ParallelCsvParser} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void reparseChunkTest() throws IOException {
+        Path path = createFile("a,b\nc,d\n");
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+            csvParserConfiguration.setColumnCountCheckEnabled(true);
+            ParallelCsvParser parallelCsvParser = new ParallelCsvParser(csvParserConfiguration, null, 1L, 2L);
+            WrongColumnCountException wrongColumnCountException = new WrongColumnCountException();
+            Assertions.assertThat(parallelCsvParser.reparseChunk(fileChannel, 4L, 8L, 1L, 2, new ListEventHandler(), wrongColumnCountException)).isSameAs(wrongColumnCountException);
+
+            CsvException csvException = parallelCsvParser.reparseChunk(fileChannel, 4L, 8L, 1L, 1, new ListEventHandler(), wrongColumnCountException);
+            Assertions.assertThat(csvException).isInstanceOf(WrongColumnCountException.class);
+            Assertions.assertThat(csvException).isNotSameAs(wrongColumnCountException);
+            Assertions.assertThat(csvException).hasMessage("CSV has rows with different column count. Last characters: \"a,b\\nc,d\\n\".");
+            Assertions.assertThat(csvException.getPosition()).isEqualTo(7L);
+            Assertions.assertThat(csvException.getRowIndex()).isEqualTo(1L);
+            Assertions.assertThat(csvException.getColumnIndex()).isEqualTo(1);
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link ParallelCsvParser} class test.
+     */
+    @Test
+    public void parseNotExistingFileTest() {
+        ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+        try {
+            Path path = Paths.get("target", "not-existing-file.csv");
+            new ParallelCsvParser(createCsvParserConfiguration(), null, 1L, 2L).parse(path, new ListEventHandler(), forkJoinPool, 2);
+            Assertions.fail("ParallelCsvParser test fail");
+        } catch (CsvIOException ex) {
+            Assertions.assertThat(ex).hasMessage(Paths.get("target", "not-existing-file.csv").toString());
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    /**
+     * {@link ParallelCsvParser} class test.
+     *
+     * @throws Exception exception.
+     */
+    @Test
+    public void parseInterruptedTest() throws IOException {
+        Path path = createFile("a,b\nc,d\n");
+        try {
+            new ParallelCsvParser(createCsvParserConfiguration(), null, 1L, 2L).parse(path, new ListEventHandler(), new InterruptedExecutorService(), 2);
+            Assertions.fail("ParallelCsvParser test fail");
+        } catch (CsvInterruptedException ex) {
+            Assertions.assertThat(ex).hasMessage("CSV parsing is interrupted.");
+            Assertions.assertThat(Thread.interrupted()).isTrue();
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * {@link ParallelCsvParser} class test.
+     *
+     * @throws InterruptedException interrupted exception.
+     */
+    @Test
+    public void getResultTest() throws InterruptedException {
+        FutureTask<String> futureTask1 = createFutureTask(null);
+        Assertions.assertThat(ParallelCsvParser.getResult(futureTask1)).isEqualTo("result");
+
+        try {
+            FutureTask<String> futureTask2 = createFutureTask(new IOException("ERROR"));
+            ParallelCsvParser.getResult(futureTask2);
+            Assertions.fail("ParallelCsvParser test fail");
+        } catch (CsvIOException ex) {
+            Assertions.assertThat(ex).hasMessage("ERROR");
+        }
+
+        try {
+            FutureTask<String> futureTask3 = createFutureTask(new WrongColumnCountException());
+            ParallelCsvParser.getResult(futureTask3);
+            Assertions.fail("ParallelCsvParser test fail");
+        } catch (WrongColumnCountException ex) {
+            Assertions.assertThat(ex).hasMessage("CSV has rows with different column count.");
+        }
+
+        try {
+            FutureTask<String> futureTask4 = createFutureTask(new IllegalStateException("ERROR", new IOException("CAUSE")));
+            ParallelCsvParser.getResult(futureTask4);
+            Assertions.fail("ParallelCsvParser test fail");
+        } catch (IllegalStateException ex) {
+            Assertions.assertThat(ex).hasMessage("ERROR");
+        }
+
+        try {
+            FutureTask<String> futureTask5 = createFutureTask(new AssertionError("ERROR"));
+            ParallelCsvParser.getResult(futureTask5);
+            Assertions.fail("ParallelCsvParser test fail");
+        } catch (AssertionError ex) {
+            Assertions.assertThat(ex).hasMessage("ERROR");
+        }
+
+        try {
+            FutureTask<String> futureTask6 = createFutureTask(new Exception("ERROR"));
+            ParallelCsvParser.getResult(futureTask6);
+            Assertions.fail("ParallelCsvParser test fail");
+        } catch (IllegalStateException ex) {
+            Assertions.assertThat(ex).hasMessage("java.lang.Exception: ERROR");
+        }
+    }
+
+    private FutureTask<String> createFutureTask(final Throwable throwable) {
+        FutureTask<String> futureTask = new FutureTask<>(new Callable<String>() {
+
+            @Override
+            public String call() throws Exception {
+                if (throwable instanceof Exception) {
+                    throw (Exception) throwable;
+                }
+                if (throwable instanceof Error) {
+                    throw (Error) throwable;
+                }
+                return "result";
+            }
+
+        });
+        futureTask.run();
+        return futureTask;
+    }
+
+    private Path createFile(final String csv) throws IOException {
+        Path path = Files.createTempFile("csv", ".csv");
+        Files.write(path, csv.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    private void createCsvs(final String prefix, final List<String> csvs) {
+        csvs.add(prefix);
+        if (prefix.length() < MAX_CSV_LENGTH) {
+            for (char ch : ALPHABET) {
+                createCsvs(prefix + ch, csvs);
+            }
+        }
+    }
+
+    private List<String> parse(final CsvParser csvParser, final Path path) {
+        RecordingEventHandler eventHandler = new RecordingEventHandler();
+        try {
+            csvParser.parse(path, StandardCharsets.UTF_8, eventHandler);
+            return eventHandler.getEvents();
+        } catch (CsvException ex) {
+            return getExceptionEvents(ex);
+        }
+    }
+
+    private List<String> parseParallel(final ParallelCsvParser parallelCsvParser, final Path path, final ForkJoinPool forkJoinPool) {
+        RecordingEventHandler eventHandler = new RecordingEventHandler();
+        try {
+            parallelCsvParser.parse(path, eventHandler, forkJoinPool, 8);
+            return eventHandler.getEvents();
+        } catch (CsvException ex) {
+            return getExceptionEvents(ex);
+        }
+    }
+
+    private List<String> getExceptionEvents(final CsvException csvException) {
+        List<String> events = new ArrayList<>();
+        events.add("exception: " + csvException.getClass().getName() + ", " + csvException.getMessage());
+        events.add("position: " + csvException.getPosition() + ", row index: " + csvException.getRowIndex() + ", column index: " + csvException.getColumnIndex());
+        return events;
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class InterruptedExecutorService extends AbstractExecutorService {
+
+        InterruptedExecutorService() {
+            super();
+        }
+
+        @Override
+        public <T> List<Future<T>> invokeAll(final Collection<? extends Callable<T>> tasks) throws InterruptedException {
+            throw new InterruptedException();
+        }
+
+        @Override
+        public void shutdown() {
+            // Ignore
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(final long timeout, final TimeUnit unit) {
+            return false;
+        }
+
+        @Override
+        public void execute(final Runnable command) {
+            command.run();
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class FailingEventHandler implements CsvEventHandler, CsvMergeable<FailingEventHandler> {
+
+        FailingEventHandler() {
+            super();
+        }
+
+        @Override
+        public void pushColumn(final String column, final int actualLength) {
+            if ("x".equals(column)) {
+                throw new WrongColumnValueException(column, "int", -1L, -1);
+            }
+        }
+
+        @Override
+        public void pushRow() {
+            // Ignore
+        }
+
+        @Override
+        public FailingEventHandler createPartialHandler() {
+            return new FailingEventHandler();
+        }
+
+        @Override
+        public void merge(final FailingEventHandler partialHandler) {
+            // Ignore
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class RecordingEventHandler implements CsvEventHandler, CsvMergeable<RecordingEventHandler> {
+
+        private final List<String> _events;
+
+        RecordingEventHandler() {
+            super();
+            _events = new ArrayList<>();
+        }
+
+        @Override
+        public void pushColumn(final String column, final int actualLength) {
+            _events.add("column: " + column + ", " + actualLength);
+        }
+
+        @Override
+        public void pushRow() {
+            _events.add("row");
+        }
+
+        @Override
+        public RecordingEventHandler createPartialHandler() {
+            return new RecordingEventHandler();
+        }
+
+        @Override
+        public void merge(final RecordingEventHandler partialHandler) {
+            _events.addAll(partialHandler._events);
+        }
+
+        List<String> getEvents() {
+            return _events;
+        }
+
+    }
+
+}
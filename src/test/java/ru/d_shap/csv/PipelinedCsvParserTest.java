@@ -0,0 +1,499 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.assertions.mock.IsCloseable;
+import ru.d_shap.assertions.util.DataHelper;
+import ru.d_shap.csv.handler.CsvEventHandler;
+import ru.d_shap.csv.handler.CsvSliceEventHandler;
+import ru.d_shap.csv.handler.CsvStoppable;
+import ru.d_shap.csv.handler.CsvStructuralEventHandler;
+import ru.d_shap.csv.handler.ListEventHandler;
+
+/**
+ * Tests for {@link PipelinedCsvParser}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class PipelinedCsvParserTest extends CsvTest {
+
+    /**
+     * Test class constructor.
+     */
+    public PipelinedCsvParserTest() {
+        super();
+    }
+
+    /**
+     * {@link PipelinedCsvParser} class test.
+     */
+    @Test
+    public void parseReaderTest() {
+        String csv = createCsv(1000);
+        ExecutorService executorService = Executors.newCachedThreadPool();
+        try {
+            CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+            csvParserConfiguration.setReadBufferSize(7);
+
+            ListEventHandler listEventHandler1 = new ListEventHandler();
+            new PipelinedCsvParser(csvParserConfiguration, null, 2, 3).parse(new StringReader(csv), listEventHandler1, executorService);
+            Assertions.assertThat(listEventHandler1.getCsv()).containsExactlyInOrder(createCsvParser(true, true, true, true, true).parse(csv));
+
+            ListEventHandler listEventHandler2 = new ListEventHandler();
+            new PipelinedCsvParser(createCsvParserConfiguration(), null, PipelinedCsvParser.BLOCK_COUNT, PipelinedCsvParser.EVENT_BLOCK_SIZE).parse(new StringReader(csv), listEventHandler2, executorService);
+            Assertions.assertThat(listEventHandler2.getCsv()).containsExactlyInOrder(listEventHandler1.getCsv());
+
+            ListEventHandler listEventHandler3 = new ListEventHandler();
+            new PipelinedCsvParser(createCsvParserConfiguration(), null, 2, 3).parse(new StringReader(""), listEventHandler3, executorService);
+            Assertions.assertThat(listEventHandler3.getCsv()).hasSize(0);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * {@link PipelinedCsvParser} class test.
+     */
+    @Test
+    public void parseInputStreamTest() {
+        String csv = createCsv(300) + "абв,\"гд\r\nе\"";
+        List<List<String>> expected = createCsvParser(true, true, true, true, true).parse(csv);
+        ExecutorService executorService = Executors.newCachedThreadPool();
+        try {
+            CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+            csvParserConfiguration.setReadBufferSize(5);
+            Charset[] charsets = new Charset[]{StandardCharsets.UTF_8, StandardCharsets.UTF_16, Charset.forName("windows-1251")};
+            for (Charset charset : charsets) {
+                ListEventHandler listEventHandler = new ListEventHandler();
+                new PipelinedCsvParser(csvParserConfiguration, charset, 2, 3).parse(new ByteArrayInputStream(csv.getBytes(charset)), listEventHandler, executorService);
+                Assertions.assertThat(listEventHandler.getCsv()).containsExactlyInOrder(expected);
+            }
+
+            String asciiCsv = createCsv(300);
+            ListEventHandler listEventHandler = new ListEventHandler();
+            InputStream inputStream = DataHelper.createInputStreamBuilder().setContent(asciiCsv.getBytes(StandardCharsets.ISO_8859_1)).buildInputStream();
+            new PipelinedCsvParser(csvParserConfiguration, StandardCharsets.ISO_8859_1, 2, 3).parse(inputStream, listEventHandler, executorService);
+            Assertions.assertThat(listEventHandler.getCsv()).containsExactlyInOrder(createCsvParser(true, true, true, true, true).parse(asciiCsv));
+            Assertions.assertThat(((IsCloseable) inputStream).isClosed()).isTrue();
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * {@link PipelinedCsvParser} class test.
+     */
+    @Test
+    public void parseWithLimitRowsTest() {
+        ExecutorService executorService = Executors.newCachedThreadPool();
+        try {
+            CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+            csvParserConfiguration.setSkipRows(2L);
+            csvParserConfiguration.setLimitRows(3L);
+            csvParserConfiguration.setReadBufferSize(4);
+            ListEventHandler listEventHandler = new ListEventHandler();
+            RepeatingReader repeatingReader = new RepeatingReader("a,b\n");
+            new PipelinedCsvParser(csvParserConfiguration, null, 2, 3).parse(repeatingReader, listEventHandler, executorService);
+            Assertions.assertThat(listEventHandler.getCsv()).hasSize(3);
+            Assertions.assertThat(listEventHandler.getCsv().get(2)).containsExactlyInOrder("a", "b");
+            Assertions.assertThat(repeatingReader.isClosed()).isTrue();
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * {@link PipelinedCsvParser} class test.
+     */
+    @Test
+    public void parseWithStoppableEventHandlerTest() {
+        ExecutorService executorService = Executors.newCachedThreadPool();
+        try {
+            StoppableEventHandler stoppableEventHandler = new StoppableEventHandler(5);
+            RepeatingReader repeatingReader = new RepeatingReader("a,b\n");
+            new PipelinedCsvParser(createCsvParserConfiguration(), null, 2, 3).parse(repeatingReader, stoppableEventHandler, executorService);
+            Assertions.assertThat(stoppableEventHandler.getColumns()).containsExactlyInOrder("a", "b", "a", "b", "a", "b", "a", "b", "a", "b");
+            Assertions.assertThat(repeatingReader.isClosed()).isTrue();
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * {@link PipelinedCsvParser} class test.
+     */
+    @Test
+    public void parseWithStructuralEventHandlerTest() {
+        ExecutorService executorService = Executors.newCachedThreadPool();
+        try {
+            CsvParserConfiguration csvParserConfiguration1 = createCsvParserConfiguration();
+            csvParserConfiguration1.setReadBufferSize(2);
+            StructuralEventHandler structuralEventHandler1 = new StructuralEventHandler();
+            new PipelinedCsvParser(csvParserConfiguration1, null, 2, 3).parse(new StringReader("a,bc\nd"), structuralEventHandler1, executorService);
+            Assertions.assertThat(structuralEventHandler1.getEvents()).containsExactlyInOrder("?", "?", "row", "?", "row");
+
+            StructuralSliceEventHandler structuralSliceEventHandler1 = new StructuralSliceEventHandler();
+            new PipelinedCsvParser(csvParserConfiguration1, null, 2, 3).parse(new StringReader("a,bc\nd"), structuralSliceEventHandler1, executorService);
+            Assertions.assertThat(structuralSliceEventHandler1.getEvents()).containsExactlyInOrder("?", "?", "row", "?", "row");
+
+            CsvParserConfiguration csvParserConfiguration2 = createCsvParserConfiguration();
+            csvParserConfiguration2.setReadBufferSize(2);
+            csvParserConfiguration2.setMaxColumnLength(10);
+            csvParserConfiguration2.setMaxColumnLengthCheckEnabled(true);
+            StructuralEventHandler structuralEventHandler2 = new StructuralEventHandler();
+            new PipelinedCsvParser(csvParserConfiguration2, null, 2, 3).parse(new StringReader("a,bc\nd"), structuralEventHandler2, executorService);
+            Assertions.assertThat(structuralEventHandler2.getEvents()).containsExactlyInOrder("a", "bc", "row", "d", "row");
+
+            StructuralSliceEventHandler structuralSliceEventHandler2 = new StructuralSliceEventHandler();
+            new PipelinedCsvParser(csvParserConfiguration2, null, 2, 3).parse(new StringReader("a,bc\nd"), structuralSliceEventHandler2, executorService);
+            Assertions.assertThat(structuralSliceEventHandler2.getEvents()).containsExactlyInOrder("slice:a", "slice:bc", "row", "slice:d", "row");
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * {@link PipelinedCsvParser} class test.
+     */
+    @Test
+    public void getMaxTaskCountTest() {
+        ExecutorService executorService1 = Executors.newCachedThreadPool();
+        ExecutorService executorService2 = Executors.newFixedThreadPool(3);
+        ExecutorService executorService3 = new ScheduledThreadPoolExecutor(1);
+        ExecutorService executorService4 = new ForkJoinPool(2);
+        ExecutorService executorService5 = Executors.newSingleThreadExecutor();
+        try {
+            Assertions.assertThat(PipelinedCsvParser.getMaxTaskCount(executorService1)).isEqualTo(Integer.MAX_VALUE);
+            Assertions.assertThat(PipelinedCsvParser.getMaxTaskCount(executorService2)).isEqualTo(3);
+            Assertions.assertThat(PipelinedCsvParser.getMaxTaskCount(executorService3)).isEqualTo(1);
+            Assertions.assertThat(PipelinedCsvParser.getMaxTaskCount(executorService4)).isEqualTo(2);
+            Assertions.assertThat(PipelinedCsvParser.getMaxTaskCount(executorService5)).isEqualTo(Integer.MAX_VALUE);
+        } finally {
+            executorService1.shutdown();
+            executorService2.shutdown();
+            executorService3.shutdown();
+            executorService4.shutdown();
+            executorService5.shutdown();
+        }
+    }
+
+    /**
+     * {@link PipelinedCsvParser} class test.
+     */
+    @Test
+    public void parseErrorTest() {
+        ExecutorService executorService = Executors.newCachedThreadPool();
+        try {
+            ListEventHandler listEventHandler1 = new ListEventHandler();
+            try {
+                new PipelinedCsvParser(createCsvParserConfiguration(), null, 2, PipelinedCsvParser.EVENT_BLOCK_SIZE).parse(new StringReader(createCsv(100) + "a\"b"), listEventHandler1, executorService);
+                Assertions.fail("PipelinedCsvParser test fail");
+            } catch (CsvParseException ex) {
+                Assertions.assertThat(ex).messageMatches("Wrong character.*");
+            }
+            ListEventHandler listEventHandler2 = new ListEventHandler();
+            try {
+                createCsvParser(true, true, true, true, true).parse(new StringReader(createCsv(100) + "a\"b"), listEventHandler2);
+                Assertions.fail("PipelinedCsvParser test fail");
+            } catch (CsvParseException ex) {
+                Assertions.assertThat(ex).messageMatches("Wrong character.*");
+            }
+            Assertions.assertThat(listEventHandler1.getCsv()).hasSize(100);
+            Assertions.assertThat(listEventHandler1.getCsv()).containsExactlyInOrder(listEventHandler2.getCsv());
+
+            try {
+                Reader reader = DataHelper.createReaderBuilder().setReadException("ERROR").buildReader();
+                new PipelinedCsvParser(createCsvParserConfiguration(), null, 2, 3).parse(reader, new ListEventHandler(), executorService);
+                Assertions.fail("PipelinedCsvParser test fail");
+            } catch (CsvIOException ex) {
+                Assertions.assertThat(ex).hasMessage("ERROR");
+            }
+
+            try {
+                InputStream inputStream = DataHelper.createInputStreamBuilder().setReadException("ERROR").buildInputStream();
+                new PipelinedCsvParser(createCsvParserConfiguration(), StandardCharsets.UTF_8, 2, 3).parse(inputStream, new ListEventHandler(), executorService);
+                Assertions.fail("PipelinedCsvParser test fail");
+            } catch (CsvIOException ex) {
+                Assertions.assertThat(ex).hasMessage("ERROR");
+            }
+
+            try {
+                new PipelinedCsvParser(createCsvParserConfiguration(), null, 2, 3).parse(new RepeatingReader("a,b\n"), new FailingEventHandler(), executorService);
+                Assertions.fail("PipelinedCsvParser test fail");
+            } catch (IllegalStateException ex) {
+                Assertions.assertThat(ex).hasMessage("ERROR");
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * {@link PipelinedCsvParser} class test.
+     */
+    @Test
+    public void parseInterruptedTest() {
+        ExecutorService executorService = Executors.newCachedThreadPool();
+        try {
+            Thread.currentThread().interrupt();
+            new PipelinedCsvParser(createCsvParserConfiguration(), null, 2, 3).parse(new RepeatingReader("a,b\n"), new ListEventHandler(), executorService);
+            Assertions.fail("PipelinedCsvParser test fail");
+        } catch (CsvInterruptedException ex) {
+            Assertions.assertThat(ex).hasMessage("CSV parsing is interrupted.");
+            Assertions.assertThat(Thread.interrupted()).isTrue();
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * {@link PipelinedCsvParser} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void cancelledStageTest() throws IOException {
+        PipelinedCsvParser pipelinedCsvParser1 = new PipelinedCsvParser(createCsvParserConfiguration(), null, 2, 3);
+        pipelinedCsvParser1.cancel();
+        Reader reader = DataHelper.createReaderBuilder().setContent("a,b").buildReader();
+        pipelinedCsvParser1.readCharacters(reader);
+        Assertions.assertThat(((IsCloseable) reader).isClosed()).isTrue();
+        pipelinedCsvParser1.tokenize(new ListEventHandler());
+
+        PipelinedCsvParser pipelinedCsvParser2 = new PipelinedCsvParser(createCsvParserConfiguration(), null, 2, 3);
+        pipelinedCsvParser2.readCharacters(new StringReader("a,b\nc,d"));
+        pipelinedCsvParser2.cancel();
+        pipelinedCsvParser2.tokenize(new ListEventHandler());
+
+        PipelinedCsvParser pipelinedCsvParser3 = new PipelinedCsvParser(createCsvParserConfiguration(), StandardCharsets.UTF_8, 2, 3);
+        pipelinedCsvParser3.cancel();
+        InputStream inputStream = DataHelper.createInputStreamBuilder().setContent(new byte[]{'a'}).buildInputStream();
+        pipelinedCsvParser3.readBytes(inputStream);
+        Assertions.assertThat(((IsCloseable) inputStream).isClosed()).isTrue();
+        pipelinedCsvParser3.decode();
+
+        PipelinedCsvParser pipelinedCsvParser4 = new PipelinedCsvParser(createCsvParserConfiguration(), StandardCharsets.UTF_8, 2, 3);
+        pipelinedCsvParser4.readBytes(DataHelper.createInputStreamBuilder().setContent(new byte[]{'a'}).buildInputStream());
+        pipelinedCsvParser4.cancel();
+        pipelinedCsvParser4.decode();
+    }
+
+    private String createCsv(final int rowCount) {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < rowCount; i++) {
+            csv.append(i).append(",\"v").append(i).append("\r\n\"\n");
+        }
+        return csv.toString();
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class RepeatingReader extends Reader {
+
+        private final String _content;
+
+        private int _index;
+
+        private volatile boolean _closed;
+
+        RepeatingReader(final String content) {
+            super();
+            _content = content;
+            _index = 0;
+            _closed = false;
+        }
+
+        @Override
+        public int read(final char[] cbuf, final int off, final int len) {
+            for (int i = off; i < off + len; i++) {
+                cbuf[i] = _content.charAt(_index);
+                _index = (_index + 1) % _content.length();
+            }
+            return len;
+        }
+
+        @Override
+        public void close() {
+            _closed = true;
+        }
+
+        boolean isClosed() {
+            return _closed;
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class StoppableEventHandler implements CsvEventHandler, CsvStoppable {
+
+        private final List<String> _columns;
+
+        private int _rowCount;
+
+        StoppableEventHandler(final int rowCount) {
+            super();
+            _columns = new ArrayList<>();
+            _rowCount = rowCount;
+        }
+
+        @Override
+        public void pushColumn(final String column, final int actualLength) {
+            _columns.add(column);
+        }
+
+        @Override
+        public void pushRow() {
+            _rowCount--;
+        }
+
+        @Override
+        public boolean isStopped() {
+            return _rowCount <= 0;
+        }
+
+        List<String> getColumns() {
+            return _columns;
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class FailingEventHandler implements CsvEventHandler {
+
+        FailingEventHandler() {
+            super();
+        }
+
+        @Override
+        public void pushColumn(final String column, final int actualLength) {
+            // Ignore
+        }
+
+        @Override
+        public void pushRow() {
+            throw new IllegalStateException("ERROR");
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class StructuralEventHandler implements CsvEventHandler, CsvStructuralEventHandler {
+
+        private final List<String> _events;
+
+        StructuralEventHandler() {
+            super();
+            _events = new ArrayList<>();
+        }
+
+        @Override
+        public void pushColumn(final String column, final int actualLength) {
+            _events.add(column);
+        }
+
+        @Override
+        public void pushColumn() {
+            _events.add("?");
+        }
+
+        @Override
+        public void pushRow() {
+            _events.add("row");
+        }
+
+        List<String> getEvents() {
+            return _events;
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class StructuralSliceEventHandler implements CsvEventHandler, CsvSliceEventHandler, CsvStructuralEventHandler {
+
+        private final List<String> _events;
+
+        StructuralSliceEventHandler() {
+            super();
+            _events = new ArrayList<>();
+        }
+
+        @Override
+        public void pushColumn(final String column, final int actualLength) {
+            _events.add(column);
+        }
+
+        @Override
+        public void pushColumn(final char[] buffer, final int offset, final int length, final int actualLength) {
+            _events.add("slice:" + new String(buffer, offset, length));
+        }
+
+        @Override
+        public void pushColumn() {
+            _events.add("?");
+        }
+
+        @Override
+        public void pushRow() {
+            _events.add("row");
+        }
+
+        List<String> getEvents() {
+            return _events;
+        }
+
+    }
+
+}
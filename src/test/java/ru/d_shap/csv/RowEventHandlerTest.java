@@ -0,0 +1,71 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link RowEventHandler}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class RowEventHandlerTest extends CsvTest {
+
+    /**
+     * Test class constructor.
+     */
+    public RowEventHandlerTest() {
+        super();
+    }
+
+    /**
+     * {@link RowEventHandler} class test.
+     */
+    @Test
+    public void pushColumnAndRowTest() {
+        RowEventHandler rowEventHandler = new RowEventHandler();
+        Assertions.assertThat(rowEventHandler.isRowPushed()).isFalse();
+        rowEventHandler.pushColumn("abc", 5);
+        rowEventHandler.pushColumn("xdex".toCharArray(), 1, 2, 2);
+        Assertions.assertThat(rowEventHandler.isRowPushed()).isFalse();
+        rowEventHandler.pushRow();
+        Assertions.assertThat(rowEventHandler.isRowPushed()).isTrue();
+        CsvRow csvRow1 = rowEventHandler.takeRow();
+        Assertions.assertThat(rowEventHandler.isRowPushed()).isFalse();
+        Assertions.assertThat(csvRow1.toList()).containsExactlyInOrder("abc", "de");
+        Assertions.assertThat(csvRow1.getColumnActualLength(0)).isEqualTo(5);
+        Assertions.assertThat(csvRow1.getColumnActualLength(1)).isEqualTo(2);
+
+        rowEventHandler.pushColumn("f", 1);
+        Assertions.assertThat(csvRow1.toList()).containsExactlyInOrder("abc", "de");
+        rowEventHandler.pushRow();
+        CsvRow csvRow2 = rowEventHandler.takeRow();
+        Assertions.assertThat(csvRow2).isNotSameAs(csvRow1);
+        Assertions.assertThat(csvRow2.toList()).containsExactlyInOrder("f");
+
+        rowEventHandler.pushRow();
+        CsvRow csvRow3 = rowEventHandler.takeRow();
+        Assertions.assertThat(csvRow3).isSameAs(csvRow1);
+        Assertions.assertThat(csvRow3.toList()).isEmpty();
+    }
+
+}
@@ -49,4 +49,21 @@ public final class WrongColumnCountExceptionTest extends CsvTest {
         Assertions.assertThat(exception2).hasMessage("CSV has rows with different column count. Last characters: \"last characters\".");
     }
 
+    /**
+     * {@link WrongColumnCountException} class test.
+     */
+    @Test
+    public void positionTest() {
+        WrongColumnCountException exception1 = new WrongColumnCountException();
+        Assertions.assertThat(exception1.getPosition()).isEqualTo(-1L);
+        Assertions.assertThat(exception1.getRowIndex()).isEqualTo(-1L);
+        Assertions.assertThat(exception1.getColumnIndex()).isEqualTo(-1);
+
+        WrongColumnCountException exception2 = new WrongColumnCountException("last characters", 15L, 3L, 2);
+        Assertions.assertThat(exception2).hasMessage("CSV has rows with different column count. Last characters: \"last characters\".");
+        Assertions.assertThat(exception2.getPosition()).isEqualTo(15L);
+        Assertions.assertThat(exception2.getRowIndex()).isEqualTo(3L);
+        Assertions.assertThat(exception2.getColumnIndex()).isEqualTo(2);
+    }
+
 }
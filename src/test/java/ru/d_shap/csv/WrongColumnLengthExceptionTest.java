@@ -49,4 +49,21 @@ public final class WrongColumnLengthExceptionTest extends CsvTest {
         Assertions.assertThat(exception2).hasMessage("Maximum column value length exceeded. Last characters: \"ret5fD\".");
     }
 
+    /**
+     * {@link WrongColumnLengthException} class test.
+     */
+    @Test
+    public void positionTest() {
+        WrongColumnLengthException exception1 = new WrongColumnLengthException("last characters");
+        Assertions.assertThat(exception1.getPosition()).isEqualTo(-1L);
+        Assertions.assertThat(exception1.getRowIndex()).isEqualTo(-1L);
+        Assertions.assertThat(exception1.getColumnIndex()).isEqualTo(-1);
+
+        WrongColumnLengthException exception2 = new WrongColumnLengthException("last characters", 15L, 3L, 2);
+        Assertions.assertThat(exception2).hasMessage("Maximum column value length exceeded. Last characters: \"last characters\".");
+        Assertions.assertThat(exception2.getPosition()).isEqualTo(15L);
+        Assertions.assertThat(exception2.getRowIndex()).isEqualTo(3L);
+        Assertions.assertThat(exception2.getColumnIndex()).isEqualTo(2);
+    }
+
 }
@@ -0,0 +1,60 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+
+/**
+ * Tests for {@link WrongColumnValueException}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class WrongColumnValueExceptionTest extends CsvTest {
+
+    /**
+     * Test class constructor.
+     */
+    public WrongColumnValueExceptionTest() {
+        super();
+    }
+
+    /**
+     * {@link WrongColumnValueException} class test.
+     */
+    @Test
+    public void errorMessageTest() {
+        WrongColumnValueException exception1 = new WrongColumnValueException("abc", "LONG", 3L, 2);
+        Assertions.assertThat(exception1).hasMessage("Wrong LONG column value: \"abc\". Row index: 3, column index: 2.");
+        Assertions.assertThat(exception1.getCause()).isNull();
+        Assertions.assertThat(exception1.getPosition()).isEqualTo(-1L);
+        Assertions.assertThat(exception1.getRowIndex()).isEqualTo(3L);
+        Assertions.assertThat(exception1.getColumnIndex()).isEqualTo(2);
+
+        NumberFormatException cause = new NumberFormatException();
+        WrongColumnValueException exception2 = new WrongColumnValueException("x", "DOUBLE", 0L, 1, cause);
+        Assertions.assertThat(exception2).hasMessage("Wrong DOUBLE column value: \"x\". Row index: 0, column index: 1.");
+        Assertions.assertThat(exception2.getCause()).isSameAs(cause);
+        Assertions.assertThat(exception2.getRowIndex()).isEqualTo(0L);
+        Assertions.assertThat(exception2.getColumnIndex()).isEqualTo(1);
+    }
+
+}
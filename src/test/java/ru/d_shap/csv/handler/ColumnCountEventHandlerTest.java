@@ -124,6 +124,45 @@ public final class ColumnCountEventHandlerTest extends CsvTest {
         Assertions.assertThat(eventHandler.getColumnCounts()).containsExactlyInOrder(1, 2);
     }
 
+    /**
+     * {@link ColumnCountEventHandler} class test.
+     */
+    @Test
+    public void pushColumnSliceAndRowTest() {
+        ColumnCountEventHandler eventHandler = new ColumnCountEventHandler();
+        char[] buffer = "abbccc".toCharArray();
+
+        eventHandler.pushColumn(buffer, 0, 1, 1);
+        eventHandler.pushRow();
+        Assertions.assertThat(eventHandler.getColumnCounts()).isNotNull();
+        Assertions.assertThat(eventHandler.getColumnCounts()).containsExactlyInOrder(1);
+
+        eventHandler.pushColumn(buffer, 1, 2, 2);
+        eventHandler.pushColumn(buffer, 3, 3, 3);
+        eventHandler.pushRow();
+        Assertions.assertThat(eventHandler.getColumnCounts()).isNotNull();
+        Assertions.assertThat(eventHandler.getColumnCounts()).containsExactlyInOrder(1, 2);
+    }
+
+    /**
+     * {@link ColumnCountEventHandler} class test.
+     */
+    @Test
+    public void pushColumnStructureAndRowTest() {
+        ColumnCountEventHandler eventHandler = new ColumnCountEventHandler();
+
+        eventHandler.pushColumn();
+        eventHandler.pushRow();
+        Assertions.assertThat(eventHandler.getColumnCounts()).isNotNull();
+        Assertions.assertThat(eventHandler.getColumnCounts()).containsExactlyInOrder(1);
+
+        eventHandler.pushColumn();
+        eventHandler.pushColumn();
+        eventHandler.pushRow();
+        Assertions.assertThat(eventHandler.getColumnCounts()).isNotNull();
+        Assertions.assertThat(eventHandler.getColumnCounts()).containsExactlyInOrder(1, 2);
+    }
+
     /**
      * {@link ColumnCountEventHandler} class test.
      */
@@ -188,4 +227,30 @@ public final class ColumnCountEventHandlerTest extends CsvTest {
         Assertions.assertThat(eventHandler.getColumnCounts()).containsExactlyInOrder(2, 1, 3, 0);
     }
 
+    /**
+     * {@link ColumnCountEventHandler} class test.
+     */
+    @Test
+    public void mergeTest() {
+        ColumnCountEventHandler eventHandler = new ColumnCountEventHandler();
+        eventHandler.pushColumn("a", 1);
+        eventHandler.pushRow();
+
+        ColumnCountEventHandler partialHandler1 = eventHandler.createPartialHandler();
+        Assertions.assertThat(partialHandler1).isNotSameAs(eventHandler);
+        Assertions.assertThat(partialHandler1.getColumnCounts()).containsExactlyInOrder();
+        partialHandler1.pushColumn("bb", 2);
+        partialHandler1.pushColumn("ccc", 3);
+        partialHandler1.pushRow();
+        partialHandler1.pushRow();
+
+        ColumnCountEventHandler partialHandler2 = eventHandler.createPartialHandler();
+        partialHandler2.pushColumn("d", 1);
+        partialHandler2.pushRow();
+
+        eventHandler.merge(partialHandler1);
+        eventHandler.merge(partialHandler2);
+        Assertions.assertThat(eventHandler.getColumnCounts()).containsExactlyInOrder(1, 2, 0, 1);
+    }
+
 }
@@ -127,6 +127,29 @@ public final class ColumnLengthEventHandlerTest extends CsvTest {
         Assertions.assertThat(eventHandler.getColumnLengths().get(1)).containsExactlyInOrder(2, 3);
     }
 
+    /**
+     * {@link ColumnLengthEventHandler} class test.
+     */
+    @Test
+    public void pushColumnSliceAndRowTest() {
+        ColumnLengthEventHandler eventHandler = new ColumnLengthEventHandler();
+        char[] buffer = "abbccc".toCharArray();
+
+        eventHandler.pushColumn(buffer, 0, 1, 1);
+        eventHandler.pushRow();
+        Assertions.assertThat(eventHandler.getColumnLengths()).isNotNull();
+        Assertions.assertThat(eventHandler.getColumnLengths()).hasSize(1);
+        Assertions.assertThat(eventHandler.getColumnLengths().get(0)).containsExactlyInOrder(1);
+
+        eventHandler.pushColumn(buffer, 1, 2, 2);
+        eventHandler.pushColumn(buffer, 3, 3, 3);
+        eventHandler.pushRow();
+        Assertions.assertThat(eventHandler.getColumnLengths()).isNotNull();
+        Assertions.assertThat(eventHandler.getColumnLengths()).hasSize(2);
+        Assertions.assertThat(eventHandler.getColumnLengths().get(0)).containsExactlyInOrder(1);
+        Assertions.assertThat(eventHandler.getColumnLengths().get(1)).containsExactlyInOrder(2, 3);
+    }
+
     /**
      * {@link ColumnLengthEventHandler} class test.
      */
@@ -205,4 +228,32 @@ public final class ColumnLengthEventHandlerTest extends CsvTest {
         Assertions.assertThat(eventHandler.getColumnLengths().get(3)).containsExactlyInOrder();
     }
 
+    /**
+     * {@link ColumnLengthEventHandler} class test.
+     */
+    @Test
+    public void mergeTest() {
+        ColumnLengthEventHandler eventHandler = new ColumnLengthEventHandler();
+        eventHandler.pushColumn("a", 1);
+        eventHandler.pushRow();
+
+        ColumnLengthEventHandler partialHandler1 = eventHandler.createPartialHandler();
+        Assertions.assertThat(partialHandler1).isNotSameAs(eventHandler);
+        Assertions.assertThat(partialHandler1.getColumnLengths()).isEmpty();
+        partialHandler1.pushColumn("bb", 2);
+        partialHandler1.pushColumn("ccc", 3);
+        partialHandler1.pushRow();
+
+        ColumnLengthEventHandler partialHandler2 = eventHandler.createPartialHandler();
+        partialHandler2.pushColumn("dddd", 4);
+        partialHandler2.pushRow();
+
+        eventHandler.merge(partialHandler1);
+        eventHandler.merge(partialHandler2);
+        Assertions.assertThat(eventHandler.getColumnLengths()).hasSize(3);
+        Assertions.assertThat(eventHandler.getColumnLengths().get(0)).containsExactlyInOrder(1);
+        Assertions.assertThat(eventHandler.getColumnLengths().get(1)).containsExactlyInOrder(2, 3);
+        Assertions.assertThat(eventHandler.getColumnLengths().get(2)).containsExactlyInOrder(4);
+    }
+
 }
@@ -0,0 +1,205 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.handler;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.csv.CsvTest;
+
+/**
+ * Tests for {@link ColumnarColumn}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ColumnarColumnTest extends CsvTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ColumnarColumnTest() {
+        super();
+    }
+
+    /**
+     * {@link ColumnarColumn} class test.
+     */
+    @Test
+    public void dictionaryEncodedTest() {
+        char[] buffer = "xUSDEy".toCharArray();
+        ColumnarColumn column = new ColumnarColumn(2);
+        column.add(buffer, 1, 2);
+        column.add(buffer, 3, 2);
+        column.add(null);
+        column.add(buffer, 1, 2);
+        column.add("DE");
+        Assertions.assertThat(column.isDictionaryEncoded()).isTrue();
+        Assertions.assertThat(column.size()).isEqualTo(5);
+        Assertions.assertThat(column.getDictionary()).containsExactlyInOrder("US", "DE");
+        Assertions.assertThat(column.getCode(0)).isEqualTo(0);
+        Assertions.assertThat(column.getCode(1)).isEqualTo(1);
+        Assertions.assertThat(column.getCode(2)).isEqualTo(-1);
+        Assertions.assertThat(column.getCode(3)).isEqualTo(0);
+        Assertions.assertThat(column.getCode(4)).isEqualTo(1);
+        Assertions.assertThat(column.get(0)).isEqualTo("US");
+        Assertions.assertThat(column.get(1)).isEqualTo("DE");
+        Assertions.assertThat(column.get(2)).isNull();
+        Assertions.assertThat(column.get(3)).isSameAs(column.get(0));
+        Assertions.assertThat(column.get(4)).isSameAs(column.get(1));
+    }
+
+    /**
+     * {@link ColumnarColumn} class test.
+     */
+    @Test
+    public void decodeTest() {
+        char[] buffer = "abc".toCharArray();
+        ColumnarColumn column = new ColumnarColumn(2);
+        column.add(buffer, 0, 1);
+        column.add(null);
+        column.add("b");
+        column.add(buffer, 2, 1);
+        Assertions.assertThat(column.isDictionaryEncoded()).isFalse();
+        Assertions.assertThat(column.getDictionary()).isEmpty();
+        column.add(buffer, 0, 1);
+        column.add("d");
+        column.add(null);
+        Assertions.assertThat(column).containsExactlyInOrder("a", null, "b", "c", "a", "d", null);
+        try {
+            column.getCode(0);
+            Assertions.fail("ColumnarColumn test fail");
+        } catch (IllegalStateException ex) {
+            Assertions.assertThat(ex).hasMessage("Column values are not dictionary encoded.");
+        }
+
+        ColumnarColumn column2 = new ColumnarColumn(1);
+        column2.add("a");
+        column2.add("b");
+        Assertions.assertThat(column2.isDictionaryEncoded()).isFalse();
+        Assertions.assertThat(column2).containsExactlyInOrder("a", "b");
+    }
+
+    /**
+     * {@link ColumnarColumn} class test.
+     */
+    @Test
+    public void growTest() {
+        ColumnarColumn column1 = new ColumnarColumn(1000);
+        for (int i = 0; i < 100; i++) {
+            char[] buffer = String.valueOf(i % 50).toCharArray();
+            column1.add(buffer, 0, buffer.length);
+        }
+        for (int i = 0; i < 100; i++) {
+            column1.add(String.valueOf(i % 50));
+        }
+        Assertions.assertThat(column1.isDictionaryEncoded()).isTrue();
+        Assertions.assertThat(column1.size()).isEqualTo(200);
+        Assertions.assertThat(column1.getDictionary()).hasSize(50);
+        for (int i = 0; i < 200; i++) {
+            Assertions.assertThat(column1.get(i)).isEqualTo(String.valueOf(i % 50));
+            Assertions.assertThat(column1.getCode(i)).isEqualTo(i % 50);
+        }
+
+        ColumnarColumn column2 = new ColumnarColumn(10);
+        for (int i = 0; i < 100; i++) {
+            column2.add(String.valueOf(i));
+        }
+        Assertions.assertThat(column2.isDictionaryEncoded()).isFalse();
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertThat(column2.get(i)).isEqualTo(String.valueOf(i));
+        }
+    }
+
+    /**
+     * {@link ColumnarColumn} class test.
+     */
+    @Test
+    public void addAllTest() {
+        ColumnarColumn column1 = new ColumnarColumn(10);
+        column1.add("a");
+        column1.addNulls(2);
+        ColumnarColumn column2 = new ColumnarColumn(10);
+        column2.add("b");
+        column2.add("a");
+        column2.addAll(column1);
+        column2.addNulls(0);
+        Assertions.assertThat(column2).containsExactlyInOrder("b", "a", "a", null, null);
+        Assertions.assertThat(column2.getDictionary()).containsExactlyInOrder("b", "a");
+    }
+
+    /**
+     * {@link ColumnarColumn} class test.
+     */
+    @Test
+    public void wrongRowIndexTest() {
+        ColumnarColumn column = new ColumnarColumn(10);
+        column.add("a");
+        try {
+            column.get(-1);
+            Assertions.fail("ColumnarColumn test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).hasMessage("Row index: -1, row count: 1");
+        }
+        try {
+            column.get(1);
+            Assertions.fail("ColumnarColumn test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).hasMessage("Row index: 1, row count: 1");
+        }
+        try {
+            column.getCode(1);
+            Assertions.fail("ColumnarColumn test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).hasMessage("Row index: 1, row count: 1");
+        }
+    }
+
+    /**
+     * {@link ColumnarColumn} class test.
+     */
+    @Test
+    public void iteratorTest() {
+        ColumnarColumn column = new ColumnarColumn(10);
+        column.add("a");
+        column.add(null);
+        Iterator<String> iterator = column.iterator();
+        Assertions.assertThat(iterator.hasNext()).isTrue();
+        Assertions.assertThat(iterator.next()).isEqualTo("a");
+        Assertions.assertThat(iterator.hasNext()).isTrue();
+        Assertions.assertThat(iterator.next()).isNull();
+        Assertions.assertThat(iterator.hasNext()).isFalse();
+        try {
+            iterator.next();
+            Assertions.fail("ColumnarColumn test fail");
+        } catch (NoSuchElementException ex) {
+            Assertions.assertThat(ex).messageIsNull();
+        }
+        try {
+            iterator.remove();
+            Assertions.fail("ColumnarColumn test fail");
+        } catch (UnsupportedOperationException ex) {
+            Assertions.assertThat(ex).messageIsNull();
+        }
+    }
+
+}
@@ -0,0 +1,172 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.handler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.csv.CsvParserBuilder;
+import ru.d_shap.csv.CsvParserConfiguration;
+import ru.d_shap.csv.CsvTest;
+
+/**
+ * Tests for {@link ColumnarEventHandler}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ColumnarEventHandlerTest extends CsvTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ColumnarEventHandlerTest() {
+        super();
+    }
+
+    /**
+     * {@link ColumnarEventHandler} class test.
+     */
+    @Test
+    public void configureTest() {
+        ColumnarEventHandler eventHandler = new ColumnarEventHandler();
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+        csvParserConfiguration.setMaxColumnLength(1);
+        csvParserConfiguration.setMaxColumnLengthCheckEnabled(true);
+        eventHandler.configure(csvParserConfiguration);
+        Assertions.assertThat(csvParserConfiguration.getMaxColumnLength()).isEqualTo(-1);
+        Assertions.assertThat(csvParserConfiguration.isMaxColumnLengthCheckEnabled()).isFalse();
+    }
+
+    /**
+     * {@link ColumnarEventHandler} class test.
+     */
+    @Test
+    public void pushColumnAndRowTest() {
+        ColumnarEventHandler eventHandler = new ColumnarEventHandler();
+        ColumnarTable table1 = eventHandler.getTable();
+        Assertions.assertThat(table1.getRowCount()).isEqualTo(0);
+        Assertions.assertThat(table1.getColumnCount()).isEqualTo(0);
+
+        char[] buffer = "xaby".toCharArray();
+        eventHandler.pushColumn(buffer, 1, 2, 2);
+        eventHandler.pushRow();
+        eventHandler.pushRow();
+        eventHandler.pushColumn("c", 1);
+        eventHandler.pushColumn(buffer, 1, 1, 1);
+        eventHandler.pushColumn("d", 1);
+        eventHandler.pushRow();
+        eventHandler.pushColumn("ab", 2);
+        eventHandler.pushRow();
+        ColumnarTable table2 = eventHandler.getTable();
+        Assertions.assertThat(table2.getRowCount()).isEqualTo(4);
+        Assertions.assertThat(table2.getColumnCount()).isEqualTo(3);
+        Assertions.assertThat(table2.getColumn(0)).containsExactlyInOrder("ab", null, "c", "ab");
+        Assertions.assertThat(table2.getColumn(1)).containsExactlyInOrder(null, null, "a", null);
+        Assertions.assertThat(table2.getColumn(2)).containsExactlyInOrder(null, null, "d", null);
+        Assertions.assertThat(table2.getColumn(0).getDictionary()).containsExactlyInOrder("ab", "c");
+        Assertions.assertThat(table2.getValue(3, 0)).isSameAs(table2.getValue(0, 0));
+    }
+
+    /**
+     * {@link ColumnarEventHandler} class test.
+     */
+    @Test
+    public void maxDictionarySizeTest() {
+        ColumnarEventHandler eventHandler = new ColumnarEventHandler(2);
+        CsvParserBuilder.getInstance().setCommaSeparator(true).setLfSeparator(true).parse("a,x\nb,x\nc,y\n", eventHandler);
+        ColumnarTable table = eventHandler.getTable();
+        Assertions.assertThat(table.getRowCount()).isEqualTo(3);
+        Assertions.assertThat(table.getColumn(0).isDictionaryEncoded()).isFalse();
+        Assertions.assertThat(table.getColumn(0)).containsExactlyInOrder("a", "b", "c");
+        Assertions.assertThat(table.getColumn(1).isDictionaryEncoded()).isTrue();
+        Assertions.assertThat(table.getColumn(1)).containsExactlyInOrder("x", "x", "y");
+    }
+
+    /**
+     * {@link ColumnarEventHandler} class test.
+     */
+    @Test
+    public void mergeTest() {
+        ColumnarEventHandler eventHandler = new ColumnarEventHandler();
+        eventHandler.pushColumn("a", 1);
+        eventHandler.pushRow();
+
+        ColumnarEventHandler partialHandler1 = eventHandler.createPartialHandler();
+        Assertions.assertThat(partialHandler1).isNotSameAs(eventHandler);
+        Assertions.assertThat(partialHandler1.getTable().getRowCount()).isEqualTo(0);
+        partialHandler1.pushColumn("b", 1);
+        partialHandler1.pushColumn("c", 1);
+        partialHandler1.pushRow();
+
+        ColumnarEventHandler partialHandler2 = eventHandler.createPartialHandler();
+        partialHandler2.pushColumn("a", 1);
+        partialHandler2.pushRow();
+        partialHandler2.pushRow();
+
+        eventHandler.merge(partialHandler1);
+        eventHandler.merge(partialHandler2);
+        ColumnarTable table = eventHandler.getTable();
+        Assertions.assertThat(table.getRowCount()).isEqualTo(4);
+        Assertions.assertThat(table.getColumnCount()).isEqualTo(2);
+        Assertions.assertThat(table.getColumn(0)).containsExactlyInOrder("a", "b", "a", null);
+        Assertions.assertThat(table.getColumn(1)).containsExactlyInOrder(null, "c", null, null);
+    }
+
+    /**
+     * {@link ColumnarEventHandler} class test.
+     *
+     * @throws IOException IO exception.
+     */
+    @Test
+    public void parseParallelTest() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            csv.append(i).append(",\"").append(i % 3).append("\"\r\n");
+        }
+        Path path = Files.createTempFile("csv", ".csv");
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            Files.write(path, csv.toString().getBytes(StandardCharsets.UTF_8));
+            List<List<String>> expected = CsvParserBuilder.getInstance().setCommaSeparator(true).setCrLfSeparator(true).parse(path, StandardCharsets.UTF_8);
+            ColumnarEventHandler eventHandler = new ColumnarEventHandler(100);
+            CsvParserBuilder.getInstance().setCommaSeparator(true).setCrLfSeparator(true).build().parseParallel(path, StandardCharsets.UTF_8, eventHandler, forkJoinPool);
+            ColumnarTable table = eventHandler.getTable();
+            Assertions.assertThat(table.getRowCount()).isEqualTo(1000);
+            Assertions.assertThat(table.getColumn(0).isDictionaryEncoded()).isFalse();
+            Assertions.assertThat(table.getColumn(1).isDictionaryEncoded()).isTrue();
+            Assertions.assertThat(table.getColumn(1).getDictionary()).hasSize(3);
+            for (int i = 0; i < 1000; i++) {
+                Assertions.assertThat(table.getValue(i, 0)).isEqualTo(expected.get(i).get(0));
+                Assertions.assertThat(table.getValue(i, 1)).isEqualTo(expected.get(i).get(1));
+            }
+        } finally {
+            forkJoinPool.shutdown();
+            Files.delete(path);
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.csv.CsvTest;
+
+/**
+ * Tests for {@link ColumnarTable}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ColumnarTableTest extends CsvTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ColumnarTableTest() {
+        super();
+    }
+
+    /**
+     * {@link ColumnarTable} class test.
+     */
+    @Test
+    public void getValueTest() {
+        List<ColumnarColumn> columns = new ArrayList<>();
+        columns.add(new ColumnarColumn(10));
+        columns.add(new ColumnarColumn(10));
+        columns.get(0).add("a");
+        columns.get(0).add("c");
+        columns.get(1).add("b");
+        columns.get(1).add(null);
+        ColumnarTable table = new ColumnarTable(columns, 2);
+        Assertions.assertThat(table.getRowCount()).isEqualTo(2);
+        Assertions.assertThat(table.getColumnCount()).isEqualTo(2);
+        Assertions.assertThat(table.getColumn(0)).isSameAs(columns.get(0));
+        Assertions.assertThat(table.getColumn(1)).isSameAs(columns.get(1));
+        Assertions.assertThat(table.getValue(0, 0)).isEqualTo("a");
+        Assertions.assertThat(table.getValue(0, 1)).isEqualTo("b");
+        Assertions.assertThat(table.getValue(1, 0)).isEqualTo("c");
+        Assertions.assertThat(table.getValue(1, 1)).isNull();
+    }
+
+    /**
+     * {@link ColumnarTable} class test.
+     */
+    @Test
+    public void wrongColumnIndexTest() {
+        List<ColumnarColumn> columns = new ArrayList<>();
+        columns.add(new ColumnarColumn(10));
+        ColumnarTable table = new ColumnarTable(columns, 0);
+        try {
+            table.getColumn(-1);
+            Assertions.fail("ColumnarTable test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).hasMessage("Column index: -1, column count: 1");
+        }
+        try {
+            table.getValue(0, 1);
+            Assertions.fail("ColumnarTable test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).hasMessage("Column index: 1, column count: 1");
+        }
+    }
+
+}
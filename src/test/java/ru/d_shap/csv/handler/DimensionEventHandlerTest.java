@@ -124,6 +124,45 @@ public final class DimensionEventHandlerTest extends CsvTest {
         Assertions.assertThat(eventHandler.getRowCount()).isEqualTo(2);
     }
 
+    /**
+     * {@link DimensionEventHandler} class test.
+     */
+    @Test
+    public void pushColumnSliceAndRowTest() {
+        DimensionEventHandler eventHandler = new DimensionEventHandler();
+        char[] buffer = "abbccc".toCharArray();
+
+        eventHandler.pushColumn(buffer, 0, 1, 1);
+        eventHandler.pushRow();
+        Assertions.assertThat(eventHandler.getColumnCount()).isEqualTo(1);
+        Assertions.assertThat(eventHandler.getRowCount()).isEqualTo(1);
+
+        eventHandler.pushColumn(buffer, 1, 2, 2);
+        eventHandler.pushColumn(buffer, 3, 3, 3);
+        eventHandler.pushRow();
+        Assertions.assertThat(eventHandler.getColumnCount()).isEqualTo(1);
+        Assertions.assertThat(eventHandler.getRowCount()).isEqualTo(2);
+    }
+
+    /**
+     * {@link DimensionEventHandler} class test.
+     */
+    @Test
+    public void pushColumnStructureAndRowTest() {
+        DimensionEventHandler eventHandler = new DimensionEventHandler();
+
+        eventHandler.pushColumn();
+        eventHandler.pushRow();
+        Assertions.assertThat(eventHandler.getColumnCount()).isEqualTo(1);
+        Assertions.assertThat(eventHandler.getRowCount()).isEqualTo(1);
+
+        eventHandler.pushColumn();
+        eventHandler.pushColumn();
+        eventHandler.pushRow();
+        Assertions.assertThat(eventHandler.getColumnCount()).isEqualTo(1);
+        Assertions.assertThat(eventHandler.getRowCount()).isEqualTo(2);
+    }
+
     /**
      * {@link DimensionEventHandler} class test.
      */
@@ -188,4 +227,38 @@ public final class DimensionEventHandlerTest extends CsvTest {
         Assertions.assertThat(eventHandler.getRowCount()).isEqualTo(4);
     }
 
+    /**
+     * {@link DimensionEventHandler} class test.
+     */
+    @Test
+    public void mergeTest() {
+        DimensionEventHandler eventHandler = new DimensionEventHandler();
+
+        DimensionEventHandler partialHandler1 = eventHandler.createPartialHandler();
+        Assertions.assertThat(partialHandler1).isNotSameAs(eventHandler);
+        eventHandler.merge(partialHandler1);
+        Assertions.assertThat(eventHandler.getColumnCount()).isEqualTo(0);
+        Assertions.assertThat(eventHandler.getRowCount()).isEqualTo(0);
+
+        DimensionEventHandler partialHandler2 = eventHandler.createPartialHandler();
+        partialHandler2.pushColumn("a", 1);
+        partialHandler2.pushColumn("b", 1);
+        partialHandler2.pushRow();
+        partialHandler2.pushColumn("c", 1);
+        partialHandler2.pushColumn("d", 1);
+        partialHandler2.pushRow();
+        eventHandler.merge(partialHandler2);
+        Assertions.assertThat(eventHandler.getColumnCount()).isEqualTo(2);
+        Assertions.assertThat(eventHandler.getRowCount()).isEqualTo(2);
+
+        DimensionEventHandler partialHandler3 = eventHandler.createPartialHandler();
+        partialHandler3.pushColumn("e", 1);
+        partialHandler3.pushColumn("f", 1);
+        partialHandler3.pushColumn("g", 1);
+        partialHandler3.pushRow();
+        eventHandler.merge(partialHandler3);
+        Assertions.assertThat(eventHandler.getColumnCount()).isEqualTo(2);
+        Assertions.assertThat(eventHandler.getRowCount()).isEqualTo(3);
+    }
+
 }
@@ -0,0 +1,109 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.handler;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.csv.CsvParserBuilder;
+import ru.d_shap.csv.CsvParserConfiguration;
+import ru.d_shap.csv.CsvTest;
+
+/**
+ * Tests for {@link InterningEventHandler}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class InterningEventHandlerTest extends CsvTest {
+
+    /**
+     * Test class constructor.
+     */
+    public InterningEventHandlerTest() {
+        super();
+    }
+
+    /**
+     * {@link InterningEventHandler} class test.
+     */
+    @Test
+    public void configureTest() {
+        CsvParserConfiguration csvParserConfiguration1 = createCsvParserConfiguration();
+        csvParserConfiguration1.setMaxColumnLength(5);
+        csvParserConfiguration1.setMaxColumnLengthCheckEnabled(true);
+        new InterningEventHandler(new ListEventHandler(), new ValueCache(16)).configure(csvParserConfiguration1);
+        Assertions.assertThat(csvParserConfiguration1.getMaxColumnLength()).isEqualTo(-1);
+        Assertions.assertThat(csvParserConfiguration1.isMaxColumnLengthCheckEnabled()).isFalse();
+
+        CsvParserConfiguration csvParserConfiguration2 = createCsvParserConfiguration();
+        csvParserConfiguration2.setMaxColumnLength(5);
+        csvParserConfiguration2.setMaxColumnLengthCheckEnabled(true);
+        new InterningEventHandler(new NoopEventHandler(), new ValueCache(16)).configure(csvParserConfiguration2);
+        Assertions.assertThat(csvParserConfiguration2.getMaxColumnLength()).isEqualTo(5);
+        Assertions.assertThat(csvParserConfiguration2.isMaxColumnLengthCheckEnabled()).isTrue();
+    }
+
+    /**
+     * {@link InterningEventHandler} class test.
+     */
+    @Test
+    public void pushColumnAndRowTest() {
+        ListEventHandler listEventHandler = new ListEventHandler();
+        ValueCache valueCache = new ValueCache(16);
+        InterningEventHandler eventHandler = new InterningEventHandler(listEventHandler, valueCache);
+        Assertions.assertThat(eventHandler.getValueCache()).isSameAs(valueCache);
+
+        char[] buffer = "xaby".toCharArray();
+        eventHandler.pushColumn(buffer, 1, 2, 2);
+        eventHandler.pushColumn(new String("ab".toCharArray()), 2);
+        eventHandler.pushRow();
+        eventHandler.pushColumn(buffer, 1, 2, 5);
+        eventHandler.pushRow();
+        List<List<String>> csv = listEventHandler.getCsv();
+        Assertions.assertThat(csv).hasSize(2);
+        Assertions.assertThat(csv.get(0)).containsExactlyInOrder("ab", "ab");
+        Assertions.assertThat(csv.get(1)).containsExactlyInOrder("ab");
+        Assertions.assertThat(csv.get(0).get(1)).isSameAs(csv.get(0).get(0));
+        Assertions.assertThat(csv.get(1).get(0)).isSameAs(csv.get(0).get(0));
+        Assertions.assertThat(valueCache.getHitCount()).isEqualTo(2L);
+        Assertions.assertThat(valueCache.getMissCount()).isEqualTo(1L);
+    }
+
+    /**
+     * {@link InterningEventHandler} class test.
+     */
+    @Test
+    public void parseTest() {
+        ListEventHandler listEventHandler = new ListEventHandler();
+        ValueCache valueCache = new ValueCache(16);
+        CsvParserBuilder.getInstance().setCommaSeparator(true).setCrLfSeparator(true).parse("US,true\r\nUS,false\r\nDE,true\r\n", new InterningEventHandler(listEventHandler, valueCache));
+        List<List<String>> csv = listEventHandler.getCsv();
+        Assertions.assertThat(csv).hasSize(3);
+        Assertions.assertThat(csv.get(0)).containsExactlyInOrder("US", "true");
+        Assertions.assertThat(csv.get(1)).containsExactlyInOrder("US", "false");
+        Assertions.assertThat(csv.get(2)).containsExactlyInOrder("DE", "true");
+        Assertions.assertThat(csv.get(1).get(0)).isSameAs(csv.get(0).get(0));
+        Assertions.assertThat(csv.get(2).get(1)).isSameAs(csv.get(0).get(1));
+        Assertions.assertThat(valueCache.getHitRate()).isEqualTo(2.0 / 6.0);
+    }
+
+}
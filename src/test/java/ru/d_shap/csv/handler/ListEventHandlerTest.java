@@ -205,4 +205,104 @@ public final class ListEventHandlerTest extends CsvTest {
         Assertions.assertThat(eventHandler.getCsv().get(3)).containsExactlyInOrder();
     }
 
+    /**
+     * {@link ListEventHandler} class test.
+     */
+    @Test
+    public void mergeTest() {
+        ListEventHandler eventHandler = new ListEventHandler();
+        eventHandler.pushColumn("a", 1);
+        eventHandler.pushRow();
+
+        ListEventHandler partialHandler1 = eventHandler.createPartialHandler();
+        Assertions.assertThat(partialHandler1).isNotSameAs(eventHandler);
+        Assertions.assertThat(partialHandler1.getCsv()).isEmpty();
+        partialHandler1.pushColumn("bb", 2);
+        partialHandler1.pushColumn("ccc", 3);
+        partialHandler1.pushRow();
+
+        ListEventHandler partialHandler2 = eventHandler.createPartialHandler();
+        partialHandler2.pushColumn("d", 1);
+        partialHandler2.pushRow();
+
+        eventHandler.merge(partialHandler1);
+        eventHandler.merge(partialHandler2);
+        Assertions.assertThat(eventHandler.getCsv()).hasSize(3);
+        Assertions.assertThat(eventHandler.getCsv().get(0)).containsExactlyInOrder("a");
+        Assertions.assertThat(eventHandler.getCsv().get(1)).containsExactlyInOrder("bb", "ccc");
+        Assertions.assertThat(eventHandler.getCsv().get(2)).containsExactlyInOrder("d");
+    }
+
+    /**
+     * {@link ListEventHandler} class test.
+     */
+    @Test
+    public void pushColumnSliceTest() {
+        ListEventHandler eventHandler = new ListEventHandler();
+        Assertions.assertThat(eventHandler.getValueCache()).isNull();
+
+        char[] buffer = "xaby".toCharArray();
+        eventHandler.pushColumn(buffer, 1, 2, 2);
+        eventHandler.pushColumn(buffer, 1, 2, 2);
+        eventHandler.pushRow();
+        Assertions.assertThat(eventHandler.getCsv()).hasSize(1);
+        Assertions.assertThat(eventHandler.getCsv().get(0)).containsExactlyInOrder("ab", "ab");
+        Assertions.assertThat(eventHandler.getCsv().get(0).get(1)).isNotSameAs(eventHandler.getCsv().get(0).get(0));
+    }
+
+    /**
+     * {@link ListEventHandler} class test.
+     */
+    @Test
+    public void valueCacheTest() {
+        ValueCache valueCache = new ValueCache(16);
+        ListEventHandler eventHandler = new ListEventHandler(valueCache);
+        Assertions.assertThat(eventHandler.getValueCache()).isSameAs(valueCache);
+
+        char[] buffer = "xaby".toCharArray();
+        eventHandler.pushColumn(buffer, 1, 2, 2);
+        eventHandler.pushColumn(new String("ab".toCharArray()), 2);
+        eventHandler.pushRow();
+        eventHandler.pushColumn(buffer, 1, 2, 2);
+        eventHandler.pushRow();
+        Assertions.assertThat(eventHandler.getCsv()).hasSize(2);
+        Assertions.assertThat(eventHandler.getCsv().get(0)).containsExactlyInOrder("ab", "ab");
+        Assertions.assertThat(eventHandler.getCsv().get(1)).containsExactlyInOrder("ab");
+        Assertions.assertThat(eventHandler.getCsv().get(0).get(1)).isSameAs(eventHandler.getCsv().get(0).get(0));
+        Assertions.assertThat(eventHandler.getCsv().get(1).get(0)).isSameAs(eventHandler.getCsv().get(0).get(0));
+        Assertions.assertThat(valueCache.getHitCount()).isEqualTo(2L);
+        Assertions.assertThat(valueCache.getMissCount()).isEqualTo(1L);
+    }
+
+    /**
+     * {@link ListEventHandler} class test.
+     */
+    @Test
+    public void mergeWithValueCacheTest() {
+        ValueCache valueCache = new ValueCache(16);
+        ListEventHandler eventHandler = new ListEventHandler(valueCache);
+        eventHandler.pushColumn("a", 1);
+        eventHandler.pushRow();
+
+        ListEventHandler partialHandler1 = eventHandler.createPartialHandler();
+        Assertions.assertThat(partialHandler1.getValueCache()).isNotNull();
+        Assertions.assertThat(partialHandler1.getValueCache()).isNotSameAs(valueCache);
+        partialHandler1.pushColumn("a", 1);
+        partialHandler1.pushColumn("a", 1);
+        partialHandler1.pushRow();
+
+        ListEventHandler partialHandler2 = eventHandler.createPartialHandler();
+        partialHandler2.pushColumn("b", 1);
+        partialHandler2.pushRow();
+
+        eventHandler.merge(partialHandler1);
+        eventHandler.merge(partialHandler2);
+        Assertions.assertThat(eventHandler.getCsv()).hasSize(3);
+        Assertions.assertThat(eventHandler.getCsv().get(0)).containsExactlyInOrder("a");
+        Assertions.assertThat(eventHandler.getCsv().get(1)).containsExactlyInOrder("a", "a");
+        Assertions.assertThat(eventHandler.getCsv().get(2)).containsExactlyInOrder("b");
+        Assertions.assertThat(valueCache.getHitCount()).isEqualTo(1L);
+        Assertions.assertThat(valueCache.getMissCount()).isEqualTo(3L);
+    }
+
 }
@@ -21,6 +21,7 @@ package ru.d_shap.csv.handler;
 
 import org.junit.Test;
 
+import ru.d_shap.assertions.Assertions;
 import ru.d_shap.csv.CsvTest;
 
 /**
@@ -65,4 +66,50 @@ public final class NoopEventHandlerTest extends CsvTest {
         eventHandler.pushRow();
     }
 
+    /**
+     * {@link NoopEventHandler} class test.
+     */
+    @Test
+    public void pushColumnSliceAndRowTest() {
+        NoopEventHandler eventHandler = new NoopEventHandler();
+        char[] buffer = "abbccc".toCharArray();
+
+        eventHandler.pushColumn(buffer, 0, 1, 1);
+        eventHandler.pushRow();
+
+        eventHandler.pushColumn(buffer, 1, 2, 2);
+        eventHandler.pushColumn(buffer, 3, 3, 3);
+        eventHandler.pushRow();
+    }
+
+    /**
+     * {@link NoopEventHandler} class test.
+     */
+    @Test
+    public void pushColumnStructureAndRowTest() {
+        NoopEventHandler eventHandler = new NoopEventHandler();
+
+        eventHandler.pushColumn();
+        eventHandler.pushRow();
+
+        eventHandler.pushColumn();
+        eventHandler.pushColumn();
+        eventHandler.pushRow();
+    }
+
+    /**
+     * {@link NoopEventHandler} class test.
+     */
+    @Test
+    public void mergeTest() {
+        NoopEventHandler eventHandler = new NoopEventHandler();
+        NoopEventHandler partialHandler = eventHandler.createPartialHandler();
+        Assertions.assertThat(partialHandler).isNotNull();
+        Assertions.assertThat(partialHandler).isNotSameAs(eventHandler);
+
+        partialHandler.pushColumn("a", 1);
+        partialHandler.pushRow();
+        eventHandler.merge(partialHandler);
+    }
+
 }
@@ -0,0 +1,450 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.csv.CsvInterruptedException;
+import ru.d_shap.csv.CsvParserBuilder;
+import ru.d_shap.csv.CsvParserConfiguration;
+import ru.d_shap.csv.CsvTest;
+
+/**
+ * Tests for {@link OrderedParallelEventHandler}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class OrderedParallelEventHandlerTest extends CsvTest {
+
+    /**
+     * Test class constructor.
+     */
+    public OrderedParallelEventHandlerTest() {
+        super();
+    }
+
+    /**
+     * {@link OrderedParallelEventHandler} class test.
+     */
+    @Test
+    public void parseTest() {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            csv.append(i).append(",v").append(i).append('\n');
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            ListEventHandler listEventHandler1 = new ListEventHandler();
+            OrderedParallelEventHandler eventHandler1 = new OrderedParallelEventHandler(new SkippingRowFunction(), listEventHandler1, executorService, 7, 3);
+            CsvParserBuilder.getInstance().parse(csv, eventHandler1);
+            eventHandler1.finish();
+            Assertions.assertThat(eventHandler1.isStopped()).isFalse();
+            Assertions.assertThat(listEventHandler1.getCsv()).hasSize(8000);
+            int index = 0;
+            for (int i = 0; i < 10000; i++) {
+                if (i % 5 != 0) {
+                    Assertions.assertThat(listEventHandler1.getCsv().get(index)).containsExactlyInOrder("V" + i, String.valueOf(i));
+                    index++;
+                }
+            }
+
+            ListEventHandler listEventHandler2 = new ListEventHandler();
+            OrderedParallelEventHandler eventHandler2 = new OrderedParallelEventHandler(new SkippingRowFunction(), listEventHandler2, executorService);
+            CsvParserBuilder.getInstance().parse(csv, eventHandler2);
+            eventHandler2.finish();
+            Assertions.assertThat(listEventHandler2.getCsv()).containsExactlyInOrder(listEventHandler1.getCsv());
+
+            ListEventHandler listEventHandler3 = new ListEventHandler();
+            OrderedParallelEventHandler eventHandler3 = new OrderedParallelEventHandler(new SkippingRowFunction(), listEventHandler3, executorService, 0, 0);
+            CsvParserBuilder.getInstance().parse("1,a\n2,b", eventHandler3);
+            eventHandler3.finish();
+            eventHandler3.finish();
+            Assertions.assertThat(listEventHandler3.getCsv()).hasSize(2);
+            Assertions.assertThat(listEventHandler3.getCsv().get(0)).containsExactlyInOrder("A", "1");
+            Assertions.assertThat(listEventHandler3.getCsv().get(1)).containsExactlyInOrder("B", "2");
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * {@link OrderedParallelEventHandler} class test.
+     */
+    @Test
+    public void stoppableEventHandlerTest() {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            StoppableEventHandler stoppableEventHandler1 = new StoppableEventHandler(3);
+            OrderedParallelEventHandler eventHandler1 = new OrderedParallelEventHandler(new SkippingRowFunction(), stoppableEventHandler1, executorService, 1, 1);
+            CsvParserBuilder.getInstance().parse("1,a\n2,b\n3,c\n4,d\n6,f\n7,g", eventHandler1);
+            Assertions.assertThat(eventHandler1.isStopped()).isTrue();
+            eventHandler1.finish();
+            Assertions.assertThat(stoppableEventHandler1.getColumns()).containsExactlyInOrder("A", "1", "B", "2", "C", "3");
+
+            StoppableEventHandler stoppableEventHandler2 = new StoppableEventHandler(2);
+            OrderedParallelEventHandler eventHandler2 = new OrderedParallelEventHandler(new SkippingRowFunction(), stoppableEventHandler2, executorService, 2, 4);
+            CsvParserBuilder.getInstance().parse("1,a\n2,b\n3,c\n4,d\n6,f", eventHandler2);
+            eventHandler2.finish();
+            Assertions.assertThat(eventHandler2.isStopped()).isTrue();
+            eventHandler2.pushColumn("x", 1);
+            eventHandler2.pushRow();
+            eventHandler2.finish();
+            Assertions.assertThat(stoppableEventHandler2.getColumns()).containsExactlyInOrder("A", "1", "B", "2");
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * {@link OrderedParallelEventHandler} class test.
+     */
+    @Test
+    public void rowFunctionFailTest() {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            try {
+                OrderedParallelEventHandler eventHandler = new OrderedParallelEventHandler(new FailingRowFunction(new IllegalArgumentException("ERROR")), new ListEventHandler(), executorService, 2, 2);
+                CsvParserBuilder.getInstance().parse("1,a\n2,b\nfail,c\n4,d\n5,e\n6,f\n7,g\n8,h", eventHandler);
+                eventHandler.finish();
+                Assertions.fail("OrderedParallelEventHandler test fail");
+            } catch (IllegalArgumentException ex) {
+                Assertions.assertThat(ex).hasMessage("ERROR");
+            }
+
+            try {
+                OrderedParallelEventHandler eventHandler = new OrderedParallelEventHandler(new FailingRowFunction(new AssertionError("ERROR")), new ListEventHandler(), executorService, 2, 2);
+                CsvParserBuilder.getInstance().parse("1,a\nfail,b", eventHandler);
+                eventHandler.finish();
+                Assertions.fail("OrderedParallelEventHandler test fail");
+            } catch (AssertionError ex) {
+                Assertions.assertThat(ex).hasMessage("ERROR");
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * {@link OrderedParallelEventHandler} class test.
+     */
+    @Test
+    public void actualLengthTest() {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            ActualLengthEventHandler actualLengthEventHandler = new ActualLengthEventHandler();
+            OrderedParallelEventHandler eventHandler = new OrderedParallelEventHandler(new MappingRowFunction(), actualLengthEventHandler, executorService, 2, 2);
+            eventHandler.pushColumn("ab", 5);
+            eventHandler.pushColumn("cd", 4);
+            eventHandler.pushRow();
+            eventHandler.pushColumn("ef", 2);
+            eventHandler.pushColumn("gh", 2);
+            eventHandler.pushRow();
+            for (int i = 0; i < 20; i++) {
+                eventHandler.pushColumn("x" + i, 10 + i);
+            }
+            eventHandler.pushRow();
+            eventHandler.finish();
+            List<String> expected = new ArrayList<>();
+            expected.add("ab:5");
+            expected.add("CD:2");
+            expected.add("extra:5");
+            expected.add("row");
+            expected.add("ef:2");
+            expected.add("GH:2");
+            expected.add("extra:5");
+            expected.add("row");
+            expected.add("x0:10");
+            expected.add("X1:2");
+            for (int i = 2; i < 20; i++) {
+                expected.add("x" + i + ":" + (10 + i));
+            }
+            expected.add("extra:5");
+            expected.add("row");
+            Assertions.assertThat(actualLengthEventHandler.getEvents()).containsExactlyInOrder(expected);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * {@link OrderedParallelEventHandler} class test.
+     */
+    @Test
+    public void nullColumnTest() {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        ListEventHandler listEventHandler = new ListEventHandler();
+        try {
+            OrderedParallelEventHandler eventHandler = new OrderedParallelEventHandler(new NullColumnRowFunction(), listEventHandler, executorService, 2, 2);
+            CsvParserBuilder.getInstance().parse("1,a\nskip,b\nnull,c\n4,d\n5,e\n6,f", eventHandler);
+            eventHandler.finish();
+            Assertions.fail("OrderedParallelEventHandler test fail");
+        } catch (IllegalStateException ex) {
+            Assertions.assertThat(ex).hasMessage("Row function returned the null column value. Row index: 2, batch row index: 0, column index: 1.");
+            Assertions.assertThat(listEventHandler.getCsv()).hasSize(1);
+            Assertions.assertThat(listEventHandler.getCsv().get(0)).containsExactlyInOrder("1", "a");
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * {@link OrderedParallelEventHandler} class test.
+     */
+    @Test
+    public void configureTest() {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            RestrictedListEventHandler restrictedListEventHandler = new RestrictedListEventHandler(2);
+            OrderedParallelEventHandler eventHandler1 = new OrderedParallelEventHandler(new NullColumnRowFunction(), restrictedListEventHandler, executorService, 2, 2);
+            CsvParserBuilder.getInstance().parse("abc,d\nef", eventHandler1);
+            eventHandler1.finish();
+            Assertions.assertThat(restrictedListEventHandler.getCsv()).hasSize(2);
+            Assertions.assertThat(restrictedListEventHandler.getCsv().get(0)).containsExactlyInOrder("ab", "d");
+            Assertions.assertThat(restrictedListEventHandler.getCsv().get(1)).containsExactlyInOrder("ef");
+
+            CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+            OrderedParallelEventHandler eventHandler2 = new OrderedParallelEventHandler(new NullColumnRowFunction(), new StoppableEventHandler(1), executorService);
+            eventHandler2.configure(csvParserConfiguration);
+            Assertions.assertThat(csvParserConfiguration.getMaxColumnLength()).isEqualTo(-1);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * {@link OrderedParallelEventHandler} class test.
+     */
+    @Test
+    public void interruptedTest() {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        CountDownLatch countDownLatch = new CountDownLatch(1);
+        try {
+            ListEventHandler listEventHandler = new ListEventHandler();
+            OrderedParallelEventHandler eventHandler = new OrderedParallelEventHandler(new WaitingRowFunction(countDownLatch), listEventHandler, executorService, 1, 2);
+            CsvParserBuilder.getInstance().parse("1,a\n2,b", eventHandler);
+            Thread.currentThread().interrupt();
+            eventHandler.finish();
+            Assertions.fail("OrderedParallelEventHandler test fail");
+        } catch (CsvInterruptedException ex) {
+            Assertions.assertThat(ex).hasMessage("CSV parsing is interrupted.");
+            Assertions.assertThat(Thread.interrupted()).isTrue();
+        } finally {
+            countDownLatch.countDown();
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class SkippingRowFunction implements CsvRowFunction {
+
+        SkippingRowFunction() {
+            super();
+        }
+
+        @Override
+        public List<String> apply(final List<String> row) {
+            if (Integer.parseInt(row.get(0)) % 5 == 0) {
+                return null;
+            }
+            List<String> result = new ArrayList<>();
+            result.add(row.get(1).toUpperCase());
+            result.add(row.get(0));
+            return result;
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class FailingRowFunction implements CsvRowFunction {
+
+        private final Throwable _throwable;
+
+        FailingRowFunction(final Throwable throwable) {
+            super();
+            _throwable = throwable;
+        }
+
+        @Override
+        public List<String> apply(final List<String> row) {
+            if ("fail".equals(row.get(0))) {
+                if (_throwable instanceof Error) {
+                    throw (Error) _throwable;
+                }
+                throw (RuntimeException) _throwable;
+            }
+            return row;
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class MappingRowFunction implements CsvRowFunction {
+
+        MappingRowFunction() {
+            super();
+        }
+
+        @Override
+        public List<String> apply(final List<String> row) {
+            row.set(1, row.get(1).toUpperCase());
+            row.add("extra");
+            return row;
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class NullColumnRowFunction implements CsvRowFunction {
+
+        NullColumnRowFunction() {
+            super();
+        }
+
+        @Override
+        public List<String> apply(final List<String> row) {
+            if ("skip".equals(row.get(0))) {
+                return null;
+            }
+            if ("null".equals(row.get(0))) {
+                row.set(1, null);
+            }
+            return row;
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class WaitingRowFunction implements CsvRowFunction {
+
+        private final CountDownLatch _countDownLatch;
+
+        WaitingRowFunction(final CountDownLatch countDownLatch) {
+            super();
+            _countDownLatch = countDownLatch;
+        }
+
+        @Override
+        public List<String> apply(final List<String> row) {
+            try {
+                _countDownLatch.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return row;
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class StoppableEventHandler implements CsvEventHandler, CsvStoppable {
+
+        private final List<String> _columns;
+
+        private int _rowCount;
+
+        StoppableEventHandler(final int rowCount) {
+            super();
+            _columns = new ArrayList<>();
+            _rowCount = rowCount;
+        }
+
+        @Override
+        public void pushColumn(final String column, final int actualLength) {
+            _columns.add(column);
+        }
+
+        @Override
+        public void pushRow() {
+            _rowCount--;
+        }
+
+        @Override
+        public boolean isStopped() {
+            return _rowCount <= 0;
+        }
+
+        List<String> getColumns() {
+            return _columns;
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class ActualLengthEventHandler implements CsvEventHandler {
+
+        private final List<String> _events;
+
+        ActualLengthEventHandler() {
+            super();
+            _events = new ArrayList<>();
+        }
+
+        @Override
+        public void pushColumn(final String column, final int actualLength) {
+            _events.add(column + ":" + actualLength);
+        }
+
+        @Override
+        public void pushRow() {
+            _events.add("row");
+        }
+
+        List<String> getEvents() {
+            return _events;
+        }
+
+    }
+
+}
@@ -0,0 +1,283 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.csv.CsvParserBuilder;
+import ru.d_shap.csv.CsvParserConfiguration;
+import ru.d_shap.csv.CsvTest;
+import ru.d_shap.csv.WrongColumnValueException;
+
+/**
+ * Tests for {@link TypedEventHandler}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class TypedEventHandlerTest extends CsvTest {
+
+    /**
+     * Test class constructor.
+     */
+    public TypedEventHandlerTest() {
+        super();
+    }
+
+    /**
+     * {@link TypedEventHandler} class test.
+     */
+    @Test
+    public void configureTest() {
+        CsvParserConfiguration csvParserConfiguration1 = createCsvParserConfiguration();
+        csvParserConfiguration1.setMaxColumnLength(5);
+        new TypedEventHandler(new ColumnType[0], new RecordingTypedEventHandler()).configure(csvParserConfiguration1);
+        Assertions.assertThat(csvParserConfiguration1.getMaxColumnLength()).isEqualTo(5);
+
+        CsvParserConfiguration csvParserConfiguration2 = createCsvParserConfiguration();
+        csvParserConfiguration2.setMaxColumnLength(5);
+        new TypedEventHandler(new ColumnType[0], new ConfigurableTypedEventHandler()).configure(csvParserConfiguration2);
+        Assertions.assertThat(csvParserConfiguration2.getMaxColumnLength()).isEqualTo(-1);
+    }
+
+    /**
+     * {@link TypedEventHandler} class test.
+     */
+    @Test
+    public void pushColumnTest() {
+        ColumnType[] columnTypes = {ColumnType.LONG, ColumnType.DOUBLE, ColumnType.DECIMAL, ColumnType.BOOLEAN, ColumnType.STRING, null};
+        RecordingTypedEventHandler typedEventHandler = new RecordingTypedEventHandler();
+        TypedEventHandler eventHandler = new TypedEventHandler(columnTypes, typedEventHandler);
+        columnTypes[0] = ColumnType.STRING;
+        pushColumns(eventHandler, "12", "1.5", "-1.25", "true", "a", "b", "c");
+        pushColumns(eventHandler, "", "", "", "", "", "");
+        pushColumns(eventHandler, "-9223372036854775808", "-0.125", "+3", "FALSE");
+        eventHandler.pushColumn("+9223372036854775807", 20);
+        eventHandler.pushRow();
+        List<String> expected = new ArrayList<>();
+        addEvents(expected, "long:12", "double:1.5", "decimal:-125:2", "boolean:true", "string:a", "string:b", "string:c");
+        addEvents(expected, "null", "null", "null", "null", "string:", "string:");
+        addEvents(expected, "long:-9223372036854775808", "double:-0.125", "decimal:3:0", "boolean:false");
+        addEvents(expected, "long:9223372036854775807");
+        Assertions.assertThat(typedEventHandler.getEvents()).containsExactlyInOrder(expected);
+    }
+
+    /**
+     * {@link TypedEventHandler} class test.
+     */
+    @Test
+    public void decodeDecimalTest() {
+        ColumnType[] columnTypes = {ColumnType.DECIMAL};
+        RecordingTypedEventHandler typedEventHandler = new RecordingTypedEventHandler();
+        TypedEventHandler eventHandler = new TypedEventHandler(columnTypes, typedEventHandler);
+        pushColumns(eventHandler, "1.");
+        pushColumns(eventHandler, ".5");
+        pushColumns(eventHandler, "0.000");
+        pushColumns(eventHandler, "-922337203685477.5808");
+        Assertions.assertThat(typedEventHandler.getEvents()).containsExactlyInOrder("decimal:1:0", "row", "decimal:5:1", "row", "decimal:0:3", "row", "decimal:-9223372036854775808:4", "row");
+    }
+
+    /**
+     * {@link TypedEventHandler} class test.
+     */
+    @Test
+    public void decodeDoubleTest() {
+        String[] values = {"0", "-0", "1.", ".5", "123456789012345", "1234567890.12345", "0.1", "0.3", "-12.75", "1234567890123456", "1.5e3", "-2E-3", "1.e+2", ".5E10", "-.1", "+1.5", "-0.000000000000001"};
+        ColumnType[] columnTypes = {ColumnType.DOUBLE};
+        RecordingTypedEventHandler typedEventHandler = new RecordingTypedEventHandler();
+        TypedEventHandler eventHandler = new TypedEventHandler(columnTypes, typedEventHandler);
+        List<String> expected = new ArrayList<>();
+        for (String value : values) {
+            pushColumns(eventHandler, value);
+            expected.add("double:" + Double.parseDouble(value));
+            expected.add("row");
+        }
+        Assertions.assertThat(typedEventHandler.getEvents()).containsExactlyInOrder(expected);
+    }
+
+    /**
+     * {@link TypedEventHandler} class test.
+     */
+    @Test
+    public void wrongColumnValueTest() {
+        checkWrongColumnValue(ColumnType.LONG, "a", "Wrong LONG column value: \"a\". Row index: 1, column index: 1.");
+        checkWrongColumnValue(ColumnType.LONG, "-", "Wrong LONG column value: \"-\". Row index: 1, column index: 1.");
+        checkWrongColumnValue(ColumnType.LONG, "1.5", "Wrong LONG column value: \"1.5\". Row index: 1, column index: 1.");
+        checkWrongColumnValue(ColumnType.LONG, "9223372036854775808", "Wrong LONG column value: \"9223372036854775808\". Row index: 1, column index: 1.");
+        checkWrongColumnValue(ColumnType.LONG, "-9223372036854775809", "Wrong LONG column value: \"-9223372036854775809\". Row index: 1, column index: 1.");
+        checkWrongColumnValue(ColumnType.LONG, "92233720368547758070", "Wrong LONG column value: \"92233720368547758070\". Row index: 1, column index: 1.");
+        checkWrongColumnValue(ColumnType.LONG, "1:", "Wrong LONG column value: \"1:\". Row index: 1, column index: 1.");
+        checkWrongColumnValue(ColumnType.DECIMAL, "1.2.3", "Wrong DECIMAL column value: \"1.2.3\". Row index: 1, column index: 1.");
+        checkWrongColumnValue(ColumnType.DECIMAL, ".", "Wrong DECIMAL column value: \".\". Row index: 1, column index: 1.");
+        checkWrongColumnValue(ColumnType.DOUBLE, "1.2.3", "Wrong DOUBLE column value: \"1.2.3\". Row index: 1, column index: 1.");
+        checkWrongColumnValue(ColumnType.DOUBLE, "-", "Wrong DOUBLE column value: \"-\". Row index: 1, column index: 1.");
+        checkWrongColumnValue(ColumnType.DOUBLE, ".", "Wrong DOUBLE column value: \".\". Row index: 1, column index: 1.");
+        checkWrongColumnValue(ColumnType.LONG, "1e5", "Wrong LONG column value: \"1e5\". Row index: 1, column index: 1.");
+        checkWrongColumnValue(ColumnType.DECIMAL, "1e5", "Wrong DECIMAL column value: \"1e5\". Row index: 1, column index: 1.");
+        checkWrongColumnValue(ColumnType.DECIMAL, "9223372036854775.808", "Wrong DECIMAL column value: \"9223372036854775.808\". Row index: 1, column index: 1.");
+        checkWrongColumnValue(ColumnType.BOOLEAN, "yes", "Wrong BOOLEAN column value: \"yes\". Row index: 1, column index: 1.");
+        checkWrongColumnValue(ColumnType.BOOLEAN, "tru", "Wrong BOOLEAN column value: \"tru\". Row index: 1, column index: 1.");
+        checkWrongColumnValue(ColumnType.BOOLEAN, "trux", "Wrong BOOLEAN column value: \"trux\". Row index: 1, column index: 1.");
+    }
+
+    private void checkWrongColumnValue(final ColumnType columnType, final String value, final String message) {
+        ColumnType[] columnTypes = {ColumnType.STRING, columnType};
+        TypedEventHandler eventHandler = new TypedEventHandler(columnTypes, new RecordingTypedEventHandler());
+        pushColumns(eventHandler, "a");
+        try {
+            pushColumns(eventHandler, "b", value);
+            Assertions.fail("TypedEventHandler test fail");
+        } catch (WrongColumnValueException ex) {
+            Assertions.assertThat(ex).hasMessage(message);
+            Assertions.assertThat(ex.getPosition()).isEqualTo(-1L);
+            Assertions.assertThat(ex.getRowIndex()).isEqualTo(1L);
+            Assertions.assertThat(ex.getColumnIndex()).isEqualTo(1);
+        }
+    }
+
+    /**
+     * {@link TypedEventHandler} class test.
+     */
+    @Test
+    public void wrongDoubleValueTest() {
+        String[] values = {"1e", "1e+", "e5", ".e5", "1e5.5", "1e5e5", " 1", "1 ", "1f", "1d", "1.5D", "NaN", "-Infinity", "0x1p3", "1_000"};
+        ColumnType[] columnTypes = {ColumnType.DOUBLE};
+        TypedEventHandler eventHandler = new TypedEventHandler(columnTypes, new RecordingTypedEventHandler());
+        for (String value : values) {
+            try {
+                pushColumns(eventHandler, value);
+                Assertions.fail("TypedEventHandler test fail");
+            } catch (WrongColumnValueException ex) {
+                Assertions.assertThat(ex).hasMessage("Wrong DOUBLE column value: \"" + value + "\". Row index: 0, column index: 0.");
+                Assertions.assertThat(ex.getCause()).isNull();
+            }
+        }
+    }
+
+    /**
+     * {@link TypedEventHandler} class test.
+     */
+    @Test
+    public void parseTest() {
+        ColumnType[] columnTypes = {ColumnType.LONG, ColumnType.DECIMAL, ColumnType.STRING};
+        RecordingTypedEventHandler typedEventHandler = new RecordingTypedEventHandler();
+        CsvParserBuilder.getInstance().setCommaSeparator(true).setLfSeparator(true).parse("1,2.50,\"a,b\"\n-3,,c\n", new TypedEventHandler(columnTypes, typedEventHandler));
+        Assertions.assertThat(typedEventHandler.getEvents()).containsExactlyInOrder("long:1", "decimal:250:2", "string:a,b", "row", "long:-3", "null", "string:c", "row");
+
+        try {
+            CsvParserBuilder.getInstance().setCommaSeparator(true).setLfSeparator(true).parse("1,2.5\n2,x\n", new TypedEventHandler(columnTypes, typedEventHandler));
+            Assertions.fail("TypedEventHandler test fail");
+        } catch (WrongColumnValueException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong DECIMAL column value: \"x\". Row index: 1, column index: 1.");
+        }
+    }
+
+    private void addEvents(final List<String> events, final String... rowEvents) {
+        for (String rowEvent : rowEvents) {
+            events.add(rowEvent);
+        }
+        events.add("row");
+    }
+
+    private void pushColumns(final TypedEventHandler eventHandler, final String... columns) {
+        for (String column : columns) {
+            char[] buffer = ("[" + column + "]").toCharArray();
+            eventHandler.pushColumn(buffer, 1, column.length(), column.length());
+        }
+        eventHandler.pushRow();
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static class RecordingTypedEventHandler implements CsvTypedEventHandler {
+
+        private final List<String> _events;
+
+        RecordingTypedEventHandler() {
+            super();
+            _events = new ArrayList<>();
+        }
+
+        @Override
+        public void pushString(final String value) {
+            _events.add("string:" + value);
+        }
+
+        @Override
+        public void pushLong(final long value) {
+            _events.add("long:" + value);
+        }
+
+        @Override
+        public void pushDouble(final double value) {
+            _events.add("double:" + value);
+        }
+
+        @Override
+        public void pushDecimal(final long unscaledValue, final int scale) {
+            _events.add("decimal:" + unscaledValue + ":" + scale);
+        }
+
+        @Override
+        public void pushBoolean(final boolean value) {
+            _events.add("boolean:" + value);
+        }
+
+        @Override
+        public void pushNull() {
+            _events.add("null");
+        }
+
+        @Override
+        public void pushRow() {
+            _events.add("row");
+        }
+
+        List<String> getEvents() {
+            return _events;
+        }
+
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class ConfigurableTypedEventHandler extends RecordingTypedEventHandler implements CsvConfigurable {
+
+        ConfigurableTypedEventHandler() {
+            super();
+        }
+
+        @Override
+        public void configure(final CsvParserConfiguration csvParserConfiguration) {
+            csvParserConfiguration.setMaxColumnLength(-1);
+        }
+
+    }
+
+}
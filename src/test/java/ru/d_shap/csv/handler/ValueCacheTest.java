@@ -0,0 +1,264 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.handler;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.csv.CsvTest;
+
+/**
+ * Tests for {@link ValueCache}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ValueCacheTest extends CsvTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ValueCacheTest() {
+        super();
+    }
+
+    /**
+     * {@link ValueCache} class test.
+     */
+    @Test
+    public void getValueFromBufferTest() {
+        char[] buffer = "ab,cd,ab,,ab".toCharArray();
+        ValueCache valueCache = new ValueCache(16);
+        String value1 = valueCache.getValue(buffer, 0, 2);
+        Assertions.assertThat(value1).isEqualTo("ab");
+        String value2 = valueCache.getValue(buffer, 3, 2);
+        Assertions.assertThat(value2).isEqualTo("cd");
+        String value3 = valueCache.getValue(buffer, 6, 2);
+        Assertions.assertThat(value3).isSameAs(value1);
+        String value4 = valueCache.getValue(buffer, 9, 0);
+        Assertions.assertThat(value4).isEqualTo("");
+        String value5 = valueCache.getValue(buffer, 9, 0);
+        Assertions.assertThat(value5).isSameAs(value4);
+        String value6 = valueCache.getValue(buffer, 10, 2);
+        Assertions.assertThat(value6).isSameAs(value1);
+        Assertions.assertThat(valueCache.getHitCount()).isEqualTo(3L);
+        Assertions.assertThat(valueCache.getMissCount()).isEqualTo(3L);
+    }
+
+    /**
+     * {@link ValueCache} class test.
+     */
+    @Test
+    public void getValueFromStringTest() {
+        ValueCache valueCache = new ValueCache(16);
+        String value1 = new String("ab".toCharArray());
+        Assertions.assertThat(valueCache.getValue(value1)).isSameAs(value1);
+        String value2 = new String("ab".toCharArray());
+        Assertions.assertThat(valueCache.getValue(value2)).isSameAs(value1);
+        Assertions.assertThat(valueCache.getValue("ab".toCharArray(), 0, 2)).isSameAs(value1);
+        String value3 = new String("cd".toCharArray());
+        Assertions.assertThat(valueCache.getValue(value3)).isSameAs(value3);
+        Assertions.assertThat(valueCache.getHitCount()).isEqualTo(2L);
+        Assertions.assertThat(valueCache.getMissCount()).isEqualTo(2L);
+    }
+
+    /**
+     * {@link ValueCache} class test.
+     */
+    @Test
+    public void replaceValueTest() {
+        ValueCache valueCache = new ValueCache(1);
+        String value1 = valueCache.getValue("ab".toCharArray(), 0, 2);
+        String value2 = valueCache.getValue("cd".toCharArray(), 0, 2);
+        Assertions.assertThat(value2).isEqualTo("cd");
+        Assertions.assertThat(valueCache.getValue("cd".toCharArray(), 0, 2)).isSameAs(value2);
+        Assertions.assertThat(valueCache.getValue("ab".toCharArray(), 0, 2)).isNotSameAs(value1);
+        Assertions.assertThat(valueCache.getValue("a".toCharArray(), 0, 1)).isEqualTo("a");
+        Assertions.assertThat(valueCache.getValue(new String("cd".toCharArray()))).isNotSameAs(value2);
+        Assertions.assertThat(valueCache.getValue("c".toCharArray(), 0, 1)).isEqualTo("c");
+        Assertions.assertThat(valueCache.getValue("b".toCharArray(), 0, 1)).isEqualTo("b");
+        Assertions.assertThat(valueCache.getValue("b".toCharArray(), 0, 1)).isEqualTo("b");
+        Assertions.assertThat(valueCache.getHitCount()).isEqualTo(2L);
+        Assertions.assertThat(valueCache.getMissCount()).isEqualTo(7L);
+    }
+
+    /**
+     * {@link ValueCache} class test.
+     */
+    @Test
+    public void sameHashTest() {
+        ValueCache valueCache = new ValueCache(4);
+        Assertions.assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        String value1 = valueCache.getValue("Aa".toCharArray(), 0, 2);
+        String value2 = valueCache.getValue("BB".toCharArray(), 0, 2);
+        Assertions.assertThat(value2).isEqualTo("BB");
+        Assertions.assertThat(valueCache.getValue("Aa")).isSameAs(value1);
+        Assertions.assertThat(valueCache.getValue("BB".toCharArray(), 0, 2)).isSameAs(value2);
+        Assertions.assertThat(valueCache.getValue(new char[]{0}, 0, 0)).isEqualTo("");
+        Assertions.assertThat(valueCache.getValue(new char[]{0}, 0, 1)).isEqualTo("\u0000");
+        Assertions.assertThat(valueCache.getHitCount()).isEqualTo(2L);
+        Assertions.assertThat(valueCache.getMissCount()).isEqualTo(4L);
+    }
+
+    /**
+     * {@link ValueCache} class test.
+     */
+    @Test
+    public void leastRecentlyUsedValueTest() {
+        ValueCache valueCache = new ValueCache(4);
+        String value1 = valueCache.getValue("a".toCharArray(), 0, 1);
+        String value2 = valueCache.getValue("b".toCharArray(), 0, 1);
+        String value3 = valueCache.getValue(new String("c".toCharArray()));
+        String value4 = valueCache.getValue("d".toCharArray(), 0, 1);
+        Assertions.assertThat(valueCache.getValue("a".toCharArray(), 0, 1)).isSameAs(value1);
+        Assertions.assertThat(valueCache.getValue(new String("b".toCharArray()))).isSameAs(value2);
+        Assertions.assertThat(valueCache.getValue("c".toCharArray(), 0, 1)).isSameAs(value3);
+        Assertions.assertThat(valueCache.getValue("d".toCharArray(), 0, 1)).isSameAs(value4);
+        Assertions.assertThat(valueCache.getValue("a".toCharArray(), 0, 1)).isSameAs(value1);
+        Assertions.assertThat(valueCache.getValue("e".toCharArray(), 0, 1)).isEqualTo("e");
+        Assertions.assertThat(valueCache.getValue("a".toCharArray(), 0, 1)).isSameAs(value1);
+        Assertions.assertThat(valueCache.getValue("c".toCharArray(), 0, 1)).isSameAs(value3);
+        Assertions.assertThat(valueCache.getValue("d".toCharArray(), 0, 1)).isSameAs(value4);
+        Assertions.assertThat(valueCache.getValue(new String("b".toCharArray()))).isNotSameAs(value2);
+        Assertions.assertThat(valueCache.getHitCount()).isEqualTo(8L);
+        Assertions.assertThat(valueCache.getMissCount()).isEqualTo(6L);
+    }
+
+    /**
+     * {@link ValueCache} class test.
+     */
+    @Test
+    public void largeCacheTest() {
+        ValueCache valueCache = new ValueCache(64);
+        String[] values = new String[64];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = valueCache.getValue(String.valueOf(i).toCharArray(), 0, String.valueOf(i).length());
+        }
+        int hitCount = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (valueCache.getValue(String.valueOf(i)) == values[i]) {
+                hitCount++;
+            }
+        }
+        Assertions.assertThat(hitCount).isGreaterThan(32);
+        Assertions.assertThat(valueCache.getHitCount()).isEqualTo((long) hitCount);
+    }
+
+    /**
+     * {@link ValueCache} class test.
+     */
+    @Test
+    public void maxValueLengthTest() {
+        ValueCache valueCache = new ValueCache(16, 2);
+        String value1 = valueCache.getValue("abc".toCharArray(), 0, 3);
+        Assertions.assertThat(value1).isEqualTo("abc");
+        Assertions.assertThat(valueCache.getValue("abc".toCharArray(), 0, 3)).isNotSameAs(value1);
+        Assertions.assertThat(valueCache.getValue(value1)).isSameAs(value1);
+        Assertions.assertThat(valueCache.getValue(new String("abc".toCharArray()))).isNotSameAs(value1);
+        String value2 = valueCache.getValue("ab".toCharArray(), 0, 2);
+        Assertions.assertThat(valueCache.getValue("ab".toCharArray(), 0, 2)).isSameAs(value2);
+        Assertions.assertThat(valueCache.getHitCount()).isEqualTo(1L);
+        Assertions.assertThat(valueCache.getMissCount()).isEqualTo(5L);
+    }
+
+    /**
+     * {@link ValueCache} class test.
+     */
+    @Test
+    public void hitRateTest() {
+        ValueCache valueCache = new ValueCache(16);
+        Assertions.assertThat(valueCache.getHitRate()).isEqualTo(0.0);
+        valueCache.getValue("a");
+        Assertions.assertThat(valueCache.getHitRate()).isEqualTo(0.0);
+        valueCache.getValue("a");
+        Assertions.assertThat(valueCache.getHitRate()).isEqualTo(0.5);
+        valueCache.getValue("a");
+        valueCache.getValue("a");
+        Assertions.assertThat(valueCache.getHitRate()).isEqualTo(0.75);
+    }
+
+    /**
+     * {@link ValueCache} class test.
+     */
+    @Test
+    public void partialCacheTest() {
+        ValueCache valueCache = new ValueCache(3, 2);
+        valueCache.getValue("a");
+        valueCache.getValue("a");
+
+        ValueCache partialCache = valueCache.createEmptyCache();
+        Assertions.assertThat(partialCache).isNotSameAs(valueCache);
+        Assertions.assertThat(partialCache.getHitCount()).isEqualTo(0L);
+        Assertions.assertThat(partialCache.getMissCount()).isEqualTo(0L);
+        String value = partialCache.getValue("a".toCharArray(), 0, 1);
+        Assertions.assertThat(partialCache.getValue("a".toCharArray(), 0, 1)).isSameAs(value);
+        Assertions.assertThat(partialCache.getValue("abc".toCharArray(), 0, 3)).isEqualTo("abc");
+        Assertions.assertThat(partialCache.getValue("abc".toCharArray(), 0, 3)).isEqualTo("abc");
+
+        valueCache.addStatistics(partialCache);
+        Assertions.assertThat(valueCache.getHitCount()).isEqualTo(2L);
+        Assertions.assertThat(valueCache.getMissCount()).isEqualTo(4L);
+    }
+
+    /**
+     * {@link ValueCache} class test.
+     */
+    @Test
+    public void getCapacityTest() {
+        Assertions.assertThat(ValueCache.getCapacity(1)).isEqualTo(1);
+        Assertions.assertThat(ValueCache.getCapacity(3)).isEqualTo(4);
+        Assertions.assertThat(ValueCache.getCapacity(1024)).isEqualTo(1024);
+        Assertions.assertThat(ValueCache.getCapacity((1 << 30) - 1)).isEqualTo(1 << 30);
+        Assertions.assertThat(ValueCache.getCapacity(1 << 30)).isEqualTo(1 << 30);
+        Assertions.assertThat(ValueCache.getCapacity((1 << 30) + 1)).isEqualTo(1 << 30);
+        Assertions.assertThat(ValueCache.getCapacity(Integer.MAX_VALUE)).isEqualTo(ValueCache.MAX_CAPACITY);
+    }
+
+    /**
+     * {@link ValueCache} class test.
+     */
+    @Test
+    public void wrongArgumentsTest() {
+        try {
+            new ValueCache(0);
+            Assertions.fail("ValueCache test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong value cache size: 0.");
+        }
+        try {
+            new ValueCache(-1, 2);
+            Assertions.fail("ValueCache test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong value cache size: -1.");
+        }
+        try {
+            new ValueCache(16, 0);
+            Assertions.fail("ValueCache test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong maximum cached value length: 0.");
+        }
+        try {
+            new ValueCache(16, -5);
+            Assertions.fail("ValueCache test fail");
+        } catch (IllegalArgumentException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong maximum cached value length: -5.");
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.state;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.csv.CsvTest;
+
+/**
+ * Tests for {@link ByteCharacters}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ByteCharactersTest extends CsvTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ByteCharactersTest() {
+        super();
+    }
+
+    /**
+     * {@link ByteCharacters} class test.
+     */
+    @Test
+    public void constructorTest() {
+        Assertions.assertThat(ByteCharacters.class).hasOnePrivateConstructor();
+    }
+
+    /**
+     * {@link ByteCharacters} class test.
+     */
+    @Test
+    public void isAsciiTest() {
+        Assertions.assertThat(ByteCharacters.isAscii(new char[]{}, 0, 0)).isTrue();
+        Assertions.assertThat(ByteCharacters.isAscii(new char[]{'a', 'b', '\u007f'}, 0, 3)).isTrue();
+        Assertions.assertThat(ByteCharacters.isAscii(new char[]{'a', '\u0080', 'b'}, 0, 3)).isFalse();
+        Assertions.assertThat(ByteCharacters.isAscii(new char[]{'a', '\u0080', 'b'}, 2, 1)).isTrue();
+        Assertions.assertThat(ByteCharacters.isAscii(new char[]{'a', 'ÿ', 'b'}, 1, 1)).isFalse();
+    }
+
+    /**
+     * {@link ByteCharacters} class test.
+     */
+    @Test
+    public void getSequenceStartTest() {
+        Assertions.assertThat(ByteCharacters.getSequenceStart(new char[]{}, 0)).isEqualTo(0);
+        Assertions.assertThat(ByteCharacters.getSequenceStart(new char[]{'a', 'b'}, 2)).isEqualTo(0);
+        Assertions.assertThat(ByteCharacters.getSequenceStart(new char[]{'\u00c3', '\u00a9'}, 2)).isEqualTo(0);
+        Assertions.assertThat(ByteCharacters.getSequenceStart(new char[]{'\u00a9', 'a'}, 2)).isEqualTo(1);
+        Assertions.assertThat(ByteCharacters.getSequenceStart(new char[]{'\u0082', '\u00ac', 'a'}, 3)).isEqualTo(2);
+        Assertions.assertThat(ByteCharacters.getSequenceStart(new char[]{'\u009f', '\u0098', '\u0080', 'a'}, 4)).isEqualTo(3);
+        Assertions.assertThat(ByteCharacters.getSequenceStart(new char[]{'\u0080', '\u0080', '\u0080', '\u0080', 'a'}, 5)).isEqualTo(3);
+        Assertions.assertThat(ByteCharacters.getSequenceStart(new char[]{'\u0080', '\u0080'}, 2)).isEqualTo(2);
+    }
+
+    /**
+     * {@link ByteCharacters} class test.
+     */
+    @Test
+    public void getCompleteLengthTest() {
+        Assertions.assertThat(ByteCharacters.getCompleteLength(new char[]{}, 0)).isEqualTo(0);
+        Assertions.assertThat(ByteCharacters.getCompleteLength(new char[]{'a'}, 1)).isEqualTo(1);
+        Assertions.assertThat(ByteCharacters.getCompleteLength(new char[]{'a', 'b', 'c'}, 3)).isEqualTo(3);
+        Assertions.assertThat(ByteCharacters.getCompleteLength(new char[]{'a', '\u00c3'}, 2)).isEqualTo(1);
+        Assertions.assertThat(ByteCharacters.getCompleteLength(new char[]{'a', '\u00c3', '\u00a9'}, 3)).isEqualTo(3);
+        Assertions.assertThat(ByteCharacters.getCompleteLength(new char[]{'a', '\u00e2', '\u0082'}, 3)).isEqualTo(1);
+        Assertions.assertThat(ByteCharacters.getCompleteLength(new char[]{'a', '\u00e2', '\u0082', '\u00ac'}, 4)).isEqualTo(4);
+        Assertions.assertThat(ByteCharacters.getCompleteLength(new char[]{'a', '\u00f0', '\u009f', '\u0098'}, 4)).isEqualTo(1);
+        Assertions.assertThat(ByteCharacters.getCompleteLength(new char[]{'a', '\u00f0', '\u009f', '\u0098', '\u0080'}, 5)).isEqualTo(5);
+        Assertions.assertThat(ByteCharacters.getCompleteLength(new char[]{'\u0080'}, 1)).isEqualTo(1);
+        Assertions.assertThat(ByteCharacters.getCompleteLength(new char[]{'a', '\u0080', '\u0080', '\u0080', '\u0080'}, 5)).isEqualTo(5);
+        Assertions.assertThat(ByteCharacters.getCompleteLength(new char[]{'a', '\u00ff'}, 2)).isEqualTo(2);
+    }
+
+    /**
+     * {@link ByteCharacters} class test.
+     */
+    @Test
+    public void decodeTest() {
+        Assertions.assertThat(ByteCharacters.decode(new char[]{}, 0, 0, StandardCharsets.UTF_8)).isEqualTo("");
+        Assertions.assertThat(ByteCharacters.decode(new char[]{'x', 'a', 'b', 'x'}, 1, 2, StandardCharsets.UTF_8)).isEqualTo("ab");
+        Assertions.assertThat(ByteCharacters.decode(new char[]{'x', 'a', 'Ð', '\u0096', 'x'}, 1, 3, StandardCharsets.UTF_8)).isEqualTo("aЖ");
+        Assertions.assertThat(ByteCharacters.decode(new char[]{'a', 'Ð'}, 0, 2, StandardCharsets.UTF_8)).isEqualTo("a�");
+        Assertions.assertThat(ByteCharacters.decode(new char[]{'a', 'é'}, 0, 2, StandardCharsets.US_ASCII)).isEqualTo("a�");
+    }
+
+}
@@ -0,0 +1,88 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.state;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.csv.CsvTest;
+
+/**
+ * Tests for {@link ByteDecoder}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class ByteDecoderTest extends CsvTest {
+
+    /**
+     * Test class constructor.
+     */
+    public ByteDecoderTest() {
+        super();
+    }
+
+    /**
+     * {@link ByteDecoder} class test.
+     */
+    @Test
+    public void decodeTest() {
+        ByteDecoder byteDecoder = new ByteDecoder(StandardCharsets.UTF_8);
+        byteDecoder.decode(toByteCharacters("xa\u00e9\u20ac\ud83d\ude00bx"), 1, 11);
+        Assertions.assertThat(new String(byteDecoder.getBuffer(), 0, byteDecoder.getLength())).isEqualTo("a\u00e9\u20ac\ud83d\ude00b");
+
+        byteDecoder.decode(toByteCharacters("abc"), 0, 3);
+        Assertions.assertThat(new String(byteDecoder.getBuffer(), 0, byteDecoder.getLength())).isEqualTo("abc");
+
+        char[] malformed = {'a', '\u00c3', 'b', '\u00ff', '\u00e2', '\u0082'};
+        byteDecoder.decode(malformed, 0, malformed.length);
+        Assertions.assertThat(new String(byteDecoder.getBuffer(), 0, byteDecoder.getLength())).isEqualTo(ByteCharacters.decode(malformed, 0, malformed.length, StandardCharsets.UTF_8));
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            builder.append('\u00e9');
+        }
+        char[] chars = toByteCharacters(builder.toString());
+        byteDecoder.decode(chars, 0, chars.length);
+        Assertions.assertThat(new String(byteDecoder.getBuffer(), 0, byteDecoder.getLength())).isEqualTo(builder.toString());
+    }
+
+    /**
+     * {@link ByteDecoder} class test.
+     */
+    @Test
+    public void decodeAsciiTest() {
+        ByteDecoder byteDecoder = new ByteDecoder(StandardCharsets.US_ASCII);
+        char[] chars = {'a', '\u00c3', 'b'};
+        byteDecoder.decode(chars, 0, chars.length);
+        Assertions.assertThat(new String(byteDecoder.getBuffer(), 0, byteDecoder.getLength())).isEqualTo("a\ufffdb");
+    }
+
+    private char[] toByteCharacters(final String str) {
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        char[] chars = new char[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i] = (char) (bytes[i] & 0xFF);
+        }
+        return chars;
+    }
+
+}
@@ -19,6 +19,9 @@
 ///////////////////////////////////////////////////////////////////////////////////////////////////
 package ru.d_shap.csv.state;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 import org.junit.Test;
 
 import ru.d_shap.assertions.Assertions;
@@ -75,58 +78,58 @@ public final class CharBufferTest extends CsvTest {
     @Test
     public void canAppendTest() {
         CharBuffer charBuffer1 = new CharBuffer(-1, false);
-        Assertions.assertThat(charBuffer1.canAppend()).isTrue();
+        Assertions.assertThat(charBuffer1.canAppend('x')).isTrue();
         charBuffer1.append('a');
         charBuffer1.append('b');
         charBuffer1.append('c');
-        Assertions.assertThat(charBuffer1.canAppend()).isTrue();
+        Assertions.assertThat(charBuffer1.canAppend('x')).isTrue();
         charBuffer1.append('d');
-        Assertions.assertThat(charBuffer1.canAppend()).isTrue();
+        Assertions.assertThat(charBuffer1.canAppend('x')).isTrue();
 
         CharBuffer charBuffer2 = new CharBuffer(-1, true);
-        Assertions.assertThat(charBuffer2.canAppend()).isTrue();
+        Assertions.assertThat(charBuffer2.canAppend('x')).isTrue();
         charBuffer2.append('a');
         charBuffer2.append('b');
         charBuffer2.append('c');
-        Assertions.assertThat(charBuffer2.canAppend()).isTrue();
+        Assertions.assertThat(charBuffer2.canAppend('x')).isTrue();
         charBuffer2.append('d');
-        Assertions.assertThat(charBuffer2.canAppend()).isTrue();
+        Assertions.assertThat(charBuffer2.canAppend('x')).isTrue();
 
         CharBuffer charBuffer3 = new CharBuffer(0, false);
-        Assertions.assertThat(charBuffer3.canAppend()).isTrue();
+        Assertions.assertThat(charBuffer3.canAppend('x')).isTrue();
         charBuffer3.append('a');
         charBuffer3.append('b');
         charBuffer3.append('c');
-        Assertions.assertThat(charBuffer3.canAppend()).isTrue();
+        Assertions.assertThat(charBuffer3.canAppend('x')).isTrue();
         charBuffer3.append('d');
-        Assertions.assertThat(charBuffer3.canAppend()).isTrue();
+        Assertions.assertThat(charBuffer3.canAppend('x')).isTrue();
 
         CharBuffer charBuffer4 = new CharBuffer(0, true);
-        Assertions.assertThat(charBuffer4.canAppend()).isFalse();
+        Assertions.assertThat(charBuffer4.canAppend('x')).isFalse();
         charBuffer4.append('a');
         charBuffer4.append('b');
         charBuffer4.append('c');
-        Assertions.assertThat(charBuffer4.canAppend()).isFalse();
+        Assertions.assertThat(charBuffer4.canAppend('x')).isFalse();
         charBuffer4.append('d');
-        Assertions.assertThat(charBuffer4.canAppend()).isFalse();
+        Assertions.assertThat(charBuffer4.canAppend('x')).isFalse();
 
         CharBuffer charBuffer5 = new CharBuffer(3, false);
-        Assertions.assertThat(charBuffer5.canAppend()).isTrue();
+        Assertions.assertThat(charBuffer5.canAppend('x')).isTrue();
         charBuffer5.append('a');
         charBuffer5.append('b');
         charBuffer5.append('c');
-        Assertions.assertThat(charBuffer5.canAppend()).isTrue();
+        Assertions.assertThat(charBuffer5.canAppend('x')).isTrue();
         charBuffer5.append('d');
-        Assertions.assertThat(charBuffer5.canAppend()).isTrue();
+        Assertions.assertThat(charBuffer5.canAppend('x')).isTrue();
 
         CharBuffer charBuffer6 = new CharBuffer(3, true);
-        Assertions.assertThat(charBuffer6.canAppend()).isTrue();
+        Assertions.assertThat(charBuffer6.canAppend('x')).isTrue();
         charBuffer6.append('a');
         charBuffer6.append('b');
         charBuffer6.append('c');
-        Assertions.assertThat(charBuffer6.canAppend()).isFalse();
+        Assertions.assertThat(charBuffer6.canAppend('x')).isFalse();
         charBuffer6.append('d');
-        Assertions.assertThat(charBuffer6.canAppend()).isFalse();
+        Assertions.assertThat(charBuffer6.canAppend('x')).isFalse();
     }
 
     /**
@@ -530,4 +533,269 @@ public final class CharBufferTest extends CsvTest {
         Assertions.assertThat(charBuffer3, "_buffer", Raw.charArrayAssertion()).hasLength(0);
     }
 
+    /**
+     * {@link CharBuffer} class test.
+     */
+    @Test
+    public void canAppendLengthTest() {
+        char[] chars = "abcd".toCharArray();
+        ByteBuffer bytes = ByteBuffer.wrap("abcd".getBytes(StandardCharsets.US_ASCII));
+
+        CharBuffer charBuffer1 = new CharBuffer(-1, false);
+        Assertions.assertThat(charBuffer1.canAppend(chars, 0, 4)).isTrue();
+        Assertions.assertThat(charBuffer1.canAppend(bytes, 0, 4)).isTrue();
+
+        CharBuffer charBuffer2 = new CharBuffer(-1, true);
+        Assertions.assertThat(charBuffer2.canAppend(chars, 0, 4)).isTrue();
+        Assertions.assertThat(charBuffer2.canAppend(bytes, 0, 4)).isTrue();
+
+        CharBuffer charBuffer3 = new CharBuffer(0, false);
+        Assertions.assertThat(charBuffer3.canAppend(chars, 0, 4)).isTrue();
+        Assertions.assertThat(charBuffer3.canAppend(bytes, 0, 4)).isTrue();
+
+        CharBuffer charBuffer4 = new CharBuffer(0, true);
+        Assertions.assertThat(charBuffer4.canAppend(chars, 0, 1)).isFalse();
+        Assertions.assertThat(charBuffer4.canAppend(bytes, 0, 1)).isFalse();
+        Assertions.assertThat(charBuffer4.getAppendableLength(chars, 0, 1)).isEqualTo(0);
+        Assertions.assertThat(charBuffer4.getAppendableLength(bytes, 0, 1)).isEqualTo(0);
+
+        CharBuffer charBuffer5 = new CharBuffer(3, true);
+        Assertions.assertThat(charBuffer5.canAppend(chars, 0, 3)).isTrue();
+        Assertions.assertThat(charBuffer5.canAppend(chars, 0, 4)).isFalse();
+        Assertions.assertThat(charBuffer5.canAppend(bytes, 0, 3)).isTrue();
+        Assertions.assertThat(charBuffer5.canAppend(bytes, 0, 4)).isFalse();
+        Assertions.assertThat(charBuffer5.getAppendableLength(chars, 0, 4)).isEqualTo(3);
+        Assertions.assertThat(charBuffer5.getAppendableLength(bytes, 0, 4)).isEqualTo(3);
+        Assertions.assertThat(charBuffer5.getAppendableLength(chars, 0, 2)).isEqualTo(2);
+        Assertions.assertThat(charBuffer5.getAppendableLength(bytes, 0, 2)).isEqualTo(2);
+        charBuffer5.append(chars, 0, 2);
+        Assertions.assertThat(charBuffer5.canAppend(chars, 0, 1)).isTrue();
+        Assertions.assertThat(charBuffer5.canAppend(chars, 0, 2)).isFalse();
+        Assertions.assertThat(charBuffer5.getAppendableLength(chars, 1, 3)).isEqualTo(1);
+    }
+
+    /**
+     * {@link CharBuffer} class test.
+     */
+    @Test
+    public void utf8CanAppendTest() {
+        char[] chars = toByteCharacters("a\u00e9\u20ac\ud83d\ude00b");
+        ByteBuffer bytes = ByteBuffer.wrap("a\u00e9\u20ac\ud83d\ude00b".getBytes(StandardCharsets.UTF_8));
+
+        CharBuffer charBuffer1 = new CharBuffer(-1, true, true);
+        Assertions.assertThat(charBuffer1.canAppend(chars, 0, 11)).isTrue();
+        Assertions.assertThat(charBuffer1.canAppend(bytes, 0, 11)).isTrue();
+
+        CharBuffer charBuffer2 = new CharBuffer(5, true, true);
+        Assertions.assertThat(charBuffer2.canAppend(chars, 0, 10)).isTrue();
+        Assertions.assertThat(charBuffer2.canAppend(chars, 0, 11)).isFalse();
+        Assertions.assertThat(charBuffer2.canAppend(bytes, 0, 10)).isTrue();
+        Assertions.assertThat(charBuffer2.canAppend(bytes, 0, 11)).isFalse();
+        Assertions.assertThat(charBuffer2.getAppendableLength(chars, 0, 11)).isEqualTo(10);
+        Assertions.assertThat(charBuffer2.getAppendableLength(bytes, 0, 11)).isEqualTo(10);
+
+        CharBuffer charBuffer3 = new CharBuffer(4, true, true);
+        Assertions.assertThat(charBuffer3.canAppend(chars, 0, 6)).isTrue();
+        Assertions.assertThat(charBuffer3.canAppend(chars, 0, 7)).isFalse();
+        Assertions.assertThat(charBuffer3.getAppendableLength(chars, 0, 11)).isEqualTo(6);
+        Assertions.assertThat(charBuffer3.getAppendableLength(bytes, 0, 11)).isEqualTo(6);
+        charBuffer3.append(chars, 0, 6);
+        Assertions.assertThat(charBuffer3.canAppend(chars[6])).isFalse();
+        Assertions.assertThat(charBuffer3.canAppend(chars[7])).isTrue();
+        Assertions.assertThat(charBuffer3.canAppend(chars[10])).isTrue();
+    }
+
+    /**
+     * {@link CharBuffer} class test.
+     */
+    @Test
+    public void utf8AppendTest() {
+        char[] chars = toByteCharacters("a\u00e9\u20ac\ud83d\ude00b");
+        ByteBuffer bytes = ByteBuffer.wrap("a\u00e9\u20ac\ud83d\ude00b".getBytes(StandardCharsets.UTF_8));
+
+        CharBuffer charBuffer1 = new CharBuffer(-1, false, true);
+        charBuffer1.append(chars, 0, 11);
+        Assertions.assertThat(charBuffer1.getLength()).isEqualTo(11);
+        Assertions.assertThat(charBuffer1.getActualLength()).isEqualTo(6);
+        charBuffer1.append(bytes, 0, 11);
+        Assertions.assertThat(charBuffer1.getLength()).isEqualTo(22);
+        Assertions.assertThat(charBuffer1.getActualLength()).isEqualTo(12);
+
+        CharBuffer charBuffer2 = new CharBuffer(3, false, true);
+        charBuffer2.append(chars, 0, 11);
+        Assertions.assertThat(charBuffer2.getLength()).isEqualTo(6);
+        Assertions.assertThat(charBuffer2.getActualLength()).isEqualTo(6);
+        Assertions.assertThat(decode(charBuffer2)).isEqualTo("a\u00e9\u20ac");
+
+        CharBuffer charBuffer3 = new CharBuffer(4, false, true);
+        charBuffer3.append(bytes, 0, 11);
+        Assertions.assertThat(charBuffer3.getLength()).isEqualTo(6);
+        Assertions.assertThat(charBuffer3.getActualLength()).isEqualTo(6);
+        Assertions.assertThat(decode(charBuffer3)).isEqualTo("a\u00e9\u20ac");
+
+        CharBuffer charBuffer4 = new CharBuffer(5, false, true);
+        for (int i = 0; i < 11; i++) {
+            charBuffer4.append(chars[i]);
+        }
+        Assertions.assertThat(charBuffer4.getLength()).isEqualTo(10);
+        Assertions.assertThat(charBuffer4.getActualLength()).isEqualTo(6);
+        Assertions.assertThat(decode(charBuffer4)).isEqualTo("a\u00e9\u20ac\ud83d\ude00");
+
+        CharBuffer charBuffer5 = new CharBuffer(1, false, true);
+        charBuffer5.append(chars, 1, 2);
+        Assertions.assertThat(decode(charBuffer5)).isEqualTo("\u00e9");
+        charBuffer5.append(chars, 3, 3);
+        Assertions.assertThat(decode(charBuffer5)).isEqualTo("\u00e9");
+        Assertions.assertThat(charBuffer5.getActualLength()).isEqualTo(2);
+        charBuffer5.remove(2);
+        Assertions.assertThat(charBuffer5.getLength()).isEqualTo(0);
+        Assertions.assertThat(charBuffer5.getActualLength()).isEqualTo(1);
+        charBuffer5.append(chars[10]);
+        Assertions.assertThat(charBuffer5.getLength()).isEqualTo(0);
+        charBuffer5.clear();
+        charBuffer5.append(chars[10]);
+        Assertions.assertThat(decode(charBuffer5)).isEqualTo("b");
+        Assertions.assertThat(charBuffer5.getActualLength()).isEqualTo(1);
+
+        CharBuffer charBuffer6 = new CharBuffer(0, false, true);
+        charBuffer6.append(chars[2]);
+        Assertions.assertThat(charBuffer6.getLength()).isEqualTo(1);
+        Assertions.assertThat(charBuffer6.getActualLength()).isEqualTo(0);
+    }
+
+    /**
+     * {@link CharBuffer} class test.
+     */
+    @Test
+    public void surrogatePairTest() {
+        char[] chars = "ab\ud83d\ude00c".toCharArray();
+
+        CharBuffer charBuffer1 = new CharBuffer(-1, false);
+        charBuffer1.append(chars, 0, 5);
+        Assertions.assertThat(charBuffer1).hasToString("ab\ud83d\ude00c");
+        Assertions.assertThat(charBuffer1.getActualLength()).isEqualTo(5);
+
+        CharBuffer charBuffer2 = new CharBuffer(3, false);
+        charBuffer2.append(chars, 0, 5);
+        Assertions.assertThat(charBuffer2).hasToString("ab");
+        Assertions.assertThat(charBuffer2.getActualLength()).isEqualTo(5);
+
+        CharBuffer charBuffer3 = new CharBuffer(4, false);
+        charBuffer3.append(chars, 0, 5);
+        Assertions.assertThat(charBuffer3).hasToString("ab\ud83d\ude00");
+        Assertions.assertThat(charBuffer3.getActualLength()).isEqualTo(5);
+
+        CharBuffer charBuffer4 = new CharBuffer(3, true);
+        Assertions.assertThat(charBuffer4.canAppend(chars, 0, 2)).isTrue();
+        Assertions.assertThat(charBuffer4.canAppend(chars, 0, 3)).isFalse();
+        Assertions.assertThat(charBuffer4.getAppendableLength(chars, 0, 5)).isEqualTo(2);
+    }
+
+    private static char[] toByteCharacters(final String str) {
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        char[] chars = new char[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i] = (char) (bytes[i] & 0xFF);
+        }
+        return chars;
+    }
+
+    private static String decode(final CharBuffer charBuffer) {
+        return ByteCharacters.decode(charBuffer.getBuffer(), 0, charBuffer.getLength(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * {@link CharBuffer} class test.
+     */
+    @Test
+    public void appendCharactersTest() {
+        char[] chars = "xabcdefghijklmnopqrstuvwxyz".toCharArray();
+
+        CharBuffer charBuffer1 = new CharBuffer(-1, false);
+        charBuffer1.append(chars, 1, 0);
+        Assertions.assertThat(charBuffer1.getActualLength()).isEqualTo(0);
+        Assertions.assertThat(charBuffer1).hasToString("");
+        charBuffer1.append(chars, 1, 3);
+        Assertions.assertThat(charBuffer1.getActualLength()).isEqualTo(3);
+        Assertions.assertThat(charBuffer1).hasToString("abc");
+        charBuffer1.append('1');
+        charBuffer1.append(chars, 4, 20);
+        Assertions.assertThat(charBuffer1.getActualLength()).isEqualTo(24);
+        Assertions.assertThat(charBuffer1).hasToString("abc1defghijklmnopqrstuvw");
+        Assertions.assertThat(charBuffer1, "_buffer", Raw.charArrayAssertion()).hasLength(41);
+        charBuffer1.append(chars, 1, 26);
+        Assertions.assertThat(charBuffer1.getActualLength()).isEqualTo(50);
+        Assertions.assertThat(charBuffer1).hasToString("abc1defghijklmnopqrstuvwabcdefghijklmnopqrstuvwxyz");
+        Assertions.assertThat(charBuffer1, "_buffer", Raw.charArrayAssertion()).hasLength(83);
+
+        CharBuffer charBuffer2 = new CharBuffer(-1, false);
+        charBuffer2.append(chars, 0, 27);
+        Assertions.assertThat(charBuffer2.getActualLength()).isEqualTo(27);
+        Assertions.assertThat(charBuffer2).hasToString("xabcdefghijklmnopqrstuvwxyz");
+        Assertions.assertThat(charBuffer2, "_buffer", Raw.charArrayAssertion()).hasLength(41);
+
+        CharBuffer charBuffer3 = new CharBuffer(0, false);
+        charBuffer3.append(chars, 1, 3);
+        Assertions.assertThat(charBuffer3.getActualLength()).isEqualTo(3);
+        Assertions.assertThat(charBuffer3).hasToString("");
+
+        CharBuffer charBuffer4 = new CharBuffer(5, false);
+        charBuffer4.append(chars, 1, 3);
+        Assertions.assertThat(charBuffer4.getActualLength()).isEqualTo(3);
+        Assertions.assertThat(charBuffer4).hasToString("abc");
+        charBuffer4.append(chars, 4, 3);
+        Assertions.assertThat(charBuffer4.getActualLength()).isEqualTo(6);
+        Assertions.assertThat(charBuffer4).hasToString("abcde");
+        charBuffer4.append(chars, 7, 3);
+        Assertions.assertThat(charBuffer4.getActualLength()).isEqualTo(9);
+        Assertions.assertThat(charBuffer4).hasToString("abcde");
+        charBuffer4.clear();
+        charBuffer4.append(chars, 10, 2);
+        Assertions.assertThat(charBuffer4.getActualLength()).isEqualTo(2);
+        Assertions.assertThat(charBuffer4).hasToString("jk");
+    }
+
+    /**
+     * {@link CharBuffer} class test.
+     */
+    @Test
+    public void getBufferTest() {
+        CharBuffer charBuffer1 = new CharBuffer(-1, false);
+        Assertions.assertThat(charBuffer1.getBuffer()).hasLength(20);
+        Assertions.assertThat(charBuffer1.getLength()).isEqualTo(0);
+        charBuffer1.append("abc".toCharArray(), 0, 3);
+        Assertions.assertThat(new String(charBuffer1.getBuffer(), 0, charBuffer1.getLength())).isEqualTo("abc");
+        Assertions.assertThat(charBuffer1.getLength()).isEqualTo(3);
+        Assertions.assertThat(charBuffer1.getActualLength()).isEqualTo(3);
+        charBuffer1.clear();
+        Assertions.assertThat(charBuffer1.getLength()).isEqualTo(0);
+
+        CharBuffer charBuffer2 = new CharBuffer(2, false);
+        charBuffer2.append("abc".toCharArray(), 0, 3);
+        Assertions.assertThat(new String(charBuffer2.getBuffer(), 0, charBuffer2.getLength())).isEqualTo("ab");
+        Assertions.assertThat(charBuffer2.getLength()).isEqualTo(2);
+        Assertions.assertThat(charBuffer2.getActualLength()).isEqualTo(3);
+    }
+
+    /**
+     * {@link CharBuffer} class test.
+     */
+    @Test
+    public void removeTest() {
+        CharBuffer charBuffer = new CharBuffer(-1, false);
+        charBuffer.append("abcde".toCharArray(), 0, 5);
+        charBuffer.remove(0);
+        Assertions.assertThat(charBuffer).hasToString("abcde");
+        Assertions.assertThat(charBuffer.getActualLength()).isEqualTo(5);
+        charBuffer.remove(3);
+        Assertions.assertThat(charBuffer).hasToString("de");
+        Assertions.assertThat(charBuffer.getLength()).isEqualTo(2);
+        Assertions.assertThat(charBuffer.getActualLength()).isEqualTo(2);
+        charBuffer.append('f');
+        Assertions.assertThat(charBuffer).hasToString("def");
+        charBuffer.remove(3);
+        Assertions.assertThat(charBuffer).hasToString("");
+        Assertions.assertThat(charBuffer.getActualLength()).isEqualTo(0);
+    }
+
 }
@@ -165,4 +165,53 @@ public final class CharStackTest extends CsvTest {
         Assertions.assertThat(new CharStack(25), "_stringBuilderSize", Raw.intAssertion()).isEqualTo(50);
     }
 
+    /**
+     * {@link CharStack} class test.
+     */
+    @Test
+    public void appendCharactersTest() {
+        char[] chars = "abcdefgh".toCharArray();
+
+        CharStack charStack1 = new CharStack(0);
+        charStack1.append(chars, 0, 8);
+        Assertions.assertThat(charStack1).hasToString("");
+
+        CharStack charStack2 = new CharStack(3);
+        charStack2.append(chars, 0, 0);
+        Assertions.assertThat(charStack2).hasToString("");
+        charStack2.append(chars, 0, 2);
+        Assertions.assertThat(charStack2).hasToString("ab");
+        charStack2.append(chars, 2, 2);
+        Assertions.assertThat(charStack2).hasToString("bcd");
+        charStack2.append(chars, 1, 7);
+        Assertions.assertThat(charStack2).hasToString("fgh");
+        charStack2.append('1');
+        Assertions.assertThat(charStack2).hasToString("gh1");
+    }
+
+    /**
+     * {@link CharStack} class test.
+     */
+    @Test
+    public void appendCharStackTest() {
+        CharStack charStack1 = new CharStack(5);
+        charStack1.append("ab".toCharArray(), 0, 2);
+
+        CharStack charStack2 = new CharStack(3);
+        charStack2.append(charStack1);
+        Assertions.assertThat(charStack2).hasToString("ab");
+
+        charStack1.append("cdefg".toCharArray(), 0, 5);
+        Assertions.assertThat(charStack1).hasToString("cdefg");
+        charStack2.append(charStack1);
+        Assertions.assertThat(charStack2).hasToString("efg");
+
+        CharStack charStack3 = new CharStack(10);
+        charStack3.append('1');
+        charStack3.append(charStack1);
+        Assertions.assertThat(charStack3).hasToString("1cdefg");
+        charStack3.append(new CharStack(4));
+        Assertions.assertThat(charStack3).hasToString("1cdefg");
+    }
+
 }
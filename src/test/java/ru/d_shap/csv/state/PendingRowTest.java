@@ -0,0 +1,100 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.state;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.csv.CsvTest;
+
+/**
+ * Tests for {@link PendingRow}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class PendingRowTest extends CsvTest {
+
+    /**
+     * Test class constructor.
+     */
+    public PendingRowTest() {
+        super();
+    }
+
+    /**
+     * {@link PendingRow} class test.
+     */
+    @Test
+    public void addTest() {
+        PendingRow pendingRow = new PendingRow();
+        Assertions.assertThat(pendingRow.getColumnCount()).isEqualTo(0);
+        char[] chars = "xabcdex".toCharArray();
+        pendingRow.add(chars, 1, 2, 2);
+        pendingRow.add(chars, 3, 0, 0);
+        pendingRow.add(chars, 3, 3, 5);
+        Assertions.assertThat(pendingRow.getColumnCount()).isEqualTo(3);
+        Assertions.assertThat(getColumn(pendingRow, 0)).isEqualTo("ab");
+        Assertions.assertThat(getColumn(pendingRow, 1)).isEqualTo("");
+        Assertions.assertThat(getColumn(pendingRow, 2)).isEqualTo("cde");
+        Assertions.assertThat(pendingRow.getActualLength(0)).isEqualTo(2);
+        Assertions.assertThat(pendingRow.getActualLength(1)).isEqualTo(0);
+        Assertions.assertThat(pendingRow.getActualLength(2)).isEqualTo(5);
+    }
+
+    /**
+     * {@link PendingRow} class test.
+     */
+    @Test
+    public void addManyColumnsTest() {
+        PendingRow pendingRow = new PendingRow();
+        char[] chars = new char[100];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + i % 26);
+        }
+        for (int i = 0; i < 10; i++) {
+            pendingRow.add(chars, i, 100 - i, 100 - i);
+        }
+        Assertions.assertThat(pendingRow.getColumnCount()).isEqualTo(10);
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertThat(getColumn(pendingRow, i)).isEqualTo(new String(chars, i, 100 - i));
+            Assertions.assertThat(pendingRow.getActualLength(i)).isEqualTo(100 - i);
+        }
+    }
+
+    /**
+     * {@link PendingRow} class test.
+     */
+    @Test
+    public void clearTest() {
+        PendingRow pendingRow = new PendingRow();
+        char[] chars = "abc".toCharArray();
+        pendingRow.add(chars, 0, 3, 3);
+        pendingRow.clear();
+        Assertions.assertThat(pendingRow.getColumnCount()).isEqualTo(0);
+        pendingRow.add(chars, 1, 1, 1);
+        Assertions.assertThat(pendingRow.getColumnCount()).isEqualTo(1);
+        Assertions.assertThat(getColumn(pendingRow, 0)).isEqualTo("b");
+    }
+
+    private String getColumn(final PendingRow pendingRow, final int column) {
+        return new String(pendingRow.getBuffer(), pendingRow.getColumnOffset(column), pendingRow.getColumnLength(column));
+    }
+
+}
@@ -19,9 +19,16 @@
 ///////////////////////////////////////////////////////////////////////////////////////////////////
 package ru.d_shap.csv.state;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Test;
 
 import ru.d_shap.assertions.Assertions;
+import ru.d_shap.csv.CsvColumnPredicates;
+import ru.d_shap.csv.CsvException;
 import ru.d_shap.csv.CsvParseException;
 import ru.d_shap.csv.CsvParserConfiguration;
 import ru.d_shap.csv.CsvTest;
@@ -29,6 +36,10 @@ import ru.d_shap.csv.WrongColumnCountException;
 import ru.d_shap.csv.WrongColumnLengthException;
 import ru.d_shap.csv.WrongColumnSeparatorException;
 import ru.d_shap.csv.WrongRowSeparatorException;
+import ru.d_shap.csv.handler.CsvChunkEventHandler;
+import ru.d_shap.csv.handler.CsvEventHandler;
+import ru.d_shap.csv.handler.CsvSliceEventHandler;
+import ru.d_shap.csv.handler.CsvStructuralEventHandler;
 import ru.d_shap.csv.handler.ListEventHandler;
 
 /**
@@ -172,85 +183,70 @@ public final class StateHandlerTest extends CsvTest {
         ListEventHandler listEventHandler = new ListEventHandler();
         CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
         StateHandler stateHandler = new StateHandler(listEventHandler, csvParserConfiguration);
+        Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isEqualTo("");
 
-        stateHandler.pushLastProcessedCharacter('a');
-        Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isNotNull();
+        char[] buffer1 = "xabcdefghij".toCharArray();
+        stateHandler.startBlock(buffer1, 1);
         Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isEqualTo("a");
-
-        stateHandler.pushLastProcessedCharacter('b');
-        stateHandler.pushLastProcessedCharacter('c');
-        stateHandler.pushLastProcessedCharacter('d');
-        stateHandler.pushLastProcessedCharacter('e');
-        stateHandler.pushLastProcessedCharacter('f');
-        stateHandler.pushLastProcessedCharacter('g');
-        stateHandler.pushLastProcessedCharacter('h');
-        stateHandler.pushLastProcessedCharacter('i');
-        Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isNotNull();
+        stateHandler.setCurrentIndex(9);
         Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isEqualTo("abcdefghi");
-
-        stateHandler.pushLastProcessedCharacter('j');
-        Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isNotNull();
+        stateHandler.setCurrentIndex(10);
+        Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isEqualTo("abcdefghij");
+        stateHandler.endBlock(11);
         Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isEqualTo("abcdefghij");
 
-        stateHandler.pushLastProcessedCharacter('1');
-        Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isNotNull();
+        char[] buffer2 = "1234567890".toCharArray();
+        stateHandler.startBlock(buffer2, 0);
         Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isEqualTo("abcdefghij1");
-
-        stateHandler.pushLastProcessedCharacter('2');
-        stateHandler.pushLastProcessedCharacter('3');
-        stateHandler.pushLastProcessedCharacter('4');
-        stateHandler.pushLastProcessedCharacter('5');
-        stateHandler.pushLastProcessedCharacter('6');
-        stateHandler.pushLastProcessedCharacter('7');
-        stateHandler.pushLastProcessedCharacter('8');
-        stateHandler.pushLastProcessedCharacter('9');
-        Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isNotNull();
-        Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isEqualTo("abcdefghij123456789");
-
-        stateHandler.pushLastProcessedCharacter('0');
-        Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isNotNull();
+        stateHandler.setCurrentIndex(9);
         Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isEqualTo("abcdefghij1234567890");
+        stateHandler.endBlock(10);
 
-        stateHandler.pushLastProcessedCharacter('a');
-        Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isNotNull();
-        Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isEqualTo("abcdefghij1234567890a");
-
-        stateHandler.pushLastProcessedCharacter('b');
-        stateHandler.pushLastProcessedCharacter('c');
-        stateHandler.pushLastProcessedCharacter('d');
-        stateHandler.pushLastProcessedCharacter('e');
-        Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isNotNull();
+        char[] buffer3 = "abcdef".toCharArray();
+        stateHandler.startBlock(buffer3, 0);
+        stateHandler.setCurrentIndex(4);
         Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isEqualTo("abcdefghij1234567890abcde");
-
-        stateHandler.pushLastProcessedCharacter('f');
-        Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isNotNull();
+        stateHandler.setCurrentIndex(5);
+        Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isEqualTo("bcdefghij1234567890abcdef");
+        stateHandler.endBlock(6);
         Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isEqualTo("bcdefghij1234567890abcdef");
+
+        char[] buffer4 = "0123456789012345678901234567".toCharArray();
+        stateHandler.startBlock(buffer4, 0);
+        stateHandler.setCurrentIndex(1);
+        Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isEqualTo("defghij1234567890abcdef01");
+        stateHandler.endBlock(28);
+        Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isEqualTo("3456789012345678901234567");
     }
 
     /**
      * {@link StateHandler} class test.
      */
     @Test
-    public void getLastProcessedEndOfInputCharactersTest() {
+    public void getPositionTest() {
         ListEventHandler listEventHandler = new ListEventHandler();
         CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
         StateHandler stateHandler = new StateHandler(listEventHandler, csvParserConfiguration);
-
-        stateHandler.pushLastProcessedCharacter('a');
-        Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isNotNull();
-        Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isEqualTo("a");
-
-        stateHandler.pushLastProcessedCharacter(SpecialCharacter.END_OF_INPUT);
-        Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isNotNull();
-        Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isEqualTo("a");
-
-        stateHandler.pushLastProcessedCharacter('b');
-        Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isNotNull();
-        Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isEqualTo("ab");
-
-        stateHandler.pushLastProcessedCharacter(SpecialCharacter.END_OF_INPUT);
-        Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isNotNull();
-        Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isEqualTo("ab");
+        Assertions.assertThat(stateHandler.getPosition()).isEqualTo(0L);
+
+        char[] buffer = "xabcdefghij".toCharArray();
+        stateHandler.startBlock(buffer, 1);
+        Assertions.assertThat(stateHandler.getPosition()).isEqualTo(0L);
+        stateHandler.setCurrentIndex(5);
+        Assertions.assertThat(stateHandler.getPosition()).isEqualTo(4L);
+        stateHandler.endBlock(11);
+        Assertions.assertThat(stateHandler.getPosition()).isEqualTo(10L);
+
+        stateHandler.startBlock(buffer, 0);
+        stateHandler.setCurrentIndex(3);
+        Assertions.assertThat(stateHandler.getPosition()).isEqualTo(13L);
+        stateHandler.endBlock(4);
+        Assertions.assertThat(stateHandler.getPosition()).isEqualTo(14L);
+
+        stateHandler.setStartPosition(100L);
+        stateHandler.startBlock(buffer, 0);
+        stateHandler.setCurrentIndex(3);
+        Assertions.assertThat(stateHandler.getPosition()).isEqualTo(103L);
     }
 
     /**
@@ -261,18 +257,96 @@ public final class StateHandlerTest extends CsvTest {
         ListEventHandler listEventHandler = new ListEventHandler();
         CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
         StateHandler stateHandler = new StateHandler(listEventHandler, csvParserConfiguration);
-        stateHandler.pushLastProcessedCharacter('a');
-        stateHandler.pushLastProcessedCharacter('b');
-        stateHandler.pushLastProcessedCharacter('c');
+        stateHandler.startBlock("abc".toCharArray(), 0);
+        stateHandler.setCurrentIndex(2);
 
         CsvParseException csvParseException1 = stateHandler.createCsvParseException('x');
         Assertions.assertThat(csvParseException1).hasMessage("Wrong character obtained: 'x' (120). Last characters: \"abc\".");
+        Assertions.assertThat(csvParseException1.getPosition()).isEqualTo(2L);
+        Assertions.assertThat(csvParseException1.getRowIndex()).isEqualTo(0L);
+        Assertions.assertThat(csvParseException1.getColumnIndex()).isEqualTo(0);
 
+        stateHandler.pushColumn();
+        stateHandler.pushRow();
+        stateHandler.pushColumn();
         CsvParseException csvParseException2 = stateHandler.createCsvParseException('y');
         Assertions.assertThat(csvParseException2).hasMessage("Wrong character obtained: 'y' (121). Last characters: \"abc\".");
+        Assertions.assertThat(csvParseException2.getPosition()).isEqualTo(2L);
+        Assertions.assertThat(csvParseException2.getRowIndex()).isEqualTo(1L);
+        Assertions.assertThat(csvParseException2.getColumnIndex()).isEqualTo(1);
 
+        stateHandler.endBlock(3);
         CsvParseException csvParseException3 = stateHandler.createCsvParseException(SpecialCharacter.END_OF_INPUT);
         Assertions.assertThat(csvParseException3).hasMessage("End of input obtained. Last characters: \"abc\".");
+        Assertions.assertThat(csvParseException3.getPosition()).isEqualTo(3L);
+        Assertions.assertThat(csvParseException3.getRowIndex()).isEqualTo(1L);
+        Assertions.assertThat(csvParseException3.getColumnIndex()).isEqualTo(1);
+
+        stateHandler.setStartPosition(10L);
+        CsvParseException csvParseException4 = stateHandler.createCsvParseException(SpecialCharacter.END_OF_INPUT);
+        Assertions.assertThat(csvParseException4.getPosition()).isEqualTo(10L);
+        Assertions.assertThat(csvParseException4.getRowIndex()).isEqualTo(-1L);
+        stateHandler.pushRow();
+        CsvParseException csvParseException5 = stateHandler.createCsvParseException(SpecialCharacter.END_OF_INPUT);
+        Assertions.assertThat(csvParseException5.getRowIndex()).isEqualTo(-1L);
+    }
+
+    /**
+     * {@link StateHandler} class test.
+     */
+    @Test
+    public void createExceptionTest() {
+        ListEventHandler listEventHandler = new ListEventHandler();
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+        csvParserConfiguration.setMaxColumnLength(1);
+        csvParserConfiguration.setMaxColumnLengthCheckEnabled(true);
+        csvParserConfiguration.setColumnCountCheckEnabled(true);
+        StateHandler stateHandler = new StateHandler(listEventHandler, csvParserConfiguration);
+        stateHandler.pushColumn();
+        stateHandler.pushRow();
+        stateHandler.startBlock("abc".toCharArray(), 0);
+        stateHandler.clearCurrentIndex();
+
+        try {
+            stateHandler.createCsvParseException('x');
+            Assertions.fail("StateHandler test fail");
+        } catch (UnknownIndexException ex) {
+            CsvException csvException = stateHandler.createException(ex, 1);
+            Assertions.assertThat(csvException).isInstanceOf(CsvParseException.class);
+            Assertions.assertThat(csvException).hasMessage("Wrong character obtained: 'x' (120). Last characters: \"ab\".");
+            Assertions.assertThat(csvException.getPosition()).isEqualTo(1L);
+        }
+
+        stateHandler.clearCurrentIndex();
+        stateHandler.pushCharacter('a');
+        try {
+            stateHandler.pushCharacter('b');
+            Assertions.fail("StateHandler test fail");
+        } catch (UnknownIndexException ex) {
+            CsvException csvException = stateHandler.createException(ex, 2);
+            Assertions.assertThat(csvException).isInstanceOf(WrongColumnLengthException.class);
+            Assertions.assertThat(csvException).hasMessage("Maximum column value length exceeded. Last characters: \"abc\".");
+            Assertions.assertThat(csvException.getPosition()).isEqualTo(2L);
+        }
+
+        stateHandler.clearCurrentIndex();
+        stateHandler.pushColumn();
+        try {
+            stateHandler.pushColumn();
+            Assertions.fail("StateHandler test fail");
+        } catch (UnknownIndexException ex) {
+            CsvException csvException = stateHandler.createException(ex, 0);
+            Assertions.assertThat(csvException).isInstanceOf(WrongColumnCountException.class);
+            Assertions.assertThat(csvException).hasMessage("CSV has rows with different column count. Last characters: \"a\".");
+            Assertions.assertThat(csvException.getPosition()).isEqualTo(0L);
+            Assertions.assertThat(csvException.getRowIndex()).isEqualTo(1L);
+            Assertions.assertThat(csvException.getColumnIndex()).isEqualTo(1);
+        }
+
+        stateHandler.endBlock(3);
+        stateHandler.clearCurrentIndex();
+        CsvParseException csvParseException = stateHandler.createCsvParseException(SpecialCharacter.END_OF_INPUT);
+        Assertions.assertThat(csvParseException.getPosition()).isEqualTo(3L);
     }
 
     /**
@@ -335,6 +409,292 @@ public final class StateHandlerTest extends CsvTest {
         Assertions.assertThat(listEventHandler.getCsv().get(1)).containsExactlyInOrder("b", "c");
     }
 
+    /**
+     * {@link StateHandler} class test.
+     */
+    @Test
+    public void pushColumnWithSliceEventHandlerTest() {
+        SliceEventHandler sliceEventHandler1 = new SliceEventHandler();
+        CsvParserConfiguration csvParserConfiguration1 = createCsvParserConfiguration();
+        StateHandler stateHandler1 = new StateHandler(sliceEventHandler1, csvParserConfiguration1);
+        stateHandler1.pushCharacter('a');
+        stateHandler1.pushColumn();
+        stateHandler1.pushColumn();
+        stateHandler1.pushUnquotedCharacters("bcd".toCharArray(), 0, 3);
+        stateHandler1.pushColumn();
+        stateHandler1.pushRow();
+        Assertions.assertThat(sliceEventHandler1.getColumns()).containsExactlyInOrder("a", "", "bcd");
+        Assertions.assertThat(sliceEventHandler1.getActualLengths()).containsExactlyInOrder(1, 0, 3);
+        Assertions.assertThat(sliceEventHandler1.getRowCount()).isEqualTo(1);
+
+        SliceEventHandler sliceEventHandler2 = new SliceEventHandler();
+        CsvParserConfiguration csvParserConfiguration2 = createCsvParserConfiguration();
+        csvParserConfiguration2.setMaxColumnLength(2);
+        csvParserConfiguration2.setMaxColumnLengthCheckEnabled(false);
+        StateHandler stateHandler2 = new StateHandler(sliceEventHandler2, csvParserConfiguration2);
+        stateHandler2.pushUnquotedCharacters("bcd".toCharArray(), 0, 3);
+        stateHandler2.pushColumn();
+        stateHandler2.pushCharacter('e');
+        stateHandler2.pushColumn();
+        stateHandler2.pushRow();
+        Assertions.assertThat(sliceEventHandler2.getColumns()).containsExactlyInOrder("bc", "e");
+        Assertions.assertThat(sliceEventHandler2.getActualLengths()).containsExactlyInOrder(3, 1);
+        Assertions.assertThat(sliceEventHandler2.getRowCount()).isEqualTo(1);
+    }
+
+    /**
+     * {@link StateHandler} class test.
+     */
+    @Test
+    public void pushColumnWithByteCharsetTest() {
+        char[] buffer = toByteCharacters("aЖ\u20ac");
+
+        ListEventHandler listEventHandler1 = new ListEventHandler();
+        CsvParserConfiguration csvParserConfiguration1 = createCsvParserConfiguration();
+        StateHandler stateHandler1 = new StateHandler(listEventHandler1, csvParserConfiguration1, StandardCharsets.UTF_8);
+        stateHandler1.pushUnquotedCharacters(buffer, 0, 1);
+        stateHandler1.pushColumn();
+        stateHandler1.pushUnquotedCharacters(buffer, 0, buffer.length);
+        stateHandler1.pushColumn();
+        stateHandler1.pushRow();
+        Assertions.assertThat(listEventHandler1.getCsv().get(0)).containsExactlyInOrder("a", "aЖ\u20ac");
+
+        SliceEventHandler sliceEventHandler2 = new SliceEventHandler();
+        CsvParserConfiguration csvParserConfiguration2 = createCsvParserConfiguration();
+        StateHandler stateHandler2 = new StateHandler(sliceEventHandler2, csvParserConfiguration2, StandardCharsets.UTF_8);
+        stateHandler2.pushUnquotedCharacters(buffer, 0, 1);
+        stateHandler2.pushColumn();
+        stateHandler2.pushUnquotedCharacters(buffer, 0, buffer.length);
+        stateHandler2.pushColumn();
+        stateHandler2.pushRow();
+        Assertions.assertThat(sliceEventHandler2.getColumns()).containsExactlyInOrder("a", "aЖ\u20ac");
+        Assertions.assertThat(sliceEventHandler2.getActualLengths()).containsExactlyInOrder(1, 3);
+
+        SliceEventHandler sliceEventHandler3 = new SliceEventHandler();
+        CsvParserConfiguration csvParserConfiguration3 = createCsvParserConfiguration();
+        StateHandler stateHandler3 = new StateHandler(sliceEventHandler3, csvParserConfiguration3, null);
+        stateHandler3.pushUnquotedCharacters(buffer, 0, buffer.length);
+        stateHandler3.pushColumn();
+        stateHandler3.pushRow();
+        Assertions.assertThat(sliceEventHandler3.getColumns()).containsExactlyInOrder(new String(buffer));
+    }
+
+    /**
+     * {@link StateHandler} class test.
+     */
+    @Test
+    public void getLastProcessedCharactersWithByteCharsetTest() {
+        ListEventHandler listEventHandler = new ListEventHandler();
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+        StateHandler stateHandler = new StateHandler(listEventHandler, csvParserConfiguration, StandardCharsets.UTF_8);
+        char[] buffer = toByteCharacters("aЖ");
+        stateHandler.startBlock(buffer, 0);
+        stateHandler.setCurrentIndex(buffer.length - 1);
+        Assertions.assertThat(stateHandler.getLastProcessedCharacters()).isEqualTo("aЖ");
+    }
+
+    private static char[] toByteCharacters(final String str) {
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        char[] chars = new char[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i] = (char) (bytes[i] & 0xFF);
+        }
+        return chars;
+    }
+
+    /**
+     * {@link StateHandler} class test.
+     */
+    @Test
+    public void pauseAfterRowTest() {
+        ListEventHandler listEventHandler1 = new ListEventHandler();
+        CsvParserConfiguration csvParserConfiguration1 = createCsvParserConfiguration();
+        StateHandler stateHandler1 = new StateHandler(listEventHandler1, csvParserConfiguration1);
+        Assertions.assertThat(stateHandler1.isPaused()).isFalse();
+        stateHandler1.pushColumn();
+        stateHandler1.pushRow();
+        Assertions.assertThat(stateHandler1.isPaused()).isFalse();
+
+        ListEventHandler listEventHandler2 = new ListEventHandler();
+        CsvParserConfiguration csvParserConfiguration2 = createCsvParserConfiguration();
+        csvParserConfiguration2.setSkipEmptyRowsEnabled(true);
+        StateHandler stateHandler2 = new StateHandler(listEventHandler2, csvParserConfiguration2);
+        stateHandler2.setPauseAfterRow(true);
+        Assertions.assertThat(stateHandler2.isPaused()).isFalse();
+        stateHandler2.pushColumn();
+        Assertions.assertThat(stateHandler2.isPaused()).isFalse();
+        stateHandler2.pushRow();
+        Assertions.assertThat(stateHandler2.isPaused()).isTrue();
+        stateHandler2.startBlock(new char[0], 0);
+        Assertions.assertThat(stateHandler2.isPaused()).isFalse();
+        stateHandler2.pushRow();
+        Assertions.assertThat(stateHandler2.isPaused()).isFalse();
+    }
+
+    /**
+     * {@link StateHandler} class test.
+     */
+    @Test
+    public void projectionTest() {
+        ListEventHandler listEventHandler = new ListEventHandler();
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+        csvParserConfiguration.setMaxColumnLength(1);
+        csvParserConfiguration.setMaxColumnLengthCheckEnabled(true);
+        csvParserConfiguration.setProjection(1);
+        StateHandler stateHandler = new StateHandler(listEventHandler, csvParserConfiguration);
+        char[] buffer = "abc".toCharArray();
+        stateHandler.pushCharacter('a');
+        stateHandler.pushCharacter('b');
+        stateHandler.pushColumn();
+        stateHandler.pushCharacter('c');
+        stateHandler.pushColumn();
+        Assertions.assertThat(stateHandler.pushUnquotedCharacters(buffer, 0, 3)).isEqualTo(3);
+        Assertions.assertThat(stateHandler.pushQuotedCharacters(buffer, 0, 3)).isEqualTo(3);
+        stateHandler.pushColumn();
+        stateHandler.pushRow();
+        stateHandler.pushColumn();
+        stateHandler.pushCharacter('d');
+        stateHandler.pushColumn();
+        stateHandler.pushRow();
+        Assertions.assertThat(listEventHandler.getCsv()).hasSize(2);
+        Assertions.assertThat(listEventHandler.getCsv().get(0)).containsExactlyInOrder("c");
+        Assertions.assertThat(listEventHandler.getCsv().get(1)).containsExactlyInOrder("d");
+        Assertions.assertThat(stateHandler.getFirstRowColumnCount()).isEqualTo(3);
+    }
+
+    /**
+     * {@link StateHandler} class test.
+     */
+    @Test
+    public void columnPredicatesTest() {
+        SliceEventHandler sliceEventHandler = new SliceEventHandler();
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+        csvParserConfiguration.addColumnPredicate(1, CsvColumnPredicates.equalTo("b"));
+        StateHandler stateHandler = new StateHandler(sliceEventHandler, csvParserConfiguration);
+        stateHandler.setPauseAfterRow(true);
+        stateHandler.startBlock(new char[0], 0);
+        char[] buffer = "abc".toCharArray();
+        stateHandler.pushUnquotedCharacters(buffer, 0, 1);
+        stateHandler.pushColumn();
+        stateHandler.pushUnquotedCharacters(buffer, 2, 3);
+        stateHandler.pushColumn();
+        stateHandler.pushCharacter('a');
+        stateHandler.pushColumn();
+        stateHandler.pushRow();
+        Assertions.assertThat(stateHandler.isPaused()).isFalse();
+        Assertions.assertThat(sliceEventHandler.getColumns()).containsExactlyInOrder();
+        stateHandler.pushUnquotedCharacters(buffer, 0, 1);
+        stateHandler.pushColumn();
+        stateHandler.pushRow();
+        Assertions.assertThat(stateHandler.isPaused()).isFalse();
+        Assertions.assertThat(sliceEventHandler.getColumns()).containsExactlyInOrder();
+        stateHandler.pushQuotedCharacters(buffer, 2, 3);
+        stateHandler.pushColumn();
+        stateHandler.pushQuotedCharacters(buffer, 1, 2);
+        stateHandler.pushColumn();
+        stateHandler.pushCharacter('a');
+        stateHandler.pushColumn();
+        stateHandler.pushRow();
+        Assertions.assertThat(stateHandler.isPaused()).isTrue();
+        Assertions.assertThat(sliceEventHandler.getColumns()).containsExactlyInOrder("c", "b", "a");
+        Assertions.assertThat(sliceEventHandler.getActualLengths()).containsExactlyInOrder(1, 1, 1);
+        Assertions.assertThat(stateHandler.getFirstRowColumnCount()).isEqualTo(3);
+    }
+
+    /**
+     * {@link StateHandler} class test.
+     */
+    @Test
+    public void columnPredicatesWithByteCharsetTest() {
+        char[] buffer = toByteCharacters("Жa");
+
+        ListEventHandler listEventHandler = new ListEventHandler();
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+        csvParserConfiguration.addColumnPredicate(1, CsvColumnPredicates.equalTo("a", "Жa"));
+        StateHandler stateHandler = new StateHandler(listEventHandler, csvParserConfiguration, StandardCharsets.UTF_8);
+        stateHandler.pushUnquotedCharacters(buffer, 0, buffer.length);
+        stateHandler.pushColumn();
+        stateHandler.pushUnquotedCharacters(buffer, 0, buffer.length);
+        stateHandler.pushColumn();
+        stateHandler.pushRow();
+        stateHandler.pushUnquotedCharacters(buffer, 0, buffer.length);
+        stateHandler.pushColumn();
+        stateHandler.pushUnquotedCharacters(buffer, 2, 3);
+        stateHandler.pushColumn();
+        stateHandler.pushRow();
+        stateHandler.pushUnquotedCharacters(buffer, 0, buffer.length);
+        stateHandler.pushColumn();
+        stateHandler.pushUnquotedCharacters(buffer, 0, 2);
+        stateHandler.pushColumn();
+        stateHandler.pushRow();
+        Assertions.assertThat(listEventHandler.getCsv()).hasSize(2);
+        Assertions.assertThat(listEventHandler.getCsv().get(0)).containsExactlyInOrder("Жa", "Жa");
+        Assertions.assertThat(listEventHandler.getCsv().get(1)).containsExactlyInOrder("Жa", "a");
+    }
+
+    /**
+     * {@link StateHandler} class test.
+     */
+    @Test
+    public void getFirstRowColumnCountTest() {
+        ListEventHandler listEventHandler = new ListEventHandler();
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+        StateHandler stateHandler = new StateHandler(listEventHandler, csvParserConfiguration);
+        Assertions.assertThat(stateHandler.getFirstRowColumnCount()).isEqualTo(-1);
+        stateHandler.pushColumn();
+        stateHandler.pushColumn();
+        Assertions.assertThat(stateHandler.getFirstRowColumnCount()).isEqualTo(-1);
+        stateHandler.pushRow();
+        Assertions.assertThat(stateHandler.getFirstRowColumnCount()).isEqualTo(2);
+        stateHandler.pushColumn();
+        stateHandler.pushRow();
+        Assertions.assertThat(stateHandler.getFirstRowColumnCount()).isEqualTo(2);
+    }
+
+    /**
+     * {@link StateHandler} class test.
+     */
+    @Test
+    public void getRowCountTest() {
+        ListEventHandler listEventHandler = new ListEventHandler();
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+        csvParserConfiguration.setSkipEmptyRowsEnabled(true);
+        StateHandler stateHandler = new StateHandler(listEventHandler, csvParserConfiguration);
+        stateHandler.setStartPosition(10L);
+        Assertions.assertThat(stateHandler.getRowCount()).isEqualTo(0L);
+        stateHandler.pushColumn();
+        stateHandler.pushRow();
+        Assertions.assertThat(stateHandler.getRowCount()).isEqualTo(1L);
+        stateHandler.pushRow();
+        Assertions.assertThat(stateHandler.getRowCount()).isEqualTo(2L);
+        Assertions.assertThat(listEventHandler.getCsv()).hasSize(1);
+    }
+
+    /**
+     * {@link StateHandler} class test.
+     */
+    @Test
+    public void setStartRowTest() {
+        ListEventHandler listEventHandler = new ListEventHandler();
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+        csvParserConfiguration.setColumnCountCheckEnabled(true);
+        StateHandler stateHandler = new StateHandler(listEventHandler, csvParserConfiguration);
+        stateHandler.setStartPosition(4L);
+        stateHandler.setStartRow(1L, 2, ByteBuffer.wrap("a,b\n".getBytes(StandardCharsets.US_ASCII)));
+        Assertions.assertThat(stateHandler.getFirstRowColumnCount()).isEqualTo(2);
+        stateHandler.startBlock("c".toCharArray(), 0);
+        stateHandler.setCurrentIndex(0);
+        try {
+            stateHandler.pushRow();
+            Assertions.fail("StateHandler test fail");
+        } catch (WrongColumnCountException ex) {
+            Assertions.assertThat(ex).hasMessage("CSV has rows with different column count. Last characters: \"a,b\\nc\".");
+            Assertions.assertThat(ex.getPosition()).isEqualTo(4L);
+            Assertions.assertThat(ex.getRowIndex()).isEqualTo(1L);
+            Assertions.assertThat(ex.getColumnIndex()).isEqualTo(0);
+        }
+    }
+
     /**
      * {@link StateHandler} class test.
      */
@@ -823,7 +1183,7 @@ public final class StateHandlerTest extends CsvTest {
             csvParserConfiguration.setMaxColumnLength(0);
             csvParserConfiguration.setMaxColumnLengthCheckEnabled(true);
             StateHandler stateHandler = new StateHandler(listEventHandler, csvParserConfiguration);
-            stateHandler.pushLastProcessedCharacter('a');
+            stateHandler.startBlock("a".toCharArray(), 0);
             stateHandler.pushCharacter('a');
             Assertions.fail("StateHandler test fail");
         } catch (WrongColumnLengthException ex) {
@@ -873,13 +1233,13 @@ public final class StateHandlerTest extends CsvTest {
             csvParserConfiguration.setMaxColumnLength(3);
             csvParserConfiguration.setMaxColumnLengthCheckEnabled(true);
             StateHandler stateHandler = new StateHandler(listEventHandler, csvParserConfiguration);
-            stateHandler.pushLastProcessedCharacter('a');
+            stateHandler.startBlock("abcd".toCharArray(), 0);
             stateHandler.pushCharacter('a');
-            stateHandler.pushLastProcessedCharacter('b');
+            stateHandler.setCurrentIndex(1);
             stateHandler.pushCharacter('b');
-            stateHandler.pushLastProcessedCharacter('c');
+            stateHandler.setCurrentIndex(2);
             stateHandler.pushCharacter('c');
-            stateHandler.pushLastProcessedCharacter('d');
+            stateHandler.setCurrentIndex(3);
             stateHandler.pushCharacter('d');
             Assertions.fail("StateHandler test fail");
         } catch (WrongColumnLengthException ex) {
@@ -887,4 +1247,482 @@ public final class StateHandlerTest extends CsvTest {
         }
     }
 
+    /**
+     * {@link StateHandler} class test.
+     */
+    @Test
+    public void pushQuotedCharactersTest() {
+        ListEventHandler listEventHandler = new ListEventHandler();
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+        StateHandler stateHandler = new StateHandler(listEventHandler, csvParserConfiguration);
+        char[] buffer = "ab,;\r\nc\"d".toCharArray();
+
+        Assertions.assertThat(stateHandler.pushQuotedCharacters(buffer, 0, 9)).isEqualTo(7);
+        Assertions.assertThat(stateHandler.pushQuotedCharacters(buffer, 7, 9)).isEqualTo(7);
+        Assertions.assertThat(stateHandler.pushQuotedCharacters(buffer, 8, 9)).isEqualTo(9);
+        stateHandler.pushColumn();
+        stateHandler.pushRow();
+        Assertions.assertThat(listEventHandler.getCsv()).hasSize(1);
+        Assertions.assertThat(listEventHandler.getCsv().get(0)).containsExactlyInOrder("ab,;\r\ncd");
+    }
+
+    /**
+     * {@link StateHandler} class test.
+     */
+    @Test
+    public void pushUnquotedCharactersTest() {
+        char[] buffer = "ab,c;d\re\nf\"g".toCharArray();
+
+        ListEventHandler listEventHandler1 = new ListEventHandler();
+        CsvParserConfiguration csvParserConfiguration1 = createCsvParserConfiguration();
+        StateHandler stateHandler1 = new StateHandler(listEventHandler1, csvParserConfiguration1);
+        Assertions.assertThat(stateHandler1.pushUnquotedCharacters(buffer, 0, 12)).isEqualTo(2);
+        Assertions.assertThat(stateHandler1.pushUnquotedCharacters(buffer, 3, 12)).isEqualTo(4);
+        Assertions.assertThat(stateHandler1.pushUnquotedCharacters(buffer, 5, 12)).isEqualTo(6);
+        Assertions.assertThat(stateHandler1.pushUnquotedCharacters(buffer, 7, 12)).isEqualTo(8);
+        Assertions.assertThat(stateHandler1.pushUnquotedCharacters(buffer, 9, 12)).isEqualTo(10);
+        Assertions.assertThat(stateHandler1.pushUnquotedCharacters(buffer, 11, 12)).isEqualTo(12);
+        stateHandler1.pushColumn();
+        Assertions.assertThat(listEventHandler1.getCsv()).isEmpty();
+        stateHandler1.pushRow();
+        Assertions.assertThat(listEventHandler1.getCsv().get(0)).containsExactlyInOrder("abcdefg");
+
+        ListEventHandler listEventHandler2 = new ListEventHandler();
+        CsvParserConfiguration csvParserConfiguration2 = createCsvParserConfiguration();
+        csvParserConfiguration2.setCommaSeparator(false);
+        csvParserConfiguration2.setCrSeparator(false);
+        csvParserConfiguration2.setCrLfSeparator(false);
+        StateHandler stateHandler2 = new StateHandler(listEventHandler2, csvParserConfiguration2);
+        Assertions.assertThat(stateHandler2.pushUnquotedCharacters(buffer, 0, 12)).isEqualTo(4);
+        Assertions.assertThat(stateHandler2.pushUnquotedCharacters(buffer, 5, 12)).isEqualTo(8);
+        Assertions.assertThat(stateHandler2.pushUnquotedCharacters(buffer, 9, 12)).isEqualTo(10);
+        stateHandler2.pushColumn();
+        stateHandler2.pushRow();
+        Assertions.assertThat(listEventHandler2.getCsv().get(0)).containsExactlyInOrder("ab,cd\ref");
+
+        ListEventHandler listEventHandler3 = new ListEventHandler();
+        CsvParserConfiguration csvParserConfiguration3 = createCsvParserConfiguration();
+        csvParserConfiguration3.setSemicolonSeparator(false);
+        csvParserConfiguration3.setCrSeparator(false);
+        csvParserConfiguration3.setLfSeparator(false);
+        StateHandler stateHandler3 = new StateHandler(listEventHandler3, csvParserConfiguration3);
+        Assertions.assertThat(stateHandler3.pushUnquotedCharacters("a;bЖc\nd\re".toCharArray(), 0, 9)).isEqualTo(7);
+        stateHandler3.pushColumn();
+        stateHandler3.pushRow();
+        Assertions.assertThat(listEventHandler3.getCsv().get(0)).containsExactlyInOrder("a;bЖc\nd");
+    }
+
+    /**
+     * {@link StateHandler} class test.
+     */
+    @Test
+    public void pushCharactersWithColumnLengthCheckTest() {
+        char[] buffer = "abcdefgh".toCharArray();
+
+        ListEventHandler listEventHandler1 = new ListEventHandler();
+        CsvParserConfiguration csvParserConfiguration1 = createCsvParserConfiguration();
+        csvParserConfiguration1.setMaxColumnLength(3);
+        csvParserConfiguration1.setMaxColumnLengthCheckEnabled(true);
+        StateHandler stateHandler1 = new StateHandler(listEventHandler1, csvParserConfiguration1);
+        Assertions.assertThat(stateHandler1.pushUnquotedCharacters(buffer, 0, 3)).isEqualTo(3);
+        stateHandler1.pushColumn();
+        stateHandler1.pushRow();
+        Assertions.assertThat(listEventHandler1.getCsv().get(0)).containsExactlyInOrder("abc");
+
+        try {
+            ListEventHandler listEventHandler2 = new ListEventHandler();
+            CsvParserConfiguration csvParserConfiguration2 = createCsvParserConfiguration();
+            csvParserConfiguration2.setMaxColumnLength(3);
+            csvParserConfiguration2.setMaxColumnLengthCheckEnabled(true);
+            StateHandler stateHandler2 = new StateHandler(listEventHandler2, csvParserConfiguration2);
+            stateHandler2.startBlock("x".toCharArray(), 0);
+            stateHandler2.pushCharacter('x');
+            stateHandler2.endBlock(1);
+            stateHandler2.startBlock(buffer, 0);
+            stateHandler2.pushQuotedCharacters(buffer, 0, 8);
+            Assertions.fail("StateHandler test fail");
+        } catch (WrongColumnLengthException ex) {
+            Assertions.assertThat(ex).hasMessage("Maximum column value length exceeded. Last characters: \"xabc\".");
+        }
+
+        ListEventHandler listEventHandler3 = new ListEventHandler();
+        CsvParserConfiguration csvParserConfiguration3 = createCsvParserConfiguration();
+        csvParserConfiguration3.setMaxColumnLength(3);
+        csvParserConfiguration3.setMaxColumnLengthCheckEnabled(false);
+        StateHandler stateHandler3 = new StateHandler(listEventHandler3, csvParserConfiguration3);
+        Assertions.assertThat(stateHandler3.pushQuotedCharacters(buffer, 0, 8)).isEqualTo(8);
+        stateHandler3.pushColumn();
+        stateHandler3.pushRow();
+        Assertions.assertThat(listEventHandler3.getCsv().get(0)).containsExactlyInOrder("abc");
+    }
+
+    /**
+     * {@link StateHandler} class test.
+     */
+    @Test
+    public void pushQuotedBytesTest() {
+        ListEventHandler listEventHandler = new ListEventHandler();
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+        StateHandler stateHandler = new StateHandler(listEventHandler, csvParserConfiguration);
+        ByteBuffer buffer = ByteBuffer.wrap("ab,;\r\nc\"d".getBytes(StandardCharsets.ISO_8859_1));
+
+        Assertions.assertThat(stateHandler.pushQuotedBytes(buffer, 0, 9)).isEqualTo(7);
+        Assertions.assertThat(stateHandler.pushQuotedBytes(buffer, 7, 9)).isEqualTo(7);
+        Assertions.assertThat(stateHandler.pushQuotedBytes(buffer, 8, 9)).isEqualTo(9);
+        stateHandler.pushColumn();
+        stateHandler.pushRow();
+        Assertions.assertThat(listEventHandler.getCsv()).hasSize(1);
+        Assertions.assertThat(listEventHandler.getCsv().get(0)).containsExactlyInOrder("ab,;\r\ncd");
+    }
+
+    /**
+     * {@link StateHandler} class test.
+     */
+    @Test
+    public void pushUnquotedBytesTest() {
+        ByteBuffer buffer = ByteBuffer.wrap("ab,c;d\re\nf\"g".getBytes(StandardCharsets.ISO_8859_1));
+
+        ListEventHandler listEventHandler1 = new ListEventHandler();
+        CsvParserConfiguration csvParserConfiguration1 = createCsvParserConfiguration();
+        StateHandler stateHandler1 = new StateHandler(listEventHandler1, csvParserConfiguration1);
+        Assertions.assertThat(stateHandler1.pushUnquotedBytes(buffer, 0, 12)).isEqualTo(2);
+        Assertions.assertThat(stateHandler1.pushUnquotedBytes(buffer, 3, 12)).isEqualTo(4);
+        Assertions.assertThat(stateHandler1.pushUnquotedBytes(buffer, 5, 12)).isEqualTo(6);
+        Assertions.assertThat(stateHandler1.pushUnquotedBytes(buffer, 7, 12)).isEqualTo(8);
+        Assertions.assertThat(stateHandler1.pushUnquotedBytes(buffer, 9, 12)).isEqualTo(10);
+        Assertions.assertThat(stateHandler1.pushUnquotedBytes(buffer, 11, 12)).isEqualTo(12);
+        stateHandler1.pushColumn();
+        stateHandler1.pushRow();
+        Assertions.assertThat(listEventHandler1.getCsv().get(0)).containsExactlyInOrder("abcdefg");
+
+        ListEventHandler listEventHandler2 = new ListEventHandler();
+        CsvParserConfiguration csvParserConfiguration2 = createCsvParserConfiguration();
+        StateHandler stateHandler2 = new StateHandler(listEventHandler2, csvParserConfiguration2, StandardCharsets.UTF_8);
+        ByteBuffer utf8Buffer = ByteBuffer.wrap("a\u00e9\u20acb,c".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertThat(stateHandler2.pushUnquotedBytes(utf8Buffer, 0, 9)).isEqualTo(7);
+        stateHandler2.pushColumn();
+        stateHandler2.pushRow();
+        Assertions.assertThat(listEventHandler2.getCsv().get(0)).containsExactlyInOrder("a\u00e9\u20acb");
+    }
+
+    /**
+     * {@link StateHandler} class test.
+     */
+    @Test
+    public void pushBytesWithColumnLengthCheckTest() {
+        ByteBuffer buffer = ByteBuffer.wrap("abcdefgh".getBytes(StandardCharsets.ISO_8859_1));
+
+        try {
+            ListEventHandler listEventHandler1 = new ListEventHandler();
+            CsvParserConfiguration csvParserConfiguration1 = createCsvParserConfiguration();
+            csvParserConfiguration1.setMaxColumnLength(3);
+            csvParserConfiguration1.setMaxColumnLengthCheckEnabled(true);
+            StateHandler stateHandler1 = new StateHandler(listEventHandler1, csvParserConfiguration1);
+            stateHandler1.startBlock("x".toCharArray(), 0);
+            stateHandler1.pushCharacter('x');
+            stateHandler1.endBlock(1);
+            stateHandler1.startBlock(buffer, 0);
+            stateHandler1.pushQuotedBytes(buffer, 0, 8);
+            Assertions.fail("StateHandler test fail");
+        } catch (WrongColumnLengthException ex) {
+            Assertions.assertThat(ex).hasMessage("Maximum column value length exceeded. Last characters: \"xabc\".");
+        }
+
+        ListEventHandler listEventHandler2 = new ListEventHandler();
+        CsvParserConfiguration csvParserConfiguration2 = createCsvParserConfiguration();
+        csvParserConfiguration2.setMaxColumnLength(3);
+        csvParserConfiguration2.setMaxColumnLengthCheckEnabled(false);
+        StateHandler stateHandler2 = new StateHandler(listEventHandler2, csvParserConfiguration2);
+        Assertions.assertThat(stateHandler2.pushQuotedBytes(buffer, 0, 8)).isEqualTo(8);
+        stateHandler2.pushColumn();
+        stateHandler2.pushRow();
+        Assertions.assertThat(listEventHandler2.getCsv().get(0)).containsExactlyInOrder("abc");
+
+        ChunkEventHandler eventHandler3 = new ChunkEventHandler(3);
+        StateHandler stateHandler3 = new StateHandler(eventHandler3, createCsvParserConfiguration());
+        Assertions.assertThat(stateHandler3.pushQuotedBytes(buffer, 0, 8)).isEqualTo(8);
+        stateHandler3.pushColumn();
+        stateHandler3.pushRow();
+        Assertions.assertThat(eventHandler3.getEvents()).containsExactlyInOrder("chunk:abcdefgh", "last:", "row");
+    }
+
+    /**
+     * {@link StateHandler} class test.
+     */
+    @Test
+    public void structuralEventHandlerTest() {
+        StructuralEventHandler eventHandler1 = new StructuralEventHandler();
+        StateHandler stateHandler1 = new StateHandler(eventHandler1, createCsvParserConfiguration());
+        pushRow(stateHandler1, "abc", "de");
+        pushRow(stateHandler1, "f");
+        Assertions.assertThat(eventHandler1.getEvents()).containsExactlyInOrder("column", "column", "row", "column", "row");
+
+        CsvParserConfiguration csvParserConfiguration2 = createCsvParserConfiguration();
+        csvParserConfiguration2.setProjection(1);
+        csvParserConfiguration2.setSkipRows(1L);
+        StructuralEventHandler eventHandler2 = new StructuralEventHandler();
+        StateHandler stateHandler2 = new StateHandler(eventHandler2, csvParserConfiguration2);
+        pushRow(stateHandler2, "a", "b", "c");
+        pushRow(stateHandler2, "d", "e", "f");
+        Assertions.assertThat(eventHandler2.getEvents()).containsExactlyInOrder("column", "row");
+
+        CsvParserConfiguration csvParserConfiguration3 = createCsvParserConfiguration();
+        csvParserConfiguration3.addColumnPredicate(0, CsvColumnPredicates.equalTo("a"));
+        StructuralEventHandler eventHandler3 = new StructuralEventHandler();
+        StateHandler stateHandler3 = new StateHandler(eventHandler3, csvParserConfiguration3);
+        pushRow(stateHandler3, "a", "b");
+        pushRow(stateHandler3, "c", "d");
+        Assertions.assertThat(eventHandler3.getEvents()).containsExactlyInOrder("a", "b", "row");
+
+        CsvParserConfiguration csvParserConfiguration4 = createCsvParserConfiguration();
+        csvParserConfiguration4.setMaxColumnLength(2);
+        csvParserConfiguration4.setMaxColumnLengthCheckEnabled(true);
+        StructuralEventHandler eventHandler4 = new StructuralEventHandler();
+        StateHandler stateHandler4 = new StateHandler(eventHandler4, csvParserConfiguration4);
+        pushRow(stateHandler4, "ab");
+        try {
+            pushRow(stateHandler4, "abc");
+            Assertions.fail("StateHandler test fail");
+        } catch (WrongColumnLengthException ex) {
+            Assertions.assertThat(eventHandler4.getEvents()).containsExactlyInOrder("ab", "row");
+        }
+
+        CsvParserConfiguration csvParserConfiguration5 = createCsvParserConfiguration();
+        csvParserConfiguration5.setMaxColumnLength(2);
+        csvParserConfiguration5.setMaxColumnLengthCheckEnabled(false);
+        StructuralEventHandler eventHandler5 = new StructuralEventHandler();
+        StateHandler stateHandler5 = new StateHandler(eventHandler5, csvParserConfiguration5);
+        pushRow(stateHandler5, "abc");
+        Assertions.assertThat(eventHandler5.getEvents()).containsExactlyInOrder("column", "row");
+
+        CsvParserConfiguration csvParserConfiguration6 = createCsvParserConfiguration();
+        csvParserConfiguration6.setMaxColumnLength(-1);
+        csvParserConfiguration6.setMaxColumnLengthCheckEnabled(true);
+        StructuralEventHandler eventHandler6 = new StructuralEventHandler();
+        StateHandler stateHandler6 = new StateHandler(eventHandler6, csvParserConfiguration6);
+        pushRow(stateHandler6, "abc");
+        Assertions.assertThat(eventHandler6.getEvents()).containsExactlyInOrder("column", "row");
+    }
+
+    /**
+     * {@link StateHandler} class test.
+     */
+    @Test
+    public void chunkEventHandlerTest() {
+        ChunkEventHandler eventHandler1 = new ChunkEventHandler(3);
+        StateHandler stateHandler1 = new StateHandler(eventHandler1, createCsvParserConfiguration());
+        pushCharacters(stateHandler1, "ab");
+        stateHandler1.pushColumn();
+        pushCharacters(stateHandler1, "abcdefg");
+        stateHandler1.pushColumn();
+        pushCharacters(stateHandler1, "abcdef");
+        stateHandler1.pushColumn();
+        stateHandler1.pushRow();
+        pushRow(stateHandler1, "abcdefg", "c");
+        Assertions.assertThat(eventHandler1.getEvents()).containsExactlyInOrder("ab", "chunk:abc", "chunk:def", "last:g", "chunk:abc", "chunk:def", "last:", "row", "chunk:abcdefg", "last:", "c", "row");
+
+        ChunkEventHandler eventHandler2 = new ChunkEventHandler(0);
+        StateHandler stateHandler2 = new StateHandler(eventHandler2, createCsvParserConfiguration());
+        pushCharacters(stateHandler2, "ab");
+        stateHandler2.pushColumn();
+        stateHandler2.pushColumn();
+        stateHandler2.pushRow();
+        Assertions.assertThat(eventHandler2.getEvents()).containsExactlyInOrder("chunk:a", "chunk:b", "last:", "", "row");
+
+        CsvParserConfiguration csvParserConfiguration3 = createCsvParserConfiguration();
+        csvParserConfiguration3.addColumnPredicate(1, CsvColumnPredicates.equalTo("bcd"));
+        ChunkEventHandler eventHandler3 = new ChunkEventHandler(2);
+        StateHandler stateHandler3 = new StateHandler(eventHandler3, csvParserConfiguration3);
+        pushRow(stateHandler3, "abc", "bcd", "cde");
+        pushRow(stateHandler3, "abc", "def", "cde");
+        Assertions.assertThat(eventHandler3.getEvents()).containsExactlyInOrder("abc", "bcd", "chunk:cde", "last:", "row");
+
+        CsvParserConfiguration csvParserConfiguration4 = createCsvParserConfiguration();
+        csvParserConfiguration4.setMaxColumnLength(5);
+        ChunkEventHandler eventHandler4 = new ChunkEventHandler(2);
+        StateHandler stateHandler4 = new StateHandler(eventHandler4, csvParserConfiguration4);
+        pushRow(stateHandler4, "abc");
+        Assertions.assertThat(eventHandler4.getEvents()).containsExactlyInOrder("abc", "row");
+
+        CsvParserConfiguration csvParserConfiguration5 = createCsvParserConfiguration();
+        csvParserConfiguration5.setProjection(1);
+        csvParserConfiguration5.setSkipRows(1L);
+        ChunkEventHandler eventHandler5 = new ChunkEventHandler(1);
+        StateHandler stateHandler5 = new StateHandler(eventHandler5, csvParserConfiguration5);
+        pushRow(stateHandler5, "ab", "cd");
+        pushRow(stateHandler5, "ef", "gh");
+        Assertions.assertThat(eventHandler5.getEvents()).containsExactlyInOrder("chunk:gh", "last:", "row");
+
+        ChunkEventHandler eventHandler6 = new ChunkEventHandler(1);
+        StateHandler stateHandler6 = new StateHandler(eventHandler6, createCsvParserConfiguration(), StandardCharsets.UTF_8);
+        pushCharacters(stateHandler6, new String(toByteCharacters("a\u00e9\u20ac\ud83d\ude00b")));
+        stateHandler6.pushColumn();
+        stateHandler6.pushRow();
+        Assertions.assertThat(eventHandler6.getEvents()).containsExactlyInOrder("chunk:a", "chunk:\u00e9", "chunk:\u20ac", "chunk:\ud83d\ude00", "chunk:b", "last:", "row");
+
+        ChunkEventHandler eventHandler7 = new ChunkEventHandler(4);
+        StateHandler stateHandler7 = new StateHandler(eventHandler7, createCsvParserConfiguration(), StandardCharsets.UTF_8);
+        pushRow(stateHandler7, new String(toByteCharacters("a\u00e9\u20ac")));
+        Assertions.assertThat(eventHandler7.getEvents()).containsExactlyInOrder("chunk:a\u00e9\u20ac", "last:", "row");
+
+        ChunkEventHandler eventHandler8 = new ChunkEventHandler(1);
+        StateHandler stateHandler8 = new StateHandler(eventHandler8, createCsvParserConfiguration());
+        pushCharacters(stateHandler8, "a\ud83d\ude00");
+        stateHandler8.pushColumn();
+        stateHandler8.pushRow();
+        Assertions.assertThat(eventHandler8.getEvents()).containsExactlyInOrder("chunk:a", "chunk:\ud83d\ude00", "last:", "row");
+    }
+
+    private void pushCharacters(final StateHandler stateHandler, final String characters) {
+        for (int i = 0; i < characters.length(); i++) {
+            stateHandler.pushCharacter(characters.charAt(i));
+        }
+    }
+
+    private void pushRow(final StateHandler stateHandler, final String... columns) {
+        for (String column : columns) {
+            char[] buffer = column.toCharArray();
+            stateHandler.pushUnquotedCharacters(buffer, 0, buffer.length);
+            stateHandler.pushColumn();
+        }
+        stateHandler.pushRow();
+    }
+
+    /**
+     * Event handler to test column value slices.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class SliceEventHandler implements CsvEventHandler, CsvSliceEventHandler {
+
+        private final List<String> _columns;
+
+        private final List<Integer> _actualLengths;
+
+        private int _rowCount;
+
+        SliceEventHandler() {
+            super();
+            _columns = new ArrayList<>();
+            _actualLengths = new ArrayList<>();
+            _rowCount = 0;
+        }
+
+        @Override
+        public void pushColumn(final String column, final int actualLength) {
+            Assertions.fail("StateHandler test fail");
+        }
+
+        @Override
+        public void pushColumn(final char[] buffer, final int offset, final int length, final int actualLength) {
+            _columns.add(new String(buffer, offset, length));
+            _actualLengths.add(actualLength);
+        }
+
+        @Override
+        public void pushRow() {
+            _rowCount++;
+        }
+
+        List<String> getColumns() {
+            return _columns;
+        }
+
+        List<Integer> getActualLengths() {
+            return _actualLengths;
+        }
+
+        int getRowCount() {
+            return _rowCount;
+        }
+
+    }
+
+    /**
+     * Event handler to test column structure.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class StructuralEventHandler implements CsvEventHandler, CsvSliceEventHandler, CsvStructuralEventHandler {
+
+        private final List<String> _events;
+
+        StructuralEventHandler() {
+            super();
+            _events = new ArrayList<>();
+        }
+
+        @Override
+        public void pushColumn(final String column, final int actualLength) {
+            Assertions.fail("StateHandler test fail");
+        }
+
+        @Override
+        public void pushColumn(final char[] buffer, final int offset, final int length, final int actualLength) {
+            _events.add(new String(buffer, offset, length));
+        }
+
+        @Override
+        public void pushColumn() {
+            _events.add("column");
+        }
+
+        @Override
+        public void pushRow() {
+            _events.add("row");
+        }
+
+        List<String> getEvents() {
+            return _events;
+        }
+
+    }
+
+    /**
+     * Event handler to test column value chunks.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class ChunkEventHandler implements CsvEventHandler, CsvChunkEventHandler {
+
+        private final int _chunkSize;
+
+        private final List<String> _events;
+
+        ChunkEventHandler(final int chunkSize) {
+            super();
+            _chunkSize = chunkSize;
+            _events = new ArrayList<>();
+        }
+
+        @Override
+        public int getChunkSize() {
+            return _chunkSize;
+        }
+
+        @Override
+        public void pushColumn(final String column, final int actualLength) {
+            _events.add(column);
+        }
+
+        @Override
+        public void pushColumnChunk(final char[] buffer, final int offset, final int length, final boolean last) {
+            if (last) {
+                _events.add("last:" + new String(buffer, offset, length));
+            } else {
+                _events.add("chunk:" + new String(buffer, offset, length));
+            }
+        }
+
+        @Override
+        public void pushRow() {
+            _events.add("row");
+        }
+
+        List<String> getEvents() {
+            return _events;
+        }
+
+    }
+
 }
@@ -0,0 +1,131 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.state;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.csv.CsvParserConfiguration;
+import ru.d_shap.csv.CsvTest;
+import ru.d_shap.csv.handler.ListEventHandler;
+
+/**
+ * Tests for {@link StateMachine}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class StateMachineTest extends CsvTest {
+
+    /**
+     * Test class constructor.
+     */
+    public StateMachineTest() {
+        super();
+    }
+
+    /**
+     * {@link StateMachine} class test.
+     */
+    @Test
+    public void createStateMachineTest() {
+        CsvParserConfiguration csvParserConfiguration1 = createCsvParserConfiguration();
+        csvParserConfiguration1.setTableEngineEnabled(false);
+        StateHandler stateHandler1 = new StateHandler(new ListEventHandler(), csvParserConfiguration1);
+        Assertions.assertThat(StateMachine.createStateMachine(stateHandler1)).isInstanceOf(ObjectStateMachine.class);
+
+        CsvParserConfiguration csvParserConfiguration2 = createCsvParserConfiguration();
+        csvParserConfiguration2.setTableEngineEnabled(true);
+        StateHandler stateHandler2 = new StateHandler(new ListEventHandler(), csvParserConfiguration2);
+        Assertions.assertThat(StateMachine.createStateMachine(stateHandler2)).isInstanceOf(TableStateMachine.class);
+    }
+
+    /**
+     * {@link StateMachine} class test.
+     */
+    @Test
+    public void processCharactersTest() {
+        for (int i = 0; i < 2; i++) {
+            CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+            csvParserConfiguration.setTableEngineEnabled(i == 1);
+            ListEventHandler listEventHandler = new ListEventHandler();
+            StateHandler stateHandler = new StateHandler(listEventHandler, csvParserConfiguration);
+            StateMachine stateMachine = StateMachine.createStateMachine(stateHandler);
+            char[] buffer = "xxa,b\r\nc,dxx".toCharArray();
+            stateMachine.processCharacters(buffer, 2, 4);
+            stateMachine.processCharacters(buffer, 6, 4);
+            stateMachine.processEndOfInput();
+            Assertions.assertThat(listEventHandler.getCsv()).hasSize(2);
+            Assertions.assertThat(listEventHandler.getCsv().get(0)).containsExactlyInOrder("a", "b");
+            Assertions.assertThat(listEventHandler.getCsv().get(1)).containsExactlyInOrder("c", "d");
+        }
+    }
+
+    /**
+     * {@link StateMachine} class test.
+     */
+    @Test
+    public void processCharactersWithPauseAfterRowTest() {
+        for (int i = 0; i < 2; i++) {
+            CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+            csvParserConfiguration.setTableEngineEnabled(i == 1);
+            ListEventHandler listEventHandler = new ListEventHandler();
+            StateHandler stateHandler = new StateHandler(listEventHandler, csvParserConfiguration);
+            StateMachine stateMachine = StateMachine.createStateMachine(stateHandler);
+            char[] buffer = "a,b\r\nc\rd,e\n".toCharArray();
+            Assertions.assertThat(stateMachine.processCharacters(buffer, 0, 5)).isEqualTo(5);
+            Assertions.assertThat(listEventHandler.getCsv()).hasSize(1);
+
+            stateHandler.setPauseAfterRow(true);
+            Assertions.assertThat(stateMachine.processCharacters(buffer, 5, 6)).isEqualTo(8);
+            Assertions.assertThat(listEventHandler.getCsv()).hasSize(2);
+            Assertions.assertThat(listEventHandler.getCsv().get(1)).containsExactlyInOrder("c");
+            Assertions.assertThat(stateMachine.processCharacters(buffer, 8, 3)).isEqualTo(11);
+            Assertions.assertThat(listEventHandler.getCsv()).hasSize(3);
+            Assertions.assertThat(listEventHandler.getCsv().get(2)).containsExactlyInOrder("d", "e");
+            Assertions.assertThat(stateMachine.processCharacters(buffer, 11, 0)).isEqualTo(11);
+            stateMachine.processEndOfInput();
+            Assertions.assertThat(listEventHandler.getCsv()).hasSize(3);
+        }
+    }
+
+    /**
+     * {@link StateMachine} class test.
+     */
+    @Test
+    public void processCharactersWithLimitRowsTest() {
+        for (int i = 0; i < 2; i++) {
+            CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+            csvParserConfiguration.setTableEngineEnabled(i == 1);
+            csvParserConfiguration.setSkipRows(1L);
+            csvParserConfiguration.setLimitRows(1L);
+            ListEventHandler listEventHandler = new ListEventHandler();
+            StateHandler stateHandler = new StateHandler(listEventHandler, csvParserConfiguration);
+            StateMachine stateMachine = StateMachine.createStateMachine(stateHandler);
+            char[] buffer = "a,b\r\nc\rd,\"e".toCharArray();
+            Assertions.assertThat(stateMachine.isStopped()).isFalse();
+            Assertions.assertThat(stateMachine.processCharacters(buffer, 0, buffer.length)).isEqualTo(8);
+            Assertions.assertThat(stateMachine.isStopped()).isTrue();
+            stateMachine.processEndOfInput();
+            Assertions.assertThat(listEventHandler.getCsv()).hasSize(1);
+            Assertions.assertThat(listEventHandler.getCsv().get(0)).containsExactlyInOrder("c");
+        }
+    }
+
+}
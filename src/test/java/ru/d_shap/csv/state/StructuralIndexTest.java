@@ -0,0 +1,463 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.state;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.csv.CsvColumnPredicates;
+import ru.d_shap.csv.CsvException;
+import ru.d_shap.csv.CsvParseException;
+import ru.d_shap.csv.CsvParserConfiguration;
+import ru.d_shap.csv.CsvTest;
+import ru.d_shap.csv.WrongColumnCountException;
+import ru.d_shap.csv.WrongColumnLengthException;
+import ru.d_shap.csv.handler.CsvEventHandler;
+
+/**
+ * Tests for {@link StructuralIndex}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class StructuralIndexTest extends CsvTest {
+
+    private static final char[] ALPHABET = {',', ';', '\r', '\n', '"', 'a'};
+
+    private static final int MAX_CSV_LENGTH = 4;
+
+    /**
+     * Test class constructor.
+     */
+    public StructuralIndexTest() {
+        super();
+    }
+
+    /**
+     * {@link StructuralIndex} class test.
+     */
+    @Test
+    public void createIndexTest() {
+        StructuralIndex structuralIndex1 = createStructuralIndex(createCsvParserConfiguration(), "a,\"b\"\"c\",\r\n\"\",d\u0436;\"f\nx\"\n\n");
+        Assertions.assertThat(structuralIndex1.getRowCount()).isEqualTo(3);
+        Assertions.assertThat(structuralIndex1.getColumnCount(0)).isEqualTo(3);
+        Assertions.assertThat(structuralIndex1.getColumn(0, 0)).isEqualTo("a");
+        Assertions.assertThat(structuralIndex1.getColumn(0, 1)).isEqualTo("b\"c");
+        Assertions.assertThat(structuralIndex1.getColumn(0, 2)).isEqualTo("");
+        Assertions.assertThat(structuralIndex1.getColumnCount(1)).isEqualTo(3);
+        Assertions.assertThat(structuralIndex1.getColumn(1, 0)).isEqualTo("");
+        Assertions.assertThat(structuralIndex1.getColumn(1, 1)).isEqualTo("d\u0436");
+        Assertions.assertThat(structuralIndex1.getColumn(1, 2)).isEqualTo("f\nx");
+        Assertions.assertThat(structuralIndex1.getColumnCount(2)).isEqualTo(0);
+
+        StructuralIndex structuralIndex2 = createStructuralIndex(createCsvParserConfiguration(), "\u0436");
+        Assertions.assertThat(structuralIndex2.getColumn(0, 0)).isEqualTo("\u0436");
+    }
+
+    /**
+     * {@link StructuralIndex} class test.
+     */
+    @Test
+    public void createIndexOfPartOfSourceTest() {
+        char[] source = "a,b\nc,dxxx".toCharArray();
+        StructuralIndex structuralIndex = new StructuralIndex(createCsvParserConfiguration(), source, 7);
+        Assertions.assertThat(structuralIndex.getRowCount()).isEqualTo(2);
+        Assertions.assertThat(structuralIndex.getColumn(1, 0)).isEqualTo("c");
+        Assertions.assertThat(structuralIndex.getColumn(1, 1)).isEqualTo("d");
+    }
+
+    /**
+     * {@link StructuralIndex} class test.
+     */
+    @Test
+    public void columnLengthTest() {
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+        csvParserConfiguration.setMaxColumnLength(3);
+        csvParserConfiguration.setMaxColumnLengthCheckEnabled(false);
+        StructuralIndex structuralIndex = createStructuralIndex(csvParserConfiguration, "ab,abcde,\"a\"\"\"\"bc\",\"\"\"\"");
+        Assertions.assertThat(structuralIndex.getColumn(0, 0)).isEqualTo("ab");
+        Assertions.assertThat(structuralIndex.getColumnLength(0, 0)).isEqualTo(2);
+        Assertions.assertThat(structuralIndex.getColumnActualLength(0, 0)).isEqualTo(2);
+        Assertions.assertThat(structuralIndex.getColumn(0, 1)).isEqualTo("abc");
+        Assertions.assertThat(structuralIndex.getColumnLength(0, 1)).isEqualTo(3);
+        Assertions.assertThat(structuralIndex.getColumnActualLength(0, 1)).isEqualTo(5);
+        Assertions.assertThat(structuralIndex.getColumn(0, 2)).isEqualTo("a\"\"");
+        Assertions.assertThat(structuralIndex.getColumnLength(0, 2)).isEqualTo(3);
+        Assertions.assertThat(structuralIndex.getColumnActualLength(0, 2)).isEqualTo(5);
+        Assertions.assertThat(structuralIndex.getColumn(0, 3)).isEqualTo("\"");
+        Assertions.assertThat(structuralIndex.getColumnLength(0, 3)).isEqualTo(1);
+        Assertions.assertThat(structuralIndex.getColumnActualLength(0, 3)).isEqualTo(1);
+    }
+
+    /**
+     * {@link StructuralIndex} class test.
+     */
+    @Test
+    public void columnLengthCheckTest() {
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+        csvParserConfiguration.setMaxColumnLength(3);
+        csvParserConfiguration.setMaxColumnLengthCheckEnabled(true);
+        try {
+            createStructuralIndex(csvParserConfiguration, "ab,abcde");
+            Assertions.fail("StructuralIndex test fail");
+        } catch (WrongColumnLengthException ex) {
+            Assertions.assertThat(ex).hasMessage("Maximum column value length exceeded. Last characters: \"ab,abcd\".");
+            Assertions.assertThat(ex.getPosition()).isEqualTo(6L);
+            Assertions.assertThat(ex.getRowIndex()).isEqualTo(0L);
+            Assertions.assertThat(ex.getColumnIndex()).isEqualTo(1);
+        }
+        try {
+            createStructuralIndex(csvParserConfiguration, "\"a\"\"\"\"bc\"");
+            Assertions.fail("StructuralIndex test fail");
+        } catch (WrongColumnLengthException ex) {
+            Assertions.assertThat(ex).hasMessage("Maximum column value length exceeded. Last characters: \"\"a\"\"\"\"b\".");
+        }
+    }
+
+    /**
+     * {@link StructuralIndex} class test.
+     */
+    @Test
+    public void columnCountCheckTest() {
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+        csvParserConfiguration.setColumnCountCheckEnabled(true);
+        try {
+            createStructuralIndex(csvParserConfiguration, "a,b\nc,d,e");
+            Assertions.fail("StructuralIndex test fail");
+        } catch (WrongColumnCountException ex) {
+            Assertions.assertThat(ex).hasMessage("CSV has rows with different column count. Last characters: \"a,b\\nc,d,e\".");
+            Assertions.assertThat(ex.getPosition()).isEqualTo(9L);
+            Assertions.assertThat(ex.getRowIndex()).isEqualTo(1L);
+            Assertions.assertThat(ex.getColumnIndex()).isEqualTo(2);
+        }
+        try {
+            createStructuralIndex(csvParserConfiguration, "a,b\nc");
+            Assertions.fail("StructuralIndex test fail");
+        } catch (WrongColumnCountException ex) {
+            Assertions.assertThat(ex).hasMessage("CSV has rows with different column count. Last characters: \"a,b\\nc\".");
+            Assertions.assertThat(ex.getPosition()).isEqualTo(5L);
+            Assertions.assertThat(ex.getRowIndex()).isEqualTo(1L);
+            Assertions.assertThat(ex.getColumnIndex()).isEqualTo(1);
+        }
+    }
+
+    /**
+     * {@link StructuralIndex} class test.
+     */
+    @Test
+    public void parseErrorTest() {
+        try {
+            createStructuralIndex(createCsvParserConfiguration(), "a,b\"c");
+            Assertions.fail("StructuralIndex test fail");
+        } catch (CsvParseException ex) {
+            Assertions.assertThat(ex).hasMessage("Wrong character obtained: '\"' (34). Last characters: \"a,b\"\".");
+            Assertions.assertThat(ex.getPosition()).isEqualTo(3L);
+            Assertions.assertThat(ex.getRowIndex()).isEqualTo(0L);
+            Assertions.assertThat(ex.getColumnIndex()).isEqualTo(1);
+        }
+    }
+
+    /**
+     * {@link StructuralIndex} class test.
+     */
+    @Test
+    public void wrongIndexTest() {
+        StructuralIndex structuralIndex = createStructuralIndex(createCsvParserConfiguration(), "a,b\nc");
+        try {
+            structuralIndex.getColumnCount(-1);
+            Assertions.fail("StructuralIndex test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).hasMessage("Row index: -1, row count: 2");
+        }
+        try {
+            structuralIndex.getColumnCount(2);
+            Assertions.fail("StructuralIndex test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).hasMessage("Row index: 2, row count: 2");
+        }
+        try {
+            structuralIndex.getColumn(1, -1);
+            Assertions.fail("StructuralIndex test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).hasMessage("Column index: -1, column count: 1");
+        }
+        try {
+            structuralIndex.getColumnLength(1, 1);
+            Assertions.fail("StructuralIndex test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).hasMessage("Column index: 1, column count: 1");
+        }
+        try {
+            structuralIndex.getColumnActualLength(0, 2);
+            Assertions.fail("StructuralIndex test fail");
+        } catch (IndexOutOfBoundsException ex) {
+            Assertions.assertThat(ex).hasMessage("Column index: 2, column count: 2");
+        }
+    }
+
+    /**
+     * {@link StructuralIndex} class test.
+     */
+    @Test
+    public void manyRowsAndColumnsTest() {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            csv.append(i).append(",\"").append(i).append("\"\"\"\n");
+        }
+        StructuralIndex structuralIndex = createStructuralIndex(createCsvParserConfiguration(), csv.toString());
+        Assertions.assertThat(structuralIndex.getRowCount()).isEqualTo(100);
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertThat(structuralIndex.getColumnCount(i)).isEqualTo(2);
+            Assertions.assertThat(structuralIndex.getColumn(i, 0)).isEqualTo(String.valueOf(i));
+            Assertions.assertThat(structuralIndex.getColumn(i, 1)).isEqualTo(i + "\"");
+        }
+    }
+
+    /**
+     * {@link StructuralIndex} class test.
+     */
+    @Test
+    public void sameResultAsStateMachineTest() {
+        List<String> csvs = new ArrayList<>();
+        createCsvs("", csvs);
+        for (String csv : csvs) {
+            for (int configuration = 0; configuration < 126; configuration++) {
+                CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration(configuration);
+                Assertions.assertThat(index(csvParserConfiguration, csv, 0)).containsExactlyInOrder(parse(csvParserConfiguration, csv));
+            }
+        }
+    }
+
+    /**
+     * {@link StructuralIndex} class test.
+     */
+    @Test
+    public void sameResultAsStateMachineBlockByBlockTest() {
+        List<String> csvs = new ArrayList<>();
+        createCsvs("", csvs);
+        for (String csv : csvs) {
+            for (int configuration = 0; configuration < 126; configuration++) {
+                CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration(configuration);
+                List<String> events = parse(csvParserConfiguration, csv);
+                for (int blockSize = 1; blockSize <= 3; blockSize++) {
+                    Assertions.assertThat(index(csvParserConfiguration, csv, blockSize)).containsExactlyInOrder(events);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link StructuralIndex} class test.
+     */
+    @Test
+    public void sameResultAsStateMachineWithRowAndColumnOptionsTest() {
+        List<String> csvs = new ArrayList<>();
+        createCsvs("", csvs);
+        for (String csv : csvs) {
+            for (int configuration = 0; configuration < 126; configuration += 5) {
+                for (int options = 0; options < 5; options++) {
+                    CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration(configuration);
+                    setRowAndColumnOptions(csvParserConfiguration, options);
+                    List<String> events = parse(csvParserConfiguration, csv);
+                    while (!events.isEmpty() && events.get(events.size() - 1).startsWith(":")) {
+                        events.remove(events.size() - 1);
+                    }
+                    Assertions.assertThat(index(csvParserConfiguration, csv, 0)).containsExactlyInOrder(events);
+                    Assertions.assertThat(index(csvParserConfiguration, csv, 2)).containsExactlyInOrder(events);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link StructuralIndex} class test.
+     */
+    @Test
+    public void rowAndColumnOptionsTest() {
+        CsvParserConfiguration csvParserConfiguration1 = createCsvParserConfiguration();
+        csvParserConfiguration1.setSkipRows(1L);
+        csvParserConfiguration1.setLimitRows(2L);
+        csvParserConfiguration1.setProjection(2, 0);
+        StructuralIndex structuralIndex1 = createStructuralIndex(csvParserConfiguration1, "a,b,c\nd,e,f\ng,h,i\nj,k,l\n\"m");
+        Assertions.assertThat(structuralIndex1.getRowCount()).isEqualTo(2);
+        Assertions.assertThat(structuralIndex1.isStopped()).isTrue();
+        Assertions.assertThat(structuralIndex1.getColumnCount(0)).isEqualTo(2);
+        Assertions.assertThat(structuralIndex1.getColumn(0, 0)).isEqualTo("d");
+        Assertions.assertThat(structuralIndex1.getColumn(0, 1)).isEqualTo("f");
+        Assertions.assertThat(structuralIndex1.getColumn(1, 0)).isEqualTo("g");
+        Assertions.assertThat(structuralIndex1.getColumn(1, 1)).isEqualTo("i");
+
+        CsvParserConfiguration csvParserConfiguration2 = createCsvParserConfiguration();
+        csvParserConfiguration2.addColumnPredicate(1, CsvColumnPredicates.equalTo("b\"b"));
+        csvParserConfiguration2.setProjection(0);
+        StructuralIndex structuralIndex2 = createStructuralIndex(csvParserConfiguration2, "a,\"b\"\"b\"\nc,d\ne\nf,\"b\"\"b\",g\n", 4);
+        Assertions.assertThat(structuralIndex2.getRowCount()).isEqualTo(2);
+        Assertions.assertThat(structuralIndex2.isStopped()).isFalse();
+        Assertions.assertThat(structuralIndex2.getColumnCount(0)).isEqualTo(1);
+        Assertions.assertThat(structuralIndex2.getColumn(0, 0)).isEqualTo("a");
+        Assertions.assertThat(structuralIndex2.getColumnCount(1)).isEqualTo(1);
+        Assertions.assertThat(structuralIndex2.getColumn(1, 0)).isEqualTo("f");
+
+        CsvParserConfiguration csvParserConfiguration3 = createCsvParserConfiguration();
+        StructuralIndex structuralIndex3 = createStructuralIndex(csvParserConfiguration3, "x\n\"a\"\"b\",c\n", 10);
+        Assertions.assertThat(structuralIndex3.getRowCount()).isEqualTo(2);
+        Assertions.assertThat(structuralIndex3.getColumn(0, 0)).isEqualTo("x");
+        Assertions.assertThat(structuralIndex3.getColumn(1, 0)).isEqualTo("a\"b");
+        Assertions.assertThat(structuralIndex3.getColumn(1, 1)).isEqualTo("c");
+
+        CsvParserConfiguration csvParserConfiguration4 = createCsvParserConfiguration();
+        csvParserConfiguration4.setLimitRows(0L);
+        StructuralIndex structuralIndex4 = createStructuralIndex(csvParserConfiguration4, "a,b\nc,d\n", 2);
+        Assertions.assertThat(structuralIndex4.getRowCount()).isEqualTo(0);
+        Assertions.assertThat(structuralIndex4.isStopped()).isTrue();
+    }
+
+    private CsvParserConfiguration createCsvParserConfiguration(final int configuration) {
+        int columnSeparators = configuration % 3 + 1;
+        int rowSeparators = configuration / 3 % 7 + 1;
+        int options = configuration / 21;
+        CsvParserConfiguration csvParserConfiguration = createCsvParserConfiguration();
+        csvParserConfiguration.setCommaSeparator((columnSeparators & 1) != 0);
+        csvParserConfiguration.setSemicolonSeparator((columnSeparators & 2) != 0);
+        csvParserConfiguration.setCrSeparator((rowSeparators & 1) != 0);
+        csvParserConfiguration.setLfSeparator((rowSeparators & 2) != 0);
+        csvParserConfiguration.setCrLfSeparator((rowSeparators & 4) != 0);
+        csvParserConfiguration.setColumnCountCheckEnabled(options % 2 != 0);
+        csvParserConfiguration.setSkipEmptyRowsEnabled(options % 2 != 0);
+        if (options / 2 > 0) {
+            csvParserConfiguration.setMaxColumnLength(1);
+            csvParserConfiguration.setMaxColumnLengthCheckEnabled(options / 2 > 1);
+        }
+        return csvParserConfiguration;
+    }
+
+    private void setRowAndColumnOptions(final CsvParserConfiguration csvParserConfiguration, final int options) {
+        if (options == 0) {
+            csvParserConfiguration.setSkipRows(1L);
+        } else if (options == 1) {
+            csvParserConfiguration.setLimitRows(1L);
+        } else if (options == 2) {
+            csvParserConfiguration.setProjection(1);
+        } else if (options == 3) {
+            csvParserConfiguration.addColumnPredicate(0, CsvColumnPredicates.equalTo("a"));
+        } else {
+            csvParserConfiguration.addColumnPredicate(1, CsvColumnPredicates.equalTo(""));
+            csvParserConfiguration.setProjection(0);
+            csvParserConfiguration.setSkipRows(1L);
+            csvParserConfiguration.setLimitRows(2L);
+        }
+    }
+
+    private void createCsvs(final String prefix, final List<String> csvs) {
+        csvs.add(prefix);
+        if (prefix.length() < MAX_CSV_LENGTH) {
+            for (char ch : ALPHABET) {
+                createCsvs(prefix + ch, csvs);
+            }
+        }
+    }
+
+    private StructuralIndex createStructuralIndex(final CsvParserConfiguration csvParserConfiguration, final String csv) {
+        char[] source = csv.toCharArray();
+        return new StructuralIndex(csvParserConfiguration, source, source.length);
+    }
+
+    private StructuralIndex createStructuralIndex(final CsvParserConfiguration csvParserConfiguration, final String csv, final int blockSize) {
+        if (blockSize <= 0) {
+            return createStructuralIndex(csvParserConfiguration, csv);
+        }
+        StructuralIndex structuralIndex = new StructuralIndex(csvParserConfiguration, blockSize);
+        int position = 0;
+        int count;
+        while (position < csv.length() && !structuralIndex.isStopped()) {
+            count = Math.min(structuralIndex.getBlock().length - structuralIndex.getBlockLength(), csv.length() - position);
+            csv.getChars(position, position + count, structuralIndex.getBlock(), structuralIndex.getBlockLength());
+            structuralIndex.processCharacters(count);
+            position += count;
+        }
+        structuralIndex.processEndOfInput();
+        return structuralIndex;
+    }
+
+    private List<String> parse(final CsvParserConfiguration csvParserConfiguration, final String csv) {
+        RecordingEventHandler eventHandler = new RecordingEventHandler();
+        try {
+            StateHandler stateHandler = new StateHandler(eventHandler, csvParserConfiguration);
+            StateMachine stateMachine = StateMachine.createStateMachine(stateHandler);
+            char[] buffer = csv.toCharArray();
+            stateMachine.processCharacters(buffer, 0, buffer.length);
+            stateMachine.processEndOfInput();
+            return eventHandler.getEvents();
+        } catch (CsvException ex) {
+            List<String> events = new ArrayList<>();
+            events.add(ex.getClass().getSimpleName() + ": " + ex.getMessage() + " " + ex.getPosition() + " " + ex.getRowIndex() + " " + ex.getColumnIndex());
+            return events;
+        }
+    }
+
+    private List<String> index(final CsvParserConfiguration csvParserConfiguration, final String csv, final int blockSize) {
+        List<String> events = new ArrayList<>();
+        try {
+            StructuralIndex structuralIndex = createStructuralIndex(csvParserConfiguration, csv, blockSize);
+            for (int i = 0; i < structuralIndex.getRowCount(); i++) {
+                for (int j = 0; j < structuralIndex.getColumnCount(i); j++) {
+                    events.add(structuralIndex.getColumn(i, j) + ":" + structuralIndex.getColumnLength(i, j) + ":" + structuralIndex.getColumnActualLength(i, j));
+                }
+                events.add("row");
+            }
+        } catch (CsvException ex) {
+            events.add(ex.getClass().getSimpleName() + ": " + ex.getMessage() + " " + ex.getPosition() + " " + ex.getRowIndex() + " " + ex.getColumnIndex());
+        }
+        return events;
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class RecordingEventHandler implements CsvEventHandler {
+
+        private final List<String> _events;
+
+        RecordingEventHandler() {
+            super();
+            _events = new ArrayList<>();
+        }
+
+        @Override
+        public void pushColumn(final String column, final int actualLength) {
+            _events.add(column + ":" + column.length() + ":" + actualLength);
+        }
+
+        @Override
+        public void pushRow() {
+            _events.add("row");
+        }
+
+        List<String> getEvents() {
+            return _events;
+        }
+
+    }
+
+}
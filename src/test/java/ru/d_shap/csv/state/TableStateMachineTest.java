@@ -0,0 +1,193 @@
+///////////////////////////////////////////////////////////////////////////////////////////////////
+// CSV parser converts source stream to rows and columns and vice versa.
+// Copyright (C) 2016 Dmitry Shapovalov.
+//
+// This file is part of CSV parser.
+//
+// CSV parser is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Lesser General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// CSV parser is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with this program. If not, see <http://www.gnu.org/licenses/>.
+///////////////////////////////////////////////////////////////////////////////////////////////////
+package ru.d_shap.csv.state;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import ru.d_shap.assertions.Assertions;
+import ru.d_shap.csv.CsvException;
+import ru.d_shap.csv.CsvParseException;
+import ru.d_shap.csv.CsvParser;
+import ru.d_shap.csv.CsvParserBuilder;
+import ru.d_shap.csv.CsvTest;
+import ru.d_shap.csv.handler.CsvEventHandler;
+
+/**
+ * Tests for {@link TableStateMachine}.
+ *
+ * @author Dmitry Shapovalov
+ */
+public final class TableStateMachineTest extends CsvTest {
+
+    private static final char[] ALPHABET = {',', ';', '\r', '\n', '"', 'a', 'Ж'};
+
+    private static final int MAX_CSV_LENGTH = 4;
+
+    /**
+     * Test class constructor.
+     */
+    public TableStateMachineTest() {
+        super();
+    }
+
+    /**
+     * {@link TableStateMachine} class test.
+     */
+    @Test
+    public void processCharactersTest() {
+        CsvParserBuilder builder = CsvParserBuilder.getInstance().setTableEngineEnabled(true);
+        List<List<String>> result = builder.parse("a,\"b,\"\"c\"\"\r\nd\";e\r\nЖ\r\n");
+        Assertions.assertThat(result).hasSize(2);
+        Assertions.assertThat(result.get(0)).containsExactlyInOrder("a", "b,\"c\"\r\nd", "e");
+        Assertions.assertThat(result.get(1)).containsExactlyInOrder("Ж");
+    }
+
+    /**
+     * {@link TableStateMachine} class test.
+     */
+    @Test
+    public void processBytesTest() {
+        CsvParserBuilder builder = CsvParserBuilder.getInstance().setTableEngineEnabled(true);
+        byte[] bytes = "a,\"b,\"\"c\"\"\r\nd\";e\r\nЖ\r\n".getBytes(StandardCharsets.UTF_8);
+        List<List<String>> result1 = builder.parse(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8);
+        Assertions.assertThat(result1).hasSize(2);
+        Assertions.assertThat(result1.get(0)).containsExactlyInOrder("a", "b,\"c\"\r\nd", "e");
+        Assertions.assertThat(result1.get(1)).containsExactlyInOrder("Ж");
+
+        List<List<String>> result2 = builder.setLimitRows(1L).parse(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8);
+        Assertions.assertThat(result2).hasSize(1);
+        Assertions.assertThat(result2.get(0)).containsExactlyInOrder("a", "b,\"c\"\r\nd", "e");
+    }
+
+    /**
+     * {@link TableStateMachine} class test.
+     */
+    @Test
+    public void processEndOfInputTest() {
+        try {
+            CsvParserBuilder.getInstance().setTableEngineEnabled(true).parse("a,\"b");
+            Assertions.fail("TableStateMachine test fail");
+        } catch (CsvParseException ex) {
+            Assertions.assertThat(ex).hasMessage("End of input obtained. Last characters: \"a,\"b\".");
+        }
+    }
+
+    /**
+     * {@link TableStateMachine} class test.
+     */
+    @Test
+    public void sameEventsAsObjectStateMachineTest() {
+        List<String> csvs = new ArrayList<>();
+        createCsvs("", csvs);
+        for (int separators = 0; separators < 32; separators++) {
+            boolean comma = (separators & 1) != 0;
+            boolean semicolon = (separators & 2) != 0;
+            boolean cr = (separators & 4) != 0;
+            boolean lf = (separators & 8) != 0;
+            boolean crLf = (separators & 16) != 0;
+            if ((comma || semicolon) && (cr || lf || crLf)) {
+                for (int checks = 0; checks < 4; checks++) {
+                    CsvParserBuilder builder = CsvParserBuilder.getInstance();
+                    builder.setCommaSeparator(comma).setSemicolonSeparator(semicolon);
+                    builder.setCrSeparator(cr).setLfSeparator(lf).setCrLfSeparator(crLf);
+                    builder.setColumnCountCheckEnabled((checks & 1) != 0).setSkipEmptyRowsEnabled((checks & 2) != 0);
+                    builder.setMaxColumnLength(2).setMaxColumnLengthCheckEnabled((checks & 1) != 0);
+                    CsvParser characterParser = builder.setTableEngineEnabled(false).setReadBufferSize(1).build();
+                    CsvParser objectParser = builder.setTableEngineEnabled(false).setReadBufferSize(8192).build();
+                    CsvParser tableParser = builder.setTableEngineEnabled(true).setReadBufferSize(8192).build();
+                    for (String csv : csvs) {
+                        List<String> events = parse(characterParser, csv);
+                        Assertions.assertThat(parse(objectParser, csv)).containsExactlyInOrder(events);
+                        Assertions.assertThat(parse(tableParser, csv)).containsExactlyInOrder(events);
+                        List<String> byteEvents = parseBytes(characterParser, csv);
+                        Assertions.assertThat(parseBytes(objectParser, csv)).containsExactlyInOrder(byteEvents);
+                        Assertions.assertThat(parseBytes(tableParser, csv)).containsExactlyInOrder(byteEvents);
+                    }
+                }
+            }
+        }
+    }
+
+    private void createCsvs(final String prefix, final List<String> csvs) {
+        csvs.add(prefix);
+        if (prefix.length() < MAX_CSV_LENGTH) {
+            for (char ch : ALPHABET) {
+                createCsvs(prefix + ch, csvs);
+            }
+        }
+    }
+
+    private List<String> parse(final CsvParser csvParser, final String csv) {
+        RecordingEventHandler eventHandler = new RecordingEventHandler();
+        try {
+            csvParser.parse(new StringReader(csv), eventHandler);
+        } catch (CsvException ex) {
+            eventHandler.getEvents().add(ex.getClass().getName() + ": " + ex.getMessage() + " " + ex.getPosition() + " " + ex.getRowIndex() + " " + ex.getColumnIndex());
+        }
+        return eventHandler.getEvents();
+    }
+
+    private List<String> parseBytes(final CsvParser csvParser, final String csv) {
+        RecordingEventHandler eventHandler = new RecordingEventHandler();
+        try {
+            csvParser.parse(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, eventHandler);
+        } catch (CsvException ex) {
+            eventHandler.getEvents().add(ex.getClass().getName() + ": " + ex.getMessage() + " " + ex.getPosition() + " " + ex.getRowIndex() + " " + ex.getColumnIndex());
+        }
+        return eventHandler.getEvents();
+    }
+
+    /**
+     * Test class.
+     *
+     * @author Dmitry Shapovalov
+     */
+    private static final class RecordingEventHandler implements CsvEventHandler {
+
+        private final List<String> _events;
+
+        RecordingEventHandler() {
+            super();
+            _events = new ArrayList<>();
+        }
+
+        @Override
+        public void pushColumn(final String column, final int actualLength) {
+            _events.add("column: " + column + ", " + actualLength);
+        }
+
+        @Override
+        public void pushRow() {
+            _events.add("row");
+        }
+
+        List<String> getEvents() {
+            return _events;
+        }
+
+    }
+
+}